@@ -3,9 +3,10 @@ package pages;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
 import org.openqa.selenium.support.FindBy;
-import org.openqa.selenium.support.PageFactory;
-import org.openqa.selenium.support.ui.ExpectedConditions;
 import org.openqa.selenium.support.ui.WebDriverWait;
+import utils.DomConditions;
+import utils.ElementCache;
+import utils.PagePerformance;
 
 import java.time.Duration;
 
@@ -29,14 +30,15 @@ public class AddConditionDrawer {
     // Constructor
     public AddConditionDrawer(WebDriver driver) {
         this.driver = driver;
-        this.wait = new WebDriverWait(driver, Duration.ofSeconds(20));
-        PageFactory.initElements(driver, this);
+        this.wait = DomConditions.newWait(driver, Duration.ofSeconds(20));
+        ElementCache.initElements(driver, this);
+        PagePerformance.onArrival(driver);
     }
 
     // Page Actions
     public boolean isDrawerDisplayed() {
         try {
-            wait.until(ExpectedConditions.visibilityOf(drawerTitle));
+            wait.until(DomConditions.visibilityOf(drawerTitle));
             System.out.println("✓ Add Condition drawer displayed");
             return drawerTitle.isDisplayed();
         } catch (Exception e) {
@@ -55,9 +57,8 @@ public class AddConditionDrawer {
 
     public void enterConditionName(String conditionName) {
         try {
-            wait.until(ExpectedConditions.elementToBeClickable(conditionInput));
+            wait.until(DomConditions.elementToBeClickable(conditionInput));
             conditionInput.clear();
-            Thread.sleep(300);
             conditionInput.sendKeys(conditionName);
             System.out.println("✓ Condition name entered: " + conditionName);
         } catch (Exception e) {
@@ -68,8 +69,7 @@ public class AddConditionDrawer {
 
     public void clickSubmitButton() {
         try {
-            wait.until(ExpectedConditions.elementToBeClickable(submitButton));
-            Thread.sleep(500);
+            wait.until(DomConditions.elementToBeClickable(submitButton));
             submitButton.click();
             System.out.println("✓ Submit button clicked");
         } catch (Exception e) {
@@ -3,9 +3,10 @@ package pages;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
 import org.openqa.selenium.support.FindBy;
-import org.openqa.selenium.support.PageFactory;
-import org.openqa.selenium.support.ui.ExpectedConditions;
 import org.openqa.selenium.support.ui.WebDriverWait;
+import utils.DomConditions;
+import utils.ElementCache;
+import utils.PagePerformance;
 
 import java.time.Duration;
 
@@ -29,18 +30,17 @@ public class AddFolderModal {
     // Constructor
     public AddFolderModal(WebDriver driver) {
         this.driver = driver;
-        this.wait = new WebDriverWait(driver, Duration.ofSeconds(20));
-        PageFactory.initElements(driver, this);
+        this.wait = DomConditions.newWait(driver, Duration.ofSeconds(20));
+        ElementCache.initElements(driver, this);
+        PagePerformance.onArrival(driver);
     }
 
     // Page Actions
     public boolean isModalDisplayed() {
         try {
-            Thread.sleep(1000);
-
             // Check if modal is visible by input field or heading
             try {
-                wait.until(ExpectedConditions.visibilityOf(folderNameInput));
+                wait.until(DomConditions.visibilityOf(folderNameInput));
                 System.out.println("✓ Add Folder modal displayed");
                 return true;
             } catch (Exception e) {
@@ -60,7 +60,7 @@ public class AddFolderModal {
 
     public String getModalHeading() {
         try {
-            wait.until(ExpectedConditions.visibilityOf(modalHeading));
+            wait.until(DomConditions.visibilityOf(modalHeading));
             String heading = modalHeading.getText();
             System.out.println("✓ Modal heading: " + heading);
             return heading;
@@ -72,9 +72,8 @@ public class AddFolderModal {
 
     public void enterFolderName(String folderName) {
         try {
-            wait.until(ExpectedConditions.elementToBeClickable(folderNameInput));
+            wait.until(DomConditions.elementToBeClickable(folderNameInput));
             folderNameInput.clear();
-            Thread.sleep(500);
             folderNameInput.sendKeys(folderName);
             System.out.println("✓ Folder name entered: " + folderName);
         } catch (Exception e) {
@@ -85,8 +84,7 @@ public class AddFolderModal {
 
     public void clickCreateButton() {
         try {
-            wait.until(ExpectedConditions.elementToBeClickable(createButton));
-            Thread.sleep(500);
+            wait.until(DomConditions.elementToBeClickable(createButton));
             createButton.click();
             System.out.println("✓ Create button clicked");
         } catch (Exception e) {
@@ -97,8 +95,7 @@ public class AddFolderModal {
 
     public void clickCancelButton() {
         try {
-            wait.until(ExpectedConditions.elementToBeClickable(cancelButton));
-            Thread.sleep(500);
+            wait.until(DomConditions.elementToBeClickable(cancelButton));
             cancelButton.click();
             System.out.println("✓ Cancel button clicked");
         } catch (Exception e) {
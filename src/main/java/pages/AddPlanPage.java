@@ -4,40 +4,30 @@ import org.openqa.selenium.By;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
 import org.openqa.selenium.support.FindBy;
-import org.openqa.selenium.support.PageFactory;
-import org.openqa.selenium.support.ui.ExpectedConditions;
 import org.openqa.selenium.support.ui.WebDriverWait;
+import utils.ComboboxDriver;
+import utils.DatePickerDriver;
+import utils.DomConditions;
+import utils.ElementCache;
+import utils.FormFiller;
+import utils.PagePerformance;
 
 import java.time.Duration;
 
 public class AddPlanPage {
-    private WebDriver driver;
-    private WebDriverWait wait;
-
     // Form Fields
-    @FindBy(xpath = "//input[@role='combobox' and contains(@aria-label, 'Plan Type')]")
-    private WebElement planTypeDropdown;
-
-    @FindBy(xpath = "//input[contains(@placeholder, 'plan name')]")
-    private WebElement planNameInput;
-
-    @FindBy(xpath = "//input[@role='combobox' and contains(@aria-label, 'Category')]")
-    private WebElement categoryDropdown;
-
-    @FindBy(xpath = "//textarea[contains(@placeholder, 'Description') or @name='description']")
-    private WebElement descriptionTextarea;
+    private static final By PLAN_TYPE_COMBOBOX = By.xpath("//input[@role='combobox' and contains(@aria-label, 'Plan Type')]");
+    private static final By PLAN_NAME_INPUT = By.xpath("//input[contains(@placeholder, 'plan name')]");
+    private static final By CATEGORY_COMBOBOX = By.xpath("//input[@role='combobox' and contains(@aria-label, 'Category')]");
+    private static final By DESCRIPTION_TEXTAREA = By.xpath(
+            "//textarea[contains(@placeholder, 'Description') or @name='description']");
+    private static final By ASSIGNEE_COMBOBOX = By.xpath("//input[@role='combobox' and contains(@aria-label, 'Assignee')]");
+    private static final By FROM_DATE_INPUT = By.xpath("//input[contains(@placeholder, 'From Date')]");
+    private static final By TO_DATE_INPUT = By.xpath("//input[contains(@placeholder, 'To Date')]");
+    private static final By PRIORITY_COMBOBOX = By.xpath("//input[@role='combobox' and contains(@aria-label, 'Priority')]");
 
-    @FindBy(xpath = "//input[@role='combobox' and contains(@aria-label, 'Assignee')]")
-    private WebElement assigneeDropdown;
-
-    @FindBy(xpath = "//input[contains(@placeholder, 'From Date')]")
-    private WebElement fromDateInput;
-
-    @FindBy(xpath = "//input[contains(@placeholder, 'To Date')]")
-    private WebElement toDateInput;
-
-    @FindBy(xpath = "//input[@role='combobox' and contains(@aria-label, 'Priority')]")
-    private WebElement priorityDropdown;
+    private WebDriver driver;
+    private WebDriverWait wait;
 
     // Save Button
     @FindBy(xpath = "//button[contains(text(), 'Save')]")
@@ -50,14 +40,15 @@ public class AddPlanPage {
     // Constructor
     public AddPlanPage(WebDriver driver) {
         this.driver = driver;
-        this.wait = new WebDriverWait(driver, Duration.ofSeconds(20));
-        PageFactory.initElements(driver, this);
+        this.wait = DomConditions.newWait(driver, Duration.ofSeconds(20));
+        ElementCache.initElements(driver, this);
+        PagePerformance.onArrival(driver);
     }
 
     // Page Actions
     public boolean isAddPlanPageDisplayed() {
         try {
-            wait.until(ExpectedConditions.urlContains("addAPlan"));
+            wait.until(DomConditions.urlContains("addAPlan"));
             System.out.println("✓ Add Plan page displayed");
             return driver.getCurrentUrl().contains("addAPlan");
         } catch (Exception e) {
@@ -68,7 +59,7 @@ public class AddPlanPage {
 
     public boolean verifyCurrentURL(String expectedURLPart) {
         try {
-            wait.until(ExpectedConditions.urlContains(expectedURLPart));
+            wait.until(DomConditions.urlContains(expectedURLPart));
             String currentURL = driver.getCurrentUrl();
             System.out.println("✓ Current URL: " + currentURL);
             return currentURL.contains(expectedURLPart);
@@ -80,14 +71,7 @@ public class AddPlanPage {
 
     public void selectPlanType(String planType) {
         try {
-            wait.until(ExpectedConditions.elementToBeClickable(planTypeDropdown));
-            Thread.sleep(500);
-            planTypeDropdown.click();
-            Thread.sleep(1000);
-
-            WebElement option = wait.until(ExpectedConditions.elementToBeClickable(
-                By.xpath("//li[@role='option' and contains(text(), '" + planType + "')]")));
-            option.click();
+            ComboboxDriver.select(driver, PLAN_TYPE_COMBOBOX, planType);
             System.out.println("✓ Plan Type selected: " + planType);
         } catch (Exception e) {
             System.err.println("Failed to select Plan Type: " + e.getMessage());
@@ -96,28 +80,14 @@ public class AddPlanPage {
     }
 
     public void enterPlanName(String planName) {
-        try {
-            wait.until(ExpectedConditions.elementToBeClickable(planNameInput));
-            planNameInput.clear();
-            Thread.sleep(300);
-            planNameInput.sendKeys(planName);
-            System.out.println("✓ Plan Name entered: " + planName);
-        } catch (Exception e) {
-            System.err.println("Failed to enter Plan Name: " + e.getMessage());
-            throw new RuntimeException("Failed to enter Plan Name", e);
-        }
+        FormFiller.form(driver, "Add Plan")
+                .text("Plan Name", PLAN_NAME_INPUT, planName)
+                .fill();
     }
 
     public void selectCategory(String category) {
         try {
-            wait.until(ExpectedConditions.elementToBeClickable(categoryDropdown));
-            Thread.sleep(500);
-            categoryDropdown.click();
-            Thread.sleep(1000);
-
-            WebElement option = wait.until(ExpectedConditions.elementToBeClickable(
-                By.xpath("//li[@role='option' and contains(text(), '" + category + "')]")));
-            option.click();
+            ComboboxDriver.select(driver, CATEGORY_COMBOBOX, category);
             System.out.println("✓ Category selected: " + category);
         } catch (Exception e) {
             System.err.println("Failed to select Category: " + e.getMessage());
@@ -126,28 +96,14 @@ public class AddPlanPage {
     }
 
     public void enterDescription(String description) {
-        try {
-            wait.until(ExpectedConditions.elementToBeClickable(descriptionTextarea));
-            descriptionTextarea.clear();
-            Thread.sleep(300);
-            descriptionTextarea.sendKeys(description);
-            System.out.println("✓ Description entered: " + description);
-        } catch (Exception e) {
-            System.err.println("Failed to enter Description: " + e.getMessage());
-            throw new RuntimeException("Failed to enter Description", e);
-        }
+        FormFiller.form(driver, "Add Plan")
+                .text("Description", DESCRIPTION_TEXTAREA, description)
+                .fill();
     }
 
     public void selectAssignee(String assignee) {
         try {
-            wait.until(ExpectedConditions.elementToBeClickable(assigneeDropdown));
-            Thread.sleep(500);
-            assigneeDropdown.click();
-            Thread.sleep(1000);
-
-            WebElement option = wait.until(ExpectedConditions.elementToBeClickable(
-                By.xpath("//li[@role='option' and contains(text(), '" + assignee + "')]")));
-            option.click();
+            ComboboxDriver.select(driver, ASSIGNEE_COMBOBOX, assignee);
             System.out.println("✓ Assignee selected: " + assignee);
         } catch (Exception e) {
             System.err.println("Failed to select Assignee: " + e.getMessage());
@@ -157,15 +113,7 @@ public class AddPlanPage {
 
     public void selectFromDate(String date) {
         try {
-            wait.until(ExpectedConditions.elementToBeClickable(fromDateInput));
-            Thread.sleep(500);
-            fromDateInput.click();
-            Thread.sleep(1500);
-
-            // Click Today button
-            WebElement todayButton = wait.until(ExpectedConditions.elementToBeClickable(
-                By.xpath("//a[contains(text(), 'Today')]")));
-            todayButton.click();
+            DatePickerDriver.selectToday(driver, FROM_DATE_INPUT);
             System.out.println("✓ From Date selected: Today");
         } catch (Exception e) {
             System.err.println("Failed to select From Date: " + e.getMessage());
@@ -175,15 +123,7 @@ public class AddPlanPage {
 
     public void selectToDate(int dayOfMonth) {
         try {
-            wait.until(ExpectedConditions.elementToBeClickable(toDateInput));
-            Thread.sleep(500);
-            toDateInput.click();
-            Thread.sleep(1500);
-
-            // Select specific day
-            WebElement dayElement = wait.until(ExpectedConditions.elementToBeClickable(
-                By.xpath("//td[@role='gridcell' and not(contains(@class, 'disabled'))]//span[text()='" + dayOfMonth + "']")));
-            dayElement.click();
+            DatePickerDriver.selectDay(driver, TO_DATE_INPUT, dayOfMonth);
             System.out.println("✓ To Date selected: Day " + dayOfMonth);
         } catch (Exception e) {
             System.err.println("Failed to select To Date: " + e.getMessage());
@@ -193,14 +133,7 @@ public class AddPlanPage {
 
     public void selectPriority(String priority) {
         try {
-            wait.until(ExpectedConditions.elementToBeClickable(priorityDropdown));
-            Thread.sleep(500);
-            priorityDropdown.click();
-            Thread.sleep(1000);
-
-            WebElement option = wait.until(ExpectedConditions.elementToBeClickable(
-                By.xpath("//li[@role='option' and contains(text(), '" + priority + "')]")));
-            option.click();
+            ComboboxDriver.select(driver, PRIORITY_COMBOBOX, priority);
             System.out.println("✓ Priority selected: " + priority);
         } catch (Exception e) {
             System.err.println("Failed to select Priority: " + e.getMessage());
@@ -210,8 +143,7 @@ public class AddPlanPage {
 
     public void clickSaveButton() {
         try {
-            wait.until(ExpectedConditions.elementToBeClickable(saveButton));
-            Thread.sleep(500);
+            wait.until(DomConditions.elementToBeClickable(saveButton));
             saveButton.click();
             System.out.println("✓ Save button clicked");
         } catch (Exception e) {
@@ -222,15 +154,22 @@ public class AddPlanPage {
 
     public void fillAndSubmitPlanForm(String planType, String planName, String category,
                                        String description, String assignee, int toDay, String priority) {
+        fillPlanForm(planType, planName, category, description, assignee, toDay, priority);
+        clickSaveButton();
+    }
+
+    public void fillPlanForm(String planType, String planName, String category,
+                             String description, String assignee, int toDay, String priority) {
         selectPlanType(planType);
-        enterPlanName(planName);
+        FormFiller.form(driver, "Add Plan")
+                .text("Plan Name", PLAN_NAME_INPUT, planName)
+                .text("Description", DESCRIPTION_TEXTAREA, description)
+                .fill();
         selectCategory(category);
-        enterDescription(description);
         selectAssignee(assignee);
         selectFromDate("Today");
         selectToDate(toDay);
         selectPriority(priority);
-        clickSaveButton();
     }
 
     public String getCurrentURL() {
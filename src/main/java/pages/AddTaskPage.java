@@ -4,13 +4,25 @@ import org.openqa.selenium.By;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
 import org.openqa.selenium.support.FindBy;
-import org.openqa.selenium.support.PageFactory;
-import org.openqa.selenium.support.ui.ExpectedConditions;
 import org.openqa.selenium.support.ui.WebDriverWait;
+import utils.ComboboxDriver;
+import utils.DomConditions;
+import utils.ElementCache;
+import utils.FormFiller;
+import utils.PagePerformance;
 
 import java.time.Duration;
 
 public class AddTaskPage {
+    private static final By TASK_NAME_FIELD = By.xpath("//input[@placeholder='Task Name' or @name='taskName' or @id='taskName']");
+    private static final By DESCRIPTION_FIELD = By.xpath(
+            "//textarea[@placeholder='Description' or @name='description' or @id='description'] | //input[@placeholder='Description' or @name='description']");
+    private static final By CATEGORY_DROPDOWN = By.xpath("//select[@name='category' or @id='category'] | //div[contains(@class, 'category')]//button");
+    private static final By PREFERRED_TIME_FIELD = By.xpath("//input[@type='time' or @placeholder='Time' or @name='preferredTime']");
+    private static final By REPEAT_DROPDOWN = By.xpath("//select[@name='repeat' or @id='repeat'] | //div[contains(@class, 'repeat')]//button");
+    private static final By REMINDER_CHECKBOX = By.xpath(
+            "//input[@type='checkbox' and contains(@name, 'reminder')] | //label[contains(text(), 'Reminder')]//input");
+
     private WebDriver driver;
     private WebDriverWait wait;
 
@@ -18,24 +30,6 @@ public class AddTaskPage {
     @FindBy(xpath = "//h1[contains(text(), 'Add Task')] | //h2[contains(text(), 'Add Task')] | //*[contains(text(), 'Create Task')]")
     private WebElement formHeading;
 
-    @FindBy(xpath = "//input[@placeholder='Task Name' or @name='taskName' or @id='taskName']")
-    private WebElement taskNameField;
-
-    @FindBy(xpath = "//textarea[@placeholder='Description' or @name='description' or @id='description'] | //input[@placeholder='Description' or @name='description']")
-    private WebElement descriptionField;
-
-    @FindBy(xpath = "//select[@name='category' or @id='category'] | //div[contains(@class, 'category')]//button")
-    private WebElement categoryDropdown;
-
-    @FindBy(xpath = "//input[@type='time' or @placeholder='Time' or @name='preferredTime']")
-    private WebElement preferredTimeField;
-
-    @FindBy(xpath = "//select[@name='repeat' or @id='repeat'] | //div[contains(@class, 'repeat')]//button")
-    private WebElement repeatDropdown;
-
-    @FindBy(xpath = "//input[@type='checkbox' and contains(@name, 'reminder')] | //label[contains(text(), 'Reminder')]//input")
-    private WebElement reminderCheckbox;
-
     @FindBy(xpath = "//button[@type='submit' or contains(text(), 'Save') or contains(text(), 'Create') or contains(text(), 'Add')]")
     private WebElement submitButton;
 
@@ -45,16 +39,17 @@ public class AddTaskPage {
     // Constructor
     public AddTaskPage(WebDriver driver) {
         this.driver = driver;
-        this.wait = new WebDriverWait(driver, Duration.ofSeconds(20));
-        PageFactory.initElements(driver, this);
+        this.wait = DomConditions.newWait(driver, Duration.ofSeconds(20));
+        ElementCache.initElements(driver, this);
+        PagePerformance.onArrival(driver);
     }
 
     // Page Actions
     public boolean isAddTaskPageDisplayed() {
         try {
-            Thread.sleep(2000);
+            DomConditions.awaitDomQuiet(driver);
             // Check if form is visible by looking for task name field
-            wait.until(ExpectedConditions.visibilityOf(taskNameField));
+            WebElement taskNameField = wait.until(DomConditions.visibilityOfElementLocated(TASK_NAME_FIELD));
             System.out.println("✓ Add Task form displayed");
             return taskNameField.isDisplayed();
         } catch (Exception e) {
@@ -65,7 +60,7 @@ public class AddTaskPage {
 
     public String getFormHeading() {
         try {
-            wait.until(ExpectedConditions.visibilityOf(formHeading));
+            wait.until(DomConditions.visibilityOf(formHeading));
             String heading = formHeading.getText();
             System.out.println("✓ Form heading: " + heading);
             return heading;
@@ -76,51 +71,20 @@ public class AddTaskPage {
     }
 
     public void enterTaskName(String taskName) {
-        try {
-            wait.until(ExpectedConditions.elementToBeClickable(taskNameField));
-            taskNameField.clear();
-            Thread.sleep(500);
-            taskNameField.sendKeys(taskName);
-            System.out.println("✓ Task name entered: " + taskName);
-        } catch (Exception e) {
-            System.err.println("Failed to enter task name: " + e.getMessage());
-            throw new RuntimeException("Failed to enter task name", e);
-        }
+        FormFiller.form(driver, "Add Task")
+                .text("Task name", TASK_NAME_FIELD, taskName)
+                .fill();
     }
 
     public void enterDescription(String description) {
-        try {
-            wait.until(ExpectedConditions.elementToBeClickable(descriptionField));
-            descriptionField.clear();
-            Thread.sleep(500);
-            descriptionField.sendKeys(description);
-            System.out.println("✓ Description entered: " + description);
-        } catch (Exception e) {
-            System.err.println("Failed to enter description: " + e.getMessage());
-            throw new RuntimeException("Failed to enter description", e);
-        }
+        FormFiller.form(driver, "Add Task")
+                .text("Description", DESCRIPTION_FIELD, description)
+                .fill();
     }
 
     public void selectCategory(String category) {
         try {
-            wait.until(ExpectedConditions.elementToBeClickable(categoryDropdown));
-            Thread.sleep(500);
-
-            // Try dropdown select
-            try {
-                categoryDropdown.click();
-                Thread.sleep(500);
-                WebElement categoryOption = wait.until(ExpectedConditions.elementToBeClickable(
-                        By.xpath("//option[contains(text(), '" + category + "')] | //li[contains(text(), '" + category
-                                + "')]")));
-                categoryOption.click();
-            } catch (Exception e) {
-                // If dropdown doesn't work, try direct option click
-                WebElement categoryOption = driver.findElement(
-                        By.xpath("//*[contains(text(), '" + category + "')]"));
-                categoryOption.click();
-            }
-
+            ComboboxDriver.select(driver, CATEGORY_DROPDOWN, category);
             System.out.println("✓ Category selected: " + category);
         } catch (Exception e) {
             System.err.println("Failed to select category: " + e.getMessage());
@@ -129,38 +93,15 @@ public class AddTaskPage {
     }
 
     public void enterPreferredTime(String time) {
-        try {
-            wait.until(ExpectedConditions.elementToBeClickable(preferredTimeField));
-            preferredTimeField.clear();
-            Thread.sleep(500);
-            preferredTimeField.sendKeys(time);
-            System.out.println("✓ Preferred time entered: " + time);
-        } catch (Exception e) {
-            System.err.println("Failed to enter preferred time: " + e.getMessage());
-            // Don't throw exception as time might be optional
-        }
+        // Optional: a missing time field is logged, not thrown
+        FormFiller.form(driver, "Add Task")
+                .optionalText("Preferred time", PREFERRED_TIME_FIELD, time)
+                .fill();
     }
 
     public void selectRepeatSchedule(String repeat) {
         try {
-            wait.until(ExpectedConditions.elementToBeClickable(repeatDropdown));
-            Thread.sleep(500);
-
-            // Try dropdown select
-            try {
-                repeatDropdown.click();
-                Thread.sleep(500);
-                WebElement repeatOption = wait.until(ExpectedConditions.elementToBeClickable(
-                        By.xpath("//option[contains(text(), '" + repeat + "')] | //li[contains(text(), '" + repeat
-                                + "')]")));
-                repeatOption.click();
-            } catch (Exception e) {
-                // If dropdown doesn't work, try direct option click
-                WebElement repeatOption = driver.findElement(
-                        By.xpath("//*[contains(text(), '" + repeat + "')]"));
-                repeatOption.click();
-            }
-
+            ComboboxDriver.select(driver, REPEAT_DROPDOWN, repeat);
             System.out.println("✓ Repeat schedule selected: " + repeat);
         } catch (Exception e) {
             System.err.println("Failed to select repeat schedule: " + e.getMessage());
@@ -169,22 +110,15 @@ public class AddTaskPage {
     }
 
     public void enableReminder() {
-        try {
-            wait.until(ExpectedConditions.elementToBeClickable(reminderCheckbox));
-            if (!reminderCheckbox.isSelected()) {
-                reminderCheckbox.click();
-                System.out.println("✓ Reminder enabled");
-            }
-        } catch (Exception e) {
-            System.err.println("Failed to enable reminder: " + e.getMessage());
-            // Don't throw exception as reminder might be optional
-        }
+        // Optional: a missing reminder checkbox is logged, not thrown
+        FormFiller.form(driver, "Add Task")
+                .optionalCheckbox("Reminder", REMINDER_CHECKBOX, true)
+                .fill();
     }
 
     public void clickSubmitButton() {
         try {
-            wait.until(ExpectedConditions.elementToBeClickable(submitButton));
-            Thread.sleep(500);
+            wait.until(DomConditions.elementToBeClickable(submitButton));
             submitButton.click();
             System.out.println("✓ Submit button clicked");
         } catch (Exception e) {
@@ -195,8 +129,7 @@ public class AddTaskPage {
 
     public void clickCancelButton() {
         try {
-            wait.until(ExpectedConditions.elementToBeClickable(cancelButton));
-            Thread.sleep(500);
+            wait.until(DomConditions.elementToBeClickable(cancelButton));
             cancelButton.click();
             System.out.println("✓ Cancel button clicked");
         } catch (Exception e) {
@@ -209,25 +142,24 @@ public class AddTaskPage {
             String preferredTime, String repeat, boolean enableReminder) {
         System.out.println("\nFilling task form...");
 
-        enterTaskName(taskName);
-        enterDescription(description);
+        // Plain inputs in one pass; the dropdowns still need clicks
+        FormFiller form = FormFiller.form(driver, "Add Task")
+                .text("Task name", TASK_NAME_FIELD, taskName)
+                .text("Description", DESCRIPTION_FIELD, description)
+                .optionalText("Preferred time", PREFERRED_TIME_FIELD, preferredTime);
+        if (enableReminder) {
+            form.optionalCheckbox("Reminder", REMINDER_CHECKBOX, true);
+        }
+        form.fill();
 
         if (category != null && !category.isEmpty()) {
             selectCategory(category);
         }
 
-        if (preferredTime != null && !preferredTime.isEmpty()) {
-            enterPreferredTime(preferredTime);
-        }
-
         if (repeat != null && !repeat.isEmpty()) {
             selectRepeatSchedule(repeat);
         }
 
-        if (enableReminder) {
-            enableReminder();
-        }
-
         clickSubmitButton();
         System.out.println("✓ Task form submitted");
     }
@@ -238,7 +170,7 @@ public class AddTaskPage {
 
     public boolean verifyCurrentURL(String expectedURLPart) {
         try {
-            wait.until(ExpectedConditions.urlContains(expectedURLPart));
+            wait.until(DomConditions.urlContains(expectedURLPart));
             String currentURL = driver.getCurrentUrl();
             System.out.println("✓ Current URL: " + currentURL);
             return currentURL.contains(expectedURLPart);
@@ -1,13 +1,17 @@
 package pages;
 
+import org.openqa.selenium.TimeoutException;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
 import org.openqa.selenium.support.FindBy;
-import org.openqa.selenium.support.PageFactory;
-import org.openqa.selenium.support.ui.ExpectedConditions;
 import org.openqa.selenium.support.ui.WebDriverWait;
+import utils.DomConditions;
+import utils.ElementCache;
+import utils.PagePerformance;
+import utils.WaitPolicy;
 
 import java.time.Duration;
+import java.util.Arrays;
 
 public class AssistAIPage {
     private WebDriver driver;
@@ -41,14 +45,15 @@ public class AssistAIPage {
     // Constructor
     public AssistAIPage(WebDriver driver) {
         this.driver = driver;
-        this.wait = new WebDriverWait(driver, Duration.ofSeconds(20));
-        PageFactory.initElements(driver, this);
+        this.wait = DomConditions.newWait(driver, Duration.ofSeconds(20));
+        ElementCache.initElements(driver, this);
+        PagePerformance.onArrival(driver);
     }
 
     // Page Actions
     public boolean isTermsDialogDisplayed() {
         try {
-            wait.until(ExpectedConditions.visibilityOf(termsHeading));
+            wait.until(DomConditions.visibilityOf(termsHeading));
             System.out.println("✓ Terms & Conditions dialog displayed");
             return termsHeading.isDisplayed();
         } catch (Exception e) {
@@ -59,7 +64,7 @@ public class AssistAIPage {
 
     public String getTermsHeadingText() {
         try {
-            wait.until(ExpectedConditions.visibilityOf(termsHeading));
+            wait.until(DomConditions.visibilityOf(termsHeading));
             String text = termsHeading.getText();
             System.out.println("✓ Terms heading: " + text);
             return text;
@@ -71,7 +76,7 @@ public class AssistAIPage {
 
     public boolean isTermsSubtitleDisplayed() {
         try {
-            return termsSubtitle.isDisplayed();
+            return WaitPolicy.isDisplayed(driver, termsSubtitle, "AssistAIPage.termsSubtitle");
         } catch (Exception e) {
             System.err.println("Terms subtitle not displayed: " + e.getMessage());
             return false;
@@ -80,7 +85,7 @@ public class AssistAIPage {
 
     public boolean isIAgreeButtonDisplayed() {
         try {
-            wait.until(ExpectedConditions.visibilityOf(iAgreeButton));
+            wait.until(DomConditions.visibilityOf(iAgreeButton));
             System.out.println("✓ 'I Agree' button displayed");
             return iAgreeButton.isDisplayed();
         } catch (Exception e) {
@@ -91,7 +96,7 @@ public class AssistAIPage {
 
     public boolean verifyCurrentURL(String expectedURLPart) {
         try {
-            wait.until(ExpectedConditions.urlContains(expectedURLPart));
+            wait.until(DomConditions.urlContains(expectedURLPart));
             String currentURL = driver.getCurrentUrl();
             System.out.println("✓ Current URL: " + currentURL);
             return currentURL.contains(expectedURLPart);
@@ -104,8 +109,12 @@ public class AssistAIPage {
 
     public boolean verifyAllTermsDisplayed() {
         try {
-            Thread.sleep(1000); // Allow time for all elements to load
-            
+            try {
+                wait.until(DomConditions.visibilityOfAllElements(Arrays.asList(term1, term2, term3, term4, term5)));
+            } catch (TimeoutException e) {
+                // Each term that is missing is reported below
+            }
+
             boolean term1Displayed = term1.isDisplayed();
             boolean term2Displayed = term2.isDisplayed();
             boolean term3Displayed = term3.isDisplayed();
@@ -128,8 +137,7 @@ public class AssistAIPage {
 
     public void clickIAgreeButton() {
         try {
-            wait.until(ExpectedConditions.elementToBeClickable(iAgreeButton));
-            Thread.sleep(500);
+            wait.until(DomConditions.elementToBeClickable(iAgreeButton));
             iAgreeButton.click();
             System.out.println("✓ 'I Agree' button clicked");
         } catch (Exception e) {
@@ -3,9 +3,11 @@ package pages;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
 import org.openqa.selenium.support.FindBy;
-import org.openqa.selenium.support.PageFactory;
-import org.openqa.selenium.support.ui.ExpectedConditions;
 import org.openqa.selenium.support.ui.WebDriverWait;
+import utils.DomConditions;
+import utils.ElementCache;
+import utils.PagePerformance;
+import utils.WaitPolicy;
 
 import java.time.Duration;
 import java.util.List;
@@ -49,18 +51,17 @@ public class BlogDetailPage {
     // Constructor
     public BlogDetailPage(WebDriver driver) {
         this.driver = driver;
-        this.wait = new WebDriverWait(driver, Duration.ofSeconds(20));
-        PageFactory.initElements(driver, this);
+        this.wait = DomConditions.newWait(driver, Duration.ofSeconds(20));
+        ElementCache.initElements(driver, this);
+        PagePerformance.onArrival(driver);
     }
 
     // Page Actions
     public boolean isBlogDetailPageDisplayed() {
         try {
-            Thread.sleep(2000);
-
             // Check if blog title is visible or content is loaded
             try {
-                wait.until(ExpectedConditions.visibilityOf(blogTitle));
+                wait.until(DomConditions.visibilityOf(blogTitle));
                 System.out.println("✓ Blog detail page displayed (title visible)");
                 return true;
             } catch (Exception e) {
@@ -80,7 +81,7 @@ public class BlogDetailPage {
 
     public String getBlogTitle() {
         try {
-            wait.until(ExpectedConditions.visibilityOf(blogTitle));
+            wait.until(DomConditions.visibilityOf(blogTitle));
             String title = blogTitle.getText();
             System.out.println("✓ Blog title: " + title);
             return title;
@@ -92,7 +93,7 @@ public class BlogDetailPage {
 
     public String getBlogContent() {
         try {
-            Thread.sleep(1000);
+            DomConditions.awaitDomQuiet(driver);
             StringBuilder content = new StringBuilder();
 
             for (WebElement paragraph : blogContent) {
@@ -112,7 +113,7 @@ public class BlogDetailPage {
 
     public boolean isBlogContentDisplayed() {
         try {
-            Thread.sleep(1000);
+            DomConditions.awaitDomQuiet(driver);
             boolean hasContent = !blogContent.isEmpty() && blogContent.get(0).isDisplayed();
             System.out.println("✓ Blog content displayed: " + hasContent);
             return hasContent;
@@ -124,7 +125,7 @@ public class BlogDetailPage {
 
     public String getAuthorInfo() {
         try {
-            wait.until(ExpectedConditions.visibilityOf(authorInfo));
+            wait.until(DomConditions.visibilityOf(authorInfo));
             String author = authorInfo.getText();
             System.out.println("✓ Author info: " + author);
             return author;
@@ -136,7 +137,7 @@ public class BlogDetailPage {
 
     public boolean isAuthorDisplayed() {
         try {
-            return authorInfo != null && authorInfo.isDisplayed();
+            return WaitPolicy.isDisplayed(driver, authorInfo, "BlogDetailPage.authorInfo");
         } catch (Exception e) {
             return false;
         }
@@ -144,7 +145,7 @@ public class BlogDetailPage {
 
     public String getPublishDate() {
         try {
-            wait.until(ExpectedConditions.visibilityOf(publishDate));
+            wait.until(DomConditions.visibilityOf(publishDate));
             String date = publishDate.getText();
             System.out.println("✓ Publish date: " + date);
             return date;
@@ -156,7 +157,7 @@ public class BlogDetailPage {
 
     public boolean isPublishDateDisplayed() {
         try {
-            return publishDate != null && publishDate.isDisplayed();
+            return WaitPolicy.isDisplayed(driver, publishDate, "BlogDetailPage.publishDate");
         } catch (Exception e) {
             return false;
         }
@@ -164,9 +165,10 @@ public class BlogDetailPage {
 
     public boolean isFeaturedImageDisplayed() {
         try {
-            wait.until(ExpectedConditions.visibilityOf(featuredImage));
-            System.out.println("✓ Featured image is displayed");
-            return featuredImage.isDisplayed();
+            // Not every blog has a featured image, so the check is bounded
+            boolean displayed = WaitPolicy.isDisplayed(driver, featuredImage, "BlogDetailPage.featuredImage");
+            System.out.println((displayed ? "✓" : "⚠") + " Featured image displayed: " + displayed);
+            return displayed;
         } catch (Exception e) {
             System.err.println("Featured image not found: " + e.getMessage());
             return false;
@@ -175,8 +177,7 @@ public class BlogDetailPage {
 
     public void clickBackButton() {
         try {
-            wait.until(ExpectedConditions.elementToBeClickable(backButton));
-            Thread.sleep(500);
+            wait.until(DomConditions.elementToBeClickable(backButton));
             backButton.click();
             System.out.println("✓ Back button clicked");
         } catch (Exception e) {
@@ -187,8 +188,7 @@ public class BlogDetailPage {
 
     public void clickShareButton() {
         try {
-            wait.until(ExpectedConditions.elementToBeClickable(shareButton));
-            Thread.sleep(500);
+            wait.until(DomConditions.elementToBeClickable(shareButton));
             shareButton.click();
             System.out.println("✓ Share button clicked");
         } catch (Exception e) {
@@ -198,8 +198,7 @@ public class BlogDetailPage {
 
     public void clickLikeButton() {
         try {
-            wait.until(ExpectedConditions.elementToBeClickable(likeButton));
-            Thread.sleep(500);
+            wait.until(DomConditions.elementToBeClickable(likeButton));
             likeButton.click();
             System.out.println("✓ Like button clicked");
         } catch (Exception e) {
@@ -209,7 +208,7 @@ public class BlogDetailPage {
 
     public boolean isRelatedBlogsSectionDisplayed() {
         try {
-            wait.until(ExpectedConditions.visibilityOf(relatedBlogsSection));
+            wait.until(DomConditions.visibilityOf(relatedBlogsSection));
             System.out.println("✓ Related blogs section displayed");
             return relatedBlogsSection.isDisplayed();
         } catch (Exception e) {
@@ -220,7 +219,7 @@ public class BlogDetailPage {
 
     public int getRelatedBlogsCount() {
         try {
-            Thread.sleep(1000);
+            DomConditions.awaitDomQuiet(driver);
             int count = relatedBlogs.size();
             System.out.println("✓ Related blogs count: " + count);
             return count;
@@ -252,13 +251,13 @@ public class BlogDetailPage {
 
         // Author and date are optional, just log their status
         try {
-            System.out.println("  - Author displayed: " + (authorInfo != null && authorInfo.isDisplayed()));
+            System.out.println("  - Author displayed: " + isAuthorDisplayed());
         } catch (Exception e) {
             System.out.println("  - Author displayed: false");
         }
 
         try {
-            System.out.println("  - Date displayed: " + (publishDate != null && publishDate.isDisplayed()));
+            System.out.println("  - Date displayed: " + isPublishDateDisplayed());
         } catch (Exception e) {
             System.out.println("  - Date displayed: false");
         }
@@ -270,7 +269,7 @@ public class BlogDetailPage {
 
     public boolean verifyCurrentURL(String expectedURLPart) {
         try {
-            wait.until(ExpectedConditions.urlContains(expectedURLPart));
+            wait.until(DomConditions.urlContains(expectedURLPart));
             String currentURL = driver.getCurrentUrl();
             System.out.println("✓ Current URL: " + currentURL);
             return currentURL.contains(expectedURLPart);
@@ -4,14 +4,31 @@ import org.openqa.selenium.By;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
 import org.openqa.selenium.support.FindBy;
-import org.openqa.selenium.support.PageFactory;
-import org.openqa.selenium.support.ui.ExpectedConditions;
 import org.openqa.selenium.support.ui.WebDriverWait;
+import utils.CompositeLocator;
+import utils.DomConditions;
+import utils.DomSnapshot;
+import utils.ElementCache;
+import utils.PagePerformance;
+import utils.WaitPolicy;
 
 import java.time.Duration;
 import java.util.List;
 
 public class BlogsPage {
+    private static final By BLOG_TITLES = By.xpath(
+            "//h3 | //h4 | //*[contains(@class, 'blog-title')] | //*[contains(@class, 'article-title')]");
+
+    private static final CompositeLocator FIRST_BLOG = CompositeLocator.named("First blog")
+            .xpath("card", "(//div[contains(@class, 'blog-card')] | //div[contains(@class, 'article-card')] | //article)[1]")
+            .xpath("title", "(//*[contains(@class, 'blog-title')])[1]")
+            .xpath("link", "(//a[contains(@href, 'blog')] | //a[contains(@href, 'article')])[1]");
+
+    private static final CompositeLocator MY_LIBRARY_TAB = CompositeLocator.named("My Library tab")
+            .xpath("text", "//button[contains(text(), 'My Library')] | //*[contains(text(), 'My Library')]")
+            .xpath("aria-label", "//button[contains(@aria-label, 'My Library') or @role='tab' and contains(., 'Library')]")
+            .xpath("tab class", "//div[contains(@class, 'tab')]//*[contains(text(), 'Library')]");
+
     private WebDriver driver;
     private WebDriverWait wait;
 
@@ -26,10 +43,6 @@ public class BlogsPage {
     @FindBy(xpath = "//div[contains(@class, 'blog-card')] | //div[contains(@class, 'article-card')] | //article")
     private List<WebElement> blogCards;
 
-    // Blog Titles
-    @FindBy(xpath = "//h3 | //h4 | //*[contains(@class, 'blog-title')] | //*[contains(@class, 'article-title')]")
-    private List<WebElement> blogTitles;
-
     // Search Elements (if available)
     @FindBy(xpath = "//input[@placeholder='Search' or contains(@placeholder, 'Search blogs')]")
     private WebElement searchInput;
@@ -40,14 +53,15 @@ public class BlogsPage {
     // Constructor
     public BlogsPage(WebDriver driver) {
         this.driver = driver;
-        this.wait = new WebDriverWait(driver, Duration.ofSeconds(20));
-        PageFactory.initElements(driver, this);
+        this.wait = DomConditions.newWait(driver, Duration.ofSeconds(20));
+        ElementCache.initElements(driver, this);
+        PagePerformance.onArrival(driver);
     }
 
     // Page Actions
     public boolean isBlogsPageDisplayed() {
         try {
-            Thread.sleep(2000);
+            DomConditions.awaitDomQuiet(driver);
             // Check if we're on blogs page by URL or visible elements
             String currentURL = driver.getCurrentUrl();
             if (currentURL.contains("blog") || currentURL.contains("article")) {
@@ -57,7 +71,7 @@ public class BlogsPage {
 
             // Try to find page heading
             try {
-                wait.until(ExpectedConditions.visibilityOf(pageHeading));
+                wait.until(DomConditions.visibilityOf(pageHeading));
                 System.out.println("✓ Blogs page displayed (verified by heading)");
                 return true;
             } catch (Exception e) {
@@ -77,7 +91,7 @@ public class BlogsPage {
 
     public String getPageHeading() {
         try {
-            wait.until(ExpectedConditions.visibilityOf(pageHeading));
+            wait.until(DomConditions.visibilityOf(pageHeading));
             String heading = pageHeading.getText();
             System.out.println("✓ Page heading: " + heading);
             return heading;
@@ -89,7 +103,7 @@ public class BlogsPage {
 
     public int getBlogsCount() {
         try {
-            Thread.sleep(2000);
+            DomConditions.awaitDomQuiet(driver);
             int count = blogCards.size();
             System.out.println("✓ Total blogs count: " + count);
             return count;
@@ -101,13 +115,9 @@ public class BlogsPage {
 
     public List<String> getAllBlogTitles() {
         try {
-            Thread.sleep(2000);
-            List<String> titles = new java.util.ArrayList<>();
-            for (WebElement title : blogTitles) {
-                if (title.isDisplayed()) {
-                    titles.add(title.getText());
-                }
-            }
+            DomConditions.awaitDomQuiet(driver);
+            // One script call for all titles instead of isDisplayed() + getText() per element
+            List<String> titles = DomSnapshot.visibleTexts(driver, BLOG_TITLES);
             System.out.println("✓ Found " + titles.size() + " blog titles");
             return titles;
         } catch (Exception e) {
@@ -118,31 +128,12 @@ public class BlogsPage {
 
     public void clickFirstBlog() {
         try {
-            Thread.sleep(2000);
+            DomConditions.awaitDomQuiet(driver);
 
-            // Strategy 1: Try clicking first blog card
-            WebElement firstBlog = null;
-            try {
-                firstBlog = wait.until(ExpectedConditions.elementToBeClickable(
-                        By.xpath(
-                                "(//div[contains(@class, 'blog-card')] | //div[contains(@class, 'article-card')] | //article)[1]")));
-            } catch (Exception e1) {
-                // Strategy 2: Try clicking first clickable heading/title
-                try {
-                    firstBlog = wait.until(ExpectedConditions.elementToBeClickable(
-                            By.xpath("(//h3 | //h4 | //*[contains(@class, 'blog-title')])[1]")));
-                } catch (Exception e2) {
-                    // Strategy 3: Try first link/button in blog area
-                    firstBlog = wait.until(ExpectedConditions.elementToBeClickable(
-                            By.xpath("(//a[contains(@href, 'blog')] | //a[contains(@href, 'article')])[1]")));
-                }
-            }
-
-            if (firstBlog != null) {
-                Thread.sleep(500);
-                firstBlog.click();
-                System.out.println("✓ First blog clicked");
-            }
+            // Card, heading or link - whichever is clickable first
+            WebElement firstBlog = wait.until(FIRST_BLOG.clickable());
+            firstBlog.click();
+            System.out.println("✓ First blog clicked");
         } catch (Exception e) {
             System.err.println("Failed to click first blog: " + e.getMessage());
             throw new RuntimeException("Failed to click first blog", e);
@@ -151,16 +142,15 @@ public class BlogsPage {
 
     public void clickBlogByTitle(String blogTitle) {
         try {
-            Thread.sleep(2000);
+            DomConditions.awaitDomQuiet(driver);
 
             // Find and click blog by title
-            WebElement blogElement = wait.until(ExpectedConditions.elementToBeClickable(
+            WebElement blogElement = wait.until(DomConditions.elementToBeClickable(
                     By.xpath("//*[contains(text(), '" + blogTitle
                             + "')]/ancestor::*[contains(@class, 'card') or contains(@class, 'blog') or contains(@class, 'article')] | "
                             +
                             "//*[contains(text(), '" + blogTitle + "')]")));
 
-            Thread.sleep(500);
             blogElement.click();
             System.out.println("✓ Clicked on blog: " + blogTitle);
         } catch (Exception e) {
@@ -171,15 +161,14 @@ public class BlogsPage {
 
     public void clickBlogByIndex(int index) {
         try {
-            Thread.sleep(2000);
+            DomConditions.awaitDomQuiet(driver);
 
             if (index < 0 || index >= blogCards.size()) {
                 throw new IllegalArgumentException("Blog index out of range: " + index);
             }
 
             WebElement blog = blogCards.get(index);
-            wait.until(ExpectedConditions.elementToBeClickable(blog));
-            Thread.sleep(500);
+            wait.until(DomConditions.elementToBeClickable(blog));
             blog.click();
             System.out.println("✓ Clicked on blog at index: " + index);
         } catch (Exception e) {
@@ -190,13 +179,13 @@ public class BlogsPage {
 
     public void searchBlog(String searchTerm) {
         try {
-            wait.until(ExpectedConditions.elementToBeClickable(searchInput));
+            wait.until(DomConditions.elementToBeClickable(searchInput));
             searchInput.clear();
-            Thread.sleep(500);
             searchInput.sendKeys(searchTerm);
             System.out.println("✓ Searched for: " + searchTerm);
 
-            if (searchButton != null && searchButton.isDisplayed()) {
+            // Optional button; search may also run as you type
+            if (WaitPolicy.isDisplayedNow(driver, searchButton, "BlogsPage.searchButton")) {
                 searchButton.click();
                 System.out.println("✓ Search button clicked");
             }
@@ -207,7 +196,7 @@ public class BlogsPage {
 
     public boolean verifyCurrentURL(String expectedURLPart) {
         try {
-            wait.until(ExpectedConditions.urlContains(expectedURLPart));
+            wait.until(DomConditions.urlContains(expectedURLPart));
             String currentURL = driver.getCurrentUrl();
             System.out.println("✓ Current URL: " + currentURL);
             return currentURL.contains(expectedURLPart);
@@ -223,7 +212,7 @@ public class BlogsPage {
 
     public void clickBackButton() {
         try {
-            wait.until(ExpectedConditions.elementToBeClickable(backButton));
+            wait.until(DomConditions.elementToBeClickable(backButton));
             backButton.click();
             System.out.println("✓ Back button clicked");
         } catch (Exception e) {
@@ -233,33 +222,12 @@ public class BlogsPage {
 
     public void clickMyLibraryTab() {
         try {
-            Thread.sleep(2000);
-
-            // Try multiple strategies to find and click My Library tab
-            WebElement myLibraryTab = null;
-
-            try {
-                // Strategy 1: Find by text "My Library"
-                myLibraryTab = wait.until(ExpectedConditions.elementToBeClickable(
-                        By.xpath("//button[contains(text(), 'My Library')] | //*[contains(text(), 'My Library')]")));
-            } catch (Exception e1) {
-                try {
-                    // Strategy 2: Find by aria-label or role
-                    myLibraryTab = wait.until(ExpectedConditions.elementToBeClickable(
-                            By.xpath(
-                                    "//button[contains(@aria-label, 'My Library') or @role='tab' and contains(., 'Library')]")));
-                } catch (Exception e2) {
-                    // Strategy 3: Find tab by class
-                    myLibraryTab = wait.until(ExpectedConditions.elementToBeClickable(
-                            By.xpath("//div[contains(@class, 'tab')]//*[contains(text(), 'Library')]")));
-                }
-            }
+            DomConditions.awaitDomQuiet(driver);
 
-            if (myLibraryTab != null) {
-                Thread.sleep(500);
-                myLibraryTab.click();
-                System.out.println("✓ My Library tab clicked");
-            }
+            // Text, aria-label or tab class - whichever is clickable first
+            WebElement myLibraryTab = wait.until(MY_LIBRARY_TAB.clickable());
+            myLibraryTab.click();
+            System.out.println("✓ My Library tab clicked");
         } catch (Exception e) {
             System.err.println("Failed to click My Library tab: " + e.getMessage());
             throw new RuntimeException("Failed to click My Library tab", e);
@@ -3,9 +3,11 @@ package pages;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
 import org.openqa.selenium.support.FindBy;
-import org.openqa.selenium.support.PageFactory;
-import org.openqa.selenium.support.ui.ExpectedConditions;
 import org.openqa.selenium.support.ui.WebDriverWait;
+import utils.DomConditions;
+import utils.ElementCache;
+import utils.PagePerformance;
+import utils.WaitPolicy;
 
 import java.time.Duration;
 
@@ -36,14 +38,15 @@ public class ConditionFolderPage {
     // Constructor
     public ConditionFolderPage(WebDriver driver) {
         this.driver = driver;
-        this.wait = new WebDriverWait(driver, Duration.ofSeconds(20));
-        PageFactory.initElements(driver, this);
+        this.wait = DomConditions.newWait(driver, Duration.ofSeconds(20));
+        ElementCache.initElements(driver, this);
+        PagePerformance.onArrival(driver);
     }
 
     // Page Actions
     public boolean isConditionFolderPageDisplayed() {
         try {
-            wait.until(ExpectedConditions.urlContains("condition"));
+            wait.until(DomConditions.urlContains("condition"));
             System.out.println("✓ Condition folder page displayed");
             return driver.getCurrentUrl().contains("condition");
         } catch (Exception e) {
@@ -54,7 +57,7 @@ public class ConditionFolderPage {
 
     public boolean verifyCurrentURL(String expectedURLPart) {
         try {
-            wait.until(ExpectedConditions.urlContains(expectedURLPart));
+            wait.until(DomConditions.urlContains(expectedURLPart));
             String currentURL = driver.getCurrentUrl();
             System.out.println("✓ Current URL: " + currentURL);
             return currentURL.contains(expectedURLPart);
@@ -65,7 +68,7 @@ public class ConditionFolderPage {
 
     public boolean isRecordsCardDisplayed() {
         try {
-            wait.until(ExpectedConditions.visibilityOf(recordsCard));
+            wait.until(DomConditions.visibilityOf(recordsCard));
             System.out.println("✓ Records card displayed");
             return recordsCard.isDisplayed();
         } catch (Exception e) {
@@ -75,8 +78,7 @@ public class ConditionFolderPage {
 
     public void clickRecordsCard() {
         try {
-            wait.until(ExpectedConditions.elementToBeClickable(recordsCard));
-            Thread.sleep(500);
+            wait.until(DomConditions.elementToBeClickable(recordsCard));
             recordsCard.click();
             System.out.println("✓ Records card clicked");
         } catch (Exception e) {
@@ -87,7 +89,7 @@ public class ConditionFolderPage {
 
     public void clickPrescriptionsCard() {
         try {
-            wait.until(ExpectedConditions.elementToBeClickable(prescriptionsCard));
+            wait.until(DomConditions.elementToBeClickable(prescriptionsCard));
             prescriptionsCard.click();
             System.out.println("✓ Prescriptions card clicked");
         } catch (Exception e) {
@@ -97,10 +99,10 @@ public class ConditionFolderPage {
 
     public boolean verifyAllCardsDisplayed() {
         boolean records = isRecordsCardDisplayed();
-        boolean prescriptions = prescriptionsCard.isDisplayed();
-        boolean planner = plannerCard.isDisplayed();
-        boolean reminders = remindersCard.isDisplayed();
-        boolean blogs = blogsCard.isDisplayed();
+        boolean prescriptions = WaitPolicy.isDisplayed(driver, prescriptionsCard, "ConditionFolderPage.prescriptionsCard");
+        boolean planner = WaitPolicy.isDisplayed(driver, plannerCard, "ConditionFolderPage.plannerCard");
+        boolean reminders = WaitPolicy.isDisplayed(driver, remindersCard, "ConditionFolderPage.remindersCard");
+        boolean blogs = WaitPolicy.isDisplayed(driver, blogsCard, "ConditionFolderPage.blogsCard");
 
         System.out.println("✓ Records card: " + records);
         System.out.println("✓ Prescriptions card: " + prescriptions);
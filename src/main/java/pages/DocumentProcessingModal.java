@@ -1,12 +1,16 @@
 package pages;
 
 import org.openqa.selenium.By;
+import org.openqa.selenium.TimeoutException;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
 import org.openqa.selenium.support.FindBy;
-import org.openqa.selenium.support.PageFactory;
-import org.openqa.selenium.support.ui.ExpectedConditions;
 import org.openqa.selenium.support.ui.WebDriverWait;
+import utils.DomConditions;
+import utils.ElementCache;
+import utils.NetworkIdle;
+import utils.PagePerformance;
+import utils.WaitPolicy;
 
 import java.time.Duration;
 
@@ -31,14 +35,15 @@ public class DocumentProcessingModal {
     // Constructor
     public DocumentProcessingModal(WebDriver driver) {
         this.driver = driver;
-        this.wait = new WebDriverWait(driver, Duration.ofSeconds(60)); // Longer wait for processing
-        PageFactory.initElements(driver, this);
+        this.wait = DomConditions.newWait(driver, Duration.ofSeconds(60)); // Longer wait for processing
+        ElementCache.initElements(driver, this);
+        PagePerformance.onArrival(driver);
     }
 
     // Page Actions
     public boolean isProcessingModalDisplayed() {
         try {
-            wait.until(ExpectedConditions.presenceOfElementLocated(
+            wait.until(DomConditions.presenceOfElementLocated(
                 By.xpath("//*[contains(text(), 'Almost Ready')]")));
             System.out.println("✓ Processing modal displayed");
             return true;
@@ -50,7 +55,7 @@ public class DocumentProcessingModal {
 
     public boolean isAlmostReadyTextDisplayed() {
         try {
-            boolean isDisplayed = almostReadyText.isDisplayed();
+            boolean isDisplayed = WaitPolicy.isDisplayed(driver, almostReadyText, "DocumentProcessingModal.almostReadyText");
             System.out.println("✓ 'Almost Ready' text displayed: " + isDisplayed);
             return isDisplayed;
         } catch (Exception e) {
@@ -61,7 +66,7 @@ public class DocumentProcessingModal {
 
     public boolean isImportantNoticeDisplayed() {
         try {
-            wait.until(ExpectedConditions.presenceOfElementLocated(
+            wait.until(DomConditions.presenceOfElementLocated(
                 By.xpath("//*[contains(text(), 'Important notice') or contains(text(), 'Important Notice')]")));
             boolean isDisplayed = importantNoticeHeading.isDisplayed();
             System.out.println("✓ Important Notice section displayed: " + isDisplayed);
@@ -86,17 +91,22 @@ public class DocumentProcessingModal {
         }
     }
 
+    /**
+     * Waits up to 60 s for the modal to close or the review page to open.
+     * Throws if processing is still shown when the wait ends.
+     */
     public void waitForProcessingToComplete() {
         try {
-            // Wait for the modal to disappear or URL to change
-            wait.until(ExpectedConditions.or(
-                ExpectedConditions.invisibilityOf(almostReadyText),
-                ExpectedConditions.urlContains("reviewDocument")
+            wait.until(DomConditions.or(
+                DomConditions.invisibilityOf(almostReadyText),
+                DomConditions.urlContains("reviewDocument")
             ));
-            System.out.println("✓ Document processing completed");
-        } catch (Exception e) {
-            System.err.println("Processing did not complete: " + e.getMessage());
+        } catch (TimeoutException e) {
+            throw new IllegalStateException("Processing did not complete: the modal is still shown", e);
         }
+        NetworkIdle.of(driver).waitForAppIdle("Document processing → review page",
+                Duration.ofMillis(500), Duration.ofSeconds(10));
+        System.out.println("✓ Document processing completed");
     }
 
     public boolean verifyImportantNoticeSection() {
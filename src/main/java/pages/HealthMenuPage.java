@@ -3,14 +3,23 @@ package pages;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
 import org.openqa.selenium.support.FindBy;
-import org.openqa.selenium.support.PageFactory;
-import org.openqa.selenium.support.ui.ExpectedConditions;
 import org.openqa.selenium.support.ui.WebDriverWait;
+import utils.CompositeLocator;
+import utils.DomConditions;
+import utils.ElementCache;
+import utils.PagePerformance;
+import utils.WaitPolicy;
 
 import java.time.Duration;
 import java.util.List;
 
 public class HealthMenuPage {
+    private static final CompositeLocator BLOGS_AND_ARTICLES = CompositeLocator.named("Blogs and Articles")
+            .xpath("circular menu", "//div[contains(@class, 'menu') or contains(@class, 'circular')]//*[contains(text(), 'Blogs')]")
+            .xpath("aria-label", "//button[contains(@aria-label, 'Blogs') or contains(@title, 'Blogs')]")
+            .xpath("icon alt", "//button[.//img[contains(@alt, 'Blog')] or .//img[contains(@alt, 'Article')]]")
+            .xpath("text", "//button[contains(., 'Blogs') or contains(., 'Articles')] | //a[contains(., 'Blogs') or contains(., 'Articles')]");
+
     private WebDriver driver;
     private WebDriverWait wait;
 
@@ -55,14 +64,15 @@ public class HealthMenuPage {
     // Constructor
     public HealthMenuPage(WebDriver driver) {
         this.driver = driver;
-        this.wait = new WebDriverWait(driver, Duration.ofSeconds(20));
-        PageFactory.initElements(driver, this);
+        this.wait = DomConditions.newWait(driver, Duration.ofSeconds(20));
+        ElementCache.initElements(driver, this);
+        PagePerformance.onArrival(driver);
     }
 
     // Page Actions
     public boolean isHealthMenuPageDisplayed() {
         try {
-            wait.until(ExpectedConditions.visibilityOf(healthAeraLogo));
+            wait.until(DomConditions.visibilityOf(healthAeraLogo));
             System.out.println("✓ Health Menu page displayed");
             return healthAeraLogo.isDisplayed();
         } catch (Exception e) {
@@ -73,7 +83,7 @@ public class HealthMenuPage {
 
     public boolean verifyCurrentURL(String expectedURLPart) {
         try {
-            wait.until(ExpectedConditions.urlContains(expectedURLPart));
+            wait.until(DomConditions.urlContains(expectedURLPart));
             String currentURL = driver.getCurrentUrl();
             System.out.println("✓ Current URL: " + currentURL);
             return currentURL.contains(expectedURLPart);
@@ -86,7 +96,7 @@ public class HealthMenuPage {
 
     public boolean isLogoDisplayed() {
         try {
-            return healthAeraLogo.isDisplayed();
+            return WaitPolicy.isDisplayed(driver, healthAeraLogo, "HealthMenuPage.healthAeraLogo");
         } catch (Exception e) {
             System.err.println("Logo not displayed: " + e.getMessage());
             return false;
@@ -95,7 +105,7 @@ public class HealthMenuPage {
 
     public boolean isDashboardButtonDisplayed() {
         try {
-            return dashboardButton.isDisplayed();
+            return WaitPolicy.isDisplayed(driver, dashboardButton, "HealthMenuPage.dashboardButton");
         } catch (Exception e) {
             System.err.println("Dashboard button not displayed: " + e.getMessage());
             return false;
@@ -104,7 +114,7 @@ public class HealthMenuPage {
 
     public boolean isNotificationsButtonDisplayed() {
         try {
-            wait.until(ExpectedConditions.visibilityOf(notificationsButton));
+            wait.until(DomConditions.visibilityOf(notificationsButton));
             return notificationsButton.isDisplayed();
         } catch (Exception e) {
             System.err.println("Notifications button not displayed: " + e.getMessage());
@@ -114,7 +124,7 @@ public class HealthMenuPage {
 
     public boolean isHamburgerMenuButtonDisplayed() {
         try {
-            return hamburgerMenuButton.isDisplayed();
+            return WaitPolicy.isDisplayed(driver, hamburgerMenuButton, "HealthMenuPage.hamburgerMenuButton");
         } catch (Exception e) {
             System.err.println("Hamburger menu button not displayed: " + e.getMessage());
             return false;
@@ -123,7 +133,7 @@ public class HealthMenuPage {
 
     public boolean isProgressBannerDisplayed() {
         try {
-            wait.until(ExpectedConditions.visibilityOf(progressBannerHeading));
+            wait.until(DomConditions.visibilityOf(progressBannerHeading));
             System.out.println("✓ Progress banner displayed: " + progressBannerHeading.getText());
             return progressBannerHeading.isDisplayed();
         } catch (Exception e) {
@@ -134,7 +144,7 @@ public class HealthMenuPage {
 
     public String getProgressBannerHeading() {
         try {
-            wait.until(ExpectedConditions.visibilityOf(progressBannerHeading));
+            wait.until(DomConditions.visibilityOf(progressBannerHeading));
             String heading = progressBannerHeading.getText();
             System.out.println("✓ Progress banner heading: " + heading);
             return heading;
@@ -157,7 +167,7 @@ public class HealthMenuPage {
 
     public boolean isMyPlannerSectionDisplayed() {
         try {
-            wait.until(ExpectedConditions.visibilityOf(myPlannerHeading));
+            wait.until(DomConditions.visibilityOf(myPlannerHeading));
             System.out.println("✓ My Planner section displayed");
             return myPlannerHeading.isDisplayed();
         } catch (Exception e) {
@@ -168,7 +178,7 @@ public class HealthMenuPage {
 
     public String getMyPlannerHeading() {
         try {
-            wait.until(ExpectedConditions.visibilityOf(myPlannerHeading));
+            wait.until(DomConditions.visibilityOf(myPlannerHeading));
             String heading = myPlannerHeading.getText();
             System.out.println("✓ My Planner heading: " + heading);
             return heading;
@@ -191,7 +201,7 @@ public class HealthMenuPage {
 
     public boolean isMyPlannerArrowButtonDisplayed() {
         try {
-            return myPlannerArrowButton.isDisplayed();
+            return WaitPolicy.isDisplayed(driver, myPlannerArrowButton, "HealthMenuPage.myPlannerArrowButton");
         } catch (Exception e) {
             System.err.println("My Planner arrow button not displayed: " + e.getMessage());
             return false;
@@ -200,8 +210,7 @@ public class HealthMenuPage {
 
     public void clickMyPlannerArrowButton() {
         try {
-            wait.until(ExpectedConditions.elementToBeClickable(myPlannerArrowButton));
-            Thread.sleep(500);
+            wait.until(DomConditions.elementToBeClickable(myPlannerArrowButton));
             myPlannerArrowButton.click();
             System.out.println("✓ My Planner arrow button clicked");
         } catch (Exception e) {
@@ -212,7 +221,7 @@ public class HealthMenuPage {
 
     public boolean isAvatarDisplayed() {
         try {
-            wait.until(ExpectedConditions.visibilityOf(avatarImage));
+            wait.until(DomConditions.visibilityOf(avatarImage));
             System.out.println("✓ Avatar image displayed");
             return avatarImage.isDisplayed();
         } catch (Exception e) {
@@ -223,7 +232,7 @@ public class HealthMenuPage {
 
     public void clickDashboardButton() {
         try {
-            wait.until(ExpectedConditions.elementToBeClickable(dashboardButton));
+            wait.until(DomConditions.elementToBeClickable(dashboardButton));
             dashboardButton.click();
             System.out.println("✓ Dashboard button clicked");
         } catch (Exception e) {
@@ -234,7 +243,7 @@ public class HealthMenuPage {
 
     public void clickNotificationsButton() {
         try {
-            wait.until(ExpectedConditions.elementToBeClickable(notificationsButton));
+            wait.until(DomConditions.elementToBeClickable(notificationsButton));
             notificationsButton.click();
             System.out.println("✓ Notifications button clicked");
         } catch (Exception e) {
@@ -245,7 +254,7 @@ public class HealthMenuPage {
 
     public void clickHamburgerMenuButton() {
         try {
-            wait.until(ExpectedConditions.elementToBeClickable(hamburgerMenuButton));
+            wait.until(DomConditions.elementToBeClickable(hamburgerMenuButton));
             hamburgerMenuButton.click();
             System.out.println("✓ Hamburger menu button clicked");
         } catch (Exception e) {
@@ -270,43 +279,10 @@ public class HealthMenuPage {
 
     public void clickBlogsAndArticles() {
         try {
-            // Wait for page to be ready
-            Thread.sleep(2000);
-
-            // Try multiple strategies to find and click Blogs and Articles
-            org.openqa.selenium.WebElement blogsButton = null;
-
-            try {
-                // Strategy 1: Find by text "Blogs" or "Articles"
-                blogsButton = wait.until(ExpectedConditions.elementToBeClickable(
-                        org.openqa.selenium.By
-                                .xpath("//*[contains(text(), 'Blogs') or contains(text(), 'Articles')]")));
-            } catch (Exception e1) {
-                try {
-                    // Strategy 2: Find by aria-label or title
-                    blogsButton = wait.until(ExpectedConditions.elementToBeClickable(
-                            org.openqa.selenium.By
-                                    .xpath("//button[contains(@aria-label, 'Blogs') or contains(@title, 'Blogs')]")));
-                } catch (Exception e2) {
-                    try {
-                        // Strategy 3: Find by icon or image alt text
-                        blogsButton = wait.until(ExpectedConditions.elementToBeClickable(
-                                org.openqa.selenium.By.xpath(
-                                        "//button[.//img[contains(@alt, 'Blog')] or .//img[contains(@alt, 'Article')]]")));
-                    } catch (Exception e3) {
-                        // Strategy 4: Find in circular menu items
-                        blogsButton = wait.until(ExpectedConditions.elementToBeClickable(
-                                org.openqa.selenium.By.xpath(
-                                        "//div[contains(@class, 'menu') or contains(@class, 'circular')]//*[contains(text(), 'Blogs')]")));
-                    }
-                }
-            }
-
-            if (blogsButton != null) {
-                Thread.sleep(500);
-                blogsButton.click();
-                System.out.println("✓ Blogs and Articles clicked");
-            }
+            // All strategies are tried together; the first one with a clickable match wins
+            WebElement blogsButton = wait.until(BLOGS_AND_ARTICLES.clickable());
+            blogsButton.click();
+            System.out.println("✓ Blogs and Articles clicked");
         } catch (Exception e) {
             System.err.println("Failed to click Blogs and Articles: " + e.getMessage());
             throw new RuntimeException("Failed to click Blogs and Articles", e);
@@ -323,8 +299,7 @@ public class HealthMenuPage {
             // or we add a check if logout button is visible directly.
             // Usually Logout is inside the hamburger menu.
 
-            Thread.sleep(1000);
-            WebElement logoutButton = wait.until(ExpectedConditions.elementToBeClickable(
+            WebElement logoutButton = wait.until(DomConditions.elementToBeClickable(
                     org.openqa.selenium.By.xpath(
                             "//button[contains(text(), 'Logout') or contains(@aria-label, 'Logout')] | //*[contains(text(), 'Log Out')]")));
 
@@ -338,9 +313,10 @@ public class HealthMenuPage {
 
     public void clickConfirmLogout() {
         try {
-            Thread.sleep(1000);
-            // Wait for confirmation modal/dialog
-            WebElement confirmButton = wait.until(ExpectedConditions.elementToBeClickable(
+            // Wait for confirmation modal/dialog to finish opening, so the menu's
+            // own Logout item is not taken for its confirm button
+            DomConditions.awaitDomQuiet(driver);
+            WebElement confirmButton = wait.until(DomConditions.elementToBeClickable(
                     org.openqa.selenium.By.xpath(
                             "//button[contains(text(), 'Yes') or contains(text(), 'Confirm') or contains(text(), 'Logout')]")));
 
@@ -362,9 +338,9 @@ public class HealthMenuPage {
 
     public boolean verifyLogoutSuccess() {
         try {
-            wait.until(ExpectedConditions.or(
-                    ExpectedConditions.urlContains("signin"),
-                    ExpectedConditions.urlContains("login")));
+            wait.until(DomConditions.or(
+                    DomConditions.urlContains("signin"),
+                    DomConditions.urlContains("login")));
             System.out.println("✓ Redirected to login page");
             return true;
         } catch (Exception e) {
@@ -3,9 +3,10 @@ package pages;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
 import org.openqa.selenium.support.FindBy;
-import org.openqa.selenium.support.PageFactory;
-import org.openqa.selenium.support.ui.ExpectedConditions;
 import org.openqa.selenium.support.ui.WebDriverWait;
+import utils.DomConditions;
+import utils.ElementCache;
+import utils.PagePerformance;
 
 import java.time.Duration;
 
@@ -29,8 +30,9 @@ public class LoginPage {
     // Constructor
     public LoginPage(WebDriver driver) {
         this.driver = driver;
-        this.wait = new WebDriverWait(driver, Duration.ofSeconds(20));
-        PageFactory.initElements(driver, this);
+        this.wait = DomConditions.newWait(driver, Duration.ofSeconds(20));
+        ElementCache.initElements(driver, this);
+        PagePerformance.onArrival(driver);
     }
 
     // Page Actions
@@ -42,8 +44,7 @@ public class LoginPage {
 
     private void waitForPageLoad() {
         try {
-            Thread.sleep(2000);
-            wait.until(ExpectedConditions.visibilityOf(welcomeBackHeading));
+            wait.until(DomConditions.visibilityOf(welcomeBackHeading));
         } catch (Exception e) {
             System.err.println("Warning: Page load delay - " + e.getMessage());
         }
@@ -51,7 +52,7 @@ public class LoginPage {
 
     public boolean isLoginPageDisplayed() {
         try {
-            wait.until(ExpectedConditions.visibilityOf(welcomeBackHeading));
+            wait.until(DomConditions.visibilityOf(welcomeBackHeading));
             return welcomeBackHeading.isDisplayed();
         } catch (Exception e) {
             System.err.println("Login page not displayed: " + e.getMessage());
@@ -61,9 +62,8 @@ public class LoginPage {
 
     public void enterEmail(String email) {
         try {
-            wait.until(ExpectedConditions.elementToBeClickable(emailField));
+            wait.until(DomConditions.elementToBeClickable(emailField));
             emailField.clear();
-            Thread.sleep(500);
             emailField.sendKeys(email);
             System.out.println("✓ Email entered: " + email);
         } catch (Exception e) {
@@ -74,9 +74,8 @@ public class LoginPage {
 
     public void enterPassword(String password) {
         try {
-            wait.until(ExpectedConditions.elementToBeClickable(passwordField));
+            wait.until(DomConditions.elementToBeClickable(passwordField));
             passwordField.clear();
-            Thread.sleep(500);
             passwordField.sendKeys(password);
             System.out.println("✓ Password entered");
         } catch (Exception e) {
@@ -87,8 +86,7 @@ public class LoginPage {
 
     public void clickSignInButton() {
         try {
-            wait.until(ExpectedConditions.elementToBeClickable(signInButton));
-            Thread.sleep(500);
+            wait.until(DomConditions.elementToBeClickable(signInButton));
             signInButton.click();
             System.out.println("✓ Sign In button clicked");
         } catch (Exception e) {
@@ -4,9 +4,11 @@ import org.openqa.selenium.By;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
 import org.openqa.selenium.support.FindBy;
-import org.openqa.selenium.support.PageFactory;
-import org.openqa.selenium.support.ui.ExpectedConditions;
 import org.openqa.selenium.support.ui.WebDriverWait;
+import utils.DomConditions;
+import utils.ElementCache;
+import utils.PagePerformance;
+import utils.WaitPolicy;
 
 import java.time.Duration;
 
@@ -31,14 +33,15 @@ public class MyHealthBioPage {
     // Constructor
     public MyHealthBioPage(WebDriver driver) {
         this.driver = driver;
-        this.wait = new WebDriverWait(driver, Duration.ofSeconds(20));
-        PageFactory.initElements(driver, this);
+        this.wait = DomConditions.newWait(driver, Duration.ofSeconds(20));
+        ElementCache.initElements(driver, this);
+        PagePerformance.onArrival(driver);
     }
 
     // Page Actions
     public boolean isMyHealthBioPageDisplayed() {
         try {
-            wait.until(ExpectedConditions.urlContains("healthBio"));
+            wait.until(DomConditions.urlContains("healthBio"));
             System.out.println("✓ My Health Bio page displayed");
             return driver.getCurrentUrl().contains("healthBio");
         } catch (Exception e) {
@@ -49,7 +52,7 @@ public class MyHealthBioPage {
 
     public boolean verifyCurrentURL(String expectedURLPart) {
         try {
-            wait.until(ExpectedConditions.urlContains(expectedURLPart));
+            wait.until(DomConditions.urlContains(expectedURLPart));
             String currentURL = driver.getCurrentUrl();
             System.out.println("✓ Current URL: " + currentURL);
             return currentURL.contains(expectedURLPart);
@@ -61,7 +64,7 @@ public class MyHealthBioPage {
 
     public boolean isPageTitleDisplayed() {
         try {
-            wait.until(ExpectedConditions.visibilityOf(pageTitle));
+            wait.until(DomConditions.visibilityOf(pageTitle));
             System.out.println("✓ Page title displayed: " + pageTitle.getText());
             return pageTitle.isDisplayed();
         } catch (Exception e) {
@@ -72,7 +75,7 @@ public class MyHealthBioPage {
 
     public String getPageTitle() {
         try {
-            wait.until(ExpectedConditions.visibilityOf(pageTitle));
+            wait.until(DomConditions.visibilityOf(pageTitle));
             String title = pageTitle.getText();
             System.out.println("✓ Page title: " + title);
             return title;
@@ -84,7 +87,7 @@ public class MyHealthBioPage {
 
     public boolean isEmptyStateDisplayed() {
         try {
-            wait.until(ExpectedConditions.visibilityOf(emptyStateHeading));
+            wait.until(DomConditions.visibilityOf(emptyStateHeading));
             System.out.println("✓ Empty state displayed");
             return emptyStateHeading.isDisplayed();
         } catch (Exception e) {
@@ -95,7 +98,7 @@ public class MyHealthBioPage {
 
     public String getEmptyStateHeading() {
         try {
-            wait.until(ExpectedConditions.visibilityOf(emptyStateHeading));
+            wait.until(DomConditions.visibilityOf(emptyStateHeading));
             String heading = emptyStateHeading.getText();
             System.out.println("✓ Empty state heading: " + heading);
             return heading;
@@ -107,7 +110,7 @@ public class MyHealthBioPage {
 
     public String getEmptyStateMessage() {
         try {
-            wait.until(ExpectedConditions.visibilityOf(emptyStateMessage));
+            wait.until(DomConditions.visibilityOf(emptyStateMessage));
             String message = emptyStateMessage.getText();
             System.out.println("✓ Empty state message: " + message);
             return message;
@@ -119,7 +122,7 @@ public class MyHealthBioPage {
 
     public boolean isEmptyStateIllustrationDisplayed() {
         try {
-            return emptyStateIllustration.isDisplayed();
+            return WaitPolicy.isDisplayed(driver, emptyStateIllustration, "MyHealthBioPage.emptyStateIllustration");
         } catch (Exception e) {
             System.err.println("Empty state illustration not displayed: " + e.getMessage());
             return false;
@@ -128,9 +131,8 @@ public class MyHealthBioPage {
 
     public void clickBackButton() {
         try {
-            WebElement backButton = wait.until(ExpectedConditions.elementToBeClickable(
+            WebElement backButton = wait.until(DomConditions.elementToBeClickable(
                 By.xpath("//button[contains(@type, 'button')][1]")));
-            Thread.sleep(500);
             backButton.click();
             System.out.println("✓ Back button clicked");
         } catch (Exception e) {
@@ -141,7 +143,7 @@ public class MyHealthBioPage {
 
     public boolean verifyAllEmptyStateElements() {
         boolean headingDisplayed = isEmptyStateDisplayed();
-        boolean messageDisplayed = emptyStateMessage.isDisplayed();
+        boolean messageDisplayed = WaitPolicy.isDisplayed(driver, emptyStateMessage, "MyHealthBioPage.emptyStateMessage");
         boolean illustrationDisplayed = isEmptyStateIllustrationDisplayed();
 
         System.out.println("✓ Empty state heading: " + headingDisplayed);
@@ -4,9 +4,11 @@ import org.openqa.selenium.By;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
 import org.openqa.selenium.support.FindBy;
-import org.openqa.selenium.support.PageFactory;
-import org.openqa.selenium.support.ui.ExpectedConditions;
 import org.openqa.selenium.support.ui.WebDriverWait;
+import utils.DomConditions;
+import utils.ElementCache;
+import utils.PagePerformance;
+import utils.WaitPolicy;
 
 import java.time.Duration;
 
@@ -66,14 +68,15 @@ public class MyHealthInformationPage {
     // Constructor
     public MyHealthInformationPage(WebDriver driver) {
         this.driver = driver;
-        this.wait = new WebDriverWait(driver, Duration.ofSeconds(20));
-        PageFactory.initElements(driver, this);
+        this.wait = DomConditions.newWait(driver, Duration.ofSeconds(20));
+        ElementCache.initElements(driver, this);
+        PagePerformance.onArrival(driver);
     }
 
     // Page Actions
     public boolean isMyHealthInformationPageDisplayed() {
         try {
-            wait.until(ExpectedConditions.urlContains("phi"));
+            wait.until(DomConditions.urlContains("phi"));
             System.out.println("✓ My Health Information page displayed");
             return driver.getCurrentUrl().contains("phi");
         } catch (Exception e) {
@@ -84,7 +87,7 @@ public class MyHealthInformationPage {
 
     public boolean verifyCurrentURL(String expectedURLPart) {
         try {
-            wait.until(ExpectedConditions.urlContains(expectedURLPart));
+            wait.until(DomConditions.urlContains(expectedURLPart));
             String currentURL = driver.getCurrentUrl();
             System.out.println("✓ Current URL: " + currentURL);
             return currentURL.contains(expectedURLPart);
@@ -96,7 +99,7 @@ public class MyHealthInformationPage {
 
     public boolean isHealthJourneySectionDisplayed() {
         try {
-            wait.until(ExpectedConditions.visibilityOf(healthJourneyHeading));
+            wait.until(DomConditions.visibilityOf(healthJourneyHeading));
             System.out.println("✓ My Health Journey section displayed");
             return healthJourneyHeading.isDisplayed();
         } catch (Exception e) {
@@ -107,7 +110,7 @@ public class MyHealthInformationPage {
 
     public boolean isMyHealthBioCardDisplayed() {
         try {
-            wait.until(ExpectedConditions.visibilityOf(myHealthBioHeading));
+            wait.until(DomConditions.visibilityOf(myHealthBioHeading));
             System.out.println("✓ My Health Bio card displayed");
             return myHealthBioHeading.isDisplayed();
         } catch (Exception e) {
@@ -140,8 +143,7 @@ public class MyHealthInformationPage {
 
     public void clickMyHealthBioCard() {
         try {
-            wait.until(ExpectedConditions.elementToBeClickable(myHealthBioCard));
-            Thread.sleep(500);
+            wait.until(DomConditions.elementToBeClickable(myHealthBioCard));
             myHealthBioCard.click();
             System.out.println("✓ My Health Bio card clicked");
         } catch (Exception e) {
@@ -152,7 +154,7 @@ public class MyHealthInformationPage {
 
     public boolean isMyHealthHistoryCardDisplayed() {
         try {
-            wait.until(ExpectedConditions.visibilityOf(myHealthHistoryHeading));
+            wait.until(DomConditions.visibilityOf(myHealthHistoryHeading));
             System.out.println("✓ My Health History card displayed");
             return myHealthHistoryHeading.isDisplayed();
         } catch (Exception e) {
@@ -185,8 +187,7 @@ public class MyHealthInformationPage {
 
     public void clickMyHealthHistoryCard() {
         try {
-            wait.until(ExpectedConditions.elementToBeClickable(myHealthHistoryCard));
-            Thread.sleep(500);
+            wait.until(DomConditions.elementToBeClickable(myHealthHistoryCard));
             myHealthHistoryCard.click();
             System.out.println("✓ My Health History card clicked");
         } catch (Exception e) {
@@ -197,7 +198,7 @@ public class MyHealthInformationPage {
 
     public boolean isSearchBarDisplayed() {
         try {
-            return searchConditionInput.isDisplayed();
+            return WaitPolicy.isDisplayed(driver, searchConditionInput, "MyHealthInformationPage.searchConditionInput");
         } catch (Exception e) {
             System.err.println("Search bar not displayed: " + e.getMessage());
             return false;
@@ -206,7 +207,7 @@ public class MyHealthInformationPage {
 
     public boolean isAddButtonDisplayed() {
         try {
-            return addButton.isDisplayed();
+            return WaitPolicy.isDisplayed(driver, addButton, "MyHealthInformationPage.addButton");
         } catch (Exception e) {
             System.err.println("Add button not displayed: " + e.getMessage());
             return false;
@@ -215,7 +216,7 @@ public class MyHealthInformationPage {
 
     public void clickBackButton() {
         try {
-            wait.until(ExpectedConditions.elementToBeClickable(backButton));
+            wait.until(DomConditions.elementToBeClickable(backButton));
             backButton.click();
             System.out.println("✓ Back button clicked");
         } catch (Exception e) {
@@ -231,10 +232,8 @@ public class MyHealthInformationPage {
 
     public void clickAddButton() {
         try {
-            wait.until(ExpectedConditions.elementToBeClickable(
+            WebElement addButton = wait.until(DomConditions.elementToBeClickable(
                 By.xpath("//button[contains(text(), 'Add')]")));
-            WebElement addButton = driver.findElement(By.xpath("//button[contains(text(), 'Add')]"));
-            Thread.sleep(500);
             addButton.click();
             System.out.println("✓ Add button clicked");
         } catch (Exception e) {
@@ -245,8 +244,7 @@ public class MyHealthInformationPage {
 
     public boolean isConditionDisplayedInList(String conditionName) {
         try {
-            Thread.sleep(2000);
-            WebElement condition = wait.until(ExpectedConditions.presenceOfElementLocated(
+            WebElement condition = wait.until(DomConditions.visibilityOfElementLocated(
                 By.xpath("//*[contains(text(), '" + conditionName + "')]")));
             boolean isDisplayed = condition.isDisplayed();
             System.out.println("✓ Condition '" + conditionName + "' displayed: " + isDisplayed);
@@ -259,9 +257,8 @@ public class MyHealthInformationPage {
 
     public void clickConditionFolder(String conditionName) {
         try {
-            WebElement folder = wait.until(ExpectedConditions.elementToBeClickable(
+            WebElement folder = wait.until(DomConditions.elementToBeClickable(
                 By.xpath("//button[.//h3[contains(text(), '" + conditionName + "')]]")));
-            Thread.sleep(500);
             folder.click();
             System.out.println("✓ Condition folder '" + conditionName + "' clicked");
         } catch (Exception e) {
@@ -4,14 +4,27 @@ import org.openqa.selenium.By;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
 import org.openqa.selenium.support.FindBy;
-import org.openqa.selenium.support.PageFactory;
-import org.openqa.selenium.support.ui.ExpectedConditions;
 import org.openqa.selenium.support.ui.WebDriverWait;
+import utils.CompositeLocator;
+import utils.DomConditions;
+import utils.DomSnapshot;
+import utils.ElementCache;
+import utils.PagePerformance;
+import utils.Route;
+import utils.WaitPolicy;
 
 import java.time.Duration;
 import java.util.List;
 
 public class MyLibraryPage {
+    private static final By FOLDER_NAMES = By.xpath(
+            "//h3 | //h4 | //*[contains(@class, 'folder-name')] | //*[contains(@class, 'folder-title')]");
+
+    private static final CompositeLocator ADD_FOLDER_BUTTON = CompositeLocator.named("Add folder button")
+            .xpath("plus or aria-label", "//button[contains(text(), '+') or contains(@aria-label, 'add folder') or contains(@aria-label, 'Add folder')]")
+            .xpath("any add button", "//button[contains(@aria-label, 'add') or contains(text(), '+') or .//img[contains(@alt, 'add')]]")
+            .xpath("add icon or class", "//button[.//img[contains(@alt, 'add')] or contains(@class, 'add')]");
+
     private WebDriver driver;
     private WebDriverWait wait;
 
@@ -30,9 +43,6 @@ public class MyLibraryPage {
     @FindBy(xpath = "//div[contains(@class, 'folder')] | //div[contains(@class, 'directory')]")
     private List<WebElement> folders;
 
-    @FindBy(xpath = "//h3 | //h4 | //*[contains(@class, 'folder-name')] | //*[contains(@class, 'folder-title')]")
-    private List<WebElement> folderNames;
-
     // No folders message
     @FindBy(xpath = "//*[contains(text(), 'No folders') or contains(text(), 'Create your first')]")
     private WebElement noFoldersMessage;
@@ -40,27 +50,28 @@ public class MyLibraryPage {
     // Constructor
     public MyLibraryPage(WebDriver driver) {
         this.driver = driver;
-        this.wait = new WebDriverWait(driver, Duration.ofSeconds(20));
-        PageFactory.initElements(driver, this);
+        this.wait = DomConditions.newWait(driver, Duration.ofSeconds(20));
+        ElementCache.initElements(driver, this);
+        PagePerformance.onArrival(driver);
     }
 
     // Page Actions
     public boolean isMyLibraryPageDisplayed() {
         try {
-            Thread.sleep(2000);
+            DomConditions.awaitDomQuiet(driver);
 
             // Check if My Library tab/page is visible
             String currentURL = driver.getCurrentUrl();
-            if (currentURL.contains("library")) {
+            if (Route.MY_LIBRARY.isOpenAt(currentURL)) {
                 System.out.println("✓ My Library page displayed (verified by URL)");
                 return true;
             }
 
             // Try to find page heading or tab
             try {
-                wait.until(ExpectedConditions.or(
-                        ExpectedConditions.visibilityOf(myLibraryTab),
-                        ExpectedConditions.visibilityOf(pageHeading)));
+                wait.until(DomConditions.or(
+                        DomConditions.visibilityOf(myLibraryTab),
+                        DomConditions.visibilityOf(pageHeading)));
                 System.out.println("✓ My Library page displayed");
                 return true;
             } catch (Exception e) {
@@ -80,35 +91,12 @@ public class MyLibraryPage {
 
     public void clickAddFolderButton() {
         try {
-            Thread.sleep(2000);
+            DomConditions.awaitDomQuiet(driver);
 
             // Find and click the + button to add folder
-            WebElement addButton = null;
-
-            try {
-                // Strategy 1: Find + button
-                addButton = wait.until(ExpectedConditions.elementToBeClickable(
-                        By.xpath(
-                                "//button[contains(text(), '+') or contains(@aria-label, 'add folder') or contains(@aria-label, 'Add folder')]")));
-            } catch (Exception e1) {
-                try {
-                    // Strategy 2: Find first clickable add button
-                    if (!addButtons.isEmpty()) {
-                        addButton = addButtons.get(0);
-                        wait.until(ExpectedConditions.elementToBeClickable(addButton));
-                    }
-                } catch (Exception e2) {
-                    // Strategy 3: Generic add button
-                    addButton = wait.until(ExpectedConditions.elementToBeClickable(
-                            By.xpath("//button[.//img[contains(@alt, 'add')] or contains(@class, 'add')]")));
-                }
-            }
-
-            if (addButton != null) {
-                Thread.sleep(500);
-                addButton.click();
-                System.out.println("✓ Add folder button clicked");
-            }
+            WebElement addButton = wait.until(ADD_FOLDER_BUTTON.clickable());
+            addButton.click();
+            System.out.println("✓ Add folder button clicked");
         } catch (Exception e) {
             System.err.println("Failed to click add folder button: " + e.getMessage());
             throw new RuntimeException("Failed to click add folder button", e);
@@ -117,7 +105,7 @@ public class MyLibraryPage {
 
     public int getFoldersCount() {
         try {
-            Thread.sleep(2000);
+            DomConditions.awaitDomQuiet(driver);
             int count = folders.size();
             System.out.println("✓ Total folders count: " + count);
             return count;
@@ -129,13 +117,9 @@ public class MyLibraryPage {
 
     public List<String> getAllFolderNames() {
         try {
-            Thread.sleep(2000);
-            List<String> names = new java.util.ArrayList<>();
-            for (WebElement name : folderNames) {
-                if (name.isDisplayed()) {
-                    names.add(name.getText());
-                }
-            }
+            DomConditions.awaitDomQuiet(driver);
+            // One script call for all names instead of isDisplayed() + getText() per element
+            List<String> names = DomSnapshot.visibleTexts(driver, FOLDER_NAMES);
             System.out.println("✓ Found " + names.size() + " folder names");
             return names;
         } catch (Exception e) {
@@ -146,15 +130,14 @@ public class MyLibraryPage {
 
     public void clickFolderByName(String folderName) {
         try {
-            Thread.sleep(2000);
+            DomConditions.awaitDomQuiet(driver);
 
             // Find and click folder by name
-            WebElement folder = wait.until(ExpectedConditions.elementToBeClickable(
+            WebElement folder = wait.until(DomConditions.elementToBeClickable(
                     By.xpath(
                             "//*[contains(text(), '" + folderName + "')]/ancestor::div[contains(@class, 'folder')] | " +
                                     "//*[contains(text(), '" + folderName + "')]")));
 
-            Thread.sleep(500);
             folder.click();
             System.out.println("✓ Clicked on folder: " + folderName);
         } catch (Exception e) {
@@ -165,15 +148,14 @@ public class MyLibraryPage {
 
     public void clickFirstFolder() {
         try {
-            Thread.sleep(2000);
+            DomConditions.awaitDomQuiet(driver);
 
             if (folders.isEmpty()) {
                 throw new RuntimeException("No folders available to click");
             }
 
             WebElement firstFolder = folders.get(0);
-            wait.until(ExpectedConditions.elementToBeClickable(firstFolder));
-            Thread.sleep(500);
+            wait.until(DomConditions.elementToBeClickable(firstFolder));
             firstFolder.click();
             System.out.println("✓ Clicked on first folder");
         } catch (Exception e) {
@@ -184,7 +166,7 @@ public class MyLibraryPage {
 
     public boolean isFolderDisplayed(String folderName) {
         try {
-            Thread.sleep(2000);
+            DomConditions.awaitDomQuiet(driver);
             WebElement folder = driver.findElement(
                     By.xpath("//*[contains(text(), '" + folderName + "')]"));
             boolean displayed = folder.isDisplayed();
@@ -198,7 +180,8 @@ public class MyLibraryPage {
 
     public boolean isNoFoldersMessageDisplayed() {
         try {
-            return noFoldersMessage != null && noFoldersMessage.isDisplayed();
+            // Usually absent, so don't wait for it to appear
+            return WaitPolicy.isDisplayedNow(driver, noFoldersMessage, "MyLibraryPage.noFoldersMessage");
         } catch (Exception e) {
             return false;
         }
@@ -206,7 +189,7 @@ public class MyLibraryPage {
 
     public boolean verifyCurrentURL(String expectedURLPart) {
         try {
-            wait.until(ExpectedConditions.urlContains(expectedURLPart));
+            wait.until(DomConditions.urlContains(expectedURLPart));
             String currentURL = driver.getCurrentUrl();
             System.out.println("✓ Current URL: " + currentURL);
             return currentURL.contains(expectedURLPart);
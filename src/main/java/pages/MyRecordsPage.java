@@ -4,9 +4,10 @@ import org.openqa.selenium.By;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
 import org.openqa.selenium.support.FindBy;
-import org.openqa.selenium.support.PageFactory;
-import org.openqa.selenium.support.ui.ExpectedConditions;
 import org.openqa.selenium.support.ui.WebDriverWait;
+import utils.DomConditions;
+import utils.ElementCache;
+import utils.PagePerformance;
 
 import java.time.Duration;
 
@@ -34,14 +35,15 @@ public class MyRecordsPage {
     // Constructor
     public MyRecordsPage(WebDriver driver) {
         this.driver = driver;
-        this.wait = new WebDriverWait(driver, Duration.ofSeconds(20));
-        PageFactory.initElements(driver, this);
+        this.wait = DomConditions.newWait(driver, Duration.ofSeconds(20));
+        ElementCache.initElements(driver, this);
+        PagePerformance.onArrival(driver);
     }
 
     // Page Actions
     public boolean isMyRecordsPageDisplayed() {
         try {
-            wait.until(ExpectedConditions.urlContains("myRecords"));
+            wait.until(DomConditions.urlContains("myRecords"));
             System.out.println("✓ My Records page displayed");
             return driver.getCurrentUrl().contains("myRecords");
         } catch (Exception e) {
@@ -52,7 +54,7 @@ public class MyRecordsPage {
 
     public boolean verifyCurrentURL(String expectedURLPart) {
         try {
-            wait.until(ExpectedConditions.urlContains(expectedURLPart));
+            wait.until(DomConditions.urlContains(expectedURLPart));
             String currentURL = driver.getCurrentUrl();
             System.out.println("✓ Current URL: " + currentURL);
             return currentURL.contains(expectedURLPart);
@@ -63,7 +65,7 @@ public class MyRecordsPage {
 
     public boolean isEmptyStateDisplayed() {
         try {
-            wait.until(ExpectedConditions.visibilityOf(emptyStateHeading));
+            wait.until(DomConditions.visibilityOf(emptyStateHeading));
             System.out.println("✓ Empty state displayed");
             return emptyStateHeading.isDisplayed();
         } catch (Exception e) {
@@ -76,7 +78,7 @@ public class MyRecordsPage {
             // Try multiple strategies to find the add button
             WebElement button = null;
             try {
-                button = wait.until(ExpectedConditions.elementToBeClickable(
+                button = wait.until(DomConditions.elementToBeClickable(
                     By.xpath("//button[contains(@aria-label, 'Upload')]")));
             } catch (Exception e1) {
                 try {
@@ -88,7 +90,7 @@ public class MyRecordsPage {
             }
             
             if (button != null) {
-                Thread.sleep(500);
+                wait.until(DomConditions.elementToBeClickable(button));
                 button.click();
                 System.out.println("✓ Add/Upload button clicked");
             }
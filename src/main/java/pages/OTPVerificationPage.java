@@ -1,16 +1,21 @@
 package pages;
 
+import org.openqa.selenium.By;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
 import org.openqa.selenium.support.FindBy;
-import org.openqa.selenium.support.PageFactory;
-import org.openqa.selenium.support.ui.ExpectedConditions;
 import org.openqa.selenium.support.ui.WebDriverWait;
+import utils.DomConditions;
+import utils.ElementCache;
+import utils.FormFiller;
+import utils.PagePerformance;
 
 import java.time.Duration;
 import java.util.List;
 
 public class OTPVerificationPage {
+    private static final String OTP_FIELD_XPATH = "//input[@type='tel']";
+
     private WebDriver driver;
     private WebDriverWait wait;
 
@@ -21,7 +26,7 @@ public class OTPVerificationPage {
     @FindBy(xpath = "//a[contains(text(), 'laptop@yopmail.com')]")
     private WebElement emailVerificationText;
 
-    @FindBy(xpath = "//input[@type='tel']")
+    @FindBy(xpath = OTP_FIELD_XPATH)
     private List<WebElement> otpFields;
 
     @FindBy(xpath = "//button[contains(text(), 'Verify Code')]")
@@ -30,14 +35,15 @@ public class OTPVerificationPage {
     // Constructor
     public OTPVerificationPage(WebDriver driver) {
         this.driver = driver;
-        this.wait = new WebDriverWait(driver, Duration.ofSeconds(20));
-        PageFactory.initElements(driver, this);
+        this.wait = DomConditions.newWait(driver, Duration.ofSeconds(20));
+        ElementCache.initElements(driver, this);
+        PagePerformance.onArrival(driver);
     }
 
     // Page Actions
     public boolean isOTPPageDisplayed() {
         try {
-            wait.until(ExpectedConditions.visibilityOf(otpHeading));
+            wait.until(DomConditions.visibilityOf(otpHeading));
             System.out.println("✓ OTP page displayed");
             return otpHeading.isDisplayed();
         } catch (Exception e) {
@@ -48,7 +54,7 @@ public class OTPVerificationPage {
 
     public boolean isEmailVerificationTextDisplayed(String expectedEmail) {
         try {
-            wait.until(ExpectedConditions.visibilityOf(emailVerificationText));
+            wait.until(DomConditions.visibilityOf(emailVerificationText));
             String actualEmail = emailVerificationText.getText();
             System.out.println("✓ Email verification text: " + actualEmail);
             return actualEmail.contains(expectedEmail);
@@ -60,7 +66,7 @@ public class OTPVerificationPage {
 
     public String getOTPHeadingText() {
         try {
-            wait.until(ExpectedConditions.visibilityOf(otpHeading));
+            wait.until(DomConditions.visibilityOf(otpHeading));
             return otpHeading.getText();
         } catch (Exception e) {
             System.err.println("OTP heading not found: " + e.getMessage());
@@ -70,7 +76,7 @@ public class OTPVerificationPage {
 
     public int getOTPFieldsCount() {
         try {
-            wait.until(ExpectedConditions.visibilityOfAllElements(otpFields));
+            wait.until(DomConditions.visibilityOfAllElements(otpFields));
             int count = otpFields.size();
             System.out.println("✓ OTP fields count: " + count);
             return count;
@@ -82,20 +88,19 @@ public class OTPVerificationPage {
 
     public void enterOTP(String otp) {
         try {
-            wait.until(ExpectedConditions.visibilityOfAllElements(otpFields));
+            wait.until(DomConditions.visibilityOfAllElements(otpFields));
             
             if (otp.length() != 6) {
                 throw new IllegalArgumentException("OTP must be 6 digits");
             }
 
-            for (int i = 0; i < otpFields.size(); i++) {
-                WebElement field = otpFields.get(i);
-                wait.until(ExpectedConditions.elementToBeClickable(field));
-                field.clear();
-                Thread.sleep(300);
-                field.sendKeys(String.valueOf(otp.charAt(i)));
-                System.out.println("✓ OTP digit " + (i + 1) + " entered");
+            // All six digits in one script call
+            FormFiller form = FormFiller.form(driver, "OTP");
+            for (int i = 0; i < otp.length(); i++) {
+                form.text("OTP digit " + (i + 1), By.xpath("(" + OTP_FIELD_XPATH + ")[" + (i + 1) + "]"),
+                        String.valueOf(otp.charAt(i)));
             }
+            form.fill();
         } catch (Exception e) {
             System.err.println("Failed to enter OTP: " + e.getMessage());
             throw new RuntimeException("Failed to enter OTP", e);
@@ -104,8 +109,7 @@ public class OTPVerificationPage {
 
     public void clickVerifyCodeButton() {
         try {
-            wait.until(ExpectedConditions.elementToBeClickable(verifyCodeButton));
-            Thread.sleep(500);
+            wait.until(DomConditions.elementToBeClickable(verifyCodeButton));
             verifyCodeButton.click();
             System.out.println("✓ Verify Code button clicked");
         } catch (Exception e) {
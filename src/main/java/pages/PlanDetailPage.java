@@ -4,9 +4,10 @@ import org.openqa.selenium.By;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
 import org.openqa.selenium.support.FindBy;
-import org.openqa.selenium.support.PageFactory;
-import org.openqa.selenium.support.ui.ExpectedConditions;
 import org.openqa.selenium.support.ui.WebDriverWait;
+import utils.DomConditions;
+import utils.ElementCache;
+import utils.PagePerformance;
 
 import java.time.Duration;
 import java.util.List;
@@ -33,15 +34,15 @@ public class PlanDetailPage {
     // Constructor
     public PlanDetailPage(WebDriver driver) {
         this.driver = driver;
-        this.wait = new WebDriverWait(driver, Duration.ofSeconds(20));
-        PageFactory.initElements(driver, this);
+        this.wait = DomConditions.newWait(driver, Duration.ofSeconds(20));
+        ElementCache.initElements(driver, this);
+        PagePerformance.onArrival(driver);
     }
 
     // Page Actions
     public boolean isPlanDetailPageDisplayed() {
         try {
-            Thread.sleep(2000);
-            wait.until(ExpectedConditions.visibilityOf(planTitle));
+            wait.until(DomConditions.visibilityOf(planTitle));
             System.out.println("✓ Plan Detail page displayed");
             return planTitle.isDisplayed();
         } catch (Exception e) {
@@ -52,7 +53,7 @@ public class PlanDetailPage {
 
     public String getPlanTitle() {
         try {
-            wait.until(ExpectedConditions.visibilityOf(planTitle));
+            wait.until(DomConditions.visibilityOf(planTitle));
             String title = planTitle.getText();
             System.out.println("✓ Plan title: " + title);
             return title;
@@ -64,37 +65,34 @@ public class PlanDetailPage {
 
     public void clickAddTaskButton() {
         try {
-            Thread.sleep(2000);
-
             // Try multiple strategies to find the add task button
             WebElement addButton = null;
 
             try {
                 // Strategy 1: Look for + button on first task card or plan card
-                addButton = wait.until(ExpectedConditions.elementToBeClickable(
+                addButton = wait.until(DomConditions.elementToBeClickable(
                         By.xpath("(//button[contains(text(), '+')])[1]")));
             } catch (Exception e1) {
                 try {
                     // Strategy 2: Look for add button by aria-label
-                    addButton = wait.until(ExpectedConditions.elementToBeClickable(
+                    addButton = wait.until(DomConditions.elementToBeClickable(
                             By.xpath(
                                     "//button[contains(@aria-label, 'add task') or contains(@aria-label, 'Add task')]")));
                 } catch (Exception e2) {
                     try {
                         // Strategy 3: Look for button with add icon
-                        addButton = wait.until(ExpectedConditions.elementToBeClickable(
+                        addButton = wait.until(DomConditions.elementToBeClickable(
                                 By.xpath(
                                         "//button[.//svg[contains(@class, 'add')] or .//img[contains(@alt, 'add')]]")));
                     } catch (Exception e3) {
                         // Strategy 4: Generic button locator
-                        addButton = wait.until(ExpectedConditions.elementToBeClickable(
+                        addButton = wait.until(DomConditions.elementToBeClickable(
                                 By.xpath("(//button[contains(@class, 'add')])[1]")));
                     }
                 }
             }
 
             if (addButton != null) {
-                Thread.sleep(500);
                 addButton.click();
                 System.out.println("✓ Add Task button clicked");
             }
@@ -106,13 +104,10 @@ public class PlanDetailPage {
 
     public void clickFirstAddTaskButton() {
         try {
-            Thread.sleep(2000);
-
             // Find the first + button
-            WebElement firstAddButton = wait.until(ExpectedConditions.elementToBeClickable(
+            WebElement firstAddButton = wait.until(DomConditions.elementToBeClickable(
                     By.xpath("(//button[contains(text(), '+') or contains(@aria-label, 'add')])[1]")));
 
-            Thread.sleep(500);
             firstAddButton.click();
             System.out.println("✓ First Add Task button clicked");
         } catch (Exception e) {
@@ -123,7 +118,7 @@ public class PlanDetailPage {
 
     public int getTasksCount() {
         try {
-            Thread.sleep(1000);
+            DomConditions.awaitDomQuiet(driver);
             int count = taskCards.size();
             System.out.println("✓ Total tasks count: " + count);
             return count;
@@ -135,7 +130,7 @@ public class PlanDetailPage {
 
     public boolean verifyCurrentURL(String expectedURLPart) {
         try {
-            wait.until(ExpectedConditions.urlContains(expectedURLPart));
+            wait.until(DomConditions.urlContains(expectedURLPart));
             String currentURL = driver.getCurrentUrl();
             System.out.println("✓ Current URL: " + currentURL);
             return currentURL.contains(expectedURLPart);
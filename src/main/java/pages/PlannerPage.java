@@ -3,9 +3,11 @@ package pages;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
 import org.openqa.selenium.support.FindBy;
-import org.openqa.selenium.support.PageFactory;
-import org.openqa.selenium.support.ui.ExpectedConditions;
 import org.openqa.selenium.support.ui.WebDriverWait;
+import utils.DomConditions;
+import utils.ElementCache;
+import utils.PagePerformance;
+import utils.WaitPolicy;
 
 import java.time.Duration;
 import java.util.List;
@@ -61,14 +63,15 @@ public class PlannerPage {
     // Constructor
     public PlannerPage(WebDriver driver) {
         this.driver = driver;
-        this.wait = new WebDriverWait(driver, Duration.ofSeconds(20));
-        PageFactory.initElements(driver, this);
+        this.wait = DomConditions.newWait(driver, Duration.ofSeconds(20));
+        ElementCache.initElements(driver, this);
+        PagePerformance.onArrival(driver);
     }
 
     // Page Actions
     public boolean isPlannerPageDisplayed() {
         try {
-            wait.until(ExpectedConditions.urlContains("planner"));
+            wait.until(DomConditions.urlContains("planner"));
             System.out.println("✓ Planner page displayed");
             return driver.getCurrentUrl().contains("planner");
         } catch (Exception e) {
@@ -79,7 +82,7 @@ public class PlannerPage {
 
     public boolean verifyCurrentURL(String expectedURLPart) {
         try {
-            wait.until(ExpectedConditions.urlContains(expectedURLPart));
+            wait.until(DomConditions.urlContains(expectedURLPart));
             String currentURL = driver.getCurrentUrl();
             System.out.println("✓ Current URL: " + currentURL);
             return currentURL.contains(expectedURLPart);
@@ -91,7 +94,7 @@ public class PlannerPage {
 
     public boolean isPlansTabDisplayed() {
         try {
-            return plansTab.isDisplayed();
+            return WaitPolicy.isDisplayed(driver, plansTab, "PlannerPage.plansTab");
         } catch (Exception e) {
             return false;
         }
@@ -99,7 +102,7 @@ public class PlannerPage {
 
     public boolean isCalendarTabDisplayed() {
         try {
-            return calendarTab.isDisplayed();
+            return WaitPolicy.isDisplayed(driver, calendarTab, "PlannerPage.calendarTab");
         } catch (Exception e) {
             return false;
         }
@@ -107,7 +110,7 @@ public class PlannerPage {
 
     public boolean isCareboardTabDisplayed() {
         try {
-            return careboardTab.isDisplayed();
+            return WaitPolicy.isDisplayed(driver, careboardTab, "PlannerPage.careboardTab");
         } catch (Exception e) {
             return false;
         }
@@ -115,7 +118,7 @@ public class PlannerPage {
 
     public boolean isFamilyTabDisplayed() {
         try {
-            return familyTab.isDisplayed();
+            return WaitPolicy.isDisplayed(driver, familyTab, "PlannerPage.familyTab");
         } catch (Exception e) {
             return false;
         }
@@ -123,7 +126,7 @@ public class PlannerPage {
 
     public boolean isTodaysTasksSectionDisplayed() {
         try {
-            wait.until(ExpectedConditions.visibilityOf(todaysTasksHeading));
+            wait.until(DomConditions.visibilityOf(todaysTasksHeading));
             return todaysTasksHeading.isDisplayed();
         } catch (Exception e) {
             return false;
@@ -132,7 +135,7 @@ public class PlannerPage {
 
     public boolean isActivePlansSectionDisplayed() {
         try {
-            wait.until(ExpectedConditions.visibilityOf(activePlansHeading));
+            wait.until(DomConditions.visibilityOf(activePlansHeading));
             return activePlansHeading.isDisplayed();
         } catch (Exception e) {
             return false;
@@ -141,7 +144,7 @@ public class PlannerPage {
 
     public boolean isBuildAPlanButtonDisplayed() {
         try {
-            wait.until(ExpectedConditions.visibilityOf(buildAPlanButton));
+            wait.until(DomConditions.visibilityOf(buildAPlanButton));
             System.out.println("✓ Build a Plan button displayed");
             return buildAPlanButton.isDisplayed();
         } catch (Exception e) {
@@ -152,8 +155,7 @@ public class PlannerPage {
 
     public void clickBuildAPlanButton() {
         try {
-            wait.until(ExpectedConditions.elementToBeClickable(buildAPlanButton));
-            Thread.sleep(500);
+            wait.until(DomConditions.elementToBeClickable(buildAPlanButton));
             buildAPlanButton.click();
             System.out.println("✓ Build a Plan button clicked");
         } catch (Exception e) {
@@ -4,14 +4,20 @@ import org.openqa.selenium.By;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
 import org.openqa.selenium.support.FindBy;
-import org.openqa.selenium.support.PageFactory;
-import org.openqa.selenium.support.ui.ExpectedConditions;
 import org.openqa.selenium.support.ui.WebDriverWait;
+import utils.DomConditions;
+import utils.DomSnapshot;
+import utils.ElementCache;
+import utils.PagePerformance;
+import utils.WaitPolicy;
 
 import java.time.Duration;
-import java.util.List;
 
 public class PlansListPage {
+    private static final By PLAN_CARDS = By.xpath(
+            "//div[contains(@class, 'plan-card')] | //div[contains(@class, 'plan-item')]");
+    private static final Duration PLAN_TIMEOUT = Duration.ofSeconds(20);
+
     private WebDriver driver;
     private WebDriverWait wait;
 
@@ -32,10 +38,6 @@ public class PlansListPage {
     @FindBy(xpath = "//button[contains(@class, 'search')]")
     private WebElement searchButton;
 
-    // Plan Cards
-    @FindBy(xpath = "//div[contains(@class, 'plan-card')] | //div[contains(@class, 'plan-item')]")
-    private List<WebElement> planCards;
-
     // Add Plan Button
     @FindBy(xpath = "//button[contains(@aria-label, 'add') or contains(@class, 'add')]")
     private WebElement addPlanButton;
@@ -47,14 +49,15 @@ public class PlansListPage {
     // Constructor
     public PlansListPage(WebDriver driver) {
         this.driver = driver;
-        this.wait = new WebDriverWait(driver, Duration.ofSeconds(20));
-        PageFactory.initElements(driver, this);
+        this.wait = DomConditions.newWait(driver, Duration.ofSeconds(20));
+        ElementCache.initElements(driver, this);
+        PagePerformance.onArrival(driver);
     }
 
     // Page Actions
     public boolean isPlansListPageDisplayed() {
         try {
-            wait.until(ExpectedConditions.urlContains("plans"));
+            wait.until(DomConditions.urlContains("plans"));
             System.out.println("✓ Plans List page displayed");
             return driver.getCurrentUrl().contains("plans");
         } catch (Exception e) {
@@ -65,7 +68,7 @@ public class PlansListPage {
 
     public boolean verifyCurrentURL(String expectedURLPart) {
         try {
-            wait.until(ExpectedConditions.urlContains(expectedURLPart));
+            wait.until(DomConditions.urlContains(expectedURLPart));
             String currentURL = driver.getCurrentUrl();
             System.out.println("✓ Current URL: " + currentURL);
             return currentURL.contains(expectedURLPart);
@@ -77,7 +80,7 @@ public class PlansListPage {
 
     public boolean isActiveTabDisplayed() {
         try {
-            wait.until(ExpectedConditions.visibilityOf(activeTab));
+            wait.until(DomConditions.visibilityOf(activeTab));
             return activeTab.isDisplayed();
         } catch (Exception e) {
             return false;
@@ -85,40 +88,29 @@ public class PlansListPage {
     }
 
     public boolean isPlanDisplayedInList(String planName) {
-        try {
-            Thread.sleep(2000);
-            WebElement planElement = wait.until(ExpectedConditions.presenceOfElementLocated(
-                    By.xpath("//*[contains(text(), '" + planName + "')]")));
-            boolean isDisplayed = planElement.isDisplayed();
-            System.out.println("✓ Plan '" + planName + "' found in list: " + isDisplayed);
-            return isDisplayed;
-        } catch (Exception e) {
-            System.err.println("Plan '" + planName + "' not found: " + e.getMessage());
-            return false;
-        }
+        // A newly saved plan may still be loading into the list, so it gets the page timeout
+        boolean isDisplayed = WaitPolicy.isDisplayed(driver,
+                By.xpath("//*[contains(text(), '" + planName + "')]"),
+                "PlansListPage.plan", PLAN_TIMEOUT);
+        System.out.println("✓ Plan '" + planName + "' found in list: " + isDisplayed);
+        return isDisplayed;
     }
 
     public boolean isPlanWithPriorityDisplayed(String planName, String priority) {
-        try {
-            Thread.sleep(2000);
-            WebElement planElement = driver.findElement(
-                    By.xpath("//*[contains(text(), '" + planName + "')]/following-sibling::*[contains(text(), '"
-                            + priority + "')] | " +
-                            "//*[contains(text(), '" + planName + "')]/parent::*//*[contains(text(), '" + priority
-                            + "')]"));
-            boolean isDisplayed = planElement.isDisplayed();
-            System.out.println("✓ Plan '" + planName + "' with priority '" + priority + "' displayed: " + isDisplayed);
-            return isDisplayed;
-        } catch (Exception e) {
-            System.err.println("Plan with priority not found: " + e.getMessage());
-            return false;
-        }
+        boolean isDisplayed = WaitPolicy.isDisplayed(driver,
+                By.xpath("//*[contains(text(), '" + planName + "')]/following-sibling::*[contains(text(), '"
+                        + priority + "')] | " +
+                        "//*[contains(text(), '" + planName + "')]/parent::*//*[contains(text(), '" + priority
+                        + "')]"),
+                "PlansListPage.planPriority", PLAN_TIMEOUT);
+        System.out.println("✓ Plan '" + planName + "' with priority '" + priority + "' displayed: " + isDisplayed);
+        return isDisplayed;
     }
 
     public int getPlansCount() {
         try {
-            Thread.sleep(1000);
-            int count = planCards.size();
+            DomConditions.awaitDomQuiet(driver);
+            int count = DomSnapshot.capture(driver, PLAN_CARDS).size();
             System.out.println("✓ Total plans count: " + count);
             return count;
         } catch (Exception e) {
@@ -139,8 +131,7 @@ public class PlansListPage {
 
     public void clickPlanCard(String planName) {
         try {
-            Thread.sleep(2000);
-            WebElement planCard = wait.until(ExpectedConditions.elementToBeClickable(
+            WebElement planCard = wait.until(DomConditions.elementToBeClickable(
                     By.xpath("//*[contains(text(), '" + planName
                             + "')]/ancestor::div[contains(@class, 'plan') or contains(@class, 'card')]")));
             planCard.click();
@@ -153,8 +144,7 @@ public class PlansListPage {
 
     public void clickFirstPlanCard() {
         try {
-            Thread.sleep(2000);
-            WebElement firstPlanCard = wait.until(ExpectedConditions.elementToBeClickable(
+            WebElement firstPlanCard = wait.until(DomConditions.elementToBeClickable(
                     By.xpath("(//div[contains(@class, 'plan-card')] | //div[contains(@class, 'plan-item')])[1]")));
             firstPlanCard.click();
             System.out.println("✓ Clicked on first plan card");
@@ -166,7 +156,7 @@ public class PlansListPage {
 
     public void clickAddButton() {
         try {
-            wait.until(ExpectedConditions.elementToBeClickable(addPlanButton));
+            wait.until(DomConditions.elementToBeClickable(addPlanButton));
             addPlanButton.click();
             System.out.println("✓ Clicked on Add (+) button");
         } catch (Exception e) {
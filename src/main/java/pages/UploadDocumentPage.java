@@ -4,9 +4,10 @@ import org.openqa.selenium.By;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
 import org.openqa.selenium.support.FindBy;
-import org.openqa.selenium.support.PageFactory;
-import org.openqa.selenium.support.ui.ExpectedConditions;
 import org.openqa.selenium.support.ui.WebDriverWait;
+import utils.DomConditions;
+import utils.ElementCache;
+import utils.PagePerformance;
 
 import java.time.Duration;
 
@@ -48,14 +49,15 @@ public class UploadDocumentPage {
     // Constructor
     public UploadDocumentPage(WebDriver driver) {
         this.driver = driver;
-        this.wait = new WebDriverWait(driver, Duration.ofSeconds(20));
-        PageFactory.initElements(driver, this);
+        this.wait = DomConditions.newWait(driver, Duration.ofSeconds(20));
+        ElementCache.initElements(driver, this);
+        PagePerformance.onArrival(driver);
     }
 
     // Page Actions
     public boolean isUploadDocumentPageDisplayed() {
         try {
-            wait.until(ExpectedConditions.urlContains("uploadDocument"));
+            wait.until(DomConditions.urlContains("uploadDocument"));
             System.out.println("✓ Upload Document page displayed");
             return driver.getCurrentUrl().contains("uploadDocument");
         } catch (Exception e) {
@@ -66,7 +68,7 @@ public class UploadDocumentPage {
 
     public boolean isDocumentTypeSelectionDisplayed() {
         try {
-            wait.until(ExpectedConditions.presenceOfElementLocated(
+            wait.until(DomConditions.presenceOfElementLocated(
                 By.xpath("//*[contains(text(), 'What are you uploading')]")));
             System.out.println("✓ Document type selection displayed");
             return true;
@@ -77,8 +79,7 @@ public class UploadDocumentPage {
 
     public void selectMedicalDocuments() {
         try {
-            wait.until(ExpectedConditions.elementToBeClickable(medicalDocumentsRadio));
-            Thread.sleep(500);
+            wait.until(DomConditions.elementToBeClickable(medicalDocumentsRadio));
             medicalDocumentsRadio.click();
             System.out.println("✓ Medical Documents selected");
         } catch (Exception e) {
@@ -89,7 +90,7 @@ public class UploadDocumentPage {
 
     public void selectNonMedicalDocuments() {
         try {
-            wait.until(ExpectedConditions.elementToBeClickable(nonMedicalDocumentsRadio));
+            wait.until(DomConditions.elementToBeClickable(nonMedicalDocumentsRadio));
             nonMedicalDocumentsRadio.click();
             System.out.println("✓ Non-Medical Documents selected");
         } catch (Exception e) {
@@ -99,8 +100,7 @@ public class UploadDocumentPage {
 
     public void clickContinueButton() {
         try {
-            wait.until(ExpectedConditions.elementToBeClickable(continueButton));
-            Thread.sleep(500);
+            wait.until(DomConditions.elementToBeClickable(continueButton));
             continueButton.click();
             System.out.println("✓ Continue button clicked");
         } catch (Exception e) {
@@ -111,8 +111,7 @@ public class UploadDocumentPage {
 
     public void selectFromDeviceOption() {
         try {
-            wait.until(ExpectedConditions.elementToBeClickable(fromDeviceOption));
-            Thread.sleep(500);
+            wait.until(DomConditions.elementToBeClickable(fromDeviceOption));
             fromDeviceOption.click();
             System.out.println("✓ From Device option selected");
         } catch (Exception e) {
@@ -123,7 +122,7 @@ public class UploadDocumentPage {
 
     public boolean isBrowseButtonDisplayed() {
         try {
-            wait.until(ExpectedConditions.visibilityOf(browseButton));
+            wait.until(DomConditions.visibilityOf(browseButton));
             System.out.println("✓ Browse button displayed");
             return browseButton.isDisplayed();
         } catch (Exception e) {
@@ -137,7 +136,7 @@ public class UploadDocumentPage {
             WebElement fileInputElement = driver.findElement(By.xpath("//input[@type='file']"));
             fileInputElement.sendKeys(filePath);
             System.out.println("✓ File uploaded: " + filePath);
-            Thread.sleep(2000); // Wait for upload to start
+            DomConditions.awaitDomQuiet(driver); // Wait for upload to start
         } catch (Exception e) {
             System.err.println("Failed to upload file: " + e.getMessage());
             throw new RuntimeException("Failed to upload file", e);
@@ -146,9 +145,8 @@ public class UploadDocumentPage {
 
     public void clickConfirmAndContinue() {
         try {
-            WebElement confirmButton = wait.until(ExpectedConditions.elementToBeClickable(
+            WebElement confirmButton = wait.until(DomConditions.elementToBeClickable(
                 By.xpath("//button[contains(text(), 'Confirm') and contains(text(), 'Continue')]")));
-            Thread.sleep(500);
             confirmButton.click();
             System.out.println("✓ Confirm & Continue button clicked");
         } catch (Exception e) {
@@ -4,9 +4,10 @@ import org.openqa.selenium.By;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
 import org.openqa.selenium.support.FindBy;
-import org.openqa.selenium.support.PageFactory;
-import org.openqa.selenium.support.ui.ExpectedConditions;
 import org.openqa.selenium.support.ui.WebDriverWait;
+import utils.DomConditions;
+import utils.ElementCache;
+import utils.PagePerformance;
 
 import java.time.Duration;
 
@@ -21,14 +22,15 @@ public class WelcomePage {
     // Constructor
     public WelcomePage(WebDriver driver) {
         this.driver = driver;
-        this.wait = new WebDriverWait(driver, Duration.ofSeconds(20));
-        PageFactory.initElements(driver, this);
+        this.wait = DomConditions.newWait(driver, Duration.ofSeconds(20));
+        ElementCache.initElements(driver, this);
+        PagePerformance.onArrival(driver);
     }
 
     // Page Actions
     public boolean isWelcomePageDisplayed() {
         try {
-            wait.until(ExpectedConditions.visibilityOf(welcomeHeading));
+            wait.until(DomConditions.visibilityOf(welcomeHeading));
             System.out.println("✓ Welcome page displayed");
             return welcomeHeading.isDisplayed();
         } catch (Exception e) {
@@ -39,7 +41,7 @@ public class WelcomePage {
 
     public String getWelcomeHeadingText() {
         try {
-            wait.until(ExpectedConditions.visibilityOf(welcomeHeading));
+            wait.until(DomConditions.visibilityOf(welcomeHeading));
             String text = welcomeHeading.getText();
             System.out.println("✓ Welcome heading: " + text);
             return text;
@@ -58,7 +60,7 @@ public class WelcomePage {
 
     public boolean verifyCurrentURL(String expectedURLPart) {
         try {
-            wait.until(ExpectedConditions.urlContains(expectedURLPart));
+            wait.until(DomConditions.urlContains(expectedURLPart));
             String currentURL = driver.getCurrentUrl();
             System.out.println("✓ Current URL: " + currentURL);
             return currentURL.contains(expectedURLPart);
@@ -70,30 +72,26 @@ public class WelcomePage {
 
     public void clickShowMeAroundButton() {
         try {
-            // Wait for the page to be fully loaded
-            Thread.sleep(2000);
-            
             // Try multiple locator strategies
             WebElement button = null;
             
             try {
                 // Strategy 1: Find button directly
-                button = wait.until(ExpectedConditions.elementToBeClickable(
+                button = wait.until(DomConditions.elementToBeClickable(
                     By.xpath("//h3[contains(text(), 'Show me around')]/parent::*/following-sibling::button")));
             } catch (Exception e1) {
                 try {
                     // Strategy 2: Find by button containing arrow image
-                    button = wait.until(ExpectedConditions.elementToBeClickable(
+                    button = wait.until(DomConditions.elementToBeClickable(
                         By.xpath("//button[contains(@class, '') and position()=1]")));
                 } catch (Exception e2) {
                     // Strategy 3: Find first visible button
-                    button = wait.until(ExpectedConditions.elementToBeClickable(
+                    button = wait.until(DomConditions.elementToBeClickable(
                         By.xpath("(//button[.//img[contains(@alt, 'Arrow')]])[1]")));
                 }
             }
             
             if (button != null) {
-                Thread.sleep(500);
                 button.click();
                 System.out.println("✓ 'Show me around, Hailey!' button clicked");
             }
@@ -104,30 +102,26 @@ public class WelcomePage {
     }
     public void clickExploringSoloButton() {
         try {
-            // Wait for the page to be fully loaded
-            Thread.sleep(2000);
-            
             // Try multiple locator strategies
             WebElement button = null;
             
             try {
                 // Strategy 1: Find button directly by text
-                button = wait.until(ExpectedConditions.elementToBeClickable(
+                button = wait.until(DomConditions.elementToBeClickable(
                     By.xpath("//h3[contains(text(), 'exploring solo')]/parent::*/following-sibling::button")));
             } catch (Exception e1) {
                 try {
                     // Strategy 2: Find second button
-                    button = wait.until(ExpectedConditions.elementToBeClickable(
+                    button = wait.until(DomConditions.elementToBeClickable(
                         By.xpath("(//button[.//img[contains(@alt, 'Arrow')]])[2]")));
                 } catch (Exception e2) {
                     // Strategy 3: Find by heading and button association
-                    button = wait.until(ExpectedConditions.elementToBeClickable(
+                    button = wait.until(DomConditions.elementToBeClickable(
                         By.xpath("//button[contains(., 'exploring solo')]")));
                 }
             }
             
             if (button != null) {
-                Thread.sleep(500);
                 button.click();
                 System.out.println("✓ 'I've got this, exploring solo' button clicked");
             }
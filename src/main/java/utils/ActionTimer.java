@@ -0,0 +1,371 @@
+package utils;
+
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.json.Json;
+import org.openqa.selenium.support.events.EventFiringDecorator;
+import org.openqa.selenium.support.events.WebDriverListener;
+
+import java.io.IOException;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Times every page-object action, e.g. LoginPage.login or
+ * AddPlanPage.selectCategory, and splits it into time spent waiting (explicit
+ * waits, presence checks, idle waits), sleeping ({@link #sleep(long)}) and in
+ * WebDriver commands. Whatever is left is Java-side work between commands.
+ *
+ * Every call of a public method of the pages package is an action, from
+ * entry to return; {@link PageInstrumentation} marks both. So
+ * AddPlanPage.selectCategory is timed on its own as well as inside
+ * AddPlanPage.fillPlanForm, and a page method called in a loop gives one
+ * sample per call. Calls without any command, wait or sleep are not counted.
+ *
+ * Drivers are timed by wrapping them with {@link #track(WebDriver)}; the pool
+ * does this for every session. At the end of the suite {@link #printReport()}
+ * prints the slowest actions by p95 (action.timings.top, default 15) and
+ * writes p50/p95/max per action to action.timings.file (default
+ * target/action-timings.json). Each action, wait and sleep is also recorded on
+ * the {@link Timeline}.
+ */
+public final class ActionTimer implements WebDriverListener {
+    private static final String PAGES_PACKAGE = "pages.";
+    private static final int TOP = Integer.getInteger("action.timings.top", 15);
+    private static final Path REPORT_FILE = Paths.get(System.getProperty("action.timings.file", "target/action-timings.json"));
+
+    private static final StackWalker WALKER = StackWalker.getInstance();
+    private static final ThreadLocal<Timing> TIMING = ThreadLocal.withInitial(Timing::new);
+    // action -> samples of {wall, wait, sleep, command} ms
+    private static final Map<String, List<long[]>> SAMPLES = new ConcurrentHashMap<>();
+
+    private ActionTimer() {
+    }
+
+    /**
+     * Returns the driver wrapped so that its commands are timed.
+     */
+    public static WebDriver track(WebDriver driver) {
+        PageInstrumentation.install();
+        return new EventFiringDecorator<>(new ActionTimer()).decorate(driver);
+    }
+
+    /**
+     * Thread.sleep that is counted as sleep time of the current action and
+     * shown as a fixed pause on the {@link Timeline}.
+     */
+    public static void sleep(long millis) throws InterruptedException {
+        sleep("sleep " + millis + " ms", millis);
+    }
+
+    /**
+     * Like {@link #sleep(long)}, labelled on the timeline, e.g. waitForSeconds(3).
+     */
+    public static void sleep(String label, long millis) throws InterruptedException {
+        Action action = TIMING.get().current();
+        long start = System.currentTimeMillis();
+        long startMicros = Timeline.now();
+        try {
+            Thread.sleep(millis);
+        } finally {
+            if (action != null) {
+                action.addSleep(System.currentTimeMillis() - start);
+            }
+            if (Timeline.isEnabled()) {
+                Timeline.complete(label, "sleep", startMicros, Timeline.now(),
+                        Map.of("in", action != null ? action.name : caller()));
+            }
+        }
+    }
+
+    /**
+     * Runs a wait, counting its time, including the commands it polls with,
+     * as wait time of the current action.
+     */
+    public static <T> T waiting(Supplier<T> wait) {
+        Timing timing = TIMING.get();
+        Action action = timing.current();
+        long start = System.currentTimeMillis();
+        long startMicros = Timeline.now();
+        timing.waitDepth++;
+        try {
+            return wait.get();
+        } finally {
+            if (--timing.waitDepth == 0) {
+                if (action != null) {
+                    action.addWait(System.currentTimeMillis() - start);
+                }
+                if (Timeline.isEnabled()) {
+                    Timeline.complete("wait", "wait", startMicros, Timeline.now(),
+                            Map.of("in", action != null ? action.name : caller()));
+                }
+            }
+        }
+    }
+
+    /**
+     * Called by instrumented page methods on entry; starts an action.
+     */
+    public static void enterAction(String method) {
+        Timing timing = TIMING.get();
+        String name = method.startsWith(PAGES_PACKAGE) ? method.substring(PAGES_PACKAGE.length()) : method;
+        timing.open.add(new Action(name, timing.current()));
+    }
+
+    /**
+     * Called by instrumented page methods on return or throw; ends the
+     * action started by the matching {@link #enterAction(String)}.
+     */
+    public static void exitAction() {
+        List<Action> open = TIMING.get().open;
+        if (!open.isEmpty()) {
+            record(open.remove(open.size() - 1));
+        }
+    }
+
+    /**
+     * Ends the actions still in progress on this thread, e.g. when a test finishes.
+     */
+    public static void finish() {
+        List<Action> open = TIMING.get().open;
+        while (!open.isEmpty()) {
+            record(open.remove(open.size() - 1));
+        }
+    }
+
+    /**
+     * Number of samples recorded for an action, e.g. "LoginPage.login".
+     */
+    static int sampleCount(String action) {
+        List<long[]> samples = SAMPLES.get(action);
+        return samples == null ? 0 : samples.size();
+    }
+
+    @Override
+    public void beforeAnyCall(Object target, Method method, Object[] args) {
+        Timing timing = TIMING.get();
+        if (timing.waitDepth > 0 || timing.commandDepth++ > 0) {
+            return;
+        }
+        timing.command = timing.current();
+        timing.commandStart = System.currentTimeMillis();
+    }
+
+    @Override
+    public void afterAnyCall(Object target, Method method, Object[] args, Object result) {
+        endCommand();
+    }
+
+    @Override
+    public void onError(Object target, Method method, Object[] args, InvocationTargetException e) {
+        endCommand();
+    }
+
+    private static void endCommand() {
+        Timing timing = TIMING.get();
+        if (timing.waitDepth > 0 || timing.commandDepth == 0 || --timing.commandDepth > 0) {
+            return;
+        }
+        Action action = timing.command;
+        timing.command = null;
+        if (action != null) {
+            action.addCommand(System.currentTimeMillis() - timing.commandStart);
+        }
+    }
+
+    public static void printReport() {
+        finish();
+        System.out.println("\n=== Page Action Timings (slowest by p95) ===");
+        if (SAMPLES.isEmpty()) {
+            System.out.println("No page actions timed");
+            return;
+        }
+        List<Map<String, Object>> rows = new ArrayList<>();
+        for (Map.Entry<String, List<long[]>> entry : SAMPLES.entrySet()) {
+            rows.add(summarize(entry.getKey(), entry.getValue()));
+        }
+        rows.sort((a, b) -> Long.compare((Long) b.get("p95Ms"), (Long) a.get("p95Ms")));
+
+        System.out.println(String.format("%7s %7s %7s %5s  %7s %7s %7s  %s",
+                "p50", "p95", "max", "n", "wait", "sleep", "cmd", "action (ms; split is the average)"));
+        for (Map<String, Object> row : rows.subList(0, Math.min(TOP, rows.size()))) {
+            System.out.println(String.format("%7d %7d %7d %5d  %7d %7d %7d  %s",
+                    row.get("p50Ms"), row.get("p95Ms"), row.get("maxMs"), row.get("count"),
+                    row.get("avgWaitMs"), row.get("avgSleepMs"), row.get("avgCommandMs"), row.get("action")));
+        }
+
+        try {
+            if (REPORT_FILE.getParent() != null) {
+                Files.createDirectories(REPORT_FILE.getParent());
+            }
+            Files.write(REPORT_FILE, new Json().toJson(rows).getBytes(StandardCharsets.UTF_8));
+            System.out.println("✓ Action timings saved to " + REPORT_FILE.toAbsolutePath());
+        } catch (IOException e) {
+            System.err.println("Warning: Could not write action timings: " + e.getMessage());
+        }
+    }
+
+    private static Map<String, Object> summarize(String action, List<long[]> samples) {
+        long[][] copy;
+        synchronized (samples) {
+            copy = samples.toArray(new long[0][]);
+        }
+        long[] walls = new long[copy.length];
+        long wait = 0;
+        long sleep = 0;
+        long command = 0;
+        for (int i = 0; i < copy.length; i++) {
+            walls[i] = copy[i][0];
+            wait += copy[i][1];
+            sleep += copy[i][2];
+            command += copy[i][3];
+        }
+        Arrays.sort(walls);
+        int n = copy.length;
+        Map<String, Object> row = new LinkedHashMap<>();
+        row.put("action", action);
+        row.put("count", (long) n);
+        row.put("p50Ms", percentile(walls, 50));
+        row.put("p95Ms", percentile(walls, 95));
+        row.put("maxMs", walls[n - 1]);
+        row.put("avgWaitMs", wait / n);
+        row.put("avgSleepMs", sleep / n);
+        row.put("avgCommandMs", command / n);
+        return row;
+    }
+
+    /**
+     * Where a sleep or wait outside page actions came from: the nearest test
+     * or page frame, e.g. AddPlanFlowTest.performLogin:155, else the nearest
+     * frame outside this class.
+     */
+    private static String caller() {
+        StackWalker.StackFrame found = WALKER.walk(frames -> {
+            StackWalker.StackFrame nearest = null;
+            for (StackWalker.StackFrame frame : (Iterable<StackWalker.StackFrame>) frames::iterator) {
+                if (frame.getClassName().equals(ActionTimer.class.getName())) {
+                    continue;
+                }
+                if (frame.getClassName().startsWith("tests.") || frame.getClassName().startsWith(PAGES_PACKAGE)) {
+                    return frame;
+                }
+                if (nearest == null) {
+                    nearest = frame;
+                }
+            }
+            return nearest;
+        });
+        return found == null ? "unknown"
+                : found.getClassName().substring(found.getClassName().lastIndexOf('.') + 1)
+                + "." + found.getMethodName() + ":" + found.getLineNumber();
+    }
+
+    /**
+     * Timeline category of a page action: the login pages, navigation,
+     * checks that tests assert on, or any other action.
+     */
+    private static String category(String action) {
+        String page = action.substring(0, action.indexOf('.'));
+        String method = action.substring(action.indexOf('.') + 1);
+        if (method.startsWith("navigate") || method.startsWith("open")) {
+            return "navigation";
+        }
+        if (page.equals("LoginPage") || page.equals("OTPVerificationPage")) {
+            return "login";
+        }
+        if (method.matches("(is|verify|get|has)[A-Z].*")) {
+            return "assertion";
+        }
+        return "action";
+    }
+
+    // Nearest-rank percentile of sorted values
+    private static long percentile(long[] sorted, int p) {
+        int rank = (int) Math.ceil(p / 100.0 * sorted.length);
+        return sorted[Math.max(0, rank - 1)];
+    }
+
+    private static void record(Action action) {
+        if (!action.timed) {
+            return;
+        }
+        long end = System.currentTimeMillis();
+        SAMPLES.computeIfAbsent(action.name, k -> Collections.synchronizedList(new ArrayList<>()))
+                .add(new long[]{end - action.start, action.waitMs, action.sleepMs, action.commandMs});
+        if (Timeline.isEnabled()) {
+            Map<String, Object> args = new LinkedHashMap<>();
+            args.put("waitMs", action.waitMs);
+            args.put("sleepMs", action.sleepMs);
+            args.put("commandMs", action.commandMs);
+            Timeline.complete(action.name, category(action.name), action.startMicros, Timeline.now(), args);
+        }
+    }
+
+    private static final class Timing {
+        // Page method calls in progress, outermost first
+        private final List<Action> open = new ArrayList<>();
+        private Action command;
+        private long commandStart;
+        private int commandDepth;
+        private int waitDepth;
+
+        /**
+         * The innermost page method call in progress, or null outside page objects.
+         */
+        private Action current() {
+            return open.isEmpty() ? null : open.get(open.size() - 1);
+        }
+    }
+
+    /**
+     * One call of a public page method. Its commands, waits and sleeps also
+     * count for the calls it was made from.
+     */
+    private static final class Action {
+        private final String name;
+        private final Action parent;
+        private final long start = System.currentTimeMillis();
+        private final long startMicros = Timeline.now();
+        private boolean timed;
+        private long waitMs;
+        private long sleepMs;
+        private long commandMs;
+
+        private Action(String name, Action parent) {
+            this.name = name;
+            this.parent = parent;
+        }
+
+        private void addWait(long ms) {
+            for (Action action = this; action != null; action = action.parent) {
+                action.waitMs += ms;
+                action.timed = true;
+            }
+        }
+
+        private void addSleep(long ms) {
+            for (Action action = this; action != null; action = action.parent) {
+                action.sleepMs += ms;
+                action.timed = true;
+            }
+        }
+
+        private void addCommand(long ms) {
+            for (Action action = this; action != null; action = action.parent) {
+                action.commandMs += ms;
+                action.timed = true;
+            }
+        }
+    }
+}
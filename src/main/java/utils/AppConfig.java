@@ -0,0 +1,51 @@
+package utils;
+
+/**
+ * Where the application under test lives.
+ *
+ * By default the suite runs against the QA frontend. -Dapp.baseUrl points it
+ * at another deployment, and -Dapp.local=true starts {@link LocalAppServer}
+ * in-process and uses that instead, so flows can be run offline.
+ */
+public final class AppConfig {
+    private static final String DEFAULT_BASE_URL = "https://qa-frontend.sierradimensions.com";
+
+    private AppConfig() {
+    }
+
+    public static boolean isLocal() {
+        return Boolean.getBoolean("app.local");
+    }
+
+    /**
+     * Base URL without a trailing slash, e.g. https://qa-frontend.sierradimensions.com.
+     */
+    public static String getBaseUrl() {
+        String baseUrl = isLocal()
+                ? LocalAppServer.shared().getBaseUrl()
+                : System.getProperty("app.baseUrl", DEFAULT_BASE_URL);
+        return baseUrl.endsWith("/") ? baseUrl.substring(0, baseUrl.length() - 1) : baseUrl;
+    }
+
+    public static String getSignInUrl() {
+        return getBaseUrl() + "/onboarding?path=signin";
+    }
+
+    /**
+     * Whether tests may create their data over the backend API: only when
+     * -Dapi.baseUrl names a confirmed API or the suite runs against
+     * {@link LocalAppServer}. Otherwise tests set their data up through the UI.
+     */
+    public static boolean isDataSeedingEnabled() {
+        return isLocal() || System.getProperty("api.baseUrl") != null;
+    }
+
+    /**
+     * Backend API used for seeding test data: -Dapi.baseUrl, default the base
+     * URL plus /api (which is where {@link LocalAppServer} serves it).
+     */
+    public static String getApiUrl() {
+        String apiUrl = System.getProperty("api.baseUrl", getBaseUrl() + "/api");
+        return apiUrl.endsWith("/") ? apiUrl.substring(0, apiUrl.length() - 1) : apiUrl;
+    }
+}
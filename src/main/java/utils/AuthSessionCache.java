@@ -0,0 +1,258 @@
+package utils;
+
+import org.openqa.selenium.Cookie;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.TimeoutException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.json.Json;
+
+import java.io.IOException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Stores the signed-in browser state (cookies, localStorage, sessionStorage and
+ * the post-login URL) per account, so later tests can skip the login and OTP
+ * screens. Snapshots are written to disk with an expiry; a snapshot that no
+ * longer authenticates (redirect back to sign-in) is dropped and the caller
+ * falls back to a normal UI login.
+ */
+public class AuthSessionCache {
+    private static final AuthSessionCache INSTANCE = new AuthSessionCache();
+
+    private static final String STORAGE_SCRIPT =
+            "var s = window[arguments[0]], out = {};" +
+            "for (var i = 0; i < s.length; i++) { var k = s.key(i); out[k] = s.getItem(k); }" +
+            "return out;";
+    private static final String RESTORE_STORAGE_SCRIPT =
+            "var s = window[arguments[0]], items = arguments[1];" +
+            "for (var k in items) { s.setItem(k, items[k]); }";
+
+    private final boolean enabled = Boolean.parseBoolean(System.getProperty("auth.cache", "true"));
+    private final Duration ttl = Duration.ofMinutes(Long.getLong("auth.cache.ttl.minutes", 30));
+    private final Duration verifyWindow = Duration.ofMillis(Long.getLong("auth.cache.verify.ms", 2000));
+    private final Duration verifyQuiet = Duration.ofMillis(Long.getLong("auth.cache.verify.quiet.ms", 300));
+    private final Path cacheDir = Paths.get(System.getProperty("auth.cache.dir", "target/session-cache"));
+
+    private final Json json = new Json();
+    private final Map<String, Map<String, Object>> snapshots = new ConcurrentHashMap<>();
+
+    private final AtomicInteger hits = new AtomicInteger();
+    private final AtomicInteger misses = new AtomicInteger();
+    private final AtomicInteger expired = new AtomicInteger();
+
+    private AuthSessionCache() {
+    }
+
+    public static AuthSessionCache getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Injects the cached session for the account into the driver and opens the
+     * page the user landed on after login.
+     * @return true if the browser is now signed in, false if a UI login is needed
+     */
+    public boolean restore(WebDriver driver, String email) {
+        if (!enabled) {
+            return false;
+        }
+        Map<String, Object> snapshot = load(email);
+        if (snapshot == null) {
+            misses.incrementAndGet();
+            return false;
+        }
+
+        try {
+            String origin = (String) snapshot.get("origin");
+            String landingUrl = (String) snapshot.get("landingUrl");
+
+            // Cookies and storage can only be set on a document from the same origin
+            driver.get(origin + "/favicon.ico");
+            addCookies(driver, asList(snapshot.get("cookies")));
+            JavascriptExecutor js = (JavascriptExecutor) driver;
+            js.executeScript(RESTORE_STORAGE_SCRIPT, "localStorage", snapshot.get("localStorage"));
+            js.executeScript(RESTORE_STORAGE_SCRIPT, "sessionStorage", snapshot.get("sessionStorage"));
+
+            driver.get(landingUrl);
+            if (isRedirectedToSignIn(driver, landingUrl)) {
+                System.out.println("⚠ Cached session for " + email + " has expired, logging in again");
+                expired.incrementAndGet();
+                invalidate(email);
+                return false;
+            }
+
+            hits.incrementAndGet();
+            System.out.println("✓ Restored cached session for " + email);
+            return true;
+        } catch (WebDriverException | ClassCastException e) {
+            System.err.println("Warning: Could not restore cached session - " + e.getMessage());
+            invalidate(email);
+            return false;
+        }
+    }
+
+    /**
+     * Captures the current signed-in state of the driver for the account.
+     * Call right after a successful UI login.
+     */
+    public void save(WebDriver driver, String email) {
+        if (!enabled) {
+            return;
+        }
+        try {
+            URI current = URI.create(driver.getCurrentUrl());
+            if (isSignInUrl(current.toString())) {
+                System.err.println("Warning: Still on sign-in page, session for " + email + " not cached");
+                return;
+            }
+            JavascriptExecutor js = (JavascriptExecutor) driver;
+
+            Map<String, Object> snapshot = new LinkedHashMap<>();
+            snapshot.put("email", email);
+            snapshot.put("origin", current.getScheme() + "://" + current.getAuthority());
+            snapshot.put("landingUrl", current.toString());
+            snapshot.put("expiresAt", System.currentTimeMillis() + ttl.toMillis());
+            snapshot.put("cookies", toMaps(driver.manage().getCookies()));
+            snapshot.put("localStorage", js.executeScript(STORAGE_SCRIPT, "localStorage"));
+            snapshot.put("sessionStorage", js.executeScript(STORAGE_SCRIPT, "sessionStorage"));
+
+            snapshots.put(email, snapshot);
+            Files.createDirectories(cacheDir);
+            Files.write(fileFor(email), json.toJson(snapshot).getBytes(StandardCharsets.UTF_8));
+            System.out.println("✓ Cached session for " + email);
+        } catch (WebDriverException | IOException e) {
+            System.err.println("Warning: Could not cache session - " + e.getMessage());
+        }
+    }
+
+    public void invalidate(String email) {
+        snapshots.remove(email);
+        try {
+            Files.deleteIfExists(fileFor(email));
+        } catch (IOException e) {
+            System.err.println("Warning: Could not delete cached session - " + e.getMessage());
+        }
+    }
+
+    public void printStats() {
+        System.out.println("\n=== Auth Session Cache Statistics ===");
+        System.out.println("Restored from cache: " + hits.get());
+        System.out.println("Cache misses:        " + misses.get());
+        System.out.println("Expired sessions:    " + expired.get());
+        System.out.println("=====================================\n");
+    }
+
+    private Map<String, Object> load(String email) {
+        Map<String, Object> snapshot = snapshots.get(email);
+        if (snapshot == null) {
+            Path file = fileFor(email);
+            if (!Files.exists(file)) {
+                return null;
+            }
+            try {
+                snapshot = json.toType(new String(Files.readAllBytes(file), StandardCharsets.UTF_8), Json.MAP_TYPE);
+                snapshots.put(email, snapshot);
+            } catch (IOException | RuntimeException e) {
+                System.err.println("Warning: Ignoring unreadable session cache " + file + " - " + e.getMessage());
+                invalidate(email);
+                return null;
+            }
+        }
+        long expiresAt = ((Number) snapshot.get("expiresAt")).longValue();
+        if (System.currentTimeMillis() >= expiresAt) {
+            expired.incrementAndGet();
+            invalidate(email);
+            return null;
+        }
+        return snapshot;
+    }
+
+    /**
+     * Waits for either outcome of opening the landing page: a redirect to
+     * sign-in, or the app settling on the landing page with its requests
+     * (including the session check) done. Only when neither shows up does it
+     * take the whole verify window, e.g. on a driver without DevTools.
+     */
+    private boolean isRedirectedToSignIn(WebDriver driver, String landingUrl) {
+        String landingPath = URI.create(landingUrl).getPath();
+        NetworkIdle network = NetworkIdle.of(driver);
+        long since = System.currentTimeMillis();
+        try {
+            DomConditions.newWait(driver, verifyWindow).until(DomConditions.or(
+                    DomConditions.urlContains("signin"),
+                    DomConditions.onDomChange("signed in on " + landingPath, d ->
+                            d.getCurrentUrl().contains(landingPath) && network.hasBeenIdle(since, verifyQuiet))));
+        } catch (TimeoutException e) {
+            // No redirect within the window; judged by the URL below
+        }
+        return isSignInUrl(driver.getCurrentUrl());
+    }
+
+    private static boolean isSignInUrl(String url) {
+        return url.contains("signin");
+    }
+
+    private void addCookies(WebDriver driver, List<Object> cookies) {
+        long now = System.currentTimeMillis();
+        for (Object entry : cookies) {
+            @SuppressWarnings("unchecked")
+            Map<String, Object> c = (Map<String, Object>) entry;
+            Number expiry = (Number) c.get("expiry");
+            if (expiry != null && expiry.longValue() <= now) {
+                continue;
+            }
+            Cookie cookie = new Cookie.Builder((String) c.get("name"), (String) c.get("value"))
+                    .domain((String) c.get("domain"))
+                    .path((String) c.get("path"))
+                    .expiresOn(expiry == null ? null : new Date(expiry.longValue()))
+                    .isSecure(Boolean.TRUE.equals(c.get("secure")))
+                    .isHttpOnly(Boolean.TRUE.equals(c.get("httpOnly")))
+                    .sameSite((String) c.get("sameSite"))
+                    .build();
+            try {
+                driver.manage().addCookie(cookie);
+            } catch (WebDriverException e) {
+                System.err.println("Warning: Skipping cookie " + cookie.getName() + " - " + e.getMessage());
+            }
+        }
+    }
+
+    private static List<Map<String, Object>> toMaps(Iterable<Cookie> cookies) {
+        List<Map<String, Object>> result = new ArrayList<>();
+        for (Cookie cookie : cookies) {
+            Map<String, Object> c = new LinkedHashMap<>();
+            c.put("name", cookie.getName());
+            c.put("value", cookie.getValue());
+            c.put("domain", cookie.getDomain());
+            c.put("path", cookie.getPath());
+            c.put("expiry", cookie.getExpiry() == null ? null : cookie.getExpiry().getTime());
+            c.put("secure", cookie.isSecure());
+            c.put("httpOnly", cookie.isHttpOnly());
+            c.put("sameSite", cookie.getSameSite());
+            result.add(c);
+        }
+        return result;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static List<Object> asList(Object value) {
+        return value == null ? new ArrayList<>() : (List<Object>) value;
+    }
+
+    private Path fileFor(String email) {
+        return cacheDir.resolve(email.replaceAll("[^A-Za-z0-9._-]", "_") + ".json");
+    }
+}
@@ -1,73 +1,196 @@
 package utils;
 
-import io.github.bonigarcia.wdm.WebDriverManager;
 import org.openqa.selenium.WebDriver;
-import org.openqa.selenium.chrome.ChromeDriver;
-import org.openqa.selenium.chrome.ChromeOptions;
 import org.openqa.selenium.support.ui.WebDriverWait;
+import org.testng.ITestResult;
 import org.testng.annotations.AfterMethod;
+import org.testng.annotations.AfterSuite;
 import org.testng.annotations.BeforeMethod;
 
+import java.lang.reflect.Method;
 import java.time.Duration;
+import java.util.function.Supplier;
 
 public class BaseTest {
-    protected WebDriver driver;
-    protected WebDriverWait wait;
-    protected YopmailService yopmailService;
-    protected static final String BASE_URL = "https://qa-frontend.sierradimensions.com/onboarding?path=signin";
+    // Per-thread state so test methods can run in parallel on a shared instance
+    private static final ThreadLocal<WebDriver> DRIVER = new ThreadLocal<>();
+    private static final ThreadLocal<WebDriverWait> WAIT = new ThreadLocal<>();
+    private static final ThreadLocal<OtpProvider> OTP_PROVIDER = new ThreadLocal<>();
+
+    // QA frontend by default; -Dapp.baseUrl or -Dapp.local=true to run elsewhere
+    protected static final String BASE_URL = AppConfig.getSignInUrl();
     protected static final int TIMEOUT = 20;
 
+    static {
+        // Test output is buffered per test and only written out in full for failures
+        TestLog.install();
+    }
+
     @BeforeMethod
-    public void setUp() {
+    public void setUp(Method method) {
+        String testId = getClass().getSimpleName() + "." + method.getName();
+        TestLog.begin(testId);
+        Timeline.beginTest(testId);
         System.out.println("\\n=== Setting up WebDriver ===");
         
-        // Setup ChromeDriver using WebDriverManager
-        WebDriverManager.chromedriver().setup();
-        
-        // Configure Chrome options
-        ChromeOptions options = new ChromeOptions();
-        options.addArguments("--start-maximized");
-        options.addArguments("--disable-notifications");
-        options.addArguments("--disable-popup-blocking");
-        options.addArguments("--disable-blink-features=AutomationControlled");
-        options.addArguments("--remote-allow-origins=*");
-        options.setExperimentalOption("excludeSwitches", new String[]{"enable-automation"});
-        
-        // Initialize driver
-        driver = new ChromeDriver(options);
-        driver.manage().window().maximize();
-        driver.manage().timeouts().implicitlyWait(Duration.ofSeconds(10));
-        driver.manage().timeouts().pageLoadTimeout(Duration.ofSeconds(30));
-        wait = new WebDriverWait(driver, Duration.ofSeconds(TIMEOUT));
-        
-        // Initialize Yopmail service
-        yopmailService = new YopmailService();
+        Timeline.run("Setup", "setup", () -> {
+            // Borrow a running session from the pool instead of launching a new browser
+            WebDriver driver = DriverPool.getInstance().acquire();
+            driver.manage().timeouts().implicitlyWait(WaitPolicy.implicitWait());
+            driver.manage().timeouts().pageLoadTimeout(Duration.ofSeconds(30));
+            DRIVER.set(driver);
+            WAIT.set(new WebDriverWait(driver, Duration.ofSeconds(TIMEOUT)));
+        });
         
         System.out.println("✓ WebDriver initialized successfully");
-        System.out.println("✓ Yopmail service initialized");
     }
 
-    @AfterMethod
-    public void tearDown() {
-        if (yopmailService != null) {
-            yopmailService.closeBrowser();
-        }
-        
-        if (driver != null) {
-            System.out.println("\\n=== Closing WebDriver ===");
-            try {
-                Thread.sleep(2000); // Brief pause before closing
-            } catch (InterruptedException e) {
-                e.printStackTrace();
+    @AfterMethod(alwaysRun = true)
+    public void tearDown(ITestResult result) {
+        ActionTimer.finish();
+        Timeline.run("Teardown", "teardown", () -> {
+            OtpProvider otpProvider = OTP_PROVIDER.get();
+            if (otpProvider != null) {
+                otpProvider.close();
             }
-            driver.quit();
-            System.out.println("✓ WebDriver closed successfully");
-        }
+            
+            WebDriver driver = DRIVER.get();
+            if (driver != null) {
+                System.out.println("\\n=== Releasing WebDriver ===");
+                DriverPool.getInstance().release(driver);
+                System.out.println("✓ WebDriver released successfully");
+            }
+        });
+
+        OTP_PROVIDER.remove();
+        WAIT.remove();
+        DRIVER.remove();
+        Timeline.endTest(result.isSuccess(), result.getThrowable());
+        TestLog.end(result.isSuccess(), result.getThrowable());
+    }
+
+    @AfterSuite(alwaysRun = true)
+    public void printDriverPoolStats() {
+        DriverPool.getInstance().printStats();
+        AuthSessionCache.getInstance().printStats();
+        CompositeLocator.printStats();
+        LocatorRegistry.getInstance().save();
+        WaitPolicy.printReport();
+        ElementCache.printStats();
+        NetworkIdle.printStats();
+        ActionTimer.printReport();
+        PagePerformance.printReport();
+        BudgetListener.printReport();
+        Timeline.printReport();
+        TestLog.flush();
     }
     
+    protected WebDriver getDriver() {
+        return DRIVER.get();
+    }
+
+    protected WebDriverWait getWait() {
+        return WAIT.get();
+    }
+
+    /**
+     * OTP provider for this thread, created on first use so tests that type a
+     * static OTP never start the Yopmail browser.
+     */
+    protected OtpProvider getOtpProvider() {
+        OtpProvider otpProvider = OTP_PROVIDER.get();
+        if (otpProvider == null) {
+            otpProvider = OtpProvider.create();
+            System.out.println("✓ OTP provider initialized: " + otpProvider.getClass().getSimpleName());
+            otpProvider = Timeline.traced(otpProvider);
+            OTP_PROVIDER.set(otpProvider);
+        }
+        return otpProvider;
+    }
+
+    /**
+     * Signs the current driver in from the session cache, skipping login and OTP.
+     * @return false if there is no valid cached session and a UI login is needed
+     */
+    protected boolean restoreCachedSession(String email) {
+        try (Timeline.Span restore = Timeline.span("Restore cached session", "login")) {
+            boolean restored = AuthSessionCache.getInstance().restore(getDriver(), email);
+            restore.arg("restored", restored);
+            return restored;
+        }
+    }
+
+    /**
+     * Saves the signed-in state after a UI login so later tests can reuse it.
+     */
+    protected void cacheSession(String email) {
+        Timeline.run("Cache session", "login", () -> AuthSessionCache.getInstance().save(getDriver(), email));
+    }
+
+    protected void invalidateCachedSession(String email) {
+        AuthSessionCache.getInstance().invalidate(email);
+    }
+
+    /**
+     * Replacement for waitForSeconds after an action: returns once no XHR,
+     * fetch or navigation has been pending for quietMs, or after timeoutMs.
+     * Settle times are reported per calling test method and line.
+     */
+    protected void waitForNetworkIdle(long quietMs, long timeoutMs) {
+        StackTraceElement caller = Thread.currentThread().getStackTrace()[2];
+        String step = caller.getClassName().substring(caller.getClassName().lastIndexOf('.') + 1)
+                + "." + caller.getMethodName() + ":" + caller.getLineNumber();
+        NetworkIdle.of(getDriver()).waitForNetworkIdle(step, Duration.ofMillis(quietMs), Duration.ofMillis(timeoutMs));
+    }
+
+    /**
+     * Opens a screen by URL in the signed-in session, skipping the click
+     * chain. Tests that verify navigation itself should keep clicking.
+     */
+    protected void navigateTo(Route route) {
+        route.open(getDriver());
+    }
+
+    /**
+     * Opens one record of a screen, e.g. a seeded folder of MY_LIBRARY.
+     */
+    protected void navigateTo(Route route, String id) {
+        route.open(getDriver(), id);
+    }
+
+    /**
+     * Whether {@link #seedData()} can be used; see
+     * {@link AppConfig#isDataSeedingEnabled()}. Tests keep their UI set-up
+     * for when it returns false.
+     */
+    protected boolean canSeedData() {
+        return AppConfig.isDataSeedingEnabled();
+    }
+
+    /**
+     * Creates test data over the backend API as the signed-in account, in
+     * place of setting it up through the UI. Call after login, and only when
+     * {@link #canSeedData()}.
+     */
+    protected DataSeeder seedData() {
+        return DataSeeder.forSession(getDriver());
+    }
+
+    /**
+     * Runs a step of the test, timed against its latency budget from the
+     * method's {@link Budget} annotation.
+     */
+    protected void step(String name, Runnable action) {
+        BudgetListener.step(name, action);
+    }
+
+    protected <T> T step(String name, Supplier<T> action) {
+        return BudgetListener.step(name, action);
+    }
+
     protected void waitForSeconds(int seconds) {
         try {
-            Thread.sleep(seconds * 1000L);
+            ActionTimer.sleep("waitForSeconds(" + seconds + ")", seconds * 1000L);
         } catch (InterruptedException e) {
             e.printStackTrace();
         }
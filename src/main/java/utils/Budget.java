@@ -0,0 +1,26 @@
+package utils;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Latency budget of a test method and of the named steps it times with
+ * {@link BaseTest#step(String)}. Checked by {@link BudgetListener}: a test
+ * that passes functionally but runs over a budget is failed.
+ *
+ * <pre>
+ * &#64;Budget(steps = &#64;StepBudget(name = "Plan save", ms = 2000))
+ * </pre>
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.METHOD)
+public @interface Budget {
+    /**
+     * Budget for the whole test method in ms; 0 for none.
+     */
+    long value() default 0;
+
+    StepBudget[] steps() default {};
+}
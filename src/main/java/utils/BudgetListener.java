@@ -0,0 +1,253 @@
+package utils;
+
+import org.openqa.selenium.json.Json;
+import org.testng.IInvokedMethod;
+import org.testng.IInvokedMethodListener;
+import org.testng.ITestResult;
+import org.testng.Reporter;
+
+import java.io.IOException;
+import java.lang.reflect.Method;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Supplier;
+
+/**
+ * Enforces latency budgets on test methods and their steps.
+ *
+ * Tests time a step by passing it to {@link #step(String, Runnable)} or
+ * {@link #step(String, Supplier)} (or the same methods on {@link BaseTest});
+ * its budget comes from the method's {@link Budget} annotation or from
+ * {@link #step(String, long)}. The whole
+ * method is timed when the annotation gives a value. After each test method
+ * every measurement is logged and added to the TestNG result, as Reporter
+ * output and as the budget.consumption attribute, and a test that passed but
+ * ran over a budget is turned into a failure.
+ *
+ * -Dbudget.scale multiplies every budget (e.g. 1.5 on a slow runner) and
+ * -Dbudget.enforce=false only reports. {@link #printReport()} lists every
+ * budgeted step of the suite and writes them to budget.report.file (default
+ * target/performance-budgets.json).
+ */
+public class BudgetListener implements IInvokedMethodListener {
+    public static final String RESULT_ATTRIBUTE = "budget.consumption";
+
+    private static final double SCALE = Double.parseDouble(System.getProperty("budget.scale", "1"));
+    private static final boolean ENFORCE = Boolean.parseBoolean(System.getProperty("budget.enforce", "true"));
+    private static final Path REPORT_FILE = Paths.get(System.getProperty("budget.report.file", "target/performance-budgets.json"));
+
+    private static final ThreadLocal<Ledger> LEDGER = new ThreadLocal<>();
+    private static final List<Map<String, Object>> MEASUREMENTS = new CopyOnWriteArrayList<>();
+
+    /**
+     * Runs a step and times it against the budget declared for it in the
+     * test's {@link Budget} annotation, if any:
+     * <pre>
+     * step("Plan save", () -> addPlanPage.clickSaveButton());
+     * </pre>
+     */
+    public static void step(String name, Runnable action) {
+        Step step = step(name);
+        try {
+            action.run();
+        } finally {
+            step.close();
+        }
+    }
+
+    /**
+     * Like {@link #step(String, Runnable)}, for a step that produces a value.
+     */
+    public static <T> T step(String name, Supplier<T> action) {
+        Step step = step(name);
+        try {
+            return action.get();
+        } finally {
+            step.close();
+        }
+    }
+
+    /**
+     * Starts timing a step against its annotated budget, for steps that do
+     * not fit in a lambda; the step is recorded when closed.
+     */
+    public static Step step(String name) {
+        Ledger ledger = LEDGER.get();
+        Long budget = ledger == null ? null : ledger.stepBudgets.get(name);
+        return new Step(name, budget == null ? 0 : budget);
+    }
+
+    /**
+     * Times a step against the given budget in ms, overriding the annotation.
+     */
+    public static Step step(String name, long budgetMs) {
+        return new Step(name, budgetMs);
+    }
+
+    @Override
+    public void beforeInvocation(IInvokedMethod method, ITestResult testResult) {
+        if (!method.isTestMethod()) {
+            return;
+        }
+        Method javaMethod = method.getTestMethod().getConstructorOrMethod().getMethod();
+        LEDGER.set(new Ledger(testResult.getTestClass().getRealClass().getSimpleName() + "." + javaMethod.getName(),
+                javaMethod.getAnnotation(Budget.class)));
+    }
+
+    @Override
+    public void afterInvocation(IInvokedMethod method, ITestResult testResult) {
+        if (!method.isTestMethod()) {
+            return;
+        }
+        Ledger ledger = LEDGER.get();
+        LEDGER.remove();
+        if (ledger == null) {
+            return;
+        }
+        if (ledger.budget != null && ledger.budget.value() > 0) {
+            ledger.record("whole test", System.currentTimeMillis() - ledger.start, ledger.budget.value());
+        }
+        for (StepBudget declared : ledger.budget == null ? new StepBudget[0] : ledger.budget.steps()) {
+            if (ledger.measurements.stream().noneMatch(m -> m.get("step").equals(declared.name()))
+                    && testResult.isSuccess()) {
+                System.err.println("⚠ Budgeted step '" + declared.name() + "' never ran in " + ledger.testId);
+            }
+        }
+        if (ledger.measurements.isEmpty()) {
+            return;
+        }
+
+        List<String> over = new ArrayList<>();
+        Reporter.setCurrentTestResult(testResult);
+        for (Map<String, Object> measurement : ledger.measurements) {
+            String line = describe(measurement);
+            Reporter.log(line);
+            if (Boolean.TRUE.equals(measurement.get("overBudget"))) {
+                over.add(line);
+            }
+        }
+        testResult.setAttribute(RESULT_ATTRIBUTE, new ArrayList<>(ledger.measurements));
+        MEASUREMENTS.addAll(ledger.measurements);
+
+        if (!over.isEmpty() && ENFORCE && testResult.isSuccess()) {
+            testResult.setStatus(ITestResult.FAILURE);
+            testResult.setThrowable(new AssertionError("Performance budget exceeded: " + String.join("; ", over)));
+        }
+    }
+
+    public static void printReport() {
+        System.out.println("\n=== Performance Budgets ===");
+        List<Map<String, Object>> budgeted = new ArrayList<>();
+        for (Map<String, Object> measurement : MEASUREMENTS) {
+            if (measurement.get("budgetMs") != null) {
+                budgeted.add(measurement);
+            }
+        }
+        if (budgeted.isEmpty()) {
+            System.out.println("No budgeted steps measured");
+            return;
+        }
+        budgeted.sort((a, b) -> Long.compare((Long) b.get("percent"), (Long) a.get("percent")));
+        System.out.println(String.format("%7s %7s %5s  %s", "ms", "budget", "used", "test / step"));
+        for (Map<String, Object> measurement : budgeted) {
+            System.out.println(String.format("%7d %7d %4d%%  %s / %s%s",
+                    measurement.get("elapsedMs"), measurement.get("budgetMs"), measurement.get("percent"),
+                    measurement.get("test"), measurement.get("step"),
+                    Boolean.TRUE.equals(measurement.get("overBudget")) ? "  ❌ over budget" : ""));
+        }
+
+        try {
+            if (REPORT_FILE.getParent() != null) {
+                Files.createDirectories(REPORT_FILE.getParent());
+            }
+            Files.write(REPORT_FILE, new Json().toJson(new ArrayList<>(MEASUREMENTS)).getBytes(StandardCharsets.UTF_8));
+            System.out.println("✓ Budget consumption saved to " + REPORT_FILE.toAbsolutePath());
+        } catch (IOException e) {
+            System.err.println("Warning: Could not write budget report: " + e.getMessage());
+        }
+    }
+
+    private static String describe(Map<String, Object> measurement) {
+        if (measurement.get("budgetMs") == null) {
+            return measurement.get("step") + ": " + measurement.get("elapsedMs") + " ms (no budget)";
+        }
+        return measurement.get("step") + ": " + measurement.get("elapsedMs") + " ms of "
+                + measurement.get("budgetMs") + " ms budget (" + measurement.get("percent") + "%)";
+    }
+
+    private static final class Ledger {
+        private final String testId;
+        private final Budget budget;
+        private final long start = System.currentTimeMillis();
+        private final Map<String, Long> stepBudgets = new LinkedHashMap<>();
+        private final List<Map<String, Object>> measurements = new ArrayList<>();
+
+        private Ledger(String testId, Budget budget) {
+            this.testId = testId;
+            this.budget = budget;
+            if (budget != null) {
+                for (StepBudget step : budget.steps()) {
+                    stepBudgets.put(step.name(), step.ms());
+                }
+            }
+        }
+
+        private Map<String, Object> record(String step, long elapsedMs, long budgetMs) {
+            Map<String, Object> measurement = new LinkedHashMap<>();
+            measurement.put("test", testId);
+            measurement.put("step", step);
+            measurement.put("elapsedMs", elapsedMs);
+            if (budgetMs > 0) {
+                long scaled = Math.max(1, Math.round(budgetMs * SCALE));
+                measurement.put("budgetMs", scaled);
+                measurement.put("percent", elapsedMs * 100 / scaled);
+                measurement.put("overBudget", elapsedMs > scaled);
+            }
+            measurements.add(measurement);
+            return measurement;
+        }
+    }
+
+    /**
+     * A step being timed; closing it records the elapsed time.
+     */
+    public static final class Step implements AutoCloseable {
+        private final String name;
+        private final long budgetMs;
+        private final long start = System.currentTimeMillis();
+        private boolean closed;
+
+        private Step(String name, long budgetMs) {
+            this.name = name;
+            this.budgetMs = budgetMs;
+        }
+
+        @Override
+        public void close() {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            long elapsed = System.currentTimeMillis() - start;
+            Ledger ledger = LEDGER.get();
+            if (ledger == null) {
+                System.out.println("✓ Step '" + name + "' took " + elapsed + " ms");
+                return;
+            }
+            Map<String, Object> measurement = ledger.record(name, elapsed, budgetMs);
+            String line = "Step " + describe(measurement);
+            if (Boolean.TRUE.equals(measurement.get("overBudget"))) {
+                System.err.println("⚠ " + line + " - over budget");
+            } else {
+                System.out.println("✓ " + line);
+            }
+        }
+    }
+}
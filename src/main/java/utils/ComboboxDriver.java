@@ -0,0 +1,108 @@
+package utils;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.support.ui.Select;
+import org.openqa.selenium.support.ui.WebDriverWait;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Selects an option in a combobox/listbox widget (MUI Select and Autocomplete,
+ * or a button that opens a menu) by waiting on its ARIA state instead of
+ * sleeping: the trigger is clicked only if it is not already expanded, the
+ * option is clicked as soon as the listbox has rendered it, and the call
+ * returns once the selection is committed (listbox closed, value shown).
+ * Native &lt;select&gt; elements are handled with {@link Select}.
+ *
+ * <pre>
+ * ComboboxDriver.select(driver, PLAN_TYPE_COMBOBOX, "Daily");
+ * </pre>
+ */
+public final class ComboboxDriver {
+    private static final Duration TIMEOUT = Duration.ofSeconds(20);
+
+    // Finds a rendered, visible option for the text: exact match first, then contains.
+    // Looks in the listbox the trigger controls, otherwise in every open listbox or menu.
+    private static final String FIND_OPTION_SCRIPT =
+            "var trigger = arguments[0], text = arguments[1];" +
+            "function visible(el) {" +
+            "  var r = el.getBoundingClientRect(), s = window.getComputedStyle(el);" +
+            "  return r.width > 0 && r.height > 0 && s.visibility !== 'hidden' && s.display !== 'none';" +
+            "}" +
+            "var id = trigger.getAttribute('aria-controls') || trigger.getAttribute('aria-owns');" +
+            "var owned = id && document.getElementById(id);" +
+            "var roots = owned ? [owned] : Array.prototype.filter.call(" +
+            "    document.querySelectorAll('[role=listbox], [role=menu]'), visible);" +
+            "var options = [];" +
+            "roots.forEach(function (root) {" +
+            "  options = options.concat(Array.prototype.slice.call(root.querySelectorAll('[role=option], [role=menuitem], li')));" +
+            "});" +
+            "if (!roots.length) {" +
+            "  options = Array.prototype.slice.call(document.querySelectorAll('[role=option], [role=menuitem]'));" +
+            "}" +
+            "options = options.filter(function (o) { return visible(o) && o.getAttribute('aria-disabled') !== 'true'; });" +
+            "function label(o) { return (o.textContent || '').replace(/\\s+/g, ' ').trim(); }" +
+            "for (var i = 0; i < options.length; i++) { if (label(options[i]) === text) { return options[i]; } }" +
+            "for (var j = 0; j < options.length; j++) { if (label(options[j]).indexOf(text) >= 0) { return options[j]; } }" +
+            "return null;";
+
+    // The selection is committed once the trigger has collapsed and either shows
+    // the value or the chosen option has been taken off screen
+    private static final String COMMITTED_SCRIPT =
+            "var trigger = arguments[0], text = arguments[1], choice = arguments[2];" +
+            "if (trigger.getAttribute('aria-expanded') === 'true') { return false; }" +
+            "var shown = trigger.tagName === 'INPUT' ? trigger.value : trigger.textContent;" +
+            "if ((shown || '').indexOf(text) >= 0) { return true; }" +
+            "if (!choice.isConnected) { return true; }" +
+            "var r = choice.getBoundingClientRect(), s = window.getComputedStyle(choice);" +
+            "return r.width === 0 || r.height === 0 || s.visibility === 'hidden' || s.display === 'none';";
+
+    private ComboboxDriver() {
+    }
+
+    /**
+     * Opens the combobox, picks the option with the given text and waits until
+     * the selection has been committed.
+     */
+    public static void select(WebDriver driver, By combobox, String option) {
+        WebDriverWait wait = DomConditions.newWait(driver, TIMEOUT);
+        WebElement trigger = wait.until(DomConditions.elementToBeClickable(combobox));
+
+        if ("select".equalsIgnoreCase(trigger.getTagName())) {
+            selectNative(new Select(trigger), option);
+            return;
+        }
+
+        if (!"true".equals(trigger.getDomAttribute("aria-expanded"))) {
+            trigger.click();
+        }
+        WebElement choice = wait.until(DomConditions.onDomChange(
+                "option '" + option + "' rendered for " + combobox,
+                d -> (WebElement) ((JavascriptExecutor) d).executeScript(FIND_OPTION_SCRIPT, trigger, option)));
+        choice.click();
+        wait.until(DomConditions.onDomChange(
+                "selection '" + option + "' committed in " + combobox,
+                d -> Boolean.TRUE.equals(((JavascriptExecutor) d).executeScript(COMMITTED_SCRIPT, trigger, option, choice))));
+    }
+
+    private static void selectNative(Select select, String option) {
+        List<WebElement> options = select.getOptions();
+        for (int i = 0; i < options.size(); i++) {
+            if (options.get(i).getText().trim().equals(option)) {
+                select.selectByIndex(i);
+                return;
+            }
+        }
+        for (int i = 0; i < options.size(); i++) {
+            if (options.get(i).getText().contains(option)) {
+                select.selectByIndex(i);
+                return;
+            }
+        }
+        throw new IllegalArgumentException("No option '" + option + "' in select");
+    }
+}
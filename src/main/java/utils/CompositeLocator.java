@@ -0,0 +1,283 @@
+package utils;
+
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.support.ui.ExpectedCondition;
+import org.openqa.selenium.support.ui.ExpectedConditions;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * An element that can be found in several ways. Instead of giving each
+ * strategy its own wait one after another, all strategies are evaluated
+ * together by a single in-page script on every poll, and the first strategy
+ * with a usable match wins. Between polls the script waits in the page on a
+ * MutationObserver, like {@link DomConditions}.
+ *
+ * The strategies are tried in the order they were added, unless
+ * {@link LocatorRegistry} has enough history for the current route; then the
+ * strategies that have matched most often, and most cheaply, go first. The
+ * first strategy in that order is the preferred one, and for the first
+ * locator.primary.grace.ms of a lookup (default 1500) only it can match, so a
+ * broad fallback does not win while the preferred element is still
+ * rendering. A ranked route therefore never waits on a strategy that keeps
+ * failing there.
+ *
+ * <pre>
+ * private static final CompositeLocator MY_LIBRARY_TAB = CompositeLocator.named("My Library tab")
+ *         .xpath("text", "//button[contains(text(), 'My Library')]")
+ *         .css("tab role", "[role=tab][aria-label*='Library']");
+ *
+ * WebElement tab = wait.until(MY_LIBRARY_TAB.clickable());
+ * </pre>
+ *
+ * The winning strategy of every lookup is logged and counted (see
+ * {@link #printStats()}), and every strategy's outcome is recorded in the registry.
+ */
+public final class CompositeLocator {
+    private static final long SLICE_MS = Long.getLong("dom.wait.slice.ms", 1000);
+    private static final long PRIMARY_GRACE_MS = Long.getLong("locator.primary.grace.ms", 1500);
+    private static final List<CompositeLocator> ALL = new CopyOnWriteArrayList<>();
+
+    static final String FIND_FIRST_SCRIPT =
+            "var strategies = arguments[0], mode = arguments[1], sliceMs = arguments[2], rankings = arguments[3];" +
+            "var graceUntil = Date.now() + arguments[4];" +
+            "var done = arguments[arguments.length - 1];" +
+            "function visible(el) {" +
+            "  if (!el || !el.isConnected) { return false; }" +
+            "  var r = el.getBoundingClientRect(), s = window.getComputedStyle(el);" +
+            "  return r.width > 0 && r.height > 0 && s.visibility !== 'hidden' && s.display !== 'none';" +
+            "}" +
+            "function usable(el) {" +
+            "  return visible(el) && (mode !== 'clickable' || !el.disabled);" +
+            "}" +
+            "function candidates(kind, expression) {" +
+            "  if (kind === 'css') { return Array.prototype.slice.call(document.querySelectorAll(expression), 0, 50); }" +
+            "  var found = [], result = document.evaluate(expression, document, null," +
+            "    XPathResult.ORDERED_NODE_SNAPSHOT_TYPE, null);" +
+            "  for (var i = 0; i < result.snapshotLength && i < 50; i++) { found.push(result.snapshotItem(i)); }" +
+            "  return found;" +
+            "}" +
+            "function usableMatch(i) {" +
+            "  var nodes;" +
+            "  try { nodes = candidates(strategies[i][0], strategies[i][1]); } catch (e) { return null; }" +
+            "  for (var j = 0; j < nodes.length; j++) {" +
+            "    if (nodes[j].nodeType === 1 && usable(nodes[j])) { return nodes[j]; }" +
+            "  }" +
+            "  return null;" +
+            "}" +
+            // Within the grace period only the preferred strategy may match: the
+            // route's top-ranked one, or the first added on unranked routes
+            "function firstMatch() {" +
+            "  var order = rankings[location.pathname];" +
+            "  if (Date.now() < graceUntil) {" +
+            "    var preferred = order ? order[0] : 0, own = usableMatch(preferred);" +
+            "    return own ? result(preferred, own) : null;" +
+            "  }" +
+            "  for (var k = 0; k < strategies.length; k++) {" +
+            "    var i = order ? order[k] : k, el = usableMatch(i);" +
+            "    if (el) { return result(i, el); }" +
+            "  }" +
+            "  return null;" +
+            "}" +
+            // Once resolved, every strategy is measured once for the registry
+            "function result(winner, el) {" +
+            "  var hits = [], costs = [];" +
+            "  for (var i = 0; i < strategies.length; i++) {" +
+            "    var start = performance.now();" +
+            "    hits.push(!!usableMatch(i));" +
+            "    costs.push(performance.now() - start);" +
+            "  }" +
+            "  return [winner, el, location.pathname, hits, costs];" +
+            "}" +
+            "var match = firstMatch();" +
+            "if (match) { done(match); return; }" +
+            "var finished = false, timer, graceTimer, observer;" +
+            "function finish(value) {" +
+            "  if (finished) { return; }" +
+            "  finished = true;" +
+            "  observer.disconnect();" +
+            "  clearTimeout(timer);" +
+            "  clearTimeout(graceTimer);" +
+            "  done(value);" +
+            "}" +
+            "function check() { var m = firstMatch(); if (m) { finish(m); } }" +
+            "observer = new MutationObserver(check);" +
+            "observer.observe(document.documentElement || document," +
+            "  {childList: true, subtree: true, attributes: true, characterData: true});" +
+            // Fallbacks that are already on screen win as soon as the grace period ends
+            "var graceLeft = graceUntil - Date.now();" +
+            "if (graceLeft > 0 && graceLeft < sliceMs) { graceTimer = setTimeout(check, graceLeft); }" +
+            "timer = setTimeout(function () { finish(null); }, sliceMs);";
+
+    private final String name;
+    private final List<Strategy> strategies = new ArrayList<>();
+    private final Map<String, AtomicInteger> wins = new ConcurrentHashMap<>();
+
+    private CompositeLocator(String name) {
+        this.name = name;
+    }
+
+    public static CompositeLocator named(String name) {
+        CompositeLocator locator = new CompositeLocator(name);
+        ALL.add(locator);
+        return locator;
+    }
+
+    public CompositeLocator xpath(String label, String expression) {
+        strategies.add(new Strategy(label, "xpath", expression));
+        return this;
+    }
+
+    public CompositeLocator css(String label, String selector) {
+        strategies.add(new Strategy(label, "css", selector));
+        return this;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * First visible and enabled match; use with {@link DomConditions#newWait}.
+     */
+    public ExpectedCondition<WebElement> clickable() {
+        return new FirstMatch("clickable");
+    }
+
+    /**
+     * First visible match.
+     */
+    public ExpectedCondition<WebElement> visible() {
+        return new FirstMatch("visible");
+    }
+
+    /**
+     * Number of lookups each strategy has won, by strategy label.
+     */
+    public Map<String, Integer> getWins() {
+        Map<String, Integer> counts = new ConcurrentHashMap<>();
+        wins.forEach((label, count) -> counts.put(label, count.get()));
+        return Collections.unmodifiableMap(counts);
+    }
+
+    public static void printStats() {
+        System.out.println("\n=== Composite Locator Stats ===");
+        for (CompositeLocator locator : ALL) {
+            if (locator.wins.isEmpty()) {
+                continue;
+            }
+            StringBuilder line = new StringBuilder(locator.name).append(":");
+            for (Strategy strategy : locator.strategies) {
+                AtomicInteger count = locator.wins.get(strategy.label);
+                line.append(" ").append(strategy.label).append("=").append(count == null ? 0 : count.get());
+            }
+            System.out.println(line);
+        }
+    }
+
+    private List<List<String>> scriptArguments() {
+        List<List<String>> args = new ArrayList<>();
+        for (Strategy strategy : strategies) {
+            args.add(Arrays.asList(strategy.kind, strategy.expression));
+        }
+        return args;
+    }
+
+    private List<String> labels() {
+        List<String> labels = new ArrayList<>();
+        for (Strategy strategy : strategies) {
+            labels.add(strategy.label);
+        }
+        return labels;
+    }
+
+    private final class FirstMatch implements ExpectedCondition<WebElement> {
+        private final String mode;
+        private long startedAt;
+        private Map<String, List<Integer>> rankings;
+
+        private FirstMatch(String mode) {
+            this.mode = mode;
+        }
+
+        @Override
+        public WebElement apply(WebDriver driver) {
+            if (startedAt == 0) {
+                startedAt = System.currentTimeMillis();
+                rankings = LocatorRegistry.getInstance().rankings(name, labels());
+            }
+            long graceLeft = Math.max(0, PRIMARY_GRACE_MS - (System.currentTimeMillis() - startedAt));
+            Object result;
+            try {
+                result = ((JavascriptExecutor) driver).executeAsyncScript(FIND_FIRST_SCRIPT,
+                        scriptArguments(), mode, SLICE_MS, rankings, graceLeft);
+            } catch (WebDriverException e) {
+                // Script timeout or the document was replaced; the wait polls again
+                return null;
+            }
+            if (!(result instanceof List) || ((List<?>) result).size() < 5) {
+                return null;
+            }
+            List<?> match = (List<?>) result;
+            int winnerIndex = ((Number) match.get(0)).intValue();
+            Strategy winner = strategies.get(winnerIndex);
+            WebElement element = (WebElement) match.get(1);
+            try {
+                // Selenium's own check has the final word, as with DomConditions
+                if (mode.equals("clickable") && ExpectedConditions.elementToBeClickable(element).apply(driver) == null) {
+                    return null;
+                }
+            } catch (StaleElementReferenceException e) {
+                return null;
+            }
+            long elapsed = System.currentTimeMillis() - startedAt;
+            wins.computeIfAbsent(winner.label, label -> new AtomicInteger()).incrementAndGet();
+            record((String) match.get(2), (List<?>) match.get(3), (List<?>) match.get(4), winnerIndex, elapsed);
+            System.out.println("✓ " + name + " located by '" + winner.label + "' in " + elapsed + " ms");
+            return element;
+        }
+
+        private void record(String route, List<?> hits, List<?> costs, int winnerIndex, long elapsed) {
+            LocatorRegistry registry = LocatorRegistry.getInstance();
+            for (int i = 0; i < strategies.size(); i++) {
+                Strategy strategy = strategies.get(i);
+                registry.record(name, route, strategy.label, strategy.kind + ": " + strategy.expression,
+                        Boolean.TRUE.equals(hits.get(i)), ((Number) costs.get(i)).doubleValue(),
+                        i == winnerIndex ? elapsed : -1);
+            }
+        }
+
+        @Override
+        public String toString() {
+            return mode + " element '" + name + "' by any of " + strategies;
+        }
+    }
+
+    private static final class Strategy {
+        private final String label;
+        private final String kind;
+        private final String expression;
+
+        private Strategy(String label, String kind, String expression) {
+            this.label = label;
+            this.kind = kind;
+            this.expression = expression;
+        }
+
+        @Override
+        public String toString() {
+            return label + " (" + kind + ": " + expression + ")";
+        }
+    }
+}
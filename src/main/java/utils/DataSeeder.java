@@ -0,0 +1,190 @@
+package utils;
+
+import org.openqa.selenium.Cookie;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.json.Json;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.StringJoiner;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+/**
+ * Creates the data a test needs (plans, tasks, conditions, folders and
+ * articles) with direct backend calls instead of driving the UI to set it up.
+ *
+ * Calls go to {@link AppConfig#getApiUrl()} with the signed-in browser's
+ * cookies and its ha_token as a bearer token, so seeded data belongs to the
+ * same account the test is looking at. Every call is asynchronous and returns
+ * the new record's id; start several and join them together:
+ *
+ * <pre>
+ * DataSeeder seed = DataSeeder.forSession(getDriver());
+ * CompletableFuture&lt;String&gt; plan = seed.plan("Morning Walk", "Fitness", "High");
+ * CompletableFuture&lt;String&gt; folder = seed.folder("Reading");
+ * navigateTo(Route.MY_LIBRARY, folder.join());
+ * </pre>
+ *
+ * Offline, {@link LocalAppServer} serves the same endpoints.
+ */
+public final class DataSeeder {
+    private static final Duration TIMEOUT = Duration.ofSeconds(15);
+    private static final String TOKEN_SCRIPT = "return window.localStorage.getItem('ha_token');";
+
+    private static final HttpClient CLIENT = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+
+    private final String apiUrl;
+    private final String cookieHeader;
+    private final String token;
+    private final Json json = new Json();
+
+    DataSeeder(String apiUrl, String cookieHeader, String token) {
+        this.apiUrl = apiUrl;
+        this.cookieHeader = cookieHeader;
+        this.token = token;
+    }
+
+    /**
+     * A seeder acting as the account signed in to the driver. Call it after
+     * login, while the browser is on the app.
+     */
+    public static DataSeeder forSession(WebDriver driver) {
+        if (!AppConfig.isDataSeedingEnabled()) {
+            throw new IllegalStateException("Data seeding is off - set -Dapi.baseUrl to a confirmed API or run with -Dapp.local=true");
+        }
+        StringJoiner cookies = new StringJoiner("; ");
+        for (Cookie cookie : driver.manage().getCookies()) {
+            cookies.add(cookie.getName() + "=" + cookie.getValue());
+        }
+        String token = null;
+        try {
+            token = (String) ((JavascriptExecutor) driver).executeScript(TOKEN_SCRIPT);
+        } catch (RuntimeException e) {
+            System.err.println("Warning: Could not read the session token - seeding with cookies only: " + e.getMessage());
+        }
+        if (cookies.length() == 0 && token == null) {
+            throw new IllegalStateException("No signed-in session to seed data with - log in first");
+        }
+        return new DataSeeder(AppConfig.getApiUrl(), cookies.toString(), token);
+    }
+
+    /**
+     * A weekly plan running from today, assigned to the account holder.
+     */
+    public CompletableFuture<String> plan(String name, String category, String priority) {
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("type", "Weekly");
+        body.put("name", name);
+        body.put("category", category);
+        body.put("description", "Seeded by the test suite");
+        body.put("assignee", "Self");
+        body.put("from", LocalDate.now().toString());
+        body.put("to", LocalDate.now().plusDays(7).toString());
+        body.put("priority", priority);
+        return create("plan", "/plans", body);
+    }
+
+    public CompletableFuture<String> task(String planId, String name) {
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("planId", planId);
+        body.put("name", name);
+        body.put("description", "Seeded by the test suite");
+        return create("task", "/plans/tasks", body);
+    }
+
+    public CompletableFuture<String> condition(String name) {
+        return create("condition", "/conditions", Map.of("name", name));
+    }
+
+    public CompletableFuture<String> folder(String name) {
+        return create("folder", "/folders", Map.of("name", name));
+    }
+
+    public CompletableFuture<String> article(String folderId, String title, String description) {
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("folderId", folderId);
+        body.put("title", title);
+        body.put("description", description);
+        return create("article", "/folders/articles", body);
+    }
+
+    /**
+     * Waits for all the given seeds and returns their ids in order, failing
+     * with the first error.
+     */
+    public static List<String> joinAll(List<CompletableFuture<String>> seeds) {
+        try {
+            CompletableFuture.allOf(seeds.toArray(new CompletableFuture<?>[0])).join();
+        } catch (CompletionException e) {
+            throw new RuntimeException("Failed to seed test data", e.getCause());
+        }
+        List<String> ids = new ArrayList<>();
+        for (CompletableFuture<String> seed : seeds) {
+            ids.add(seed.join());
+        }
+        return ids;
+    }
+
+    private CompletableFuture<String> create(String kind, String path, Map<String, Object> body) {
+        long start = System.currentTimeMillis();
+        HttpRequest.Builder request = HttpRequest.newBuilder(URI.create(apiUrl + path))
+                .timeout(TIMEOUT)
+                .header("Content-Type", "application/json")
+                .header("Accept", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(json.toJson(body), StandardCharsets.UTF_8));
+        if (!cookieHeader.isEmpty()) {
+            request.header("Cookie", cookieHeader);
+        }
+        if (token != null) {
+            request.header("Authorization", "Bearer " + token);
+        }
+        // The callback runs on the HttpClient's threads; its log lines belong to the seeding test
+        return CLIENT.sendAsync(request.build(), HttpResponse.BodyHandlers.ofString()).thenApply(TestLog.wrap(response -> {
+            if (response.statusCode() / 100 != 2) {
+                throw new IllegalStateException("Seeding " + kind + " failed: HTTP " + response.statusCode()
+                        + " from " + path + " - " + response.body());
+            }
+            String id = readId(response.body());
+            if (id == null) {
+                throw new IllegalStateException("Seeding " + kind + " returned no id: " + response.body());
+            }
+            System.out.println("✓ Seeded " + kind + " " + id + " in " + (System.currentTimeMillis() - start) + " ms");
+            return id;
+        }));
+    }
+
+    /**
+     * The id of the created record, from {"id": ...} or {"data": {"id": ...}}.
+     */
+    @SuppressWarnings("unchecked")
+    private String readId(String responseBody) {
+        Object parsed;
+        try {
+            parsed = json.toType(responseBody, Object.class);
+        } catch (RuntimeException e) {
+            return null;
+        }
+        if (!(parsed instanceof Map)) {
+            return null;
+        }
+        Map<String, Object> map = (Map<String, Object>) parsed;
+        if (map.get("id") == null && map.get("data") instanceof Map) {
+            map = (Map<String, Object>) map.get("data");
+        }
+        Object id = map.get("id");
+        return id == null ? null : id.toString();
+    }
+}
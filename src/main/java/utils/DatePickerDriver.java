@@ -0,0 +1,202 @@
+package utils;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.Keys;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.support.ui.WebDriverWait;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.Objects;
+
+/**
+ * Sets a date in a date-picker field without fixed sleeps.
+ *
+ * The input is used directly when it accepts one: &lt;input type="date"&gt;
+ * gets the ISO value through the native setter plus input and change events,
+ * and editable text fields are cleared and typed into in datepicker.format
+ * (default MM/dd/yyyy). A typed date counts only if the value the field
+ * commits reads back as the requested date. Dates whose day and month could
+ * be swapped (both 12 or less) are not typed, since a widget expecting
+ * dd/MM would read them back the same.
+ *
+ * Read-only fields, ambiguous dates and fields that reject or change the
+ * typed value fall back to the calendar: the field is clicked, the day is
+ * clicked as soon as the grid has rendered it, and the call returns once the
+ * value has changed or the picker has closed. The calendar path only picks
+ * days of the month the picker opens on; the leading and trailing cells of
+ * the adjacent months are skipped.
+ *
+ * A day the picker shows as disabled, or a date the input reports as invalid
+ * (e.g. outside its min/max), is never set: an IllegalArgumentException is
+ * thrown instead, on every path.
+ */
+public final class DatePickerDriver {
+    private static final Duration TIMEOUT = Duration.ofSeconds(20);
+    private static final DateTimeFormatter TYPED_FORMAT =
+            DateTimeFormatter.ofPattern(System.getProperty("datepicker.format", "MM/dd/yyyy"));
+
+    private static final String SET_VALUE_SCRIPT =
+            "var el = arguments[0], value = arguments[1];" +
+            "Object.getOwnPropertyDescriptor(HTMLInputElement.prototype, 'value').set.call(el, value);" +
+            "el.dispatchEvent(new Event('input', {bubbles: true}));" +
+            "el.dispatchEvent(new Event('change', {bubbles: true}));" +
+            "return el.value === value;";
+
+    // A visible "Today" shortcut when asked for today, otherwise the enabled grid cell for the day,
+    // or 'disabled' when the day is shown but cannot be picked
+    private static final String FIND_DAY_SCRIPT =
+            "var day = String(arguments[0]), today = arguments[1];" +
+            "function visible(el) {" +
+            "  var r = el.getBoundingClientRect(), s = window.getComputedStyle(el);" +
+            "  return r.width > 0 && r.height > 0 && s.visibility !== 'hidden' && s.display !== 'none';" +
+            "}" +
+            "function dayText(cell) {" +
+            "  var text = cell.textContent.trim(), inner = cell.querySelector('button, span');" +
+            "  return /^\\d+$/.test(text) || !inner ? text : inner.textContent.trim();" +
+            "}" +
+            "function outside(cell) {" +
+            "  return /outside|adjacent|other-month|prev-month|next-month|not-current/i.test(cell.className);" +
+            "}" +
+            "function enabled(cell, target) {" +
+            "  return !target.disabled && target.getAttribute('aria-disabled') !== 'true'" +
+            "      && cell.getAttribute('aria-disabled') !== 'true' && !/disabled/.test(cell.className);" +
+            "}" +
+            "if (today) {" +
+            "  var shortcuts = document.querySelectorAll('a, button');" +
+            "  for (var i = 0; i < shortcuts.length; i++) {" +
+            "    if (shortcuts[i].textContent.trim() === 'Today' && visible(shortcuts[i])) { return shortcuts[i]; }" +
+            "  }" +
+            "}" +
+            "var cells = Array.prototype.filter.call(document.querySelectorAll('[role=gridcell]'), visible);" +
+            // The shown month runs from its day 1 up to the next day 1; the cells before and
+            // after it belong to the adjacent months
+            "var inMonth = false, disabled = false;" +
+            "for (var j = 0; j < cells.length; j++) {" +
+            "  var cell = cells[j], text = dayText(cell);" +
+            "  if (text === '1') { if (inMonth) { break; } inMonth = true; }" +
+            "  if (!inMonth || text !== day || outside(cell)) { continue; }" +
+            // The innermost clickable node of the cell gets the click
+            "  var target = cell.querySelector('button') || cell;" +
+            "  if (enabled(cell, target)) { return target; }" +
+            "  disabled = true;" +
+            "}" +
+            "return disabled ? 'disabled' : null;";
+
+    // Whether the input holds a value it accepts, by constraint validation and aria-invalid
+    private static final String ACCEPTED_SCRIPT =
+            "var el = arguments[0];" +
+            "return el.value !== '' && (!el.validity || el.validity.valid)" +
+            "    && el.getAttribute('aria-invalid') !== 'true';";
+
+    private static final String PICKER_CLOSED_SCRIPT =
+            "var input = arguments[0], before = arguments[1];" +
+            "if (input.value !== before) { return true; }" +
+            "return !Array.prototype.some.call(document.querySelectorAll('[role=gridcell]'), function (c) {" +
+            "  var r = c.getBoundingClientRect();" +
+            "  return r.width > 0 && r.height > 0;" +
+            "});";
+
+    private DatePickerDriver() {
+    }
+
+    public static void selectToday(WebDriver driver, By input) {
+        setDate(driver, input, LocalDate.now());
+    }
+
+    /**
+     * Picks a day of the current month.
+     * @throws IllegalArgumentException if the month has no such day
+     */
+    public static void selectDay(WebDriver driver, By input, int dayOfMonth) {
+        LocalDate today = LocalDate.now();
+        if (dayOfMonth < 1 || dayOfMonth > today.lengthOfMonth()) {
+            throw new IllegalArgumentException("Day " + dayOfMonth + " does not exist in " + today.getMonth()
+                    + " " + today.getYear() + ", which has " + today.lengthOfMonth() + " days");
+        }
+        setDate(driver, input, today.withDayOfMonth(dayOfMonth));
+    }
+
+    public static void setDate(WebDriver driver, By input, LocalDate date) {
+        WebDriverWait wait = DomConditions.newWait(driver, TIMEOUT);
+        WebElement field = wait.until(DomConditions.elementToBeClickable(input));
+        JavascriptExecutor js = (JavascriptExecutor) driver;
+        boolean editable = field.getDomAttribute("readonly") == null && field.isEnabled();
+
+        if (editable && "date".equals(field.getDomProperty("type"))) {
+            String before = Objects.toString(field.getDomProperty("value"), "");
+            if (Boolean.TRUE.equals(js.executeScript(SET_VALUE_SCRIPT, field, date.toString()))) {
+                if (Boolean.TRUE.equals(js.executeScript(ACCEPTED_SCRIPT, field))) {
+                    return;
+                }
+                String reason = field.getDomProperty("validationMessage");
+                js.executeScript(SET_VALUE_SCRIPT, field, before);
+                throw new IllegalArgumentException("Date " + date + " is not selectable in " + input
+                        + (reason == null || reason.isEmpty() ? "" : ": " + reason));
+            }
+        } else if (editable && "input".equals(field.getTagName()) && !ambiguous(date)) {
+            String before = Objects.toString(field.getDomProperty("value"), "");
+            String typed = date.format(TYPED_FORMAT);
+            // Cleared through the value setter: select-all chords differ per platform
+            js.executeScript(SET_VALUE_SCRIPT, field, "");
+            field.sendKeys(typed);
+            // Pickers that open on focus now show the typed month; respect their disabled days
+            if ("disabled".equals(js.executeScript(FIND_DAY_SCRIPT, date.getDayOfMonth(), false))) {
+                js.executeScript(SET_VALUE_SCRIPT, field, before);
+                throw new IllegalArgumentException("Day " + date + " is disabled in the picker for " + input);
+            }
+            field.sendKeys(Keys.TAB);
+            if (date.equals(readBack(field.getDomProperty("value")))
+                    && Boolean.TRUE.equals(js.executeScript(ACCEPTED_SCRIPT, field))) {
+                return;
+            }
+            // Rejected or read as another date: restore the field and let the calendar decide
+            js.executeScript(SET_VALUE_SCRIPT, field, before);
+        }
+
+        String before = Objects.toString(field.getDomProperty("value"), "");
+        field.click();
+        boolean today = date.equals(LocalDate.now());
+        Object day = wait.until(DomConditions.onDomChange(
+                "day " + date.getDayOfMonth() + " rendered in picker for " + input,
+                d -> js.executeScript(FIND_DAY_SCRIPT, date.getDayOfMonth(), today)));
+        if (!(day instanceof WebElement)) {
+            field.sendKeys(Keys.ESCAPE);
+            throw new IllegalArgumentException("Day " + date + " is disabled in the picker for " + input);
+        }
+        ((WebElement) day).click();
+        wait.until(DomConditions.onDomChange(
+                "date " + date + " committed in " + input,
+                d -> Boolean.TRUE.equals(js.executeScript(PICKER_CLOSED_SCRIPT, field, before))));
+    }
+
+    /**
+     * Whether the typed form of the date would also be a valid, different
+     * date with day and month swapped, e.g. 03/05 for a dd/MM widget.
+     */
+    static boolean ambiguous(LocalDate date) {
+        return date.getDayOfMonth() <= 12 && date.getDayOfMonth() != date.getMonthValue();
+    }
+
+    /**
+     * The date a text field committed, in datepicker.format or ISO; null if
+     * it is in neither.
+     */
+    static LocalDate readBack(String value) {
+        if (value == null) {
+            return null;
+        }
+        for (DateTimeFormatter format : new DateTimeFormatter[]{TYPED_FORMAT, DateTimeFormatter.ISO_LOCAL_DATE}) {
+            try {
+                return LocalDate.parse(value.trim(), format);
+            } catch (DateTimeParseException e) {
+                // Try the next format
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,282 @@
+package utils;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.NotFoundException;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.TimeoutException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.support.ui.ExpectedCondition;
+import org.openqa.selenium.support.ui.ExpectedConditions;
+import org.openqa.selenium.support.ui.WebDriverWait;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Drop-in replacements for the {@link ExpectedConditions} used by the page
+ * objects. When a condition is not met yet, instead of sleeping until the next
+ * poll, the wait parks inside the page on a MutationObserver and is woken up
+ * as soon as the DOM changes (or, for CSS/XPath locators, as soon as the
+ * target node matches). Selenium's own check is always the final word.
+ *
+ * Use with {@link #newWait(WebDriver, Duration)} so the wait does not add its
+ * own polling delay on top. Such waits run with the implicit wait switched off
+ * (see {@link WaitPolicy}), so the explicit timeout is the only one that
+ * applies, and a timeout is added to the wait report.
+ */
+public final class DomConditions {
+    private static final long SLICE_MS = Long.getLong("dom.wait.slice.ms", 1000);
+    private static final Duration POLLING = Duration.ofMillis(50);
+
+    private static final String AWAIT_CHANGE_SCRIPT =
+            "var mode = arguments[0], sel = arguments[1], kind = arguments[2], sliceMs = arguments[3];" +
+            "var done = arguments[arguments.length - 1];" +
+            "function find() {" +
+            "  if (kind === 'xpath') {" +
+            "    return document.evaluate(sel, document, null, XPathResult.FIRST_ORDERED_NODE_TYPE, null).singleNodeValue;" +
+            "  }" +
+            "  return document.querySelector(sel);" +
+            "}" +
+            "function visible(el) {" +
+            "  if (!el || !el.isConnected) { return false; }" +
+            "  var r = el.getBoundingClientRect(), s = window.getComputedStyle(el);" +
+            "  return r.width > 0 && r.height > 0 && s.visibility !== 'hidden' && s.display !== 'none';" +
+            "}" +
+            "function met() {" +
+            "  if (!sel) { return true; }" +
+            "  try {" +
+            "    var el = find();" +
+            "    if (mode === 'present') { return !!el; }" +
+            "    if (mode === 'visible') { return visible(el); }" +
+            "    if (mode === 'hidden') { return !visible(el); }" +
+            "  } catch (e) { return true; }" +
+            "  return true;" +
+            "}" +
+            "if (sel && met()) { done(true); return; }" +
+            "var finished = false, timer, observer;" +
+            "function onChange() { if (met()) { finish(true); } }" +
+            "function finish(value) {" +
+            "  if (finished) { return; }" +
+            "  finished = true;" +
+            "  observer.disconnect();" +
+            "  clearTimeout(timer);" +
+            "  document.removeEventListener('transitionend', onChange, true);" +
+            "  document.removeEventListener('animationend', onChange, true);" +
+            "  window.removeEventListener('popstate', onChange);" +
+            "  window.removeEventListener('hashchange', onChange);" +
+            "  done(value);" +
+            "}" +
+            "observer = new MutationObserver(onChange);" +
+            "observer.observe(document.documentElement || document," +
+            "  {childList: true, subtree: true, attributes: true, characterData: true});" +
+            "document.addEventListener('transitionend', onChange, true);" +
+            "document.addEventListener('animationend', onChange, true);" +
+            "window.addEventListener('popstate', onChange);" +
+            "window.addEventListener('hashchange', onChange);" +
+            "timer = setTimeout(function () { finish(false); }, sliceMs);";
+
+    private static final String AWAIT_QUIET_SCRIPT =
+            "var quietMs = arguments[0], maxMs = arguments[1];" +
+            "var done = arguments[arguments.length - 1];" +
+            "var start = Date.now(), last = Date.now();" +
+            "var observer = new MutationObserver(function () { last = Date.now(); });" +
+            "observer.observe(document.documentElement || document," +
+            "  {childList: true, subtree: true, attributes: true, characterData: true});" +
+            "(function check() {" +
+            "  var now = Date.now();" +
+            "  if ((document.readyState === 'complete' && now - last >= quietMs) || now - start >= maxMs) {" +
+            "    observer.disconnect();" +
+            "    done(now - start);" +
+            "  } else {" +
+            "    setTimeout(check, Math.min(50, quietMs));" +
+            "  }" +
+            "})();";
+
+    private DomConditions() {
+    }
+
+    /**
+     * WebDriverWait tuned for these conditions: the waiting happens inside the
+     * browser, so the wait itself only needs a very short polling interval.
+     */
+    public static WebDriverWait newWait(WebDriver driver, Duration timeout) {
+        return new PolicyWait(driver, timeout);
+    }
+
+    public static ExpectedCondition<WebElement> elementToBeClickable(WebElement element) {
+        return new PushCondition<>(ExpectedConditions.elementToBeClickable(element), "any", null);
+    }
+
+    public static ExpectedCondition<WebElement> elementToBeClickable(By locator) {
+        return new PushCondition<>(ExpectedConditions.elementToBeClickable(locator), "visible", locator);
+    }
+
+    public static ExpectedCondition<WebElement> visibilityOf(WebElement element) {
+        return new PushCondition<>(ExpectedConditions.visibilityOf(element), "any", null);
+    }
+
+    public static ExpectedCondition<WebElement> visibilityOfElementLocated(By locator) {
+        return new PushCondition<>(ExpectedConditions.visibilityOfElementLocated(locator), "visible", locator);
+    }
+
+    public static ExpectedCondition<List<WebElement>> visibilityOfAllElements(List<WebElement> elements) {
+        return new PushCondition<>(ExpectedConditions.visibilityOfAllElements(elements), "any", null);
+    }
+
+    public static ExpectedCondition<WebElement> presenceOfElementLocated(By locator) {
+        return new PushCondition<>(ExpectedConditions.presenceOfElementLocated(locator), "present", locator);
+    }
+
+    public static ExpectedCondition<Boolean> invisibilityOf(WebElement element) {
+        return new PushCondition<>(ExpectedConditions.invisibilityOf(element), "any", null);
+    }
+
+    public static ExpectedCondition<Boolean> invisibilityOfElementLocated(By locator) {
+        return new PushCondition<>(ExpectedConditions.invisibilityOfElementLocated(locator), "hidden", locator);
+    }
+
+    public static ExpectedCondition<Boolean> urlContains(String fraction) {
+        return new PushCondition<>(ExpectedConditions.urlContains(fraction), "any", null);
+    }
+
+    /**
+     * Any other check, re-evaluated on DOM changes instead of on a timer. Used
+     * for component state such as aria-expanded or a committed selection; the
+     * description is what a timeout reports.
+     */
+    public static <T> ExpectedCondition<T> onDomChange(String description, Function<WebDriver, T> check) {
+        ExpectedCondition<T> condition = new ExpectedCondition<T>() {
+            @Override
+            public T apply(WebDriver driver) {
+                return check.apply(driver);
+            }
+
+            @Override
+            public String toString() {
+                return description;
+            }
+        };
+        return new PushCondition<>(condition, "any", null);
+    }
+
+    /**
+     * Met when any of the conditions is met. All conditions are checked on each
+     * DOM change rather than one after the other.
+     */
+    public static ExpectedCondition<Boolean> or(ExpectedCondition<?>... conditions) {
+        ExpectedCondition<?>[] checks = new ExpectedCondition<?>[conditions.length];
+        for (int i = 0; i < conditions.length; i++) {
+            checks[i] = conditions[i] instanceof PushCondition
+                    ? ((PushCondition<?>) conditions[i]).check
+                    : conditions[i];
+        }
+        return new PushCondition<>(ExpectedConditions.or(checks), "any", null);
+    }
+
+    /**
+     * Replacement for fixed "wait for page" sleeps: returns once the document
+     * has loaded and the DOM has not changed for {@code quiet}, or after
+     * {@code max} at the latest.
+     */
+    public static void awaitDomQuiet(WebDriver driver, Duration quiet, Duration max) {
+        ActionTimer.waiting(() -> {
+            try {
+                return ((JavascriptExecutor) driver).executeAsyncScript(AWAIT_QUIET_SCRIPT, quiet.toMillis(), max.toMillis());
+            } catch (WebDriverException e) {
+                // Navigation replaced the document mid-wait; the caller's own waits take over from here
+                return null;
+            }
+        });
+    }
+
+    public static void awaitDomQuiet(WebDriver driver) {
+        awaitDomQuiet(driver, Duration.ofMillis(300), Duration.ofSeconds(2));
+    }
+
+    /**
+     * Blocks inside the page until the DOM changes, the locator reaches the
+     * requested state, or the slice runs out.
+     */
+    private static void awaitChange(WebDriver driver, String mode, By locator) {
+        String selector = null;
+        String kind = null;
+        if (locator != null) {
+            String description = locator.toString();
+            if (description.startsWith("By.xpath: ")) {
+                kind = "xpath";
+                selector = description.substring("By.xpath: ".length());
+            } else if (description.startsWith("By.cssSelector: ")) {
+                kind = "css";
+                selector = description.substring("By.cssSelector: ".length());
+            }
+        }
+        try {
+            ((JavascriptExecutor) driver).executeAsyncScript(AWAIT_CHANGE_SCRIPT, mode, selector, kind, SLICE_MS);
+        } catch (WebDriverException e) {
+            // Script timeout or the document was replaced; just re-check
+        }
+    }
+
+    private static final class PolicyWait extends WebDriverWait {
+        private final WebDriver driver;
+
+        private PolicyWait(WebDriver driver, Duration timeout) {
+            super(driver, timeout, POLLING);
+            this.driver = driver;
+        }
+
+        @Override
+        public <V> V until(Function<? super WebDriver, V> isTrue) {
+            long start = System.currentTimeMillis();
+            try {
+                return ActionTimer.waiting(() -> WaitPolicy.withoutImplicitWait(driver, () -> super.until(isTrue)));
+            } catch (TimeoutException e) {
+                WaitPolicy.recordMiss(String.valueOf(isTrue), System.currentTimeMillis() - start);
+                throw e;
+            }
+        }
+    }
+
+    private static final class PushCondition<T> implements ExpectedCondition<T> {
+        private final ExpectedCondition<T> check;
+        private final String mode;
+        private final By locator;
+
+        private PushCondition(ExpectedCondition<T> check, String mode, By locator) {
+            this.check = check;
+            this.mode = mode;
+            this.locator = locator;
+        }
+
+        @Override
+        public T apply(WebDriver driver) {
+            T result = evaluate(driver);
+            if (isMet(result)) {
+                return result;
+            }
+            awaitChange(driver, mode, locator);
+            return evaluate(driver);
+        }
+
+        private T evaluate(WebDriver driver) {
+            try {
+                return check.apply(driver);
+            } catch (NotFoundException | StaleElementReferenceException e) {
+                return null;
+            }
+        }
+
+        private static boolean isMet(Object result) {
+            return result != null && !Boolean.FALSE.equals(result);
+        }
+
+        @Override
+        public String toString() {
+            return check.toString();
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package utils;
+
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.support.events.EventFiringDecorator;
+import org.openqa.selenium.support.events.WebDriverListener;
+
+import java.lang.reflect.Method;
+import java.util.Collections;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Counter that moves forward whenever the page a driver shows may have been
+ * replaced: navigation (get, back, forward, refresh), clicks and submits
+ * (which is how the app changes routes), and window or frame switches.
+ * {@link ElementCache} drops its element handles when the epoch changes.
+ *
+ * Drivers are tracked by wrapping them with {@link #track(WebDriver)}; the
+ * pool does this for every session it creates.
+ */
+public class DomEpoch implements WebDriverListener {
+    private static final Map<WebDriver, DomEpoch> TRACKED = Collections.synchronizedMap(new WeakHashMap<>());
+
+    private final AtomicLong epoch = new AtomicLong();
+
+    /**
+     * Returns the driver wrapped so that its epoch is maintained.
+     */
+    public static WebDriver track(WebDriver driver) {
+        DomEpoch listener = new DomEpoch();
+        WebDriver decorated = new EventFiringDecorator<>(listener).decorate(driver);
+        TRACKED.put(decorated, listener);
+        return decorated;
+    }
+
+    /**
+     * Current epoch of a tracked driver, or -1 if the driver is not tracked.
+     */
+    public static long current(WebDriver driver) {
+        DomEpoch listener = TRACKED.get(driver);
+        return listener == null ? -1 : listener.epoch.get();
+    }
+
+    public static boolean isTracked(WebDriver driver) {
+        return TRACKED.containsKey(driver);
+    }
+
+    private void advance() {
+        epoch.incrementAndGet();
+    }
+
+    @Override
+    public void afterGet(WebDriver driver, String url) {
+        advance();
+    }
+
+    @Override
+    public void afterAnyNavigationCall(WebDriver.Navigation navigation, Method method,
+                                       Object[] args, Object result) {
+        advance();
+    }
+
+    @Override
+    public void afterClick(WebElement element) {
+        advance();
+    }
+
+    @Override
+    public void afterSubmit(WebElement element) {
+        advance();
+    }
+
+    @Override
+    public void afterAnyTargetLocatorCall(WebDriver.TargetLocator targetLocator, Method method,
+                                          Object[] args, Object result) {
+        advance();
+    }
+}
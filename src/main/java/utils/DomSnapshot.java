@@ -0,0 +1,195 @@
+package utils;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Reads every element matching a locator in a single executeScript call and
+ * returns immutable snapshots (text, visibility, bounding box and key
+ * attributes). Use it for list-reading methods instead of calling
+ * isDisplayed() and getText() on each element, which costs two round trips
+ * per item.
+ *
+ * <pre>
+ * List&lt;String&gt; titles = DomSnapshot.visibleTexts(driver, By.xpath("//div[contains(@class, 'blog-card')]//h3"));
+ * </pre>
+ */
+public final class DomSnapshot {
+    private static final List<String> KEY_ATTRIBUTES = Arrays.asList(
+            "id", "class", "href", "role", "aria-label", "title", "alt", "placeholder", "data-testid");
+
+    private static final String SNAPSHOT_SCRIPT =
+            "var kind = arguments[0], sel = arguments[1], names = arguments[2];" +
+            "var nodes = [];" +
+            "if (kind === 'xpath') {" +
+            "  var result = document.evaluate(sel, document, null, XPathResult.ORDERED_NODE_SNAPSHOT_TYPE, null);" +
+            "  for (var i = 0; i < result.snapshotLength; i++) { nodes.push(result.snapshotItem(i)); }" +
+            "} else {" +
+            "  nodes = Array.prototype.slice.call(document.querySelectorAll(sel));" +
+            "}" +
+            "return nodes.filter(function (el) { return el.nodeType === 1; }).map(function (el) {" +
+            "  var r = el.getBoundingClientRect(), s = window.getComputedStyle(el), attributes = {};" +
+            "  for (var j = 0; j < names.length; j++) {" +
+            "    if (el.hasAttribute(names[j])) { attributes[names[j]] = el.getAttribute(names[j]); }" +
+            "  }" +
+            "  return {" +
+            "    tag: el.tagName.toLowerCase()," +
+            "    text: (el.innerText || el.textContent || '').replace(/\\s+/g, ' ').trim()," +
+            "    visible: r.width > 0 && r.height > 0 && s.visibility !== 'hidden' && s.display !== 'none'," +
+            "    x: r.left, y: r.top, width: r.width, height: r.height," +
+            "    attributes: attributes" +
+            "  };" +
+            "});";
+
+    private DomSnapshot() {
+    }
+
+    /**
+     * Snapshots of all elements matching an XPath or CSS locator, in document order.
+     */
+    public static List<ElementSnapshot> capture(WebDriver driver, By locator) {
+        String[] script = scriptLocator(locator);
+        Object result = ((JavascriptExecutor) driver).executeScript(SNAPSHOT_SCRIPT, script[0], script[1], KEY_ATTRIBUTES);
+        List<ElementSnapshot> snapshots = new ArrayList<>();
+        if (result instanceof List) {
+            for (Object entry : (List<?>) result) {
+                snapshots.add(ElementSnapshot.fromMap((Map<?, ?>) entry));
+            }
+        }
+        return Collections.unmodifiableList(snapshots);
+    }
+
+    /**
+     * Snapshots of the matching elements that are currently visible.
+     */
+    public static List<ElementSnapshot> captureVisible(WebDriver driver, By locator) {
+        List<ElementSnapshot> visible = new ArrayList<>();
+        for (ElementSnapshot snapshot : capture(driver, locator)) {
+            if (snapshot.isVisible()) {
+                visible.add(snapshot);
+            }
+        }
+        return Collections.unmodifiableList(visible);
+    }
+
+    /**
+     * Text of every visible matching element; the bulk equivalent of
+     * looping over isDisplayed() and getText().
+     */
+    public static List<String> visibleTexts(WebDriver driver, By locator) {
+        List<String> texts = new ArrayList<>();
+        for (ElementSnapshot snapshot : captureVisible(driver, locator)) {
+            texts.add(snapshot.getText());
+        }
+        return Collections.unmodifiableList(texts);
+    }
+
+    /**
+     * Splits an XPath or CSS locator into {"xpath"|"css", selector} for in-page scripts.
+     */
+    static String[] scriptLocator(By locator) {
+        String description = locator.toString();
+        if (description.startsWith("By.xpath: ")) {
+            return new String[]{"xpath", description.substring("By.xpath: ".length())};
+        }
+        if (description.startsWith("By.cssSelector: ")) {
+            return new String[]{"css", description.substring("By.cssSelector: ".length())};
+        }
+        throw new IllegalArgumentException("Only XPath and CSS locators can be used in page scripts, got " + description);
+    }
+
+    public static final class ElementSnapshot {
+        private final String tagName;
+        private final String text;
+        private final boolean visible;
+        private final double x;
+        private final double y;
+        private final double width;
+        private final double height;
+        private final Map<String, String> attributes;
+
+        private ElementSnapshot(String tagName, String text, boolean visible, double x, double y,
+                                double width, double height, Map<String, String> attributes) {
+            this.tagName = tagName;
+            this.text = text;
+            this.visible = visible;
+            this.x = x;
+            this.y = y;
+            this.width = width;
+            this.height = height;
+            this.attributes = Collections.unmodifiableMap(attributes);
+        }
+
+        private static ElementSnapshot fromMap(Map<?, ?> map) {
+            Map<String, String> attributes = new LinkedHashMap<>();
+            Object raw = map.get("attributes");
+            if (raw instanceof Map) {
+                ((Map<?, ?>) raw).forEach((name, value) -> attributes.put(String.valueOf(name), String.valueOf(value)));
+            }
+            return new ElementSnapshot(
+                    String.valueOf(map.get("tag")),
+                    String.valueOf(map.get("text")),
+                    Boolean.TRUE.equals(map.get("visible")),
+                    number(map.get("x")), number(map.get("y")),
+                    number(map.get("width")), number(map.get("height")),
+                    attributes);
+        }
+
+        private static double number(Object value) {
+            return value instanceof Number ? ((Number) value).doubleValue() : 0;
+        }
+
+        public String getTagName() {
+            return tagName;
+        }
+
+        public String getText() {
+            return text;
+        }
+
+        public boolean isVisible() {
+            return visible;
+        }
+
+        public double getX() {
+            return x;
+        }
+
+        public double getY() {
+            return y;
+        }
+
+        public double getWidth() {
+            return width;
+        }
+
+        public double getHeight() {
+            return height;
+        }
+
+        /**
+         * Value of one of the key attributes (id, class, href, role, aria-label,
+         * title, alt, placeholder, data-testid), or null if it is not set.
+         */
+        public String getAttribute(String name) {
+            return attributes.get(name);
+        }
+
+        public Map<String, String> getAttributes() {
+            return attributes;
+        }
+
+        @Override
+        public String toString() {
+            return "<" + tagName + "> '" + text + "'" + (visible ? "" : " (hidden)");
+        }
+    }
+}
@@ -0,0 +1,178 @@
+package utils;
+
+import io.github.bonigarcia.wdm.WebDriverManager;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Comparator;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Locates the chromedriver (and optionally the Chrome binary) once per JVM and
+ * shares the result with every driver DriverFactory creates, including the
+ * Yopmail driver.
+ *
+ * Online (default) the binaries are resolved by WebDriverManager into a local
+ * cache directory. With -Ddriver.offline=true nothing is downloaded: the
+ * binaries are taken from that cache (or from explicit paths), so a cache
+ * populated once - or checked in / baked into the CI image - is enough.
+ *
+ * Properties:
+ * <ul>
+ *   <li>driver.cache.dir - cache directory (default .drivers)</li>
+ *   <li>chrome.driver.version - pinned chromedriver version</li>
+ *   <li>driver.offline - never contact the network</li>
+ *   <li>webdriver.chrome.driver / chrome.binary - explicit driver and browser paths</li>
+ * </ul>
+ */
+public final class DriverBinaryResolver {
+    static final String DRIVER_NAME = isWindows() ? "chromedriver.exe" : "chromedriver";
+    private static final String BROWSER_NAME = isWindows() ? "chrome.exe" : "chrome";
+
+    private static volatile Resolution resolution;
+
+    private DriverBinaryResolver() {
+    }
+
+    /**
+     * Returns the resolved binaries, resolving them on the first call only.
+     */
+    public static Resolution resolve() {
+        Resolution result = resolution;
+        if (result == null) {
+            synchronized (DriverBinaryResolver.class) {
+                result = resolution;
+                if (result == null) {
+                    long start = System.currentTimeMillis();
+                    result = doResolve();
+                    System.setProperty("webdriver.chrome.driver", result.getDriverPath().toString());
+                    System.out.println("✓ Chromedriver resolved from " + result.getSource() + " in "
+                            + (System.currentTimeMillis() - start) + " ms: " + result.getDriverPath());
+                    resolution = result;
+                }
+            }
+        }
+        return result;
+    }
+
+    private static Resolution doResolve() {
+        Path cacheDir = Paths.get(System.getProperty("driver.cache.dir", ".drivers")).toAbsolutePath();
+        String pinnedVersion = System.getProperty("chrome.driver.version");
+        Path browser = findBrowser(cacheDir);
+
+        String explicitDriver = System.getProperty("webdriver.chrome.driver");
+        if (explicitDriver != null && Files.isExecutable(Paths.get(explicitDriver))) {
+            return new Resolution(Paths.get(explicitDriver), browser, "webdriver.chrome.driver");
+        }
+
+        Optional<Path> cached = findCachedDriver(cacheDir, pinnedVersion);
+        if (Boolean.getBoolean("driver.offline")) {
+            return cached.map(path -> new Resolution(path, browser, "offline cache"))
+                    .orElseThrow(() -> new RuntimeException("driver.offline is set but no " + DRIVER_NAME
+                            + (pinnedVersion == null ? "" : " " + pinnedVersion) + " was found under " + cacheDir));
+        }
+        if (pinnedVersion != null && cached.isPresent()) {
+            // A pinned version already on disk needs no version lookup at all
+            return new Resolution(cached.get(), browser, "pinned cache");
+        }
+
+        try {
+            WebDriverManager manager = WebDriverManager.chromedriver().cachePath(cacheDir.toString());
+            if (pinnedVersion != null) {
+                manager.driverVersion(pinnedVersion);
+            }
+            manager.setup();
+            return new Resolution(Paths.get(manager.getDownloadedDriverPath()), browser, "WebDriverManager");
+        } catch (RuntimeException e) {
+            // No network: fall back to whatever is already cached
+            if (cached.isPresent()) {
+                System.err.println("Warning: WebDriverManager failed, using cached driver - " + e.getMessage());
+                return new Resolution(cached.get(), browser, "cache fallback");
+            }
+            throw new RuntimeException("Could not resolve chromedriver", e);
+        }
+    }
+
+    /**
+     * Newest chromedriver under the cache directory, of the pinned version if one is given.
+     */
+    static Optional<Path> findCachedDriver(Path cacheDir, String pinnedVersion) {
+        return findExecutables(cacheDir, DRIVER_NAME)
+                .filter(path -> pinnedVersion == null || path.toString().contains(pinnedVersion))
+                .max(Comparator.comparing(DriverBinaryResolver::versionKey));
+    }
+
+    private static Path findBrowser(Path cacheDir) {
+        String explicit = System.getProperty("chrome.binary");
+        if (explicit != null) {
+            return Paths.get(explicit);
+        }
+        return findExecutables(cacheDir, BROWSER_NAME)
+                .max(Comparator.comparing(DriverBinaryResolver::versionKey))
+                .orElse(null);
+    }
+
+    private static Stream<Path> findExecutables(Path dir, String fileName) {
+        if (!Files.isDirectory(dir)) {
+            return Stream.empty();
+        }
+        try (Stream<Path> files = Files.walk(dir, 6)) {
+            return files.filter(path -> path.getFileName().toString().equals(fileName))
+                    .filter(Files::isExecutable)
+                    .collect(Collectors.toList())
+                    .stream();
+        } catch (IOException e) {
+            System.err.println("Warning: Could not scan driver cache " + dir + " - " + e.getMessage());
+            return Stream.empty();
+        }
+    }
+
+    /**
+     * Sort key that orders paths like .../131.0.6778.85/... numerically.
+     */
+    private static String versionKey(Path path) {
+        StringBuilder key = new StringBuilder();
+        for (Path part : path) {
+            for (String number : part.toString().split("\\.")) {
+                key.append(number.matches("\\d+") ? String.format("%08d", Long.parseLong(number)) : number).append('.');
+            }
+            key.append('/');
+        }
+        return key.toString();
+    }
+
+    private static boolean isWindows() {
+        return System.getProperty("os.name", "").toLowerCase().contains("win");
+    }
+
+    public static final class Resolution {
+        private final Path driverPath;
+        private final Path browserPath;
+        private final String source;
+
+        private Resolution(Path driverPath, Path browserPath, String source) {
+            this.driverPath = driverPath;
+            this.browserPath = browserPath;
+            this.source = source;
+        }
+
+        public Path getDriverPath() {
+            return driverPath;
+        }
+
+        /**
+         * Chrome binary to launch, or null to use the system Chrome.
+         */
+        public Path getBrowserPath() {
+            return browserPath;
+        }
+
+        public String getSource() {
+            return source;
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package utils;
+
+import org.openqa.selenium.Dimension;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.chrome.ChromeDriver;
+import org.openqa.selenium.chrome.ChromeDriverService;
+import org.openqa.selenium.chrome.ChromeOptions;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Builds Chrome drivers for the configured {@link ExecutionProfile}. Used for
+ * both the pooled application drivers and the Yopmail driver so they share the
+ * same launch settings.
+ */
+public final class DriverFactory {
+    private static final int VIEWPORT_WIDTH = 1920;
+    private static final int VIEWPORT_HEIGHT = 1080;
+
+    // Fonts and media are blocked by URL; images are switched off through content settings
+    private static final List<String> BLOCKED_URL_PATTERNS = Arrays.asList(
+            "*.woff", "*.woff2", "*.ttf", "*.otf", "*.eot",
+            "*.mp4", "*.webm", "*.ogg", "*.mp3", "*.wav", "*.m4a");
+
+    private DriverFactory() {
+    }
+
+    public static WebDriver createChromeDriver() {
+        return createChromeDriver(ExecutionProfile.current());
+    }
+
+    public static WebDriver createChromeDriver(ExecutionProfile profile) {
+        DriverBinaryResolver.Resolution binaries = DriverBinaryResolver.resolve();
+        ChromeOptions options = buildOptions(profile);
+        if (binaries.getBrowserPath() != null) {
+            options.setBinary(binaries.getBrowserPath().toFile());
+        }
+        ChromeDriverService service = new ChromeDriverService.Builder()
+                .usingDriverExecutable(binaries.getDriverPath().toFile())
+                .build();
+
+        ChromeDriver driver = new ChromeDriver(service, options);
+        if (profile.isHeadless()) {
+            driver.manage().window().setSize(new Dimension(VIEWPORT_WIDTH, VIEWPORT_HEIGHT));
+        } else {
+            driver.manage().window().maximize();
+        }
+        if (profile.blocksHeavyResources()) {
+            blockHeavyResources(driver);
+        }
+        return driver;
+    }
+
+    public static ChromeOptions buildOptions(ExecutionProfile profile) {
+        // Configure Chrome options
+        ChromeOptions options = new ChromeOptions();
+        options.addArguments("--disable-notifications");
+        options.addArguments("--disable-popup-blocking");
+        options.addArguments("--disable-blink-features=AutomationControlled");
+        options.addArguments("--remote-allow-origins=*");
+        options.setExperimentalOption("excludeSwitches", new String[]{"enable-automation"});
+
+        if (profile.isHeadless()) {
+            options.addArguments("--headless=new");
+            options.addArguments("--window-size=" + VIEWPORT_WIDTH + "," + VIEWPORT_HEIGHT);
+            options.addArguments("--disable-gpu");
+            options.addArguments("--disable-dev-shm-usage");
+            options.addArguments("--disable-extensions");
+            options.addArguments("--no-first-run");
+            options.addArguments("--disable-background-networking");
+            options.addArguments("--disable-component-update");
+            options.addArguments("--disable-features=Translate,OptimizationHints,MediaRouter");
+            // Fewer renderer processes per browser: less memory and CPU on CI agents
+            options.addArguments("--renderer-process-limit=2");
+        } else {
+            options.addArguments("--start-maximized");
+        }
+
+        if (profile.blocksHeavyResources()) {
+            Map<String, Object> prefs = new HashMap<>();
+            prefs.put("profile.managed_default_content_settings.images", 2);
+            options.setExperimentalOption("prefs", prefs);
+            options.addArguments("--autoplay-policy=user-gesture-required");
+        }
+        return options;
+    }
+
+    private static void blockHeavyResources(ChromeDriver driver) {
+        try {
+            driver.executeCdpCommand("Network.enable", Map.of());
+            driver.executeCdpCommand("Network.setBlockedURLs", Map.of("urls", BLOCKED_URL_PATTERNS));
+        } catch (WebDriverException e) {
+            System.err.println("Warning: Could not block fonts and media - " + e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,188 @@
+package utils;
+
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.NoAlertPresentException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.chromium.HasCdp;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.BlockingDeque;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Keeps Chrome sessions running between tests. BaseTest borrows a driver in
+ * setUp and hands it back in tearDown, where it is reset (extra windows,
+ * cookies, storage) and parked for the next test instead of being quit.
+ */
+public class DriverPool {
+    private static final DriverPool INSTANCE = new DriverPool(Integer.getInteger("driver.pool.size", 4));
+
+    private final BlockingDeque<WebDriver> idleDrivers = new LinkedBlockingDeque<>();
+    private final Set<WebDriver> liveDrivers = ConcurrentHashMap.newKeySet();
+    private final int maxIdle;
+
+    private final AtomicInteger created = new AtomicInteger();
+    private final AtomicInteger reused = new AtomicInteger();
+    private final AtomicInteger replaced = new AtomicInteger();
+    private final AtomicInteger discarded = new AtomicInteger();
+
+    DriverPool(int maxIdle) {
+        this.maxIdle = Math.max(1, maxIdle);
+        Runtime.getRuntime().addShutdownHook(new Thread(this::shutdown, "driver-pool-shutdown"));
+    }
+
+    public static DriverPool getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Returns a healthy driver, reusing an idle session when one is available.
+     * Idle sessions that no longer respond are quit and replaced transparently.
+     */
+    public WebDriver acquire() {
+        WebDriver driver;
+        while ((driver = idleDrivers.pollFirst()) != null) {
+            if (isAlive(driver)) {
+                reused.incrementAndGet();
+                System.out.println("✓ Reusing pooled WebDriver session");
+                return driver;
+            }
+            System.err.println("Warning: Pooled WebDriver session is no longer responding, replacing it");
+            replaced.incrementAndGet();
+            destroy(driver);
+        }
+        return create();
+    }
+
+    /**
+     * Resets the driver and returns it to the pool. Sessions that fail to reset,
+     * or that exceed the idle limit, are quit instead.
+     */
+    public void release(WebDriver driver) {
+        if (driver == null) {
+            return;
+        }
+        if (!reset(driver)) {
+            System.err.println("Warning: Could not reset WebDriver session, discarding it");
+            discarded.incrementAndGet();
+            destroy(driver);
+            return;
+        }
+        if (idleDrivers.size() >= maxIdle) {
+            destroy(driver);
+            return;
+        }
+        idleDrivers.offerFirst(driver);
+        System.out.println("✓ WebDriver session returned to pool");
+    }
+
+    /**
+     * Quits every session the pool has created.
+     */
+    public void shutdown() {
+        idleDrivers.clear();
+        for (WebDriver driver : new ArrayList<>(liveDrivers)) {
+            destroy(driver);
+        }
+    }
+
+    public void printStats() {
+        int total = created.get() + reused.get();
+        double reuseRate = total == 0 ? 0 : (reused.get() * 100.0) / total;
+        System.out.println("\n=== WebDriver Pool Statistics ===");
+        System.out.println("Sessions created:   " + created.get());
+        System.out.println("Sessions reused:    " + reused.get());
+        System.out.println("Sessions replaced:  " + replaced.get() + " (unresponsive when borrowed)");
+        System.out.println("Sessions discarded: " + discarded.get() + " (failed to reset)");
+        System.out.println(String.format("Reuse rate:         %.1f%%", reuseRate));
+        System.out.println("=================================\n");
+    }
+
+    public int getCreatedCount() {
+        return created.get();
+    }
+
+    public int getReusedCount() {
+        return reused.get();
+    }
+
+    private WebDriver create() {
+        WebDriver driver = Timeline.run("Start Chrome", "driver", () -> {
+            // Tracked so page objects can keep element handles until the page changes, and their actions are timed
+            WebDriver tracked = DomEpoch.track(ActionTimer.track(DriverFactory.createChromeDriver()));
+            // Listening from the start, so requests fired by the first action are seen
+            NetworkIdle.of(tracked);
+            PagePerformance.install(tracked);
+            return tracked;
+        });
+        liveDrivers.add(driver);
+        created.incrementAndGet();
+        System.out.println("✓ New WebDriver session started (" + ExecutionProfile.current().name().toLowerCase() + ")");
+        return driver;
+    }
+
+    private boolean isAlive(WebDriver driver) {
+        try {
+            return !driver.getWindowHandles().isEmpty() && driver.getCurrentUrl() != null;
+        } catch (WebDriverException e) {
+            return false;
+        }
+    }
+
+    private boolean reset(WebDriver driver) {
+        try {
+            dismissAlert(driver);
+
+            // Close every window except the first one
+            List<String> handles = new ArrayList<>(driver.getWindowHandles());
+            if (handles.isEmpty()) {
+                return false;
+            }
+            String keep = handles.get(0);
+            for (String handle : handles.subList(1, handles.size())) {
+                driver.switchTo().window(handle);
+                driver.close();
+            }
+            driver.switchTo().window(keep);
+            driver.switchTo().defaultContent();
+
+            // Storage is per origin, so clear it while still on the app's origin
+            ((JavascriptExecutor) driver).executeScript(
+                    "try { window.localStorage.clear(); window.sessionStorage.clear(); } catch (e) {}");
+            driver.manage().deleteAllCookies();
+            if (driver instanceof HasCdp) {
+                ((HasCdp) driver).executeCdpCommand("Network.clearBrowserCookies", Map.of());
+            }
+
+            driver.get("about:blank");
+            return isAlive(driver);
+        } catch (WebDriverException e) {
+            System.err.println("Warning: WebDriver reset failed - " + e.getMessage());
+            return false;
+        }
+    }
+
+    private void dismissAlert(WebDriver driver) {
+        try {
+            driver.switchTo().alert().dismiss();
+        } catch (NoAlertPresentException e) {
+            // Nothing to dismiss
+        }
+    }
+
+    private void destroy(WebDriver driver) {
+        liveDrivers.remove(driver);
+        NetworkIdle.forget(driver);
+        try {
+            driver.quit();
+        } catch (WebDriverException e) {
+            System.err.println("Warning: Failed to quit WebDriver - " + e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,145 @@
+package utils;
+
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.WrapsElement;
+import org.openqa.selenium.interactions.Locatable;
+import org.openqa.selenium.support.PageFactory;
+import org.openqa.selenium.support.pagefactory.DefaultElementLocatorFactory;
+import org.openqa.selenium.support.pagefactory.DefaultFieldDecorator;
+import org.openqa.selenium.support.pagefactory.ElementLocator;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Replacement for PageFactory.initElements(driver, page) that keeps the
+ * resolved element behind each single-element @FindBy field, so repeated
+ * access within one page instance does not call findElement again.
+ *
+ * Handles are dropped when the driver's {@link DomEpoch} moves on (navigation,
+ * click, submit, window/frame switch). A cached handle that has gone stale
+ * because the DOM was replaced is re-found once, transparently.
+ *
+ * List fields are not cached, since their contents change without navigation.
+ * Caching is off with -Delement.cache=false, and for drivers that are not
+ * tracked by DomEpoch. Hit rates per page class: {@link #printStats()}.
+ */
+public final class ElementCache {
+    private static final boolean ENABLED = Boolean.parseBoolean(System.getProperty("element.cache", "true"));
+    private static final Map<String, Counters> STATS = new ConcurrentHashMap<>();
+
+    private ElementCache() {
+    }
+
+    public static void initElements(WebDriver driver, Object page) {
+        if (!ENABLED || !DomEpoch.isTracked(driver)) {
+            PageFactory.initElements(driver, page);
+            return;
+        }
+        Counters counters = STATS.computeIfAbsent(page.getClass().getSimpleName(), key -> new Counters());
+        PageFactory.initElements(new CachingFieldDecorator(driver, counters), page);
+    }
+
+    public static void printStats() {
+        System.out.println("\n=== Element Cache Statistics ===");
+        if (STATS.isEmpty()) {
+            System.out.println("No cached page elements used");
+            return;
+        }
+        for (Map.Entry<String, Counters> entry : new TreeMap<>(STATS).entrySet()) {
+            Counters c = entry.getValue();
+            int lookups = c.hits.get() + c.misses.get();
+            if (lookups == 0) {
+                continue;
+            }
+            System.out.println(String.format("%-28s %4d/%-4d hits (%3d%%), %d stale re-finds",
+                    entry.getKey(), c.hits.get(), lookups, 100 * c.hits.get() / lookups, c.staleRefinds.get()));
+        }
+    }
+
+    private static final class CachingFieldDecorator extends DefaultFieldDecorator {
+        private final WebDriver driver;
+        private final Counters counters;
+
+        private CachingFieldDecorator(WebDriver driver, Counters counters) {
+            super(new DefaultElementLocatorFactory(driver));
+            this.driver = driver;
+            this.counters = counters;
+        }
+
+        @Override
+        protected WebElement proxyForLocator(ClassLoader loader, ElementLocator locator) {
+            InvocationHandler handler = new CachingElementHandler(driver, locator, counters);
+            return (WebElement) Proxy.newProxyInstance(loader,
+                    new Class<?>[]{WebElement.class, WrapsElement.class, Locatable.class}, handler);
+        }
+    }
+
+    private static final class CachingElementHandler implements InvocationHandler {
+        private final WebDriver driver;
+        private final ElementLocator locator;
+        private final Counters counters;
+
+        private WebElement cached;
+        private long cachedEpoch = -1;
+
+        private CachingElementHandler(WebDriver driver, ElementLocator locator, Counters counters) {
+            this.driver = driver;
+            this.locator = locator;
+            this.counters = counters;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            if ("toString".equals(method.getName()) && method.getParameterCount() == 0) {
+                return "Proxy element for: " + locator;
+            }
+            boolean fromCache = cached != null && cachedEpoch == DomEpoch.current(driver);
+            WebElement element = fromCache ? cached : find();
+            if (fromCache) {
+                counters.hits.incrementAndGet();
+            }
+            if ("getWrappedElement".equals(method.getName())) {
+                return element;
+            }
+            try {
+                return method.invoke(element, args);
+            } catch (InvocationTargetException e) {
+                if (!(fromCache && e.getCause() instanceof StaleElementReferenceException)) {
+                    throw e.getCause();
+                }
+            }
+            // The cached node was replaced; look it up again once
+            counters.staleRefinds.incrementAndGet();
+            try {
+                return method.invoke(find(), args);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+        }
+
+        private WebElement find() {
+            cached = null;
+            long epoch = DomEpoch.current(driver);
+            WebElement element = locator.findElement();
+            counters.misses.incrementAndGet();
+            cached = element;
+            cachedEpoch = epoch;
+            return element;
+        }
+    }
+
+    private static final class Counters {
+        private final AtomicInteger hits = new AtomicInteger();
+        private final AtomicInteger misses = new AtomicInteger();
+        private final AtomicInteger staleRefinds = new AtomicInteger();
+    }
+}
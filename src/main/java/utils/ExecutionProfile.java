@@ -0,0 +1,49 @@
+package utils;
+
+/**
+ * Browser execution profile, selected with -Dexecution.profile=headed|headless|minimal.
+ * Applies to both the application driver and the Yopmail driver.
+ */
+public enum ExecutionProfile {
+    /** Visible, maximized Chrome window (default, for local debugging). */
+    HEADED(false, false),
+    /** New headless mode with a fixed viewport and fewer Chrome processes. */
+    HEADLESS(true, false),
+    /** Headless, and images, fonts and media are not downloaded. */
+    MINIMAL(true, true);
+
+    private final boolean headless;
+    private final boolean blockHeavyResources;
+
+    ExecutionProfile(boolean headless, boolean blockHeavyResources) {
+        this.headless = headless;
+        this.blockHeavyResources = blockHeavyResources;
+    }
+
+    public static ExecutionProfile current() {
+        return parse(System.getProperty("execution.profile", "headed"));
+    }
+
+    static ExecutionProfile parse(String name) {
+        String value = name.trim();
+        try {
+            return valueOf(value.toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Unknown execution.profile '" + value
+                    + "', expected headed, headless or minimal", e);
+        }
+    }
+
+    public boolean isHeadless() {
+        return headless;
+    }
+
+    /**
+     * Whether images, fonts and media are blocked. Can be forced on or off for any
+     * profile with -Dbrowser.block.resources=true|false.
+     */
+    public boolean blocksHeavyResources() {
+        String override = System.getProperty("browser.block.resources");
+        return override == null ? blockHeavyResources : Boolean.parseBoolean(override);
+    }
+}
@@ -0,0 +1,205 @@
+package utils;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.support.ui.WebDriverWait;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Fills a form from a list of field specs (name, locator, kind and value)
+ * instead of wait/clear/sleep/sendKeys per field.
+ *
+ * All fields are set by one executeScript call. Text values go through the
+ * native value setter followed by input and change events, which is what
+ * React-controlled inputs listen to; checkboxes are clicked when their state
+ * differs. A field that is missing, read-only, or does not keep the value
+ * (masked inputs, for example) is filled again with real key events after a
+ * clickable wait. Each field's fill time is logged.
+ *
+ * <pre>
+ * FormFiller.form(driver, "Add Plan")
+ *         .text("Plan Name", PLAN_NAME_INPUT, planName)
+ *         .text("Description", DESCRIPTION_TEXTAREA, description)
+ *         .fill();
+ * </pre>
+ */
+public final class FormFiller {
+    private static final Duration TIMEOUT = Duration.ofSeconds(20);
+
+    private static final String FILL_SCRIPT =
+            "var fields = arguments[0], out = [];" +
+            "for (var i = 0; i < fields.length; i++) {" +
+            "  var f = fields[i], start = performance.now(), el, status;" +
+            "  if (f.kind === 'xpath') {" +
+            "    el = document.evaluate(f.selector, document, null, XPathResult.FIRST_ORDERED_NODE_TYPE, null).singleNodeValue;" +
+            "  } else {" +
+            "    el = document.querySelector(f.selector);" +
+            "  }" +
+            "  if (!el) {" +
+            "    status = 'missing';" +
+            "  } else if (el.disabled || el.readOnly) {" +
+            "    status = 'rejected';" +
+            "  } else if (f.type === 'checkbox') {" +
+            "    var want = f.value === 'true';" +
+            "    if (el.checked !== want) { el.click(); }" +
+            "    status = el.checked === want ? 'set' : 'rejected';" +
+            "  } else {" +
+            "    var proto = el instanceof HTMLTextAreaElement ? HTMLTextAreaElement.prototype" +
+            "        : el instanceof HTMLInputElement ? HTMLInputElement.prototype : null;" +
+            "    if (!proto) {" +
+            "      status = 'rejected';" +
+            "    } else {" +
+            "      el.focus();" +
+            "      Object.getOwnPropertyDescriptor(proto, 'value').set.call(el, f.value);" +
+            "      el.dispatchEvent(new Event('input', {bubbles: true}));" +
+            "      el.dispatchEvent(new Event('change', {bubbles: true}));" +
+            "      el.blur();" +
+            "      status = el.value === f.value ? 'set' : 'rejected';" +
+            "    }" +
+            "  }" +
+            "  out.push([status, performance.now() - start]);" +
+            "}" +
+            "return out;";
+
+    private final WebDriver driver;
+    private final String name;
+    private final List<Field> fields = new ArrayList<>();
+
+    private FormFiller(WebDriver driver, String name) {
+        this.driver = driver;
+        this.name = name;
+    }
+
+    public static FormFiller form(WebDriver driver, String name) {
+        return new FormFiller(driver, name);
+    }
+
+    /**
+     * A text input or textarea. Null values are skipped.
+     */
+    public FormFiller text(String field, By locator, String value) {
+        return add(new Field(field, locator, Kind.TEXT, value, false));
+    }
+
+    /**
+     * A text field whose failure is logged as a warning instead of failing the fill.
+     */
+    public FormFiller optionalText(String field, By locator, String value) {
+        return add(new Field(field, locator, Kind.TEXT, value, true));
+    }
+
+    /**
+     * A checkbox that may be absent; it is clicked only when its state differs.
+     */
+    public FormFiller optionalCheckbox(String field, By locator, boolean checked) {
+        return add(new Field(field, locator, Kind.CHECKBOX, String.valueOf(checked), true));
+    }
+
+    /**
+     * Fills every field and returns the total time taken in ms.
+     */
+    public long fill() {
+        if (fields.isEmpty()) {
+            return 0;
+        }
+        long start = System.currentTimeMillis();
+        WebDriverWait wait = DomConditions.newWait(driver, TIMEOUT);
+        // The form has rendered once its first required field is there
+        Field first = fields.stream().filter(field -> !field.optional).findFirst().orElse(null);
+        if (first != null) {
+            try {
+                wait.until(DomConditions.presenceOfElementLocated(first.locator));
+            } catch (Exception e) {
+                throw new RuntimeException("Form '" + name + "' did not display", e);
+            }
+        }
+
+        List<Object> specs = new ArrayList<>();
+        for (Field field : fields) {
+            String[] script = DomSnapshot.scriptLocator(field.locator);
+            Map<String, Object> spec = new LinkedHashMap<>();
+            spec.put("kind", script[0]);
+            spec.put("selector", script[1]);
+            spec.put("type", field.kind == Kind.CHECKBOX ? "checkbox" : "text");
+            spec.put("value", field.value);
+            specs.add(spec);
+        }
+        List<?> results = (List<?>) ((JavascriptExecutor) driver).executeScript(FILL_SCRIPT, specs);
+
+        int keyed = 0;
+        for (int i = 0; i < fields.size(); i++) {
+            Field field = fields.get(i);
+            List<?> result = (List<?>) results.get(i);
+            String status = String.valueOf(result.get(0));
+            double scriptMs = ((Number) result.get(1)).doubleValue();
+            if ("set".equals(status)) {
+                System.out.println(String.format("✓ %s entered (%.1f ms)", field.name, scriptMs));
+                continue;
+            }
+            keyed++;
+            long keysStart = System.currentTimeMillis();
+            try {
+                fillWithKeys(wait, field);
+                System.out.println(String.format("✓ %s entered with key events, value was %s (%d ms)",
+                        field.name, status, System.currentTimeMillis() - keysStart));
+            } catch (Exception e) {
+                if (!field.optional) {
+                    System.err.println("Failed to enter " + field.name + ": " + e.getMessage());
+                    throw new RuntimeException("Failed to enter " + field.name, e);
+                }
+                System.out.println("⚠ " + field.name + " skipped: " + e.getMessage());
+            }
+        }
+
+        long total = System.currentTimeMillis() - start;
+        System.out.println("✓ " + name + " form filled in " + total + " ms (" + fields.size() + " fields, "
+                + keyed + " with key events)");
+        return total;
+    }
+
+    private FormFiller add(Field field) {
+        if (field.value != null && !(field.optional && field.value.isEmpty())) {
+            fields.add(field);
+        }
+        return this;
+    }
+
+    private void fillWithKeys(WebDriverWait wait, Field field) {
+        WebElement element = wait.until(DomConditions.elementToBeClickable(field.locator));
+        if (field.kind == Kind.CHECKBOX) {
+            if (element.isSelected() != Boolean.parseBoolean(field.value)) {
+                element.click();
+            }
+            return;
+        }
+        element.clear();
+        element.sendKeys(field.value);
+    }
+
+    private enum Kind {
+        TEXT, CHECKBOX
+    }
+
+    private static final class Field {
+        private final String name;
+        private final By locator;
+        private final Kind kind;
+        private final String value;
+        private final boolean optional;
+
+        private Field(String name, By locator, Kind kind, String value, boolean optional) {
+            this.name = name;
+            this.locator = locator;
+            this.kind = kind;
+            this.value = value;
+            this.optional = optional;
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package utils;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Reads the OTP from an HTTP inbox endpoint (e.g. a mail catcher's API) instead
+ * of a browser. The URL template may contain {email} and {mailbox} (the part
+ * before '@'); the first 6-digit number in the response body is the OTP.
+ */
+public class HttpInboxOtpProvider implements OtpProvider {
+    private static final Pattern OTP_PATTERN = Pattern.compile("\\b(\\d{6})\\b");
+
+    private final String urlTemplate;
+    private final HttpClient client = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+
+    public HttpInboxOtpProvider(String urlTemplate) {
+        this.urlTemplate = urlTemplate;
+    }
+
+    @Override
+    public String getOTPWithRetry(String email, int maxRetries, int waitBetweenRetries) {
+        return poll(email, maxRetries, waitBetweenRetries, null);
+    }
+
+    /**
+     * Notes the code the inbox serves before login and only accepts a
+     * different one, since the endpoint keeps returning the latest mail.
+     */
+    @Override
+    public CompletableFuture<String> fetchOtpAsync(String email, int maxRetries, int waitBetweenRetries) {
+        String stale = fetchOtp(email);
+        return CompletableFuture.supplyAsync(TestLog.wrap(() -> poll(email, maxRetries, waitBetweenRetries, stale)));
+    }
+
+    private String poll(String email, int maxRetries, int waitBetweenRetries, String stale) {
+        for (int i = 0; i < maxRetries; i++) {
+            String otp = fetchOtp(email);
+            if (otp != null && !otp.equals(stale)) {
+                System.out.println("✓ OTP successfully retrieved over HTTP: " + otp);
+                return otp;
+            }
+            if (i < maxRetries - 1) {
+                System.out.println("⏳ Waiting " + waitBetweenRetries + " seconds before retry...");
+                try {
+                    ActionTimer.sleep(waitBetweenRetries * 1000L);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return null;
+                }
+            }
+        }
+        System.err.println("❌ Failed to retrieve OTP after " + maxRetries + " attempts");
+        return null;
+    }
+
+    private String fetchOtp(String email) {
+        String url = urlTemplate
+                .replace("{email}", URLEncoder.encode(email, StandardCharsets.UTF_8))
+                .replace("{mailbox}", URLEncoder.encode(email.split("@")[0], StandardCharsets.UTF_8));
+        try {
+            HttpRequest request = HttpRequest.newBuilder(URI.create(url))
+                    .timeout(Duration.ofSeconds(10))
+                    .GET()
+                    .build();
+            HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+            if (response.statusCode() != 200) {
+                System.err.println("Warning: Inbox returned HTTP " + response.statusCode() + " for " + email);
+                return null;
+            }
+            Matcher matcher = OTP_PATTERN.matcher(response.body());
+            return matcher.find() ? matcher.group(1) : null;
+        } catch (IOException e) {
+            System.err.println("Warning: Could not reach inbox " + url + " - " + e.getMessage());
+            return null;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        }
+    }
+}
@@ -0,0 +1,575 @@
+package utils;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.openqa.selenium.json.Json;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.PrintWriter;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.net.URLDecoder;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.security.SecureRandom;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Embedded stand-in for the HealthAera frontend, serving hand-built pages from
+ * src/main/resources/app-stub that carry the markup our page objects locate:
+ * sign-in, OTP, welcomeHailey, assistAi, healthMenu, planner, plans, addAPlan,
+ * blogs, myLibrary and uploadDocument.
+ *
+ * Sign-in works like the real app: POST /api/login issues a code (mailed to
+ * {@link LocalMailServer} when otp.provider=local-smtp), POST /api/verify
+ * accepts it - or the static code app.stub.otp, default 000000 - and sets a
+ * session cookie. Protected pages redirect to sign-in without that cookie.
+ * Plans, tasks, conditions, folders and articles created during the run are
+ * kept in memory; the create calls answer {"id": ...} so {@link DataSeeder}
+ * can seed them. A plan page opens by id and a folder page by id or by name.
+ *
+ * Enabled with -Dapp.local=true (see {@link AppConfig}); the port comes from
+ * app.local.port (default 0, a free port).
+ */
+public class LocalAppServer implements AutoCloseable {
+    private static final String TEMPLATES = "/app-stub/";
+    private static final String SESSION_COOKIE = "ha_session";
+    private static final String SIGN_IN_PATH = "/onboarding?path=signin";
+    private static final SecureRandom RANDOM = new SecureRandom();
+
+    private static final Map<String, String> PAGES = new HashMap<>();
+
+    static {
+        PAGES.put("/welcomeHailey", "welcome.html");
+        PAGES.put("/assistAi", "assist-ai.html");
+        PAGES.put("/healthMenu", "health-menu.html");
+        PAGES.put("/uploadDocument", "upload-document.html");
+        PAGES.put("/reviewDocument", "review-document.html");
+        PAGES.put("/addAPlan", "add-plan.html");
+    }
+
+    private static volatile LocalAppServer shared;
+
+    private final HttpServer server;
+    private final Json json = new Json();
+    private final Set<String> sessions = ConcurrentHashMap.newKeySet();
+    private final Map<String, String> pendingOtps = new ConcurrentHashMap<>();
+    private final List<Map<String, String>> blogs = new ArrayList<>();
+    private final List<Map<String, String>> plans = new CopyOnWriteArrayList<>();
+    private final List<Map<String, String>> tasks = new CopyOnWriteArrayList<>();
+    private final List<Map<String, String>> conditions = new CopyOnWriteArrayList<>();
+    private final Map<String, List<Map<String, String>>> folders = Collections.synchronizedMap(new LinkedHashMap<>());
+    // folder id -> name
+    private final Map<String, String> folderIds = new ConcurrentHashMap<>();
+    private final AtomicInteger nextId = new AtomicInteger();
+
+    private LocalAppServer(HttpServer server) {
+        this.server = server;
+        addBlog("Understanding Blood Pressure",
+                "Blood pressure is the force of blood pushing against the walls of your arteries.");
+        addBlog("Healthy Sleep Habits",
+                "Adults need seven or more hours of sleep per night for the best health and wellbeing.");
+        addBlog("Staying Active Every Day",
+                "Regular physical activity is one of the most important things you can do for your health.");
+        addBlog("Eating for Heart Health",
+                "A heart-healthy diet includes vegetables, fruits, whole grains and lean proteins.");
+    }
+
+    /**
+     * Starts the stand-in on the given port (0 picks a free one).
+     */
+    public static LocalAppServer start(int port) {
+        try {
+            HttpServer httpServer = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 0);
+            // Several parallel browsers load pages at once
+            httpServer.setExecutor(Executors.newCachedThreadPool(runnable -> {
+                Thread thread = new Thread(runnable, "local-app-server");
+                thread.setDaemon(true);
+                return thread;
+            }));
+            LocalAppServer app = new LocalAppServer(httpServer);
+            httpServer.createContext("/", app::handle);
+            httpServer.start();
+            System.out.println("✓ Local HealthAera stand-in listening on " + app.getBaseUrl());
+            return app;
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to start local HealthAera server", e);
+        }
+    }
+
+    /**
+     * JVM-wide instance shared by all tests, started on first use.
+     */
+    public static LocalAppServer shared() {
+        if (shared == null) {
+            synchronized (LocalAppServer.class) {
+                if (shared == null) {
+                    shared = start(Integer.getInteger("app.local.port", 0));
+                    Runtime.getRuntime().addShutdownHook(new Thread(shared::close, "local-app-shutdown"));
+                }
+            }
+        }
+        return shared;
+    }
+
+    public String getBaseUrl() {
+        return "http://127.0.0.1:" + server.getAddress().getPort();
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        String method = exchange.getRequestMethod();
+        String path = exchange.getRequestURI().getPath();
+        Map<String, String> query = parseQuery(exchange.getRequestURI().getRawQuery());
+        try {
+            if (path.startsWith("/static/")) {
+                serveStatic(exchange, path.substring("/static/".length()));
+            } else if (path.startsWith("/api/")) {
+                if (!"POST".equals(method)) {
+                    respond(exchange, 405, "text/plain", "method not allowed");
+                    return;
+                }
+                handleApi(exchange, path, readJson(exchange));
+            } else if (path.equals("/") || path.equals("/onboarding")) {
+                handleOnboarding(exchange, query);
+            } else if (!isSignedIn(exchange)) {
+                redirect(exchange, SIGN_IN_PATH);
+            } else {
+                handlePage(exchange, path);
+            }
+        } catch (RuntimeException e) {
+            System.err.println("❌ Local app server error on " + method + " " + path + ": " + e.getMessage());
+            respond(exchange, 500, "text/plain", String.valueOf(e.getMessage()));
+        }
+    }
+
+    private void handleOnboarding(HttpExchange exchange, Map<String, String> query) throws IOException {
+        String step = query.getOrDefault("path", "signin");
+        if (step.equals("verifyOtp")) {
+            String email = query.getOrDefault("email", "");
+            respond(exchange, 200, "text/html", template("otp.html").replace("{{email}}", escape(email)));
+        } else {
+            respond(exchange, 200, "text/html", template("signin.html"));
+        }
+    }
+
+    private void handlePage(HttpExchange exchange, String path) throws IOException {
+        String page = PAGES.get(path);
+        if (page != null) {
+            respond(exchange, 200, "text/html", template(page).replace("{{calendar}}", calendar()));
+        } else if (path.equals("/planner")) {
+            respond(exchange, 200, "text/html", template("planner.html")
+                    .replace("{{tasks}}", plans.isEmpty() ? "<p>No tasks for today</p>" : planCards())
+                    .replace("{{plans}}", planCards()));
+        } else if (path.equals("/plans") || path.equals("/planner/plans")) {
+            respond(exchange, 200, "text/html", template("plans.html").replace("{{plans}}", planCards()));
+        } else if (path.startsWith("/plans/")) {
+            Map<String, String> plan = findPlan(path.substring("/plans/".length()));
+            if (plan == null) {
+                respond(exchange, 404, "text/plain", "no such plan");
+                return;
+            }
+            respond(exchange, 200, "text/html", template("plan-detail.html")
+                    .replace("{{name}}", escape(plan.get("name")))
+                    .replace("{{category}}", escape(plan.get("category")))
+                    .replace("{{priority}}", escape(plan.get("priority")))
+                    .replace("{{tasks}}", taskCards(plan.get("id"))));
+        } else if (path.equals("/blogs")) {
+            respond(exchange, 200, "text/html", template("blogs.html").replace("{{blogs}}", blogCards(null)));
+        } else if (path.startsWith("/blogs/")) {
+            Map<String, String> blog = findBlog(path.substring("/blogs/".length()));
+            if (blog == null) {
+                respond(exchange, 404, "text/plain", "no such blog");
+                return;
+            }
+            respond(exchange, 200, "text/html", template("blog-detail.html")
+                    .replace("{{title}}", escape(blog.get("title")))
+                    .replace("{{body}}", escape(blog.get("body")))
+                    .replace("{{related}}", blogCards(blog.get("id"))));
+        } else if (path.equals("/myLibrary")) {
+            respond(exchange, 200, "text/html", template("my-library.html").replace("{{folders}}", folderCards()));
+        } else if (path.startsWith("/myLibrary/")) {
+            String key = URLDecoder.decode(path.substring("/myLibrary/".length()), StandardCharsets.UTF_8);
+            String folder = folderIds.getOrDefault(key, key);
+            List<Map<String, String>> articles = folders.get(folder);
+            if (articles == null) {
+                respond(exchange, 404, "text/plain", "no such folder");
+                return;
+            }
+            respond(exchange, 200, "text/html", template("folder.html")
+                    .replace("{{folder}}", escape(folder))
+                    .replace("{{articles}}", articleCards(articles)));
+        } else {
+            respond(exchange, 404, "text/plain", "not found");
+        }
+    }
+
+    private void handleApi(HttpExchange exchange, String path, Map<String, Object> body) throws IOException {
+        switch (path) {
+            case "/api/login": {
+                String email = string(body, "email");
+                if (email.isEmpty() || string(body, "password").isEmpty()) {
+                    respond(exchange, 401, "text/plain", "invalid credentials");
+                    return;
+                }
+                String otp = String.format("%06d", RANDOM.nextInt(1_000_000));
+                pendingOtps.put(email.toLowerCase(), otp);
+                sendOtpMail(email, otp);
+                respond(exchange, 200, "text/plain", "otp sent");
+                return;
+            }
+            case "/api/verify": {
+                String email = string(body, "email").toLowerCase();
+                String otp = string(body, "otp");
+                boolean valid = otp.equals(System.getProperty("app.stub.otp", "000000"))
+                        || otp.equals(pendingOtps.get(email));
+                if (!valid) {
+                    respond(exchange, 401, "text/plain", "invalid code");
+                    return;
+                }
+                pendingOtps.remove(email);
+                String token = UUID.randomUUID().toString();
+                sessions.add(token);
+                exchange.getResponseHeaders().add("Set-Cookie", SESSION_COOKIE + "=" + token + "; Path=/");
+                respond(exchange, 200, "text/plain", token);
+                return;
+            }
+            case "/api/logout": {
+                String token = sessionToken(exchange);
+                if (token != null) {
+                    sessions.remove(token);
+                }
+                exchange.getResponseHeaders().add("Set-Cookie", SESSION_COOKIE + "=; Path=/; Max-Age=0");
+                respond(exchange, 200, "text/plain", "signed out");
+                return;
+            }
+            default:
+                break;
+        }
+
+        if (!isSignedIn(exchange)) {
+            respond(exchange, 401, "text/plain", "not signed in");
+            return;
+        }
+        switch (path) {
+            case "/api/plans":
+                plans.add(record(body, "type", "name", "category", "description", "assignee", "from", "to", "priority"));
+                respondId(exchange, plans.get(plans.size() - 1));
+                break;
+            case "/api/plans/tasks": {
+                String planId = string(body, "planId");
+                if (plans.stream().noneMatch(plan -> plan.get("id").equals(planId))) {
+                    respond(exchange, 404, "text/plain", "no such plan");
+                    return;
+                }
+                Map<String, String> task = record(body, "planId", "name", "description");
+                tasks.add(task);
+                respondId(exchange, task);
+                break;
+            }
+            case "/api/conditions": {
+                Map<String, String> condition = record(body, "name");
+                conditions.add(condition);
+                respondId(exchange, condition);
+                break;
+            }
+            case "/api/folders": {
+                String name = string(body, "name");
+                synchronized (folders) {
+                    if (folders.putIfAbsent(name, new CopyOnWriteArrayList<>()) == null) {
+                        folderIds.put(String.valueOf(nextId.incrementAndGet()), name);
+                    }
+                }
+                respond(exchange, 200, "application/json", json.toJson(Map.of("id", folderId(name))));
+                break;
+            }
+            case "/api/folders/articles": {
+                String folder = body.containsKey("folderId")
+                        ? folderIds.get(string(body, "folderId"))
+                        : string(body, "folder");
+                List<Map<String, String>> articles = folder == null ? null : folders.get(folder);
+                if (articles == null) {
+                    respond(exchange, 404, "text/plain", "no such folder");
+                    return;
+                }
+                Map<String, String> article = record(body, "title", "description");
+                articles.add(article);
+                respondId(exchange, article);
+                break;
+            }
+            default:
+                respond(exchange, 404, "text/plain", "not found");
+        }
+    }
+
+    private Map<String, String> record(Map<String, Object> body, String... fields) {
+        Map<String, String> record = new LinkedHashMap<>();
+        record.put("id", String.valueOf(nextId.incrementAndGet()));
+        for (String field : fields) {
+            record.put(field, string(body, field));
+        }
+        return record;
+    }
+
+    private String folderId(String name) {
+        for (Map.Entry<String, String> entry : folderIds.entrySet()) {
+            if (entry.getValue().equals(name)) {
+                return entry.getKey();
+            }
+        }
+        return null;
+    }
+
+    private void respondId(HttpExchange exchange, Map<String, String> record) throws IOException {
+        respond(exchange, 200, "application/json", json.toJson(Map.of("id", record.get("id"))));
+    }
+
+    /**
+     * Mails the code to the in-process {@link LocalMailServer} when that is the
+     * OTP provider, or to an SMTP server on mail.smtp.port when one is set.
+     * Otherwise only the static code can be used.
+     */
+    private void sendOtpMail(String email, String otp) {
+        int port;
+        if ("local-smtp".equalsIgnoreCase(System.getProperty("otp.provider", "local-smtp"))) {
+            port = LocalMailServer.shared().getSmtpPort();
+        } else if (System.getProperty("mail.smtp.port") != null) {
+            port = Integer.getInteger("mail.smtp.port");
+        } else {
+            return;
+        }
+        try (Socket socket = new Socket(InetAddress.getLoopbackAddress(), port);
+             BufferedReader in = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+             PrintWriter out = new PrintWriter(socket.getOutputStream(), true, StandardCharsets.UTF_8)) {
+            smtp(in, out, null);
+            smtp(in, out, "HELO localhost");
+            smtp(in, out, "MAIL FROM:<no-reply@healthaera.local>");
+            smtp(in, out, "RCPT TO:<" + email + ">");
+            smtp(in, out, "DATA");
+            smtp(in, out, "Subject: Your HealthAera verification code\r\n\r\n"
+                    + "Your verification code is " + otp + "\r\n.");
+            smtp(in, out, "QUIT");
+        } catch (IOException e) {
+            System.err.println("Warning: Could not mail OTP to " + email + " - " + e.getMessage());
+        }
+    }
+
+    private static void smtp(BufferedReader in, PrintWriter out, String command) throws IOException {
+        if (command != null) {
+            out.print(command + "\r\n");
+            out.flush();
+        }
+        String reply = in.readLine();
+        if (reply == null || reply.startsWith("4") || reply.startsWith("5")) {
+            throw new IOException("SMTP server replied " + reply + " to " + command);
+        }
+    }
+
+    private boolean isSignedIn(HttpExchange exchange) {
+        String token = sessionToken(exchange);
+        return token != null && sessions.contains(token);
+    }
+
+    private static String sessionToken(HttpExchange exchange) {
+        for (String header : exchange.getRequestHeaders().getOrDefault("Cookie", List.of())) {
+            for (String cookie : header.split(";")) {
+                String[] pair = cookie.trim().split("=", 2);
+                if (pair.length == 2 && pair[0].equals(SESSION_COOKIE)) {
+                    return pair[1];
+                }
+            }
+        }
+        return null;
+    }
+
+    private void addBlog(String title, String body) {
+        Map<String, String> blog = new LinkedHashMap<>();
+        blog.put("id", String.valueOf(blogs.size() + 1));
+        blog.put("title", title);
+        blog.put("body", body);
+        blogs.add(blog);
+    }
+
+    private Map<String, String> findPlan(String id) {
+        for (Map<String, String> plan : plans) {
+            if (plan.get("id").equals(id)) {
+                return plan;
+            }
+        }
+        return null;
+    }
+
+    private String taskCards(String planId) {
+        StringBuilder html = new StringBuilder();
+        for (Map<String, String> task : tasks) {
+            if (task.get("planId").equals(planId)) {
+                html.append("<div class=\"task-card\"><h3>").append(escape(task.get("name"))).append("</h3>")
+                        .append("<p>").append(escape(task.get("description"))).append("</p></div>\n");
+            }
+        }
+        return html.length() == 0 ? "<p>No tasks yet</p>" : html.toString();
+    }
+
+    private Map<String, String> findBlog(String id) {
+        for (Map<String, String> blog : blogs) {
+            if (blog.get("id").equals(id)) {
+                return blog;
+            }
+        }
+        return null;
+    }
+
+    private String blogCards(String excludeId) {
+        StringBuilder html = new StringBuilder();
+        for (Map<String, String> blog : blogs) {
+            if (blog.get("id").equals(excludeId)) {
+                continue;
+            }
+            String href = "/blogs/" + blog.get("id");
+            html.append("<div class=\"blog-card\" onclick=\"go('").append(href).append("')\">")
+                    .append("<h3><a href=\"").append(href).append("\">").append(escape(blog.get("title"))).append("</a></h3>")
+                    .append("<p>").append(escape(blog.get("body"))).append("</p></div>\n");
+        }
+        return html.toString();
+    }
+
+    private String planCards() {
+        if (plans.isEmpty()) {
+            return "<p>No active plans</p>";
+        }
+        StringBuilder html = new StringBuilder();
+        for (Map<String, String> plan : plans) {
+            html.append("<div class=\"plan-card\" onclick=\"go('/plans/").append(escape(plan.get("id"))).append("')\"><h3>")
+                    .append(escape(plan.get("name"))).append("</h3>")
+                    .append("<p>").append(escape(plan.get("category"))).append(" - ")
+                    .append(escape(plan.get("priority"))).append("</p></div>\n");
+        }
+        return html.toString();
+    }
+
+    private String folderCards() {
+        List<String> names;
+        synchronized (folders) {
+            names = new ArrayList<>(folders.keySet());
+        }
+        if (names.isEmpty()) {
+            return "<p>No folders yet. Create your first folder.</p>";
+        }
+        StringBuilder html = new StringBuilder();
+        for (String name : names) {
+            String href = "/myLibrary/" + URLEncoder.encode(name, StandardCharsets.UTF_8).replace("+", "%20");
+            html.append("<div class=\"folder\" onclick=\"go('").append(href).append("')\">")
+                    .append("<h3 class=\"folder-name\">").append(escape(name)).append("</h3></div>\n");
+        }
+        return html.toString();
+    }
+
+    private static String articleCards(List<Map<String, String>> articles) {
+        StringBuilder html = new StringBuilder();
+        for (Map<String, String> article : articles) {
+            html.append("<div class=\"article\"><h3 class=\"article-title\">").append(escape(article.get("title")))
+                    .append("</h3><p>").append(escape(article.get("description"))).append("</p></div>\n");
+        }
+        return html.toString();
+    }
+
+    private static String calendar() {
+        StringBuilder html = new StringBuilder("<table><tr>");
+        for (int day = 1; day <= 28; day++) {
+            html.append("<td role=\"gridcell\"><span>").append(day).append("</span></td>");
+            if (day % 7 == 0) {
+                html.append("</tr><tr>");
+            }
+        }
+        return html.append("</tr></table>").toString();
+    }
+
+    private void serveStatic(HttpExchange exchange, String name) throws IOException {
+        if (name.equals("app.js")) {
+            respond(exchange, 200, "application/javascript", template(name));
+        } else if (name.equals("app.css")) {
+            respond(exchange, 200, "text/css", template(name));
+        } else {
+            respond(exchange, 404, "text/plain", "not found");
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<String, Object> readJson(HttpExchange exchange) throws IOException {
+        String body = new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8);
+        if (body.isBlank()) {
+            return new HashMap<>();
+        }
+        return json.toType(body, Map.class);
+    }
+
+    private static String string(Map<String, Object> body, String key) {
+        Object value = body.get(key);
+        return value == null ? "" : value.toString().trim();
+    }
+
+    private static String template(String name) {
+        try (InputStream in = LocalAppServer.class.getResourceAsStream(TEMPLATES + name)) {
+            if (in == null) {
+                throw new IllegalStateException("Missing template " + TEMPLATES + name);
+            }
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new IllegalStateException("Could not read template " + name, e);
+        }
+    }
+
+    private static String escape(String text) {
+        return text.replace("&", "&amp;").replace("<", "&lt;").replace(">", "&gt;")
+                .replace("\"", "&quot;").replace("'", "&#39;");
+    }
+
+    private static Map<String, String> parseQuery(String rawQuery) {
+        Map<String, String> params = new HashMap<>();
+        if (rawQuery == null || rawQuery.isEmpty()) {
+            return params;
+        }
+        for (String pair : rawQuery.split("&")) {
+            int eq = pair.indexOf('=');
+            String key = eq < 0 ? pair : pair.substring(0, eq);
+            String value = eq < 0 ? "" : pair.substring(eq + 1);
+            params.put(URLDecoder.decode(key, StandardCharsets.UTF_8), URLDecoder.decode(value, StandardCharsets.UTF_8));
+        }
+        return params;
+    }
+
+    private static void redirect(HttpExchange exchange, String location) throws IOException {
+        exchange.getResponseHeaders().set("Location", location);
+        exchange.sendResponseHeaders(302, -1);
+        exchange.close();
+    }
+
+    private static void respond(HttpExchange exchange, int status, String contentType, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", contentType + "; charset=utf-8");
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+}
@@ -0,0 +1,380 @@
+package utils;
+
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.PrintWriter;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Embedded SMTP server with in-memory mailboxes, used instead of Yopmail when
+ * the backend (QA configured with this host as its SMTP relay, or a local fake
+ * backend) sends OTP mail here. Any number of mailboxes can be used at the
+ * same time, so parallel tests can each have their own account.
+ *
+ * OTPs are read through the same getOTPWithRetry call as YopmailService, but
+ * return as soon as the mail arrives. Mailboxes are also readable over HTTP
+ * (GET /api/otp?email=...) for {@link HttpInboxOtpProvider}.
+ *
+ * Select it with -Dotp.provider=local-smtp; ports come from mail.smtp.port
+ * (default 2525) and mail.http.port (default 8025).
+ */
+public class LocalMailServer implements OtpProvider {
+    private static final Pattern OTP_PATTERN = Pattern.compile("\\b(\\d{6})\\b");
+    private static final Pattern ADDRESS_PATTERN = Pattern.compile("<([^>]*)>");
+
+    private static volatile LocalMailServer shared;
+
+    private final ServerSocket smtpSocket;
+    private final HttpServer httpServer;
+    private final ExecutorService connections = Executors.newCachedThreadPool(runnable -> {
+        Thread thread = new Thread(runnable, "local-smtp");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final Map<String, Deque<MailMessage>> mailboxes = new ConcurrentHashMap<>();
+
+    private LocalMailServer(int smtpPort, int httpPort) throws IOException {
+        this.smtpSocket = new ServerSocket(smtpPort, 50, InetAddress.getLoopbackAddress());
+        this.httpServer = httpPort < 0 ? null
+                : HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), httpPort), 0);
+        connections.submit(this::acceptLoop);
+        if (httpServer != null) {
+            httpServer.createContext("/api/otp", exchange -> {
+                String email = queryParam(exchange.getRequestURI().getRawQuery(), "email");
+                MailMessage latest = email == null ? null : latest(email);
+                byte[] body = (latest == null ? "" : latest.body).getBytes(StandardCharsets.UTF_8);
+                exchange.sendResponseHeaders(latest == null ? 404 : 200, body.length == 0 ? -1 : body.length);
+                try (OutputStream out = exchange.getResponseBody()) {
+                    out.write(body);
+                }
+            });
+            httpServer.start();
+        }
+    }
+
+    /**
+     * Starts a server on the given ports (0 picks free ports, a negative HTTP
+     * port disables the HTTP API).
+     */
+    public static LocalMailServer start(int smtpPort, int httpPort) {
+        try {
+            LocalMailServer server = new LocalMailServer(smtpPort, httpPort);
+            System.out.println("✓ Local mail server listening on SMTP port " + server.getSmtpPort()
+                    + (server.httpServer == null ? "" : ", HTTP port " + server.getHttpPort()));
+            return server;
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to start local mail server", e);
+        }
+    }
+
+    /**
+     * JVM-wide instance shared by all tests, started on first use.
+     */
+    public static LocalMailServer shared() {
+        if (shared == null) {
+            synchronized (LocalMailServer.class) {
+                if (shared == null) {
+                    shared = start(Integer.getInteger("mail.smtp.port", 2525), Integer.getInteger("mail.http.port", 8025));
+                    Runtime.getRuntime().addShutdownHook(new Thread(shared::stop, "local-mail-shutdown"));
+                }
+            }
+        }
+        return shared;
+    }
+
+    public int getSmtpPort() {
+        return smtpSocket.getLocalPort();
+    }
+
+    public int getHttpPort() {
+        return httpServer == null ? -1 : httpServer.getAddress().getPort();
+    }
+
+    /**
+     * Waits for mail to the address and returns its OTP. Returns as soon as a
+     * message is in the mailbox; gives up after maxRetries * waitBetweenRetries
+     * seconds. The mailbox is emptied, so the next login waits for a new code.
+     */
+    @Override
+    public String getOTPWithRetry(String email, int maxRetries, int waitBetweenRetries) {
+        long timeoutMs = Math.max(1, maxRetries) * Math.max(1, waitBetweenRetries) * 1000L;
+        MailMessage message = await(email, timeoutMs, true);
+        if (message == null) {
+            System.err.println("❌ No mail for " + email + " within " + timeoutMs + " ms");
+            return null;
+        }
+        Matcher matcher = OTP_PATTERN.matcher(message.body);
+        if (!matcher.find()) {
+            System.err.println("❌ Could not extract OTP from mail to " + email);
+            return null;
+        }
+        System.out.println("✓ OTP successfully retrieved from local mailbox: " + matcher.group(1));
+        return matcher.group(1);
+    }
+
+    /**
+     * Newest message for the address, waiting up to timeoutMs for one to arrive.
+     */
+    public MailMessage awaitMessage(String email, long timeoutMs) {
+        return await(email, timeoutMs, false);
+    }
+
+    private MailMessage await(String email, long timeoutMs, boolean consume) {
+        Deque<MailMessage> mailbox = mailbox(email);
+        long deadline = System.currentTimeMillis() + timeoutMs;
+        synchronized (mailbox) {
+            while (mailbox.isEmpty()) {
+                long remaining = deadline - System.currentTimeMillis();
+                if (remaining <= 0) {
+                    return null;
+                }
+                try {
+                    mailbox.wait(remaining);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return null;
+                }
+            }
+            MailMessage newest = mailbox.peekFirst();
+            if (consume) {
+                // Older codes are superseded by the newest one
+                mailbox.clear();
+            }
+            return newest;
+        }
+    }
+
+    public MailMessage latest(String email) {
+        Deque<MailMessage> mailbox = mailbox(email);
+        synchronized (mailbox) {
+            return mailbox.peekFirst();
+        }
+    }
+
+    public List<MailMessage> getMessages(String email) {
+        Deque<MailMessage> mailbox = mailbox(email);
+        synchronized (mailbox) {
+            return new ArrayList<>(mailbox);
+        }
+    }
+
+    /**
+     * Empties a mailbox, e.g. before triggering a new OTP so an older code is not picked up.
+     */
+    public void clear(String email) {
+        Deque<MailMessage> mailbox = mailbox(email);
+        synchronized (mailbox) {
+            mailbox.clear();
+        }
+    }
+
+    /**
+     * Mailboxes are kept for the lifetime of the server; only the session's
+     * provider handle is released.
+     */
+    @Override
+    public void close() {
+    }
+
+    public void stop() {
+        try {
+            smtpSocket.close();
+        } catch (IOException e) {
+            System.err.println("Warning: Could not close SMTP socket - " + e.getMessage());
+        }
+        if (httpServer != null) {
+            httpServer.stop(0);
+        }
+        connections.shutdownNow();
+    }
+
+    private Deque<MailMessage> mailbox(String email) {
+        return mailboxes.computeIfAbsent(email.trim().toLowerCase(), key -> new ArrayDeque<>());
+    }
+
+    private void deliver(MailMessage message) {
+        for (String recipient : message.recipients) {
+            Deque<MailMessage> mailbox = mailbox(recipient);
+            synchronized (mailbox) {
+                mailbox.addFirst(message);
+                mailbox.notifyAll();
+            }
+        }
+    }
+
+    private void acceptLoop() {
+        while (!smtpSocket.isClosed()) {
+            try {
+                Socket socket = smtpSocket.accept();
+                connections.submit(() -> handle(socket));
+            } catch (IOException e) {
+                if (!smtpSocket.isClosed()) {
+                    System.err.println("Warning: SMTP accept failed - " + e.getMessage());
+                }
+            }
+        }
+    }
+
+    /**
+     * Minimal SMTP dialogue: HELO/EHLO, MAIL, RCPT, DATA, RSET, NOOP, QUIT.
+     */
+    private void handle(Socket socket) {
+        try (Socket s = socket;
+             BufferedReader in = new BufferedReader(new InputStreamReader(s.getInputStream(), StandardCharsets.UTF_8));
+             PrintWriter out = new PrintWriter(s.getOutputStream(), true, StandardCharsets.UTF_8)) {
+            reply(out, "220 localhost ESMTP test mail server");
+            String from = null;
+            List<String> recipients = new ArrayList<>();
+            String line;
+            while ((line = in.readLine()) != null) {
+                String command = line.length() >= 4 ? line.substring(0, 4).toUpperCase() : line.toUpperCase();
+                switch (command) {
+                    case "HELO":
+                    case "EHLO":
+                        reply(out, "250 localhost");
+                        break;
+                    case "MAIL":
+                        from = address(line);
+                        recipients.clear();
+                        reply(out, "250 OK");
+                        break;
+                    case "RCPT":
+                        recipients.add(address(line));
+                        reply(out, "250 OK");
+                        break;
+                    case "DATA":
+                        if (recipients.isEmpty()) {
+                            reply(out, "503 RCPT first");
+                            break;
+                        }
+                        reply(out, "354 End data with <CR><LF>.<CR><LF>");
+                        deliver(MailMessage.parse(from, recipients, readData(in)));
+                        recipients = new ArrayList<>();
+                        reply(out, "250 OK queued");
+                        break;
+                    case "RSET":
+                        from = null;
+                        recipients.clear();
+                        reply(out, "250 OK");
+                        break;
+                    case "NOOP":
+                        reply(out, "250 OK");
+                        break;
+                    case "QUIT":
+                        reply(out, "221 Bye");
+                        return;
+                    default:
+                        reply(out, "502 Command not implemented");
+                }
+            }
+        } catch (IOException e) {
+            System.err.println("Warning: SMTP session failed - " + e.getMessage());
+        }
+    }
+
+    private static String readData(BufferedReader in) throws IOException {
+        StringBuilder data = new StringBuilder();
+        String line;
+        while ((line = in.readLine()) != null && !line.equals(".")) {
+            // Undo dot-stuffing
+            data.append(line.startsWith("..") ? line.substring(1) : line).append('\n');
+        }
+        return data.toString();
+    }
+
+    private static void reply(PrintWriter out, String response) {
+        out.print(response + "\r\n");
+        out.flush();
+    }
+
+    private static String address(String line) {
+        Matcher matcher = ADDRESS_PATTERN.matcher(line);
+        if (matcher.find()) {
+            return matcher.group(1).trim().toLowerCase();
+        }
+        int colon = line.indexOf(':');
+        return line.substring(colon + 1).trim().toLowerCase();
+    }
+
+    private static String queryParam(String rawQuery, String name) {
+        if (rawQuery == null) {
+            return null;
+        }
+        for (String pair : rawQuery.split("&")) {
+            int eq = pair.indexOf('=');
+            if (eq > 0 && pair.substring(0, eq).equals(name)) {
+                return URLDecoder.decode(pair.substring(eq + 1), StandardCharsets.UTF_8);
+            }
+        }
+        return null;
+    }
+
+    public static final class MailMessage {
+        private final String from;
+        private final List<String> recipients;
+        private final String subject;
+        private final String body;
+        private final long receivedAt = System.currentTimeMillis();
+
+        private MailMessage(String from, List<String> recipients, String subject, String body) {
+            this.from = from;
+            this.recipients = recipients;
+            this.subject = subject;
+            this.body = body;
+        }
+
+        private static MailMessage parse(String from, List<String> recipients, String data) {
+            int split = data.indexOf("\n\n");
+            String headers = split < 0 ? "" : data.substring(0, split);
+            String body = split < 0 ? data : data.substring(split + 2);
+            String subject = "";
+            for (String header : headers.split("\n")) {
+                if (header.toLowerCase().startsWith("subject:")) {
+                    subject = header.substring("subject:".length()).trim();
+                }
+            }
+            // Soft line breaks from quoted-printable bodies would split the code
+            body = body.replace("=\n", "");
+            return new MailMessage(from, new ArrayList<>(recipients), subject, body);
+        }
+
+        public String getFrom() {
+            return from;
+        }
+
+        public List<String> getRecipients() {
+            return recipients;
+        }
+
+        public String getSubject() {
+            return subject;
+        }
+
+        public String getBody() {
+            return body;
+        }
+
+        public long getReceivedAt() {
+            return receivedAt;
+        }
+    }
+}
@@ -0,0 +1,249 @@
+package utils;
+
+import org.openqa.selenium.json.Json;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Per-route history of every {@link CompositeLocator} strategy: how often it
+ * had a match (hit rate), how long its lookup took in the page, how often it
+ * won and how long the lookup took to resolve. The history is kept on disk
+ * between runs, and composite locators use it to try the strategies that match
+ * most reliably and cheaply first on each route.
+ *
+ * At the end of the suite {@link #save()} writes locator-stats.json and
+ * dead-strategies.txt, a list of strategies that never match.
+ *
+ * Properties:
+ * <ul>
+ *   <li>locator.stats.dir - where both files live (default .locator-stats)</li>
+ *   <li>locator.adaptive - set to false to always use source order</li>
+ *   <li>locator.rank.min.samples - lookups on a route before it is reordered, and
+ *       before a strategy can be reported dead (default 5)</li>
+ * </ul>
+ */
+public class LocatorRegistry {
+    private static final LocatorRegistry INSTANCE = new LocatorRegistry();
+
+    private final boolean adaptive;
+    private final int minSamples;
+    private final Path statsDir;
+
+    private final Json json = new Json();
+    // locator name -> route -> strategy label -> stats
+    private final Map<String, Map<String, Map<String, StrategyStats>>> stats = new TreeMap<>();
+
+    private LocatorRegistry() {
+        this(Paths.get(System.getProperty("locator.stats.dir", ".locator-stats")),
+                Boolean.parseBoolean(System.getProperty("locator.adaptive", "true")),
+                Integer.getInteger("locator.rank.min.samples", 5));
+    }
+
+    LocatorRegistry(Path statsDir, boolean adaptive, int minSamples) {
+        this.statsDir = statsDir;
+        this.adaptive = adaptive;
+        this.minSamples = minSamples;
+        load();
+    }
+
+    public static LocatorRegistry getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Order in which to try the strategies on each route with enough history,
+     * as indexes into labels. Routes without an entry use source order.
+     */
+    public synchronized Map<String, List<Integer>> rankings(String locator, List<String> labels) {
+        Map<String, List<Integer>> rankings = new LinkedHashMap<>();
+        if (!adaptive) {
+            return rankings;
+        }
+        Map<String, Map<String, StrategyStats>> routes = stats.getOrDefault(locator, new TreeMap<>());
+        for (Map.Entry<String, Map<String, StrategyStats>> route : routes.entrySet()) {
+            Map<String, StrategyStats> byLabel = route.getValue();
+            long lookups = byLabel.values().stream().mapToLong(s -> s.lookups).max().orElse(0);
+            if (lookups < minSamples) {
+                continue;
+            }
+            List<Integer> order = new ArrayList<>();
+            for (int i = 0; i < labels.size(); i++) {
+                order.add(i);
+            }
+            // Stable sort: strategies with equal history keep their source order
+            order.sort(Comparator
+                    .comparingDouble((Integer i) -> -hitRate(byLabel.get(labels.get(i))))
+                    .thenComparingDouble(i -> averageCost(byLabel.get(labels.get(i)))));
+            rankings.put(route.getKey(), order);
+        }
+        return rankings;
+    }
+
+    /**
+     * Records one strategy's outcome for a resolved lookup.
+     * @param costMs time the strategy's query took in the page
+     * @param winMs time until the lookup resolved if this strategy won, otherwise -1
+     */
+    public synchronized void record(String locator, String route, String label, String expression,
+                                    boolean hit, double costMs, long winMs) {
+        StrategyStats s = stats.computeIfAbsent(locator, key -> new TreeMap<>())
+                .computeIfAbsent(route, key -> new LinkedHashMap<>())
+                .computeIfAbsent(label, key -> new StrategyStats());
+        s.expression = expression;
+        s.lookups++;
+        s.costMsTotal += costMs;
+        if (hit) {
+            s.hits++;
+        }
+        if (winMs >= 0) {
+            s.wins++;
+            s.winMsTotal += winMs;
+        }
+    }
+
+    /**
+     * Strategies that were looked up at least locator.rank.min.samples times
+     * and never matched on any route, as "locator / label (expression)".
+     */
+    public synchronized List<String> deadStrategies() {
+        List<String> dead = new ArrayList<>();
+        for (Map.Entry<String, Map<String, Map<String, StrategyStats>>> locator : stats.entrySet()) {
+            Map<String, StrategyStats> totals = new LinkedHashMap<>();
+            for (Map<String, StrategyStats> byLabel : locator.getValue().values()) {
+                byLabel.forEach((label, s) -> totals.computeIfAbsent(label, key -> new StrategyStats()).add(s));
+            }
+            totals.forEach((label, s) -> {
+                if (s.lookups >= minSamples && s.hits == 0) {
+                    dead.add(locator.getKey() + " / " + label + " (" + s.expression + ") - 0 matches in "
+                            + s.lookups + " lookups");
+                }
+            });
+        }
+        return dead;
+    }
+
+    /**
+     * Writes the history and the dead-strategy report.
+     */
+    public synchronized void save() {
+        if (stats.isEmpty()) {
+            return;
+        }
+        try {
+            Files.createDirectories(statsDir);
+            Map<String, Object> out = new LinkedHashMap<>();
+            stats.forEach((locator, routes) -> {
+                Map<String, Object> routeOut = new LinkedHashMap<>();
+                routes.forEach((route, byLabel) -> {
+                    Map<String, Object> labelOut = new LinkedHashMap<>();
+                    byLabel.forEach((label, s) -> labelOut.put(label, s.toMap()));
+                    routeOut.put(route, labelOut);
+                });
+                out.put(locator, routeOut);
+            });
+            Files.write(statsFile(), json.toJson(out).getBytes(StandardCharsets.UTF_8));
+
+            List<String> dead = deadStrategies();
+            StringBuilder report = new StringBuilder("Locator strategies with no match in ")
+                    .append(minSamples).append(" or more lookups on any route\n\n");
+            if (dead.isEmpty()) {
+                report.append("None\n");
+            }
+            for (String line : dead) {
+                report.append(line).append('\n');
+            }
+            Files.write(statsDir.resolve("dead-strategies.txt"), report.toString().getBytes(StandardCharsets.UTF_8));
+            System.out.println("✓ Locator stats saved to " + statsDir.toAbsolutePath()
+                    + (dead.isEmpty() ? "" : " (" + dead.size() + " dead strategies, see dead-strategies.txt)"));
+        } catch (IOException e) {
+            System.err.println("Warning: Could not save locator stats - " + e.getMessage());
+        }
+    }
+
+    private void load() {
+        Path file = statsFile();
+        if (!Files.exists(file)) {
+            return;
+        }
+        try {
+            Map<String, Object> in = json.toType(new String(Files.readAllBytes(file), StandardCharsets.UTF_8), Json.MAP_TYPE);
+            in.forEach((locator, routes) -> asMap(routes).forEach((route, byLabel) -> asMap(byLabel).forEach((label, s) ->
+                    stats.computeIfAbsent(locator, key -> new TreeMap<>())
+                            .computeIfAbsent(route, key -> new LinkedHashMap<>())
+                            .put(label, StrategyStats.fromMap(asMap(s))))));
+        } catch (IOException | RuntimeException e) {
+            System.err.println("Warning: Ignoring unreadable locator stats " + file + " - " + e.getMessage());
+            stats.clear();
+        }
+    }
+
+    private Path statsFile() {
+        return statsDir.resolve("locator-stats.json");
+    }
+
+    private static double hitRate(StrategyStats s) {
+        return s == null || s.lookups == 0 ? 0 : (double) s.hits / s.lookups;
+    }
+
+    private static double averageCost(StrategyStats s) {
+        return s == null || s.lookups == 0 ? Double.MAX_VALUE : s.costMsTotal / s.lookups;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, Object> asMap(Object value) {
+        return (Map<String, Object>) value;
+    }
+
+    private static final class StrategyStats {
+        private String expression;
+        private long lookups;
+        private long hits;
+        private long wins;
+        private double costMsTotal;
+        private long winMsTotal;
+
+        private void add(StrategyStats other) {
+            expression = other.expression;
+            lookups += other.lookups;
+            hits += other.hits;
+            wins += other.wins;
+            costMsTotal += other.costMsTotal;
+            winMsTotal += other.winMsTotal;
+        }
+
+        private Map<String, Object> toMap() {
+            Map<String, Object> map = new LinkedHashMap<>();
+            map.put("expression", expression);
+            map.put("lookups", lookups);
+            map.put("hits", hits);
+            map.put("wins", wins);
+            map.put("hitRate", lookups == 0 ? 0 : Math.round(1000.0 * hits / lookups) / 1000.0);
+            map.put("avgCostMs", lookups == 0 ? 0 : Math.round(1000.0 * costMsTotal / lookups) / 1000.0);
+            map.put("avgWinMs", wins == 0 ? 0 : winMsTotal / wins);
+            map.put("costMsTotal", costMsTotal);
+            map.put("winMsTotal", winMsTotal);
+            return map;
+        }
+
+        private static StrategyStats fromMap(Map<String, Object> map) {
+            StrategyStats s = new StrategyStats();
+            s.expression = (String) map.get("expression");
+            s.lookups = ((Number) map.get("lookups")).longValue();
+            s.hits = ((Number) map.get("hits")).longValue();
+            s.wins = ((Number) map.get("wins")).longValue();
+            s.costMsTotal = ((Number) map.get("costMsTotal")).doubleValue();
+            s.winMsTotal = ((Number) map.get("winMsTotal")).longValue();
+            return s;
+        }
+    }
+}
@@ -0,0 +1,250 @@
+package utils;
+
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.devtools.Command;
+import org.openqa.selenium.devtools.DevTools;
+import org.openqa.selenium.devtools.Event;
+import org.openqa.selenium.devtools.HasDevTools;
+import org.openqa.selenium.json.Json;
+import org.openqa.selenium.support.ui.ExpectedCondition;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Knows when the app has settled after an action, instead of sleeping a fixed
+ * number of seconds. Listens over the Chrome DevTools Protocol for XHR, fetch
+ * and document requests and for frames that are loading; the network is idle
+ * once none are pending and nothing has started or finished for the quiet
+ * period. {@link #waitForAppIdle} additionally waits for the DOM to go quiet.
+ *
+ * Requests that stay open longer than network.idle.ignore.ms (default 10000),
+ * such as long polls, stop counting as pending. Drivers without DevTools fall
+ * back to waiting for DOM quiescence only.
+ *
+ * How long each step took to settle is collected per step name and printed by
+ * {@link #printStats()}.
+ */
+public final class NetworkIdle {
+    private static final long IGNORE_AFTER_MS = Long.getLong("network.idle.ignore.ms", 10000);
+    private static final Set<String> TRACKED_TYPES = Set.of("XHR", "Fetch", "Document");
+
+    // Each tracker holds its driver, so entries are removed by forget() rather than by GC
+    private static final Map<WebDriver, NetworkIdle> TRACKERS = new HashMap<>();
+    private static final Map<String, Settle> STATS = new ConcurrentHashMap<>();
+
+    private final WebDriver driver;
+    private final boolean available;
+    // Thread of the test last using the driver, so DevTools callbacks log to that test
+    private volatile Thread user = Thread.currentThread();
+    // requestId -> start time
+    private final Map<String, Long> inFlight = new HashMap<>();
+    private final Set<String> loadingFrames = new HashSet<>();
+    private long lastActivity = System.currentTimeMillis();
+
+    private NetworkIdle(WebDriver driver) {
+        this.driver = driver;
+        this.available = attach();
+    }
+
+    /**
+     * The tracker for a driver, listening from the first call on. The pool
+     * calls this when it creates a session so no request is missed.
+     */
+    public static NetworkIdle of(WebDriver driver) {
+        NetworkIdle tracker;
+        synchronized (TRACKERS) {
+            tracker = TRACKERS.computeIfAbsent(driver, NetworkIdle::new);
+        }
+        tracker.user = Thread.currentThread();
+        return tracker;
+    }
+
+    /**
+     * Drops the tracker of a driver that is being quit. The pool calls this
+     * when it destroys a session.
+     */
+    public static void forget(WebDriver driver) {
+        synchronized (TRACKERS) {
+            TRACKERS.remove(driver);
+        }
+    }
+
+    /**
+     * Waits until no tracked request or frame load has been pending for
+     * {@code quiet}, or {@code timeout} has passed.
+     * @return whether the network went idle in time
+     */
+    public boolean waitForNetworkIdle(String step, Duration quiet, Duration timeout) {
+        long start = System.currentTimeMillis();
+        boolean idle = ActionTimer.waiting(() -> {
+            if (available) {
+                return awaitIdle(start, quiet.toMillis(), start + timeout.toMillis());
+            }
+            DomConditions.awaitDomQuiet(driver, quiet, timeout);
+            return true;
+        });
+        record(step, start, idle);
+        return idle;
+    }
+
+    /**
+     * {@link #waitForNetworkIdle} followed by a wait for the DOM to stop
+     * changing, within the same timeout.
+     */
+    public boolean waitForAppIdle(String step, Duration quiet, Duration timeout) {
+        long start = System.currentTimeMillis();
+        boolean idle = ActionTimer.waiting(() -> {
+            boolean networkIdle = !available || awaitIdle(start, quiet.toMillis(), start + timeout.toMillis());
+            long left = Math.max(0, start + timeout.toMillis() - System.currentTimeMillis());
+            DomConditions.awaitDomQuiet(driver, quiet, Duration.ofMillis(left));
+            return networkIdle;
+        });
+        record(step, start, idle);
+        return idle;
+    }
+
+    /**
+     * Condition met once no tracked request or frame load has been pending
+     * for {@code quiet}, counted from when the condition was created. Combine
+     * it with {@link DomConditions#or} to stop waiting for a UI change that
+     * no outstanding request is going to bring. Never met without DevTools.
+     */
+    public ExpectedCondition<Boolean> idleFor(Duration quiet) {
+        long since = System.currentTimeMillis();
+        return DomConditions.onDomChange("network idle for " + quiet.toMillis() + " ms", d -> hasBeenIdle(since, quiet));
+    }
+
+    /**
+     * Whether nothing has been pending for {@code quiet}, counting from
+     * {@code sinceMillis} at the earliest. Always false without DevTools.
+     */
+    public boolean hasBeenIdle(long sinceMillis, Duration quiet) {
+        return available && isIdle(sinceMillis, quiet.toMillis());
+    }
+
+    /**
+     * Whether a tracked request or frame load is pending, or the last one
+     * ended less than {@code quiet} ago. Always false without DevTools.
+     */
+    public boolean isBusy(Duration quiet) {
+        return available && !isIdle(0, quiet.toMillis());
+    }
+
+    public static void printStats() {
+        System.out.println("\n=== Settle Times (network/app idle waits) ===");
+        if (STATS.isEmpty()) {
+            System.out.println("No idle waits");
+            return;
+        }
+        List<Map.Entry<String, Settle>> entries = new ArrayList<>(STATS.entrySet());
+        entries.sort((a, b) -> Long.compare(b.getValue().totalMs, a.getValue().totalMs));
+        for (Map.Entry<String, Settle> entry : entries) {
+            Settle s = entry.getValue();
+            System.out.println(String.format("%6d ms avg  %6d ms max  %3dx%s  %s", s.totalMs / s.count, s.maxMs,
+                    s.count, s.timeouts == 0 ? "" : " (" + s.timeouts + " timed out)", entry.getKey()));
+        }
+    }
+
+    private boolean attach() {
+        if (!(driver instanceof HasDevTools)) {
+            System.err.println("Warning: No DevTools for this driver - idle waits only watch the DOM");
+            return false;
+        }
+        try {
+            DevTools devTools = ((HasDevTools) driver).getDevTools();
+            devTools.createSessionIfThereIsNotOne();
+            devTools.send(new Command<>("Network.enable", Map.of()));
+            devTools.send(new Command<>("Page.enable", Map.of()));
+
+            devTools.addListener(event("Network.requestWillBeSent"), params -> {
+                if (TRACKED_TYPES.contains(String.valueOf(params.get("type")))) {
+                    update(() -> inFlight.put(String.valueOf(params.get("requestId")), System.currentTimeMillis()));
+                }
+            });
+            devTools.addListener(event("Network.loadingFinished"),
+                    params -> update(() -> inFlight.remove(String.valueOf(params.get("requestId")))));
+            devTools.addListener(event("Network.loadingFailed"),
+                    params -> update(() -> inFlight.remove(String.valueOf(params.get("requestId")))));
+            devTools.addListener(event("Page.frameStartedLoading"),
+                    params -> update(() -> loadingFrames.add(String.valueOf(params.get("frameId")))));
+            devTools.addListener(event("Page.frameStoppedLoading"),
+                    params -> update(() -> loadingFrames.remove(String.valueOf(params.get("frameId")))));
+            return true;
+        } catch (RuntimeException e) {
+            System.err.println("Warning: Could not attach to DevTools - idle waits only watch the DOM: " + e.getMessage());
+            return false;
+        }
+    }
+
+    private static Event<Map<String, Object>> event(String method) {
+        return new Event<>(method, input -> input.read(Json.MAP_TYPE));
+    }
+
+    // Called on the DevTools connection's thread
+    private synchronized void update(Runnable change) {
+        TestLog.runAs(user, change);
+        lastActivity = System.currentTimeMillis();
+        notifyAll();
+    }
+
+    private synchronized boolean awaitIdle(long start, long quietMs, long deadline) {
+        while (true) {
+            long now = System.currentTimeMillis();
+            if (isIdle(start, quietMs)) {
+                return true;
+            }
+            long quietFor = now - Math.max(lastActivity, start);
+            if (now >= deadline) {
+                System.out.println("⚠ Network still busy at timeout (" + inFlight.size() + " requests, "
+                        + loadingFrames.size() + " frames pending)");
+                return false;
+            }
+            long next = inFlight.isEmpty() && loadingFrames.isEmpty() ? quietMs - quietFor : 100;
+            try {
+                wait(Math.max(1, Math.min(next, deadline - now)));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+        }
+    }
+
+    private synchronized boolean isIdle(long start, long quietMs) {
+        long now = System.currentTimeMillis();
+        // Long polls and streams never finish; stop waiting on them
+        inFlight.values().removeIf(started -> now - started > IGNORE_AFTER_MS);
+        // Quiet counts from the start of the wait too, so a request the action
+        // has not sent yet still has the quiet period to show up
+        return inFlight.isEmpty() && loadingFrames.isEmpty() && now - Math.max(lastActivity, start) >= quietMs;
+    }
+
+    private static void record(String step, long start, boolean idle) {
+        long elapsed = System.currentTimeMillis() - start;
+        Settle s = STATS.computeIfAbsent(step, key -> new Settle());
+        synchronized (s) {
+            s.count++;
+            s.totalMs += elapsed;
+            s.maxMs = Math.max(s.maxMs, elapsed);
+            if (!idle) {
+                s.timeouts++;
+            }
+        }
+        if (idle) {
+            System.out.println("✓ " + step + " settled in " + elapsed + " ms");
+        }
+    }
+
+    private static final class Settle {
+        private long count;
+        private long totalMs;
+        private long maxMs;
+        private long timeouts;
+    }
+}
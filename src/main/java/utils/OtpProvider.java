@@ -0,0 +1,53 @@
+package utils;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Source of login OTP codes. The implementation is picked per environment with
+ * -Dotp.provider=yopmail|yopmail-http|local-smtp|static|http (default yopmail,
+ * or local-smtp when running against {@link LocalAppServer}).
+ */
+public interface OtpProvider extends AutoCloseable {
+
+    /**
+     * Fetches the latest OTP sent to the email address.
+     * @return the 6-digit OTP, or null if none could be found
+     */
+    String getOTPWithRetry(String email, int maxRetries, int waitBetweenRetries);
+
+    /**
+     * Fetches the OTP in the background while the caller keeps driving the
+     * browser. Start it just before submitting the login form: providers that
+     * can tell messages apart only accept mail that arrives after this call.
+     */
+    default CompletableFuture<String> fetchOtpAsync(String email, int maxRetries, int waitBetweenRetries) {
+        return CompletableFuture.supplyAsync(TestLog.wrap(() -> getOTPWithRetry(email, maxRetries, waitBetweenRetries)));
+    }
+
+    /**
+     * Releases any browser or connection the provider holds.
+     */
+    @Override
+    default void close() {
+    }
+
+    static OtpProvider create() {
+        String type = System.getProperty("otp.provider", AppConfig.isLocal() ? "local-smtp" : "yopmail").trim().toLowerCase();
+        switch (type) {
+            case "static":
+                return new StaticOtpProvider(System.getProperty("otp.static.code", "000000"));
+            case "http":
+                return new HttpInboxOtpProvider(System.getProperty("otp.inbox.url",
+                        "http://localhost:8025/api/otp?email={email}"));
+            case "yopmail":
+                return new YopmailService();
+            case "yopmail-http":
+                return new YopmailInboxClient();
+            case "local-smtp":
+                return LocalMailServer.shared();
+            default:
+                throw new IllegalArgumentException("Unknown otp.provider '" + type
+                        + "', expected yopmail, yopmail-http, local-smtp, static or http");
+        }
+    }
+}
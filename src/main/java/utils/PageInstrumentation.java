@@ -0,0 +1,112 @@
+package utils;
+
+import net.bytebuddy.agent.builder.AgentBuilder;
+import net.bytebuddy.asm.Advice;
+import net.bytebuddy.matcher.ElementMatchers;
+
+import java.io.IOException;
+import java.lang.instrument.Instrumentation;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.jar.Attributes;
+import java.util.jar.JarOutputStream;
+import java.util.jar.Manifest;
+
+/**
+ * Marks the entry and exit of every public page-object method for
+ * {@link ActionTimer}, so each call is an action of its own, however it is
+ * nested or repeated. The methods of the pages package are rewritten when
+ * their classes load (or at once, if they are already loaded) through an
+ * agent attached to this JVM.
+ *
+ * Attaching to itself needs -Djdk.attach.allowAttachSelf=true, which the
+ * pom's surefire configuration sets. Without it a warning is printed and page
+ * actions are not timed; waits and sleeps are still on the {@link Timeline}.
+ */
+public final class PageInstrumentation {
+    private static final String PAGES_PACKAGE = "pages.";
+
+    private static volatile Instrumentation instrumentation;
+    private static Boolean installed;
+
+    private PageInstrumentation() {
+    }
+
+    /**
+     * Instruments the page objects once per JVM; returns whether page
+     * methods are marked.
+     */
+    public static synchronized boolean install() {
+        if (installed != null) {
+            return installed;
+        }
+        installed = false;
+        try {
+            attach();
+            new AgentBuilder.Default()
+                    .disableClassFormatChanges()
+                    .with(AgentBuilder.RedefinitionStrategy.RETRANSFORMATION)
+                    .type(ElementMatchers.nameStartsWith(PAGES_PACKAGE))
+                    .transform((builder, type, loader, module, domain) -> builder.visit(Advice.to(PageAdvice.class)
+                            .on(ElementMatchers.isMethod()
+                                    .and(ElementMatchers.isPublic())
+                                    .and(ElementMatchers.not(ElementMatchers.isSynthetic())))))
+                    .installOn(instrumentation);
+            installed = true;
+            System.out.println("✓ Page actions instrumented for timing");
+        } catch (Exception | LinkageError e) {
+            System.err.println("Warning: Page actions are not timed, could not instrument them - " + e);
+        }
+        return installed;
+    }
+
+    /**
+     * Entry point of the agent loaded by {@link #attach()}.
+     */
+    public static void agentmain(String args, Instrumentation inst) {
+        instrumentation = inst;
+    }
+
+    // Loads this class as an agent into the running JVM to get hold of its Instrumentation
+    private static void attach() throws Exception {
+        if (instrumentation != null) {
+            return;
+        }
+        Path jar = Files.createTempFile("page-instrumentation", ".jar");
+        jar.toFile().deleteOnExit();
+        Manifest manifest = new Manifest();
+        manifest.getMainAttributes().put(Attributes.Name.MANIFEST_VERSION, "1.0");
+        manifest.getMainAttributes().putValue("Agent-Class", PageInstrumentation.class.getName());
+        manifest.getMainAttributes().putValue("Can-Retransform-Classes", "true");
+        // The manifest is all the agent jar needs; the class itself is already on the classpath
+        new JarOutputStream(Files.newOutputStream(jar), manifest).close();
+        com.sun.tools.attach.VirtualMachine vm =
+                com.sun.tools.attach.VirtualMachine.attach(String.valueOf(ProcessHandle.current().pid()));
+        try {
+            vm.loadAgent(jar.toAbsolutePath().toString());
+        } finally {
+            vm.detach();
+        }
+        if (instrumentation == null) {
+            throw new IOException("the agent did not start");
+        }
+    }
+
+    /**
+     * Inlined at the start and end of every public page method.
+     */
+    static final class PageAdvice {
+        private PageAdvice() {
+        }
+
+        @Advice.OnMethodEnter
+        static void enter(@Advice.Origin("#t.#m") String method) {
+            ActionTimer.enterAction(method);
+        }
+
+        @Advice.OnMethodExit(onThrowable = Throwable.class)
+        static void exit() {
+            ActionTimer.exitAction();
+        }
+    }
+}
@@ -0,0 +1,258 @@
+package utils;
+
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.devtools.Command;
+import org.openqa.selenium.devtools.DevTools;
+import org.openqa.selenium.devtools.HasDevTools;
+import org.openqa.selenium.json.Json;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Frontend performance of the app under test, recorded per route as the suite
+ * visits it. Page objects call {@link #onArrival(WebDriver)} from their
+ * constructors; the first call for a path in a document records, from inside
+ * the page:
+ * <ul>
+ *   <li>Navigation Timing (TTFB, DOMContentLoaded, load) and first contentful
+ *       paint, for the path the document was loaded on</li>
+ *   <li>largest contentful paint and cumulative layout shift so far</li>
+ *   <li>resources fetched (count, bytes, slowest) and long tasks, since the
+ *       previous capture in the same document</li>
+ *   <li>used JS heap</li>
+ * </ul>
+ * Later paths of the same document (client-side route changes) have no
+ * navigation timing or LCP of their own.
+ *
+ * The capture waits for the load event, at most perf.capture.wait.ms (default
+ * 3000). Long tasks are observed from the start of every document when the
+ * driver has DevTools ({@link #install(WebDriver)}, done by the pool).
+ * {@link #printReport()} prints a summary per route and writes every visit to
+ * perf.report.file (default target/page-performance.json). Turned off with
+ * -Dperf.capture=false.
+ */
+public final class PagePerformance {
+    private static final boolean ENABLED = Boolean.parseBoolean(System.getProperty("perf.capture", "true"));
+    private static final long WAIT_MS = Long.getLong("perf.capture.wait.ms", 3000);
+    private static final Path REPORT_FILE = Paths.get(System.getProperty("perf.report.file", "target/page-performance.json"));
+
+    // Runs before the app's own scripts, so long tasks during load are seen
+    private static final String LONG_TASK_OBSERVER_SCRIPT =
+            "window.__haLongTasks = [];" +
+            "try {" +
+            "  new PerformanceObserver(function (list) {" +
+            "    list.getEntries().forEach(function (e) { window.__haLongTasks.push([e.startTime, e.duration]); });" +
+            "  }).observe({type: 'longtask', buffered: true});" +
+            "} catch (e) {}";
+
+    private static final String CAPTURE_SCRIPT =
+            "var maxWait = arguments[0], done = arguments[arguments.length - 1];" +
+            "if (!/^https?:$/.test(location.protocol)) { done(null); return; }" +
+            "var state = window.__haPerf || (window.__haPerf = {seen: {}, last: -1});" +
+            "var path = location.pathname;" +
+            "if (state.seen[path]) { done(null); return; }" +
+            "state.seen[path] = true;" +
+            "function observed(type) {" +
+            "  var out = [];" +
+            "  try {" +
+            "    var o = new PerformanceObserver(function () {});" +
+            "    o.observe({type: type, buffered: true});" +
+            "    out = o.takeRecords();" +
+            "    o.disconnect();" +
+            "  } catch (e) {}" +
+            "  return out;" +
+            "}" +
+            "function collect() {" +
+            "  var first = state.last < 0, since = Math.max(state.last, 0), r = {path: path, search: location.search, firstInDocument: first};" +
+            "  if (first) {" +
+            "    var nav = performance.getEntriesByType('navigation')[0];" +
+            "    if (nav) {" +
+            "      r.ttfbMs = Math.round(nav.responseStart);" +
+            "      r.domContentLoadedMs = Math.round(nav.domContentLoadedEventEnd);" +
+            "      r.loadMs = Math.round(nav.loadEventEnd);" +
+            "      r.documentBytes = nav.transferSize;" +
+            "    }" +
+            "    var fcp = performance.getEntriesByName('first-contentful-paint')[0];" +
+            "    if (fcp) { r.fcpMs = Math.round(fcp.startTime); }" +
+            "    var lcp = observed('largest-contentful-paint');" +
+            "    if (lcp.length) { r.lcpMs = Math.round(lcp[lcp.length - 1].startTime); }" +
+            "  }" +
+            "  var cls = 0;" +
+            "  observed('layout-shift').forEach(function (e) { if (!e.hadRecentInput && e.startTime >= since) { cls += e.value; } });" +
+            "  r.cls = Math.round(cls * 1000) / 1000;" +
+            "  var res = performance.getEntriesByType('resource').filter(function (e) { return e.startTime >= since; });" +
+            "  r.resources = res.length;" +
+            "  r.resourceBytes = res.reduce(function (sum, e) { return sum + (e.transferSize || 0); }, 0);" +
+            "  r.slowestResourceMs = Math.round(res.reduce(function (max, e) { return Math.max(max, e.duration); }, 0));" +
+            "  var tasks = window.__haLongTasks || observed('longtask').map(function (e) { return [e.startTime, e.duration]; });" +
+            "  tasks = tasks.filter(function (t) { return t[0] >= since; });" +
+            "  r.longTasks = tasks.length;" +
+            "  r.longTaskMs = Math.round(tasks.reduce(function (sum, t) { return sum + t[1]; }, 0));" +
+            "  if (performance.memory) { r.jsHeapBytes = performance.memory.usedJSHeapSize; }" +
+            "  state.last = performance.now();" +
+            "  done(r);" +
+            "}" +
+            "if (document.readyState === 'complete') { collect(); return; }" +
+            "var timer = setTimeout(collect, maxWait);" +
+            // The load event's own timing is only final once its handlers have run
+            "window.addEventListener('load', function () { clearTimeout(timer); setTimeout(collect, 0); });";
+
+    private static final Pattern STEP_PARAM = Pattern.compile("[?&]path=([^&]+)");
+
+    private static final List<Map<String, Object>> VISITS = new CopyOnWriteArrayList<>();
+
+    private PagePerformance() {
+    }
+
+    /**
+     * Starts observing long tasks in every document the driver loads from
+     * now on. Without DevTools, long tasks are read from the browser's buffer
+     * at capture time instead.
+     */
+    public static void install(WebDriver driver) {
+        if (!ENABLED || !(driver instanceof HasDevTools)) {
+            return;
+        }
+        try {
+            DevTools devTools = ((HasDevTools) driver).getDevTools();
+            devTools.createSessionIfThereIsNotOne();
+            devTools.send(new Command<>("Page.enable", Map.of()));
+            devTools.send(new Command<>("Page.addScriptToEvaluateOnNewDocument",
+                    Map.of("source", LONG_TASK_OBSERVER_SCRIPT)));
+        } catch (RuntimeException e) {
+            System.err.println("Warning: Could not install long task observer: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Records the current page's performance, once per path and document.
+     */
+    @SuppressWarnings("unchecked")
+    public static void onArrival(WebDriver driver) {
+        if (!ENABLED || !(driver instanceof JavascriptExecutor)) {
+            return;
+        }
+        try {
+            Object result = ((JavascriptExecutor) driver).executeAsyncScript(CAPTURE_SCRIPT, WAIT_MS);
+            if (result instanceof Map) {
+                Map<String, Object> visit = new LinkedHashMap<>();
+                visit.put("route", route((String) ((Map<String, Object>) result).get("path"),
+                        (String) ((Map<String, Object>) result).get("search")));
+                visit.putAll((Map<String, Object>) result);
+                VISITS.add(visit);
+            }
+        } catch (WebDriverException e) {
+            // Page changed mid-capture or the driver is gone; never fail the page object over metrics
+            System.err.println("Warning: Could not capture page performance: " + e.getMessage());
+        }
+    }
+
+    public static void printReport() {
+        System.out.println("\n=== Frontend Performance per Route ===");
+        if (VISITS.isEmpty()) {
+            System.out.println("No page visits captured");
+            return;
+        }
+        Map<String, List<Map<String, Object>>> byRoute = new TreeMap<>();
+        for (Map<String, Object> visit : VISITS) {
+            byRoute.computeIfAbsent((String) visit.get("route"), key -> new ArrayList<>()).add(visit);
+        }
+        List<Map<String, Object>> summaries = new ArrayList<>();
+        System.out.println(String.format("%-22s %5s %8s %8s %8s %7s %6s %9s %8s",
+                "route", "n", "load p50", "load p95", "LCP p75", "CLS max", "tasks", "task ms", "heap MB"));
+        for (Map.Entry<String, List<Map<String, Object>>> entry : byRoute.entrySet()) {
+            List<Map<String, Object>> visits = entry.getValue();
+            long[] loads = values(visits, "loadMs");
+            long[] lcps = values(visits, "lcpMs");
+            Map<String, Object> summary = new LinkedHashMap<>();
+            summary.put("route", entry.getKey());
+            summary.put("visits", visits.size());
+            summary.put("loadP50Ms", percentile(loads, 50));
+            summary.put("loadP95Ms", percentile(loads, 95));
+            summary.put("lcpP75Ms", percentile(lcps, 75));
+            summary.put("clsMax", max(visits, "cls"));
+            summary.put("longTasks", (long) sum(visits, "longTasks"));
+            summary.put("longTaskMs", (long) sum(visits, "longTaskMs"));
+            summary.put("jsHeapMaxBytes", (long) max(visits, "jsHeapBytes"));
+            summaries.add(summary);
+            System.out.println(String.format("%-22s %5d %8s %8s %8s %7.3f %6d %9d %8.1f",
+                    entry.getKey(), visits.size(), orDash(summary.get("loadP50Ms")), orDash(summary.get("loadP95Ms")),
+                    orDash(summary.get("lcpP75Ms")), summary.get("clsMax"), summary.get("longTasks"),
+                    summary.get("longTaskMs"), (Long) summary.get("jsHeapMaxBytes") / 1048576.0));
+        }
+
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("routes", summaries);
+        report.put("visits", new ArrayList<>(VISITS));
+        try {
+            if (REPORT_FILE.getParent() != null) {
+                Files.createDirectories(REPORT_FILE.getParent());
+            }
+            Files.write(REPORT_FILE, new Json().toJson(report).getBytes(StandardCharsets.UTF_8));
+            System.out.println("✓ Page performance saved to " + REPORT_FILE.toAbsolutePath());
+        } catch (IOException e) {
+            System.err.println("Warning: Could not write page performance report: " + e.getMessage());
+        }
+    }
+
+    /**
+     * The first path segment, e.g. "planner" for /planner/plans; sign-in
+     * steps are told apart by their path parameter.
+     */
+    private static String route(String path, String search) {
+        String trimmed = path == null ? "" : path.replaceFirst("^/+", "");
+        String segment = trimmed.isEmpty() ? "/" : trimmed.split("/")[0];
+        if (segment.equals("onboarding") && search != null) {
+            Matcher step = STEP_PARAM.matcher(search);
+            if (step.find()) {
+                return segment + ":" + step.group(1);
+            }
+        }
+        return segment;
+    }
+
+    private static long[] values(List<Map<String, Object>> visits, String key) {
+        return visits.stream()
+                .filter(visit -> visit.get(key) instanceof Number)
+                .mapToLong(visit -> ((Number) visit.get(key)).longValue())
+                .sorted()
+                .toArray();
+    }
+
+    private static double sum(List<Map<String, Object>> visits, String key) {
+        return visits.stream().filter(visit -> visit.get(key) instanceof Number)
+                .mapToDouble(visit -> ((Number) visit.get(key)).doubleValue()).sum();
+    }
+
+    private static double max(List<Map<String, Object>> visits, String key) {
+        return visits.stream().filter(visit -> visit.get(key) instanceof Number)
+                .mapToDouble(visit -> ((Number) visit.get(key)).doubleValue()).max().orElse(0);
+    }
+
+    // Nearest-rank percentile of sorted values, null when there are none
+    private static Long percentile(long[] sorted, int p) {
+        if (sorted.length == 0) {
+            return null;
+        }
+        int rank = (int) Math.ceil(p / 100.0 * sorted.length);
+        return sorted[Math.max(0, rank - 1)];
+    }
+
+    private static String orDash(Object value) {
+        return value == null ? "-" : value.toString();
+    }
+}
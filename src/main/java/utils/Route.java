@@ -0,0 +1,104 @@
+package utils;
+
+import org.openqa.selenium.WebDriver;
+
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+
+/**
+ * Screens of the app that can be opened by URL, so a test can go straight to
+ * the screen under test instead of clicking through Welcome, Health Menu and
+ * so on. Only tests that verify navigation itself should click through.
+ *
+ * A path can be overridden with -Droute.&lt;name&gt;=/path, e.g.
+ * -Droute.plans=/planner/plans.
+ */
+public enum Route {
+    WELCOME("/welcomeHailey"),
+    HEALTH_MENU("/healthMenu"),
+    ASSIST_AI("/assistAi"),
+    PLANNER("/planner"),
+    PLANS("/plans"),
+    ADD_PLAN("/addAPlan"),
+    BLOGS("/blogs"),
+    MY_LIBRARY("/myLibrary"),
+    UPLOAD_DOCUMENT("/uploadDocument"),
+    HEALTH_INFORMATION("/phi"),
+    HEALTH_BIO("/healthBio"),
+    HEALTH_HISTORY("/healthHistory"),
+    MY_RECORDS("/myRecords");
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(20);
+
+    private final String defaultPath;
+
+    Route(String defaultPath) {
+        this.defaultPath = defaultPath;
+    }
+
+    public String path() {
+        return System.getProperty("route." + name().toLowerCase(), defaultPath);
+    }
+
+    public String url() {
+        return AppConfig.getBaseUrl() + path();
+    }
+
+    /**
+     * Whether the URL is on this screen or one of its records, by the last
+     * segment of its path, as {@link #open} checks it.
+     */
+    public boolean isOpenAt(String url) {
+        return url != null && url.contains(fragment());
+    }
+
+    /**
+     * URL of one record under this screen, e.g. a folder of MY_LIBRARY by the
+     * id {@link DataSeeder} returned.
+     */
+    public String url(String id) {
+        return url() + "/" + URLEncoder.encode(id, StandardCharsets.UTF_8).replace("+", "%20");
+    }
+
+    /**
+     * Opens the screen in the driver's current session and waits until it has
+     * settled. Fails if the app sends the browser to sign-in instead.
+     */
+    public void open(WebDriver driver) {
+        open(driver, null);
+    }
+
+    /**
+     * Like {@link #open(WebDriver)}, for the record with the given id, or the
+     * screen itself when id is null.
+     */
+    public void open(WebDriver driver, String id) {
+        long start = System.currentTimeMillis();
+        String fragment = fragment();
+        String target = id == null ? toString() : this + " " + id;
+        Timeline.run("Open " + target, "navigation", () -> {
+            try {
+                driver.get(id == null ? url() : url(id));
+                DomConditions.newWait(driver, TIMEOUT).until(DomConditions.or(
+                        DomConditions.urlContains(fragment),
+                        DomConditions.urlContains("signin")));
+                // The app checks the session after rendering, so look for the redirect once it has settled
+                NetworkIdle.of(driver).waitForAppIdle("Open " + this, Duration.ofMillis(300), Duration.ofSeconds(10));
+            } catch (Exception e) {
+                System.err.println("Failed to open " + target + ": " + e.getMessage());
+                throw new RuntimeException("Failed to open " + target, e);
+            }
+            String current = driver.getCurrentUrl();
+            if (current.contains("signin") || !current.contains(fragment)) {
+                throw new IllegalStateException("Opening " + target + " ended on " + current + " - is the session signed in?");
+            }
+            System.out.println("✓ Opened " + target + " directly (" + (System.currentTimeMillis() - start) + " ms)");
+        });
+    }
+
+    private String fragment() {
+        String path = path();
+        return path.substring(path.lastIndexOf('/') + 1);
+    }
+}
@@ -0,0 +1,18 @@
+package utils;
+
+/**
+ * Returns a fixed OTP, for environments where the backend accepts a static code.
+ */
+public class StaticOtpProvider implements OtpProvider {
+    private final String code;
+
+    public StaticOtpProvider(String code) {
+        this.code = code;
+    }
+
+    @Override
+    public String getOTPWithRetry(String email, int maxRetries, int waitBetweenRetries) {
+        System.out.println("✓ Using static OTP for " + email);
+        return code;
+    }
+}
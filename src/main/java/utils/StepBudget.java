@@ -0,0 +1,16 @@
+package utils;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Budget for one named step of a test, declared in {@link Budget#steps()}.
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target({})
+public @interface StepBudget {
+    String name();
+
+    long ms();
+}
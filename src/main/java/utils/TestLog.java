@@ -0,0 +1,435 @@
+package utils;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.slf4j.MDC;
+import org.slf4j.helpers.NOPLogger;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Routes System.out and System.err through SLF4J without making test threads
+ * wait on the console.
+ *
+ * Once installed, each line a thread prints is kept in that thread's buffer
+ * for the running test instead of being written. When the test ends the
+ * buffer is dropped if it passed - only a one-line result is logged - and
+ * handed in full to a background writer if it failed or was skipped, so the
+ * lines of one test are never interleaved with another's. Lines printed
+ * outside a test (suite reports, pool start-up) go to the writer directly.
+ *
+ * Work a test hands to another thread logs to that test when it is wrapped
+ * with {@link #wrap(Runnable)} (or the Supplier and Function forms), or, for
+ * listeners that outlive one test, run through {@link #runAs(Thread, Runnable)}.
+ * Lines that arrive after their test has ended are written straight away.
+ *
+ * The writer logs each line to SLF4J under the test id, with testId and
+ * thread in the MDC and the original time and thread in the message.
+ * -Dlog.buffer=false logs every test's lines as they are printed.
+ */
+public final class TestLog {
+    private static final boolean BUFFER = Boolean.parseBoolean(System.getProperty("log.buffer", "true"));
+    private static final DateTimeFormatter TIME = DateTimeFormatter.ofPattern("HH:mm:ss.SSS");
+    private static final String SUITE = "suite";
+
+    private static final ThreadLocal<TestBuffer> ACTIVE = new ThreadLocal<>();
+    // The test each test thread is running, for listeners called on other threads
+    private static final Map<Thread, TestBuffer> BY_THREAD = new ConcurrentHashMap<>();
+    private static final BlockingQueue<List<Line>> QUEUE = new LinkedBlockingQueue<>();
+    private static final Object IDLE = new Object();
+
+    private static PrintStream originalOut;
+    private static PrintStream originalErr;
+    private static Thread writer;
+    private static boolean slf4j;
+    private static int pending;
+
+    private TestLog() {
+    }
+
+    /**
+     * Replaces System.out and System.err and starts the writer. Safe to call
+     * more than once.
+     */
+    public static synchronized void install() {
+        if (writer != null) {
+            return;
+        }
+        originalOut = System.out;
+        originalErr = System.err;
+        slf4j = !(LoggerFactory.getLogger(SUITE) instanceof NOPLogger);
+        if (!slf4j) {
+            originalErr.println("Warning: No SLF4J provider bound - test logs go straight to the console");
+        }
+        writer = new Thread(TestLog::drain, "test-log-writer");
+        writer.setDaemon(true);
+        writer.start();
+        System.setOut(new CapturingStream(false));
+        System.setErr(new CapturingStream(true));
+        Runtime.getRuntime().addShutdownHook(new Thread(TestLog::flush, "test-log-flush"));
+    }
+
+    /**
+     * Starts buffering this thread's output for the given test.
+     */
+    public static void begin(String testId) {
+        TestBuffer buffer = new TestBuffer(testId);
+        ACTIVE.set(buffer);
+        BY_THREAD.put(Thread.currentThread(), buffer);
+    }
+
+    /**
+     * The action, logging to the test running on the calling thread wherever
+     * it is later run.
+     */
+    public static Runnable wrap(Runnable action) {
+        TestBuffer buffer = ACTIVE.get();
+        return buffer == null ? action : () -> runIn(buffer, () -> {
+            action.run();
+            return null;
+        });
+    }
+
+    public static <T> Supplier<T> wrap(Supplier<T> action) {
+        TestBuffer buffer = ACTIVE.get();
+        return buffer == null ? action : () -> runIn(buffer, action);
+    }
+
+    public static <T, R> Function<T, R> wrap(Function<T, R> action) {
+        TestBuffer buffer = ACTIVE.get();
+        return buffer == null ? action : value -> runIn(buffer, () -> action.apply(value));
+    }
+
+    /**
+     * Runs the action logging to whichever test the owner thread is running
+     * now, e.g. in a DevTools listener of a driver that test is using.
+     */
+    public static void runAs(Thread owner, Runnable action) {
+        TestBuffer buffer = owner == null ? null : BY_THREAD.get(owner);
+        if (buffer == null) {
+            action.run();
+            return;
+        }
+        runIn(buffer, () -> {
+            action.run();
+            return null;
+        });
+    }
+
+    /**
+     * Ends the test on this thread: its lines are logged if it did not pass
+     * (or buffering is off), then the result line.
+     */
+    public static void end(boolean passed, Throwable failure) {
+        TestBuffer buffer = ACTIVE.get();
+        ACTIVE.remove();
+        BY_THREAD.remove(Thread.currentThread());
+        if (buffer == null) {
+            return;
+        }
+        long elapsed = System.currentTimeMillis() - buffer.start;
+        int buffered;
+        synchronized (buffer) {
+            buffer.ended = true;
+            buffered = buffer.lines.size();
+        }
+        List<Line> lines = passed ? new ArrayList<>() : buffer.lines;
+        String result = passed
+                ? "✓ " + buffer.testId + " passed in " + elapsed + " ms"
+                + (buffered == 0 ? "" : " (" + buffered + " log lines not shown)")
+                : "❌ " + buffer.testId + " failed after " + elapsed + " ms"
+                + (failure == null ? "" : ": " + failure);
+        lines.add(new Line(buffer.testId, !passed, result));
+        enqueue(lines);
+    }
+
+    /**
+     * Waits up to five seconds for the writer to catch up, e.g. before the
+     * JVM exits.
+     */
+    public static void flush() {
+        long deadline = System.currentTimeMillis() + 5000;
+        synchronized (IDLE) {
+            while (pending > 0 && System.currentTimeMillis() < deadline) {
+                try {
+                    IDLE.wait(50);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+
+    private static <T> T runIn(TestBuffer buffer, Supplier<T> action) {
+        TestBuffer previous = ACTIVE.get();
+        ACTIVE.set(buffer);
+        try {
+            return action.get();
+        } finally {
+            if (previous == null) {
+                ACTIVE.remove();
+            } else {
+                ACTIVE.set(previous);
+            }
+        }
+    }
+
+    private static void enqueue(List<Line> lines) {
+        synchronized (IDLE) {
+            pending++;
+        }
+        QUEUE.add(lines);
+    }
+
+    private static void route(boolean error, String text) {
+        if (Thread.currentThread() == writer) {
+            (error ? originalErr : originalOut).println(text);
+            return;
+        }
+        TestBuffer buffer = ACTIVE.get();
+        if (buffer == null) {
+            enqueue(List.of(new Line(null, error, text)));
+            return;
+        }
+        if (BUFFER) {
+            synchronized (buffer) {
+                if (!buffer.ended) {
+                    buffer.lines.add(new Line(buffer.testId, error, text));
+                    return;
+                }
+            }
+        }
+        enqueue(List.of(new Line(buffer.testId, error, text)));
+    }
+
+    private static void drain() {
+        while (true) {
+            List<Line> lines;
+            try {
+                lines = QUEUE.take();
+            } catch (InterruptedException e) {
+                return;
+            }
+            try {
+                for (Line line : lines) {
+                    write(line);
+                }
+            } catch (RuntimeException e) {
+                originalErr.println("Warning: Could not write test log - " + e.getMessage());
+            } finally {
+                synchronized (IDLE) {
+                    pending--;
+                    IDLE.notifyAll();
+                }
+            }
+        }
+    }
+
+    private static void write(Line line) {
+        String message = line.testId == null
+                ? line.text
+                : line.time.format(TIME) + " [" + line.thread + "] " + line.text;
+        if (!slf4j) {
+            (line.error ? originalErr : originalOut).println(message);
+            return;
+        }
+        Logger logger = LoggerFactory.getLogger(line.testId == null ? SUITE : line.testId);
+        MDC.put("testId", line.testId == null ? SUITE : line.testId);
+        MDC.put("thread", line.thread);
+        try {
+            if (line.error) {
+                logger.warn(message);
+            } else {
+                logger.info(message);
+            }
+        } finally {
+            MDC.clear();
+        }
+    }
+
+    private static final class TestBuffer {
+        private final String testId;
+        private final long start = System.currentTimeMillis();
+        // Guarded by the buffer, since wrapped tasks add lines from other threads
+        private final List<Line> lines = new ArrayList<>();
+        private boolean ended;
+
+        private TestBuffer(String testId) {
+            this.testId = testId;
+        }
+    }
+
+    private static final class Line {
+        private final String testId;
+        private final boolean error;
+        private final String text;
+        private final String thread = Thread.currentThread().getName();
+        private final LocalTime time = LocalTime.now();
+
+        private Line(String testId, boolean error, String text) {
+            this.testId = testId;
+            this.error = error;
+            this.text = text;
+        }
+    }
+
+    /**
+     * PrintStream that collects text per thread and hands each complete line
+     * to {@link #route}. The common print methods skip PrintStream's lock.
+     */
+    private static final class CapturingStream extends PrintStream {
+        private final boolean error;
+        private final ThreadLocal<StringBuilder> partial = ThreadLocal.withInitial(StringBuilder::new);
+
+        private CapturingStream(boolean error) {
+            super(new LineSink(), true, StandardCharsets.UTF_8);
+            this.error = error;
+            ((LineSink) out).stream = this;
+        }
+
+        private void append(String text) {
+            StringBuilder line = partial.get();
+            int from = 0;
+            for (int nl = text.indexOf('\n'); nl >= 0; nl = text.indexOf('\n', from)) {
+                line.append(text, from, nl);
+                int end = line.length();
+                if (end > 0 && line.charAt(end - 1) == '\r') {
+                    line.setLength(end - 1);
+                }
+                route(error, line.toString());
+                line.setLength(0);
+                from = nl + 1;
+            }
+            line.append(text, from, text.length());
+        }
+
+        @Override
+        public void print(String s) {
+            append(String.valueOf(s));
+        }
+
+        @Override
+        public void print(Object obj) {
+            append(String.valueOf(obj));
+        }
+
+        @Override
+        public void print(char c) {
+            append(String.valueOf(c));
+        }
+
+        @Override
+        public void print(int i) {
+            append(String.valueOf(i));
+        }
+
+        @Override
+        public void print(long l) {
+            append(String.valueOf(l));
+        }
+
+        @Override
+        public void print(boolean b) {
+            append(String.valueOf(b));
+        }
+
+        @Override
+        public void println() {
+            append("\n");
+        }
+
+        @Override
+        public void println(String x) {
+            append(x + "\n");
+        }
+
+        @Override
+        public void println(Object x) {
+            append(x + "\n");
+        }
+
+        @Override
+        public void println(char x) {
+            append(x + "\n");
+        }
+
+        @Override
+        public void println(int x) {
+            append(x + "\n");
+        }
+
+        @Override
+        public void println(long x) {
+            append(x + "\n");
+        }
+
+        @Override
+        public void println(boolean x) {
+            append(x + "\n");
+        }
+
+        @Override
+        public void flush() {
+            // Lines are routed as soon as they are complete
+        }
+    }
+
+    /**
+     * Receives what PrintStream encodes itself (printf, char arrays, raw
+     * writes) and passes it on as text. Each thread has its own decoder, so a
+     * multibyte character split across writes is decoded once it is complete.
+     */
+    private static final class LineSink extends OutputStream {
+        private CapturingStream stream;
+        private final ThreadLocal<Utf8Decoder> decoder = ThreadLocal.withInitial(Utf8Decoder::new);
+
+        @Override
+        public void write(int b) {
+            write(new byte[]{(byte) b}, 0, 1);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            String text = decoder.get().decode(b, off, len);
+            if (!text.isEmpty()) {
+                stream.append(text);
+            }
+        }
+    }
+
+    private static final class Utf8Decoder {
+        private final CharsetDecoder decoder = StandardCharsets.UTF_8.newDecoder()
+                .onMalformedInput(CodingErrorAction.REPLACE)
+                .onUnmappableCharacter(CodingErrorAction.REPLACE);
+        // Bytes of a character whose remaining bytes have not been written yet
+        private ByteBuffer carry = ByteBuffer.allocate(0);
+
+        private String decode(byte[] b, int off, int len) {
+            ByteBuffer in = ByteBuffer.allocate(carry.remaining() + len);
+            in.put(carry).put(b, off, len).flip();
+            // UTF-8 never decodes to more chars than it has bytes
+            CharBuffer out = CharBuffer.allocate(in.remaining());
+            decoder.decode(in, out, false);
+            carry = ByteBuffer.allocate(in.remaining());
+            carry.put(in).flip();
+            return out.flip().toString();
+        }
+    }
+}
@@ -0,0 +1,314 @@
+package utils;
+
+import org.openqa.selenium.json.Json;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Records where the suite's wall clock goes as Chrome trace events, to open
+ * in chrome://tracing or https://ui.perfetto.dev. Each thread that runs tests
+ * gets its own lane, with one event per test containing its phases:
+ * <ul>
+ *   <li>setup and teardown, including Chrome start-up (driver)</li>
+ *   <li>OTP fetches (otp) and the login page actions (login)</li>
+ *   <li>direct route opens and page navigation actions (navigation)</li>
+ *   <li>page checks that tests assert on, is/verify/get/has methods (assertion)</li>
+ *   <li>every other page action (action) and explicit waits (wait)</li>
+ *   <li>fixed pauses, ActionTimer.sleep and waitForSeconds (sleep), drawn in red</li>
+ * </ul>
+ * OTP fetches started in the background get a lane of their own.
+ *
+ * {@link #printReport()} writes the trace to timeline.file (default
+ * target/timeline.json) and prints how much of each test was fixed sleep.
+ * Turned off with -Dtimeline=false.
+ */
+public final class Timeline {
+    private static final boolean ENABLED = Boolean.parseBoolean(System.getProperty("timeline", "true"));
+    private static final Path REPORT_FILE = Paths.get(System.getProperty("timeline.file", "target/timeline.json"));
+    private static final String SLEEP = "sleep";
+    private static final int PID = 1;
+
+    // Monotonic clock anchored to wall time, so events from all threads line up
+    private static final long ORIGIN_NANOS = System.nanoTime();
+    private static final long ORIGIN_MICROS = System.currentTimeMillis() * 1000;
+
+    private static final Queue<Map<String, Object>> EVENTS = new ConcurrentLinkedQueue<>();
+    private static final Map<Long, String> LANES = new ConcurrentHashMap<>();
+    private static final Map<String, Long> VIRTUAL_LANES = new ConcurrentHashMap<>();
+    private static final AtomicLong NEXT_VIRTUAL_LANE = new AtomicLong(1_000_000);
+    private static final ThreadLocal<TestSpan> TEST = new ThreadLocal<>();
+    private static final List<long[]> TEST_TOTALS = new ArrayList<>();
+
+    private Timeline() {
+    }
+
+    public static boolean isEnabled() {
+        return ENABLED;
+    }
+
+    /**
+     * Current time in microseconds, the unit of trace timestamps.
+     */
+    public static long now() {
+        return ORIGIN_MICROS + (System.nanoTime() - ORIGIN_NANOS) / 1000;
+    }
+
+    /**
+     * Starts an event on this thread's lane; it is recorded when closed.
+     */
+    public static Span span(String name, String category) {
+        return new Span(name, category);
+    }
+
+    /**
+     * Runs the action as an event on this thread's lane.
+     */
+    public static void run(String name, String category, Runnable action) {
+        Span span = span(name, category);
+        try {
+            action.run();
+        } finally {
+            span.close();
+        }
+    }
+
+    /**
+     * Like {@link #run(String, String, Runnable)}, for an action that produces a value.
+     */
+    public static <T> T run(String name, String category, Supplier<T> action) {
+        Span span = span(name, category);
+        try {
+            return action.get();
+        } finally {
+            span.close();
+        }
+    }
+
+    /**
+     * Records an event on this thread's lane that ran from startMicros to
+     * endMicros.
+     */
+    public static void complete(String name, String category, long startMicros, long endMicros, Map<String, Object> args) {
+        if (!ENABLED) {
+            return;
+        }
+        Thread thread = Thread.currentThread();
+        LANES.putIfAbsent(thread.getId(), thread.getName());
+        add(name, category, thread.getId(), startMicros, endMicros, args);
+        TestSpan test = TEST.get();
+        if (test != null && SLEEP.equals(category)) {
+            test.sleepMicros += endMicros - startMicros;
+        }
+    }
+
+    /**
+     * Starts the event of the test about to run on this thread.
+     */
+    public static void beginTest(String testId) {
+        if (ENABLED) {
+            TEST.set(new TestSpan(testId));
+        }
+    }
+
+    /**
+     * Ends this thread's test event, marking failed assertions.
+     */
+    public static void endTest(boolean passed, Throwable failure) {
+        TestSpan test = TEST.get();
+        TEST.remove();
+        if (test == null) {
+            return;
+        }
+        long end = now();
+        if (failure instanceof AssertionError) {
+            Map<String, Object> instant = event("Assertion failed", "assertion", Thread.currentThread().getId(), end);
+            instant.put("ph", "i");
+            instant.put("s", "t");
+            instant.put("args", Map.of("message", String.valueOf(failure.getMessage())));
+            EVENTS.add(instant);
+        }
+        Map<String, Object> args = new LinkedHashMap<>();
+        args.put("passed", passed);
+        args.put("sleepMs", test.sleepMicros / 1000);
+        complete(test.testId, "test", test.start, end, args);
+        synchronized (TEST_TOTALS) {
+            TEST_TOTALS.add(new long[]{end - test.start, test.sleepMicros});
+        }
+    }
+
+    /**
+     * The provider with its OTP fetches shown on the timeline.
+     */
+    public static OtpProvider traced(OtpProvider provider) {
+        return ENABLED ? new TracedOtpProvider(provider) : provider;
+    }
+
+    public static void printReport() {
+        if (!ENABLED) {
+            return;
+        }
+        System.out.println("\n=== Suite Timeline ===");
+        if (EVENTS.isEmpty()) {
+            System.out.println("No timeline events recorded");
+            return;
+        }
+        long wall = 0;
+        long sleep = 0;
+        int tests;
+        synchronized (TEST_TOTALS) {
+            tests = TEST_TOTALS.size();
+            for (long[] total : TEST_TOTALS) {
+                wall += total[0];
+                sleep += total[1];
+            }
+        }
+        if (tests > 0) {
+            System.out.println(String.format("%d tests, %.1f s in total, %.1f s of it fixed sleep (%.1f%%)",
+                    tests, wall / 1e6, sleep / 1e6, wall == 0 ? 0 : sleep * 100.0 / wall));
+        }
+
+        List<Map<String, Object>> events = new ArrayList<>();
+        for (Map.Entry<Long, String> lane : LANES.entrySet()) {
+            Map<String, Object> name = event("thread_name", null, lane.getKey(), 0);
+            name.put("ph", "M");
+            name.put("args", Map.of("name", lane.getValue()));
+            events.add(name);
+        }
+        Map<String, Object> process = event("process_name", null, 0, 0);
+        process.put("ph", "M");
+        process.put("args", Map.of("name", "Test suite"));
+        events.add(process);
+        events.addAll(EVENTS);
+
+        Map<String, Object> trace = new LinkedHashMap<>();
+        trace.put("traceEvents", events);
+        trace.put("displayTimeUnit", "ms");
+        try {
+            if (REPORT_FILE.getParent() != null) {
+                Files.createDirectories(REPORT_FILE.getParent());
+            }
+            Files.write(REPORT_FILE, new Json().toJson(trace).getBytes(StandardCharsets.UTF_8));
+            System.out.println("✓ Timeline saved to " + REPORT_FILE.toAbsolutePath()
+                    + " (open in chrome://tracing or ui.perfetto.dev)");
+        } catch (IOException e) {
+            System.err.println("Warning: Could not write timeline: " + e.getMessage());
+        }
+    }
+
+    private static void add(String name, String category, long tid, long startMicros, long endMicros,
+                            Map<String, Object> args) {
+        if (!ENABLED) {
+            return;
+        }
+        Map<String, Object> event = event(name, category, tid, startMicros);
+        event.put("ph", "X");
+        event.put("dur", Math.max(0, endMicros - startMicros));
+        if (SLEEP.equals(category)) {
+            // Reserved chrome://tracing colour, so fixed pauses stand out
+            event.put("cname", "terrible");
+        }
+        if (args != null && !args.isEmpty()) {
+            event.put("args", args);
+        }
+        EVENTS.add(event);
+    }
+
+    private static Map<String, Object> event(String name, String category, long tid, long ts) {
+        Map<String, Object> event = new LinkedHashMap<>();
+        event.put("name", name);
+        if (category != null) {
+            event.put("cat", category);
+        }
+        event.put("pid", PID);
+        event.put("tid", tid);
+        event.put("ts", ts);
+        return event;
+    }
+
+    private static long virtualLane(String name) {
+        return VIRTUAL_LANES.computeIfAbsent(name, key -> {
+            long tid = NEXT_VIRTUAL_LANE.getAndIncrement();
+            LANES.put(tid, key);
+            return tid;
+        });
+    }
+
+    private static final class TestSpan {
+        private final String testId;
+        private final long start = now();
+        private long sleepMicros;
+
+        private TestSpan(String testId) {
+            this.testId = testId;
+        }
+    }
+
+    /**
+     * An event in progress on the thread that started it.
+     */
+    public static final class Span implements AutoCloseable {
+        private final String name;
+        private final String category;
+        private final long start = now();
+        private final Map<String, Object> args = new LinkedHashMap<>();
+
+        private Span(String name, String category) {
+            this.name = name;
+            this.category = category;
+        }
+
+        public Span arg(String key, Object value) {
+            args.put(key, value);
+            return this;
+        }
+
+        @Override
+        public void close() {
+            complete(name, category, start, now(), args);
+        }
+    }
+
+    private static final class TracedOtpProvider implements OtpProvider {
+        private final OtpProvider delegate;
+
+        private TracedOtpProvider(OtpProvider delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public String getOTPWithRetry(String email, int maxRetries, int waitBetweenRetries) {
+            try (Span fetch = span("OTP fetch", "otp").arg("provider", delegate.getClass().getSimpleName())) {
+                String otp = delegate.getOTPWithRetry(email, maxRetries, waitBetweenRetries);
+                fetch.arg("found", otp != null);
+                return otp;
+            }
+        }
+
+        @Override
+        public CompletableFuture<String> fetchOtpAsync(String email, int maxRetries, int waitBetweenRetries) {
+            long start = now();
+            return delegate.fetchOtpAsync(email, maxRetries, waitBetweenRetries).whenComplete((otp, error) ->
+                    add("OTP fetch (background)", "otp", virtualLane("OTP fetch (background)"), start, now(),
+                            Map.of("provider", delegate.getClass().getSimpleName(), "found", otp != null)));
+        }
+
+        @Override
+        public void close() {
+            delegate.close();
+        }
+    }
+}
@@ -0,0 +1,169 @@
+package utils;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.WebElement;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BooleanSupplier;
+import java.util.function.Supplier;
+
+/**
+ * How long element lookups may wait.
+ *
+ * Drivers get an implicit wait (wait.implicit.seconds, default 10) so plain
+ * lookups tolerate slow renders. An absent element would then cost the full
+ * implicit wait on every isDisplayed() call, so "is X displayed" checks go
+ * through this class instead: the implicit wait is switched off for the check,
+ * and the element gets wait.presence.ms (default 1000) to show up. While the
+ * app still has requests in flight (see {@link NetworkIdle}) a positive check
+ * keeps waiting past that, up to the implicit wait, since the element may be
+ * rendered from their responses.
+ *
+ * Time spent on elements that never appeared - in these checks and in
+ * {@link DomConditions} waits that timed out - is collected per element and
+ * printed by {@link #printReport()}.
+ */
+public final class WaitPolicy {
+    private static final Duration IMPLICIT_WAIT = Duration.ofSeconds(Long.getLong("wait.implicit.seconds", 10));
+    private static final Duration PRESENCE_TIMEOUT = Duration.ofMillis(Long.getLong("wait.presence.ms", 1000));
+    private static final long POLL_MS = 100;
+    // How long after the last request a positive check still counts the network as busy
+    private static final Duration NETWORK_SETTLE = Duration.ofMillis(300);
+
+    // Nesting depth per thread, so only the outermost scope restores the implicit wait
+    private static final ThreadLocal<int[]> SUSPENDED = ThreadLocal.withInitial(() -> new int[1]);
+    private static final Map<String, Miss> MISSES = new ConcurrentHashMap<>();
+
+    private WaitPolicy() {
+    }
+
+    public static Duration implicitWait() {
+        return IMPLICIT_WAIT;
+    }
+
+    /**
+     * Runs the action with the implicit wait turned off.
+     */
+    public static <T> T withoutImplicitWait(WebDriver driver, Supplier<T> action) {
+        int[] depth = SUSPENDED.get();
+        if (depth[0]++ == 0) {
+            driver.manage().timeouts().implicitlyWait(Duration.ZERO);
+        }
+        try {
+            return action.get();
+        } finally {
+            if (--depth[0] == 0) {
+                driver.manage().timeouts().implicitlyWait(IMPLICIT_WAIT);
+            }
+        }
+    }
+
+    /**
+     * Whether the element is displayed, giving it wait.presence.ms to appear,
+     * or longer while requests are in flight.
+     */
+    public static boolean isDisplayed(WebDriver driver, WebElement element, String description) {
+        return isDisplayed(driver, element, description, PRESENCE_TIMEOUT);
+    }
+
+    /**
+     * Whether the element is displayed right now, for negative checks where
+     * absence is the expected outcome.
+     */
+    public static boolean isDisplayedNow(WebDriver driver, WebElement element, String description) {
+        return isDisplayed(driver, element, description, Duration.ZERO);
+    }
+
+    public static boolean isDisplayed(WebDriver driver, WebElement element, String description, Duration within) {
+        if (element == null) {
+            return false;
+        }
+        return poll(driver, () -> displayedNow(element), description, within);
+    }
+
+    /**
+     * Whether an element matching the locator is displayed, giving it up to
+     * {@code within} to appear; for elements located by test data, which
+     * cannot be declared with @FindBy.
+     */
+    public static boolean isDisplayed(WebDriver driver, By locator, String description, Duration within) {
+        return poll(driver, () -> driver.findElements(locator).stream().anyMatch(WaitPolicy::displayedNow),
+                description, within);
+    }
+
+    private static boolean poll(WebDriver driver, BooleanSupplier check, String description, Duration within) {
+        long start = System.currentTimeMillis();
+        long deadline = start + within.toMillis();
+        // Negative checks (no wait at all) never wait on the network
+        NetworkIdle network = within.isZero() ? null : NetworkIdle.of(driver);
+        long busyDeadline = start + Math.max(within.toMillis(), IMPLICIT_WAIT.toMillis());
+        boolean displayed = ActionTimer.waiting(() -> withoutImplicitWait(driver, () -> {
+            while (true) {
+                if (check.getAsBoolean()) {
+                    return true;
+                }
+                long now = System.currentTimeMillis();
+                if (now >= deadline && (network == null || now >= busyDeadline || !network.isBusy(NETWORK_SETTLE))) {
+                    return false;
+                }
+                try {
+                    Thread.sleep(POLL_MS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return false;
+                }
+            }
+        }));
+        if (!displayed) {
+            recordMiss(description, System.currentTimeMillis() - start);
+        }
+        return displayed;
+    }
+
+    /**
+     * Adds time spent waiting for an element that never appeared to the report.
+     */
+    public static void recordMiss(String description, long millis) {
+        Miss miss = MISSES.computeIfAbsent(description, key -> new Miss());
+        miss.count.incrementAndGet();
+        miss.millis.addAndGet(millis);
+    }
+
+    public static void printReport() {
+        System.out.println("\n=== Wait Report: elements that never appeared ===");
+        if (MISSES.isEmpty()) {
+            System.out.println("None");
+            return;
+        }
+        List<Map.Entry<String, Miss>> entries = new ArrayList<>(MISSES.entrySet());
+        entries.sort((a, b) -> Long.compare(b.getValue().millis.get(), a.getValue().millis.get()));
+        long total = 0;
+        for (Map.Entry<String, Miss> entry : entries) {
+            Miss miss = entry.getValue();
+            total += miss.millis.get();
+            System.out.println(String.format("%8d ms  %3dx  %s", miss.millis.get(), miss.count.get(), entry.getKey()));
+        }
+        System.out.println(String.format("%8d ms  total", total));
+    }
+
+    private static boolean displayedNow(WebElement element) {
+        try {
+            return element.isDisplayed();
+        } catch (WebDriverException e) {
+            // Not found or stale
+            return false;
+        }
+    }
+
+    private static final class Miss {
+        private final AtomicLong count = new AtomicLong();
+        private final AtomicLong millis = new AtomicLong();
+    }
+}
@@ -0,0 +1,245 @@
+package utils;
+
+import java.io.IOException;
+import java.net.CookieManager;
+import java.net.HttpCookie;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Reads Yopmail inboxes over plain HTTP instead of driving a browser through
+ * the site's iframes. Uses the same endpoints the web UI calls:
+ * the home page (yp token), webmail.js (yj token), /inbox (message list) and
+ * /mail (message body). The base URL is configurable so the client can run
+ * against {@link YopmailStubServer} offline.
+ *
+ * A message is only read for an OTP once: messages already in the inbox when
+ * {@link #markInbox(String)} ran, or whose code was already returned, are
+ * skipped, so a slow delivery never yields the previous login's code.
+ */
+public class YopmailInboxClient implements OtpProvider {
+    private static final Pattern YP_PATTERN = Pattern.compile("id=\"yp\"[^>]*value=\"([^\"]+)\"");
+    private static final Pattern VERSION_PATTERN = Pattern.compile("/ver/([0-9.]+)/webmail\\.js");
+    private static final Pattern YJ_PATTERN = Pattern.compile("yj=([0-9A-Za-z]+)");
+    private static final Pattern MESSAGE_ID_PATTERN = Pattern.compile("class=\"m\"[^>]*id=\"([^\"]+)\"");
+    private static final Pattern KEYWORD_OTP_PATTERN = Pattern.compile("(?i)(otp|code|verification code)[:\\s]+(\\d{6})");
+    private static final Pattern OTP_PATTERN = Pattern.compile("\\b(\\d{6})\\b");
+
+    private static final ExecutorService EXECUTOR = Executors.newCachedThreadPool(runnable -> {
+        Thread thread = new Thread(runnable, "yopmail-inbox-client");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final String baseUrl;
+    private final CookieManager cookies = new CookieManager();
+    private final HttpClient client;
+    // mailbox -> message ids that must not be read for an OTP again
+    private final Map<String, Set<String>> seen = new ConcurrentHashMap<>();
+
+    private String yp;
+    private String yj;
+    private String version;
+
+    public YopmailInboxClient() {
+        this(System.getProperty("yopmail.base.url", "https://yopmail.com"));
+    }
+
+    public YopmailInboxClient(String baseUrl) {
+        this.baseUrl = baseUrl.endsWith("/") ? baseUrl.substring(0, baseUrl.length() - 1) : baseUrl;
+        this.client = HttpClient.newBuilder()
+                .cookieHandler(cookies)
+                .followRedirects(HttpClient.Redirect.NORMAL)
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+    }
+
+    /**
+     * Notes the messages already in the mailbox, so only mail that arrives
+     * afterwards is read for an OTP. Call it before submitting the login form.
+     */
+    public void markInbox(String email) {
+        String mailbox = email.split("@")[0];
+        try {
+            seenIn(mailbox).addAll(listMessageIds(mailbox));
+        } catch (IOException e) {
+            System.err.println("Warning: Could not list inbox " + mailbox + " before login: " + e.getMessage());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Fetches the OTP from the newest message not seen before.
+     * @return the OTP, or null if no new message has arrived or it has no code
+     */
+    public String getOTPFromEmail(String email) {
+        try {
+            return readNewOtp(email);
+        } catch (IOException e) {
+            System.err.println("❌ Error fetching OTP over HTTP: " + e.getMessage());
+            return null;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        }
+    }
+
+    /**
+     * Like {@link #getOTPFromEmail(String)}, but throws when Yopmail cannot be
+     * read, so callers can tell "no new mail yet" from "inbox unreachable".
+     */
+    String readNewOtp(String email) throws IOException, InterruptedException {
+        String mailbox = email.split("@")[0];
+        Set<String> skip = seenIn(mailbox);
+        String newest = null;
+        for (String id : listMessageIds(mailbox)) {
+            if (!skip.contains(id)) {
+                newest = id;
+                break;
+            }
+        }
+        if (newest == null) {
+            System.out.println("Note: No new message in inbox " + mailbox);
+            return null;
+        }
+        String otp = extractOtp(readMessage(mailbox, newest));
+        skip.add(newest);
+        if (otp != null) {
+            System.out.println("✓ OTP extracted over HTTP: " + otp);
+        }
+        return otp;
+    }
+
+    @Override
+    public String getOTPWithRetry(String email, int maxRetries, int waitBetweenRetries) {
+        for (int i = 0; i < maxRetries; i++) {
+            System.out.println("\nAttempt " + (i + 1) + " of " + maxRetries + " to fetch OTP over HTTP");
+            String otp = getOTPFromEmail(email);
+            if (otp != null) {
+                return otp;
+            }
+            if (i < maxRetries - 1) {
+                try {
+                    ActionTimer.sleep(waitBetweenRetries * 1000L);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return null;
+                }
+            }
+        }
+        System.err.println("❌ Failed to retrieve OTP after " + maxRetries + " attempts");
+        return null;
+    }
+
+    /**
+     * Notes the messages already in the inbox, then fetches the OTP of the
+     * next one on the client's own daemon threads, so the caller can submit
+     * the login form and wait for the OTP page meanwhile.
+     */
+    @Override
+    public CompletableFuture<String> fetchOtpAsync(String email, int maxRetries, int waitBetweenRetries) {
+        markInbox(email);
+        return CompletableFuture.supplyAsync(
+                TestLog.wrap(() -> getOTPWithRetry(email, maxRetries, waitBetweenRetries)), EXECUTOR);
+    }
+
+    /**
+     * Message ids in the mailbox, newest first.
+     */
+    public synchronized List<String> listMessageIds(String mailbox) throws IOException, InterruptedException {
+        ensureTokens();
+        String html = get("/en/inbox?login=" + encode(mailbox) + "&p=1&d=&ctrl=&yp=" + encode(yp)
+                + "&yj=" + encode(yj) + "&v=" + encode(version) + "&r_c=&id=");
+        List<String> ids = new ArrayList<>();
+        Matcher matcher = MESSAGE_ID_PATTERN.matcher(html);
+        while (matcher.find()) {
+            ids.add(matcher.group(1));
+        }
+        return ids;
+    }
+
+    /**
+     * Plain text of a message.
+     */
+    public synchronized String readMessage(String mailbox, String messageId) throws IOException, InterruptedException {
+        ensureTokens();
+        String html = get("/en/mail?b=" + encode(mailbox) + "&id=m" + encode(messageId));
+        return html.replaceAll("(?is)<(script|style)[^>]*>.*?</\\1>", " ")
+                .replaceAll("<[^>]+>", " ")
+                .replace("&nbsp;", " ")
+                .replaceAll("\\s+", " ")
+                .trim();
+    }
+
+    private Set<String> seenIn(String mailbox) {
+        return seen.computeIfAbsent(mailbox.toLowerCase(), key -> ConcurrentHashMap.newKeySet());
+    }
+
+    static String extractOtp(String text) {
+        Matcher keyword = KEYWORD_OTP_PATTERN.matcher(text);
+        if (keyword.find()) {
+            return keyword.group(2);
+        }
+        Matcher digits = OTP_PATTERN.matcher(text);
+        return digits.find() ? digits.group(1) : null;
+    }
+
+    private void ensureTokens() throws IOException, InterruptedException {
+        if (yp != null) {
+            return;
+        }
+        String home = get("/en/");
+        yp = find(YP_PATTERN, home, "yp token");
+        version = find(VERSION_PATTERN, home, "webmail version");
+        yj = find(YJ_PATTERN, get("/ver/" + version + "/webmail.js"), "yj token");
+
+        // The web UI sets this cookie from script; the inbox endpoint expects it
+        HttpCookie ytime = new HttpCookie("ytime", LocalTime.now().format(DateTimeFormatter.ofPattern("H:mm")));
+        ytime.setPath("/");
+        cookies.getCookieStore().add(URI.create(baseUrl), ytime);
+    }
+
+    private String get(String path) throws IOException, InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .timeout(Duration.ofSeconds(10))
+                .header("User-Agent", "Mozilla/5.0 (X11; Linux x86_64) AppleWebKit/537.36 (KHTML, like Gecko) Chrome/131.0 Safari/537.36")
+                .header("Referer", baseUrl + "/en/")
+                .GET()
+                .build();
+        HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() != 200) {
+            throw new IOException("HTTP " + response.statusCode() + " from " + path);
+        }
+        return response.body();
+    }
+
+    private static String find(Pattern pattern, String text, String what) throws IOException {
+        Matcher matcher = pattern.matcher(text);
+        if (!matcher.find()) {
+            throw new IOException("Could not find " + what + " in Yopmail response");
+        }
+        return matcher.group(1);
+    }
+
+    private static String encode(String value) {
+        return URLEncoder.encode(value, StandardCharsets.UTF_8);
+    }
+}
@@ -3,39 +3,44 @@ package utils;
 import org.openqa.selenium.By;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
-import org.openqa.selenium.chrome.ChromeDriver;
-import org.openqa.selenium.chrome.ChromeOptions;
 import org.openqa.selenium.support.ui.ExpectedConditions;
 import org.openqa.selenium.support.ui.WebDriverWait;
 
+import java.io.IOException;
 import java.time.Duration;
 import java.util.ArrayList;
+import java.util.concurrent.CompletableFuture;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
-public class YopmailService {
+public class YopmailService implements OtpProvider {
     private WebDriver yopmailDriver;
     private WebDriverWait wait;
     private static final String YOPMAIL_URL = "https://yopmail.com/";
+    private final YopmailInboxClient inboxClient = new YopmailInboxClient();
+    private final boolean browserFallback = Boolean.parseBoolean(System.getProperty("yopmail.browser.fallback", "true"));
     
     public YopmailService() {
-        // Setup separate Chrome driver for Yopmail
-        ChromeOptions options = new ChromeOptions();
-        options.addArguments("--disable-notifications");
-        options.addArguments("--disable-popup-blocking");
-        options.addArguments("--start-maximized");
-        this.yopmailDriver = new ChromeDriver(options);
-        this.wait = new WebDriverWait(yopmailDriver, Duration.ofSeconds(20));
+        // The inbox is read over HTTP; the browser is only started if that fails
+    }
+    
+    private void startBrowser() {
+        if (yopmailDriver == null) {
+            // Setup separate Chrome driver for Yopmail, using the same execution profile
+            this.yopmailDriver = DriverFactory.createChromeDriver();
+            this.wait = new WebDriverWait(yopmailDriver, Duration.ofSeconds(20));
+        }
     }
     
     /**
-     * Fetches OTP from Yopmail email
+     * Fetches OTP from Yopmail email by scraping the inbox in a browser
      * @param email The email address (e.g., laptop@yopmail.com)
      * @return The OTP code as a String
      */
     public String getOTPFromEmail(String email) {
         String otp = null;
         try {
+            startBrowser();
             System.out.println("\\n=== Fetching OTP from Yopmail ===");
             
             // Extract username from email
@@ -45,7 +50,7 @@ public class YopmailService {
             // Navigate to Yopmail
             yopmailDriver.get(YOPMAIL_URL);
             System.out.println("✓ Navigated to Yopmail");
-            Thread.sleep(2000);
+            ActionTimer.sleep(2000);
             
             // Enter email in the login field
             WebElement emailInput = wait.until(ExpectedConditions.presenceOfElementLocated(
@@ -59,7 +64,7 @@ public class YopmailService {
                 By.xpath("//button[@title='Check Inbox' or @class='sbut']"));
             checkInboxButton.click();
             System.out.println("✓ Clicked Check Inbox button");
-            Thread.sleep(3000);
+            ActionTimer.sleep(3000);
             
             // Wait for inbox to load and refresh if needed
             refreshInbox();
@@ -72,7 +77,7 @@ public class YopmailService {
             
             // Switch back to main content
             yopmailDriver.switchTo().defaultContent();
-            Thread.sleep(2000);
+            ActionTimer.sleep(2000);
             
             // Switch to the iframe containing the email content
             switchToEmailContentFrame();
@@ -95,14 +100,14 @@ public class YopmailService {
      */
     private void refreshInbox() {
         try {
-            Thread.sleep(2000);
+            ActionTimer.sleep(2000);
             // Click refresh button
             try {
                 WebElement refreshButton = yopmailDriver.findElement(
                     By.xpath("//button[@id='refresh' or contains(@class, 'refresh')]"));
                 refreshButton.click();
                 System.out.println("✓ Refreshed inbox");
-                Thread.sleep(2000);
+                ActionTimer.sleep(2000);
             } catch (Exception e) {
                 System.out.println("Note: Refresh button not found, continuing...");
             }
@@ -135,7 +140,7 @@ public class YopmailService {
      */
     private void clickLatestEmail() {
         try {
-            Thread.sleep(2000);
+            ActionTimer.sleep(2000);
             
             // Wait for email list to load
             wait.until(ExpectedConditions.presenceOfElementLocated(
@@ -146,7 +151,7 @@ public class YopmailService {
                 By.xpath("(//div[@class='m' or contains(@class, 'mail')])[1]"));
             latestEmail.click();
             System.out.println("✓ Clicked on latest email");
-            Thread.sleep(2000);
+            ActionTimer.sleep(2000);
             
         } catch (Exception e) {
             System.err.println("Warning: Could not click latest email - " + e.getMessage());
@@ -156,7 +161,7 @@ public class YopmailService {
                 WebElement firstRow = yopmailDriver.findElement(By.xpath("(//div[@id='mail'])[1]"));
                 firstRow.click();
                 System.out.println("✓ Clicked on first email (alternative method)");
-                Thread.sleep(2000);
+                ActionTimer.sleep(2000);
             } catch (Exception ex) {
                 System.err.println("Error: Could not click any email - " + ex.getMessage());
             }
@@ -170,7 +175,7 @@ public class YopmailService {
         try {
             // Switch back to default content first
             yopmailDriver.switchTo().defaultContent();
-            Thread.sleep(1000);
+            ActionTimer.sleep(1000);
             
             // Switch to mail content frame
             try {
@@ -181,7 +186,7 @@ public class YopmailService {
                     By.xpath("//iframe[@id='ifmail']")));
                 System.out.println("✓ Switched to email content frame (xpath)");
             }
-            Thread.sleep(1000);
+            ActionTimer.sleep(1000);
             
         } catch (Exception e) {
             System.err.println("Warning: Could not switch to email content frame - " + e.getMessage());
@@ -263,19 +268,45 @@ public class YopmailService {
         if (yopmailDriver != null) {
             System.out.println("✓ Closing Yopmail browser");
             yopmailDriver.quit();
+            yopmailDriver = null;
         }
     }
+
+    @Override
+    public void close() {
+        closeBrowser();
+    }
     
+    /**
+     * Notes the mail already in the inbox before fetching in the background,
+     * so only the code sent for the login that follows is returned.
+     */
+    @Override
+    public CompletableFuture<String> fetchOtpAsync(String email, int maxRetries, int waitBetweenRetries) {
+        inboxClient.markInbox(email);
+        return OtpProvider.super.fetchOtpAsync(email, maxRetries, waitBetweenRetries);
+    }
+
     /**
      * Alternative method: Wait for new email and get OTP with retry mechanism
      */
+    @Override
     public String getOTPWithRetry(String email, int maxRetries, int waitBetweenRetries) {
         String otp = null;
         
         for (int i = 0; i < maxRetries; i++) {
             System.out.println("\\nAttempt " + (i + 1) + " of " + maxRetries + " to fetch OTP");
             
-            otp = getOTPFromEmail(email);
+            try {
+                otp = inboxClient.readNewOtp(email);
+            } catch (IOException e) {
+                // The browser can only show the newest mail, so it is used only when HTTP fails
+                System.err.println("❌ Error fetching OTP over HTTP: " + e.getMessage());
+                otp = browserFallback ? getOTPFromEmail(email) : null;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return null;
+            }
             
             if (otp != null && otp.length() == 6) {
                 System.out.println("✓ OTP successfully retrieved: " + otp);
@@ -285,7 +316,7 @@ public class YopmailService {
             if (i < maxRetries - 1) {
                 System.out.println("⏳ Waiting " + waitBetweenRetries + " seconds before retry...");
                 try {
-                    Thread.sleep(waitBetweenRetries * 1000L);
+                    ActionTimer.sleep(waitBetweenRetries * 1000L);
                 } catch (InterruptedException e) {
                     e.printStackTrace();
                 }
@@ -0,0 +1,178 @@
+package utils;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+
+/**
+ * Local stand-in for yopmail.com that replays the inbox pages stored under
+ * src/main/resources/yopmail-stub, so {@link YopmailInboxClient} can be run
+ * and checked without network access. Messages are added with
+ * {@link #deliverOtp(String, String)}.
+ *
+ * <pre>
+ * YopmailStubServer stub = YopmailStubServer.start(0);
+ * stub.deliverOtp("laptop", "482913");
+ * new YopmailInboxClient(stub.getBaseUrl()).getOTPFromEmail("laptop@yopmail.com");
+ * </pre>
+ */
+public class YopmailStubServer implements AutoCloseable {
+    private static final String FIXTURES = "/yopmail-stub/";
+
+    private final HttpServer server;
+    private final Map<String, Deque<Message>> mailboxes = new ConcurrentHashMap<>();
+
+    private YopmailStubServer(HttpServer server) {
+        this.server = server;
+    }
+
+    /**
+     * Starts the stub on the given port (0 picks a free one).
+     */
+    public static YopmailStubServer start(int port) {
+        try {
+            HttpServer httpServer = HttpServer.create(new InetSocketAddress("127.0.0.1", port), 0);
+            YopmailStubServer stub = new YopmailStubServer(httpServer);
+            httpServer.createContext("/", stub::handle);
+            httpServer.start();
+            System.out.println("✓ Yopmail stub listening on " + stub.getBaseUrl());
+            return stub;
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to start Yopmail stub server", e);
+        }
+    }
+
+    public String getBaseUrl() {
+        return "http://127.0.0.1:" + server.getAddress().getPort();
+    }
+
+    public void deliverOtp(String mailbox, String otp) {
+        Message message = new Message("e_" + UUID.randomUUID().toString().replace("-", ""),
+                "Your HealthAera verification code", otp,
+                LocalTime.now().format(DateTimeFormatter.ofPattern("HH:mm")));
+        mailboxes.computeIfAbsent(mailbox.toLowerCase(), key -> new ConcurrentLinkedDeque<>()).addFirst(message);
+    }
+
+    public void clear() {
+        mailboxes.clear();
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        String path = exchange.getRequestURI().getPath();
+        Map<String, String> query = parseQuery(exchange.getRequestURI().getRawQuery());
+        try {
+            if (path.equals("/") || path.equals("/en/")) {
+                respond(exchange, 200, "text/html", fixture("home.html"));
+            } else if (path.matches("/ver/[0-9.]+/webmail\\.js")) {
+                respond(exchange, 200, "application/javascript", fixture("webmail.js"));
+            } else if (path.equals("/en/inbox")) {
+                if (query.get("yp") == null || query.get("yj") == null) {
+                    respond(exchange, 403, "text/plain", "missing token");
+                    return;
+                }
+                respond(exchange, 200, "text/html", renderInbox(query.getOrDefault("login", "")));
+            } else if (path.equals("/en/mail")) {
+                Message message = findMessage(query.getOrDefault("b", ""), query.getOrDefault("id", ""));
+                if (message == null) {
+                    respond(exchange, 404, "text/plain", "no such message");
+                    return;
+                }
+                respond(exchange, 200, "text/html", fixture("mail.html")
+                        .replace("{{subject}}", message.subject)
+                        .replace("{{otp}}", message.otp));
+            } else {
+                respond(exchange, 404, "text/plain", "not found");
+            }
+        } catch (RuntimeException e) {
+            respond(exchange, 500, "text/plain", e.getMessage());
+        }
+    }
+
+    private String renderInbox(String mailbox) {
+        StringBuilder messages = new StringBuilder();
+        String row = fixture("inbox-message.html");
+        for (Message message : mailboxes.getOrDefault(mailbox.toLowerCase(), new ConcurrentLinkedDeque<>())) {
+            messages.append(row.replace("{{id}}", message.id)
+                    .replace("{{time}}", message.time)
+                    .replace("{{subject}}", message.subject));
+        }
+        return fixture("inbox.html").replace("{{messages}}", messages.toString());
+    }
+
+    private Message findMessage(String mailbox, String id) {
+        String messageId = id.startsWith("m") ? id.substring(1) : id;
+        for (Message message : mailboxes.getOrDefault(mailbox.toLowerCase(), new ConcurrentLinkedDeque<>())) {
+            if (message.id.equals(messageId)) {
+                return message;
+            }
+        }
+        return null;
+    }
+
+    private static String fixture(String name) {
+        try (InputStream in = YopmailStubServer.class.getResourceAsStream(FIXTURES + name)) {
+            if (in == null) {
+                throw new IllegalStateException("Missing fixture " + FIXTURES + name);
+            }
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new IllegalStateException("Could not read fixture " + name, e);
+        }
+    }
+
+    private static Map<String, String> parseQuery(String rawQuery) {
+        Map<String, String> params = new HashMap<>();
+        if (rawQuery == null || rawQuery.isEmpty()) {
+            return params;
+        }
+        for (String pair : rawQuery.split("&")) {
+            int eq = pair.indexOf('=');
+            String key = eq < 0 ? pair : pair.substring(0, eq);
+            String value = eq < 0 ? "" : pair.substring(eq + 1);
+            params.put(URLDecoder.decode(key, StandardCharsets.UTF_8), URLDecoder.decode(value, StandardCharsets.UTF_8));
+        }
+        return params;
+    }
+
+    private static void respond(HttpExchange exchange, int status, String contentType, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", contentType + "; charset=utf-8");
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    private static final class Message {
+        private final String id;
+        private final String subject;
+        private final String otp;
+        private final String time;
+
+        private Message(String id, String subject, String otp, String time) {
+            this.id = id;
+            this.subject = subject;
+            this.otp = otp;
+            this.time = time;
+        }
+    }
+}
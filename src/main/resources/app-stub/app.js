@@ -0,0 +1,57 @@
+// Behaviour shared by the stand-in pages: JSON posts, comboboxes and date pickers.
+function postJson(url, data) {
+    return fetch(url, {
+        method: 'POST',
+        headers: {'Content-Type': 'application/json'},
+        credentials: 'same-origin',
+        body: JSON.stringify(data || {})
+    }).then(function (response) {
+        if (!response.ok) { throw new Error('HTTP ' + response.status); }
+        return response.text();
+    });
+}
+
+function go(url) {
+    window.location.href = url;
+}
+
+function show(id) {
+    document.getElementById(id).classList.remove('hidden');
+}
+
+function hide(id) {
+    document.getElementById(id).classList.add('hidden');
+}
+
+document.addEventListener('DOMContentLoaded', function () {
+    // Comboboxes: clicking the input opens the listbox that follows it
+    document.querySelectorAll('input[role=combobox]').forEach(function (input) {
+        var list = input.nextElementSibling;
+        input.setAttribute('aria-expanded', 'false');
+        input.addEventListener('click', function () {
+            list.classList.remove('hidden');
+            input.setAttribute('aria-expanded', 'true');
+        });
+        list.querySelectorAll('[role=option]').forEach(function (option) {
+            option.addEventListener('click', function () {
+                input.value = option.textContent.trim();
+                list.classList.add('hidden');
+                input.setAttribute('aria-expanded', 'false');
+            });
+        });
+    });
+
+    // Date inputs: clicking opens a picker with a Today link and a day grid
+    document.querySelectorAll('input[data-datepicker]').forEach(function (input) {
+        var picker = input.nextElementSibling;
+        input.addEventListener('click', function () { picker.classList.remove('hidden'); });
+        picker.querySelectorAll('a, td[role=gridcell] span').forEach(function (target) {
+            target.addEventListener('click', function () {
+                var now = new Date();
+                var day = target.tagName === 'A' ? now.getDate() : parseInt(target.textContent, 10);
+                input.value = now.getFullYear() + '-' + (now.getMonth() + 1) + '-' + day;
+                picker.classList.add('hidden');
+            });
+        });
+    });
+});
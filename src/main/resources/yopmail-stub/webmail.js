@@ -0,0 +1,2 @@
+function rinb(){var a=document.getElementById("ifinbox");a.src="/en/inbox?login="+l+"&p="+p+"&d="+d+"&ctrl="+c+"&yp="+yp+"&yj=RZwt1AGR1AmV3ZGD&v=9.2&r_c="+rc+"&id="+id;}
+function g(a,b){var m=document.getElementById("ifmail");m.src="/en/mail?b="+l+"&id=m"+a;}
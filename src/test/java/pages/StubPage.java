@@ -0,0 +1,29 @@
+package pages;
+
+import org.openqa.selenium.WebDriver;
+
+/**
+ * Page object over a driver that answers without a browser, for the
+ * {@link utils.ActionTimer} tests.
+ */
+public class StubPage {
+    private final WebDriver driver;
+
+    public StubPage(WebDriver driver) {
+        this.driver = driver;
+    }
+
+    // One WebDriver command per call
+    public String getPageTitle() {
+        return driver.getTitle();
+    }
+
+    public String getTitles() {
+        return getPageTitle() + " / " + getPageTitle();
+    }
+
+    // No WebDriver command, so never an action
+    public String describe() {
+        return "stub page";
+    }
+}
@@ -4,6 +4,9 @@ import org.testng.Assert;
 import org.testng.annotations.Test;
 import pages.*;
 import utils.BaseTest;
+import utils.Route;
+
+import java.util.concurrent.CompletableFuture;
 
 public class AddSubtaskFlowTest extends BaseTest {
 
@@ -21,10 +24,14 @@ public class AddSubtaskFlowTest extends BaseTest {
             // STEP 1: Login
             System.out.println("STEP 1: Performing Login");
             performLogin();
+            // With a confirmed API the task goes into a plan created for this test
+            CompletableFuture<String> seededPlan = canSeedData()
+                    ? seedData().plan("Seeded Plan " + System.currentTimeMillis(), "Fitness", "High")
+                    : null;
 
             // STEP 2: Click on Exploring Solo option
             System.out.println("\nSTEP 2: Click on Exploring Solo");
-            WelcomePage welcomePage = new WelcomePage(driver);
+            WelcomePage welcomePage = new WelcomePage(getDriver());
             Assert.assertTrue(welcomePage.isWelcomePageDisplayed(),
                     "Welcome page should be displayed");
 
@@ -33,7 +40,7 @@ public class AddSubtaskFlowTest extends BaseTest {
 
             // STEP 3: Navigate to My Planner
             System.out.println("\nSTEP 3: Navigate to My Planner");
-            HealthMenuPage healthMenuPage = new HealthMenuPage(driver);
+            HealthMenuPage healthMenuPage = new HealthMenuPage(getDriver());
             Assert.assertTrue(healthMenuPage.isHealthMenuPageDisplayed(),
                     "Health Menu page should be displayed");
 
@@ -42,7 +49,7 @@ public class AddSubtaskFlowTest extends BaseTest {
 
             // STEP 4: Verify Planner Page
             System.out.println("\nSTEP 4: Verify Planner Page");
-            PlannerPage plannerPage = new PlannerPage(driver);
+            PlannerPage plannerPage = new PlannerPage(getDriver());
             Assert.assertTrue(plannerPage.verifyCurrentURL("planner"),
                     "Should be on Planner page");
 
@@ -51,15 +58,19 @@ public class AddSubtaskFlowTest extends BaseTest {
             plannerPage.clickPlansTab();
             waitForSeconds(2);
 
-            // STEP 6: Click on first Plan Card
-            System.out.println("\nSTEP 6: Click on First Plan Card");
-            PlansListPage plansListPage = new PlansListPage(driver);
-            plansListPage.clickFirstPlanCard();
-            waitForSeconds(3);
+            // STEP 6: Open the seeded plan, or the first plan card
+            System.out.println("\nSTEP 6: Open Plan");
+            if (seededPlan != null) {
+                navigateTo(Route.PLANS, seededPlan.join());
+            } else {
+                PlansListPage plansListPage = new PlansListPage(getDriver());
+                plansListPage.clickFirstPlanCard();
+                waitForSeconds(3);
+            }
 
             // STEP 7: Verify Plan Detail Page
             System.out.println("\nSTEP 7: Verify Plan Detail Page");
-            PlanDetailPage planDetailPage = new PlanDetailPage(driver);
+            PlanDetailPage planDetailPage = new PlanDetailPage(getDriver());
             Assert.assertTrue(planDetailPage.isPlanDetailPageDisplayed(),
                     "Plan Detail page should be displayed");
 
@@ -70,7 +81,7 @@ public class AddSubtaskFlowTest extends BaseTest {
 
             // STEP 9: Fill and Submit Task Form
             System.out.println("\nSTEP 9: Fill and Submit Task Creation Form");
-            AddTaskPage addTaskPage = new AddTaskPage(driver);
+            AddTaskPage addTaskPage = new AddTaskPage(getDriver());
             Assert.assertTrue(addTaskPage.isAddTaskPageDisplayed(),
                     "Add Task form should be displayed");
 
@@ -91,7 +102,7 @@ public class AddSubtaskFlowTest extends BaseTest {
             // STEP 10: Verify Task Created
             System.out.println("\nSTEP 10: Verify Task Created Successfully");
             // After task creation, we should be back to plan detail page
-            String currentURL = driver.getCurrentUrl();
+            String currentURL = getDriver().getCurrentUrl();
             System.out.println("✓ Current URL after task creation: " + currentURL);
 
             System.out.println("\n========================================");
@@ -114,29 +125,14 @@ public class AddSubtaskFlowTest extends BaseTest {
         try {
             // Login and navigate
             performLogin();
+            openPlan();
 
-            WelcomePage welcomePage = new WelcomePage(driver);
-            welcomePage.clickExploringSoloButton();
-            waitForSeconds(4);
-
-            HealthMenuPage healthMenuPage = new HealthMenuPage(driver);
-            healthMenuPage.clickMyPlannerArrowButton();
-            waitForSeconds(3);
-
-            PlannerPage plannerPage = new PlannerPage(driver);
-            plannerPage.clickPlansTab();
-            waitForSeconds(2);
-
-            PlansListPage plansListPage = new PlansListPage(driver);
-            plansListPage.clickFirstPlanCard();
-            waitForSeconds(3);
-
-            PlanDetailPage planDetailPage = new PlanDetailPage(driver);
+            PlanDetailPage planDetailPage = new PlanDetailPage(getDriver());
             planDetailPage.clickFirstAddTaskButton();
             waitForSeconds(3);
 
             // Fill only required fields
-            AddTaskPage addTaskPage = new AddTaskPage(driver);
+            AddTaskPage addTaskPage = new AddTaskPage(getDriver());
             Assert.assertTrue(addTaskPage.isAddTaskPageDisplayed(),
                     "Add Task form should be displayed");
 
@@ -144,7 +140,7 @@ public class AddSubtaskFlowTest extends BaseTest {
             String taskDescription = "Basic task with minimal fields";
 
             addTaskPage.fillAndSubmitBasicTaskForm(taskName, taskDescription);
-            waitForSeconds(4);
+            waitForNetworkIdle(500, 10000);
 
             System.out.println("\n========================================");
             System.out.println("✅ TEST PASSED: Basic Task Added Successfully");
@@ -166,29 +162,14 @@ public class AddSubtaskFlowTest extends BaseTest {
         try {
             // Login and navigate to task form
             performLogin();
+            openPlan();
 
-            WelcomePage welcomePage = new WelcomePage(driver);
-            welcomePage.clickExploringSoloButton();
-            waitForSeconds(4);
-
-            HealthMenuPage healthMenuPage = new HealthMenuPage(driver);
-            healthMenuPage.clickMyPlannerArrowButton();
-            waitForSeconds(3);
-
-            PlannerPage plannerPage = new PlannerPage(driver);
-            plannerPage.clickPlansTab();
-            waitForSeconds(2);
-
-            PlansListPage plansListPage = new PlansListPage(driver);
-            plansListPage.clickFirstPlanCard();
-            waitForSeconds(3);
-
-            PlanDetailPage planDetailPage = new PlanDetailPage(driver);
+            PlanDetailPage planDetailPage = new PlanDetailPage(getDriver());
             planDetailPage.clickFirstAddTaskButton();
             waitForSeconds(3);
 
             // Test form fields
-            AddTaskPage addTaskPage = new AddTaskPage(driver);
+            AddTaskPage addTaskPage = new AddTaskPage(getDriver());
             Assert.assertTrue(addTaskPage.isAddTaskPageDisplayed(),
                     "Add Task form should be displayed");
 
@@ -218,22 +199,44 @@ public class AddSubtaskFlowTest extends BaseTest {
         }
     }
 
-    // Helper method
+    // Helper methods
+
+    /**
+     * Opens a plan to add tasks to: one seeded for the test when the API is
+     * available, otherwise the first plan in the list.
+     */
+    private void openPlan() {
+        if (canSeedData()) {
+            String planId = seedData().plan("Seeded Plan " + System.currentTimeMillis(), "Fitness", "High").join();
+            navigateTo(Route.PLANS, planId);
+            return;
+        }
+        navigateTo(Route.PLANS);
+        PlansListPage plansListPage = new PlansListPage(getDriver());
+        plansListPage.clickFirstPlanCard();
+        waitForSeconds(3);
+    }
+
     private void performLogin() {
+        if (restoreCachedSession(EMAIL)) {
+            return;
+        }
+
         System.out.println("Performing login with credentials:");
         System.out.println("  Email: " + EMAIL);
         System.out.println("  Password: " + PASSWORD);
         System.out.println("  OTP: " + OTP);
 
-        LoginPage loginPage = new LoginPage(driver);
+        LoginPage loginPage = new LoginPage(getDriver());
         loginPage.navigateToLoginPage(BASE_URL);
         loginPage.login(EMAIL, PASSWORD);
         waitForSeconds(3);
 
-        OTPVerificationPage otpPage = new OTPVerificationPage(driver);
+        OTPVerificationPage otpPage = new OTPVerificationPage(getDriver());
         otpPage.verifyOTP(OTP);
         waitForSeconds(4);
 
+        cacheSession(EMAIL);
         System.out.println("✓ Login completed\n");
     }
 }
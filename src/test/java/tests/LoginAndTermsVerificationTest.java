@@ -7,6 +7,10 @@ import pages.LoginPage;
 import pages.OTPVerificationPage;
 import pages.WelcomePage;
 import utils.BaseTest;
+import utils.Budget;
+import utils.StepBudget;
+
+import java.util.concurrent.CompletableFuture;
 
 public class LoginAndTermsVerificationTest extends BaseTest {
 
@@ -15,6 +19,7 @@ public class LoginAndTermsVerificationTest extends BaseTest {
     private static final String FALLBACK_OTP = "000000"; // Fallback in case email fetch fails
 
     @Test(priority = 1, description = "Verify complete login flow with dynamic OTP and Terms & Conditions display")
+    @Budget(steps = @StepBudget(name = "Login to welcomeHailey", ms = 5000))
     public void testLoginFlowWithDynamicOTPAndVerifyTermsAndConditions() {
         System.out.println("\\n========================================");
         System.out.println("TEST: Login Flow with Dynamic OTP and Terms Verification");
@@ -23,7 +28,7 @@ public class LoginAndTermsVerificationTest extends BaseTest {
         try {
             // Step 1: Navigate to Login Page
             System.out.println("STEP 1: Navigate to Login Page");
-            LoginPage loginPage = new LoginPage(driver);
+            LoginPage loginPage = new LoginPage(getDriver());
             loginPage.navigateToLoginPage(BASE_URL);
             
             // Verify login page is displayed
@@ -31,54 +36,58 @@ public class LoginAndTermsVerificationTest extends BaseTest {
                 "Login page should be displayed");
             System.out.println("✓ Login page verified successfully\\n");
 
-            // Step 2: Enter credentials and sign in
-            System.out.println("STEP 2: Enter Credentials and Sign In");
-            loginPage.login(EMAIL, PASSWORD);
-            System.out.println("✓ Login credentials submitted\\n");
-
-            // Wait for OTP page
-            waitForSeconds(3);
-
-            // Step 3: Verify OTP page is displayed
-            System.out.println("STEP 3: Verify OTP Verification Page");
-            OTPVerificationPage otpPage = new OTPVerificationPage(driver);
-            
-            Assert.assertTrue(otpPage.isOTPPageDisplayed(), 
-                "OTP verification page should be displayed");
-            
-            Assert.assertEquals(otpPage.getOTPHeadingText(), "OTP Verification", 
-                "OTP heading should match");
-            
-            Assert.assertTrue(otpPage.isEmailVerificationTextDisplayed(EMAIL), 
-                "Email verification text should contain: " + EMAIL);
-            
-            Assert.assertEquals(otpPage.getOTPFieldsCount(), 6, 
-                "Should have 6 OTP input fields");
-            System.out.println("✓ OTP page verified\\n");
-
-            // Step 4: Fetch OTP dynamically from Yopmail
-            System.out.println("STEP 4: Fetch OTP from Yopmail");
-            String otpCode = yopmailService.getOTPWithRetry(EMAIL, 3, 5);
-            
-            // If OTP fetch fails, use fallback
-            if (otpCode == null || otpCode.length() != 6) {
-                System.err.println("⚠ Failed to fetch OTP from email, using fallback OTP: " + FALLBACK_OTP);
-                otpCode = FALLBACK_OTP;
-            } else {
-                System.out.println("✓ Dynamic OTP fetched successfully: " + otpCode);
-            }
-            
-            // Step 5: Enter OTP and verify
-            System.out.println("\\nSTEP 5: Enter OTP and Submit");
-            otpPage.verifyOTP(otpCode);
-            System.out.println("✓ OTP submitted\\n");
-
-            // Wait for navigation
-            waitForSeconds(4);
+            // Steps 2-5, from submitting the credentials to landing on welcomeHailey, are
+            // timed against the login budget: email entry, OTP fetch and redirect included
+            WelcomePage welcomePage = step("Login to welcomeHailey", () -> {
+                // Step 2: Enter credentials and sign in
+                System.out.println("STEP 2: Enter Credentials and Sign In");
+                // The inbox is polled while the OTP page loads and is checked
+                CompletableFuture<String> pendingOtp = getOtpProvider().fetchOtpAsync(EMAIL, 3, 5);
+                loginPage.login(EMAIL, PASSWORD);
+                System.out.println("✓ Login credentials submitted\\n");
+
+                // Step 3: Verify OTP page is displayed
+                System.out.println("STEP 3: Verify OTP Verification Page");
+                OTPVerificationPage otpPage = new OTPVerificationPage(getDriver());
+            
+                Assert.assertTrue(otpPage.isOTPPageDisplayed(), 
+                    "OTP verification page should be displayed");
+            
+                Assert.assertEquals(otpPage.getOTPHeadingText(), "OTP Verification", 
+                    "OTP heading should match");
+            
+                Assert.assertTrue(otpPage.isEmailVerificationTextDisplayed(EMAIL), 
+                    "Email verification text should contain: " + EMAIL);
+            
+                Assert.assertEquals(otpPage.getOTPFieldsCount(), 6, 
+                    "Should have 6 OTP input fields");
+                System.out.println("✓ OTP page verified\\n");
+
+                // Step 4: Fetch OTP dynamically from Yopmail
+                System.out.println("STEP 4: Fetch OTP from Yopmail");
+                String otpCode = pendingOtp.join();
+            
+                // If OTP fetch fails, use fallback
+                if (otpCode == null || otpCode.length() != 6) {
+                    System.err.println("⚠ Failed to fetch OTP from email, using fallback OTP: " + FALLBACK_OTP);
+                    otpCode = FALLBACK_OTP;
+                } else {
+                    System.out.println("✓ Dynamic OTP fetched successfully: " + otpCode);
+                }
+            
+                // Step 5: Enter OTP and verify
+                System.out.println("\\nSTEP 5: Enter OTP and Submit");
+                otpPage.verifyOTP(otpCode);
+                System.out.println("✓ OTP submitted\\n");
+                WelcomePage landed = new WelcomePage(getDriver());
+                Assert.assertTrue(landed.verifyCurrentURL("welcomeHailey"),
+                    "URL should contain 'welcomeHailey'");
+                return landed;
+            });
+            cacheSession(EMAIL);
 
             // Step 6: Verify Welcome Page
             System.out.println("STEP 6: Verify Welcome Page");
-            WelcomePage welcomePage = new WelcomePage(driver);
             
             Assert.assertTrue(welcomePage.isWelcomePageDisplayed(), 
                 "Welcome page should be displayed");
@@ -103,7 +112,7 @@ public class LoginAndTermsVerificationTest extends BaseTest {
 
             // Step 8: Verify Terms & Conditions Dialog
             System.out.println("STEP 8: Verify Terms & Conditions Dialog");
-            AssistAIPage assistAIPage = new AssistAIPage(driver);
+            AssistAIPage assistAIPage = new AssistAIPage(getDriver());
             
             Assert.assertTrue(assistAIPage.verifyCurrentURL("assistAi"), 
                 "URL should contain 'assistAi'");
@@ -144,32 +153,36 @@ public class LoginAndTermsVerificationTest extends BaseTest {
         System.out.println("========================================\\n");
 
         try {
-            // Perform login flow
-            LoginPage loginPage = new LoginPage(driver);
-            loginPage.navigateToLoginPage(BASE_URL);
-            loginPage.login(EMAIL, PASSWORD);
-
-            waitForSeconds(3);
-
-            // Fetch OTP dynamically
-            String otpCode = yopmailService.getOTPWithRetry(EMAIL, 3, 5);
-            if (otpCode == null || otpCode.length() != 6) {
-                System.err.println("⚠ Failed to fetch OTP from email, using fallback OTP: " + FALLBACK_OTP);
-                otpCode = FALLBACK_OTP;
+            // Perform login flow, reusing the cached session when available
+            if (!restoreCachedSession(EMAIL)) {
+                LoginPage loginPage = new LoginPage(getDriver());
+                loginPage.navigateToLoginPage(BASE_URL);
+                // The inbox is polled while the OTP page loads
+                CompletableFuture<String> pendingOtp = getOtpProvider().fetchOtpAsync(EMAIL, 3, 5);
+                loginPage.login(EMAIL, PASSWORD);
+
+                OTPVerificationPage otpPage = new OTPVerificationPage(getDriver());
+                otpPage.isOTPPageDisplayed();
+
+                // Fetch OTP dynamically
+                String otpCode = pendingOtp.join();
+                if (otpCode == null || otpCode.length() != 6) {
+                    System.err.println("⚠ Failed to fetch OTP from email, using fallback OTP: " + FALLBACK_OTP);
+                    otpCode = FALLBACK_OTP;
+                }
+                otpPage.verifyOTP(otpCode);
+
+                waitForSeconds(4);
+                cacheSession(EMAIL);
             }
 
-            OTPVerificationPage otpPage = new OTPVerificationPage(driver);
-            otpPage.verifyOTP(otpCode);
-
-            waitForSeconds(4);
-
-            WelcomePage welcomePage = new WelcomePage(driver);
+            WelcomePage welcomePage = new WelcomePage(getDriver());
             welcomePage.clickShowMeAroundButton();
 
             waitForSeconds(4);
 
             // Verify Terms content
-            AssistAIPage assistAIPage = new AssistAIPage(driver);
+            AssistAIPage assistAIPage = new AssistAIPage(getDriver());
             
             Assert.assertTrue(assistAIPage.verifyAllTermsDisplayed(), 
                 "All terms should be displayed with correct content");
@@ -196,19 +209,19 @@ public class LoginAndTermsVerificationTest extends BaseTest {
 
         try {
             // Trigger OTP by logging in
-            LoginPage loginPage = new LoginPage(driver);
+            LoginPage loginPage = new LoginPage(getDriver());
             loginPage.navigateToLoginPage(BASE_URL);
+            // The inbox is polled while the OTP page loads and is checked
+            CompletableFuture<String> pendingOtp = getOtpProvider().fetchOtpAsync(EMAIL, 3, 5);
             loginPage.login(EMAIL, PASSWORD);
 
-            waitForSeconds(3);
-
             // Verify OTP page is displayed
-            OTPVerificationPage otpPage = new OTPVerificationPage(driver);
+            OTPVerificationPage otpPage = new OTPVerificationPage(getDriver());
             Assert.assertTrue(otpPage.isOTPPageDisplayed(), 
                 "OTP verification page should be displayed");
 
             // Fetch OTP dynamically
-            String otpCode = yopmailService.getOTPWithRetry(EMAIL, 3, 5);
+            String otpCode = pendingOtp.join();
             
             // Verify OTP was fetched
             Assert.assertNotNull(otpCode, "OTP should be fetched from email");
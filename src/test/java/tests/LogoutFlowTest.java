@@ -24,7 +24,7 @@ public class LogoutFlowTest extends BaseTest {
 
             // STEP 2: Click on Exploring Solo option
             System.out.println("\nSTEP 2: Click on Exploring Solo");
-            WelcomePage welcomePage = new WelcomePage(driver);
+            WelcomePage welcomePage = new WelcomePage(getDriver());
             Assert.assertTrue(welcomePage.isWelcomePageDisplayed(),
                     "Welcome page should be displayed");
 
@@ -33,7 +33,7 @@ public class LogoutFlowTest extends BaseTest {
 
             // STEP 3: Verify Health Menu Page
             System.out.println("\nSTEP 3: Verify Health Menu Page");
-            HealthMenuPage healthMenuPage = new HealthMenuPage(driver);
+            HealthMenuPage healthMenuPage = new HealthMenuPage(getDriver());
             Assert.assertTrue(healthMenuPage.isHealthMenuPageDisplayed(),
                     "Health Menu page should be displayed");
 
@@ -53,7 +53,7 @@ public class LogoutFlowTest extends BaseTest {
             waitForSeconds(2);
 
             healthMenuPage.clickConfirmLogout();
-            waitForSeconds(4);
+            waitForNetworkIdle(500, 10000);
 
             // STEP 6: Verify Redirection to Login
             System.out.println("\nSTEP 6: Verify Logout Success");
@@ -72,22 +72,25 @@ public class LogoutFlowTest extends BaseTest {
         }
     }
 
-    // Helper method
+    /**
+     * Always a fresh UI login: logging out ends the server session, so this
+     * test must never restore or save the cached session that other tests of
+     * the same account are using.
+     */
     private void performLogin() {
         System.out.println("Performing login with credentials:");
         System.out.println("  Email: " + EMAIL);
         System.out.println("  Password: " + PASSWORD);
         System.out.println("  OTP: " + OTP);
 
-        LoginPage loginPage = new LoginPage(driver);
+        LoginPage loginPage = new LoginPage(getDriver());
         loginPage.navigateToLoginPage(BASE_URL);
         loginPage.login(EMAIL, PASSWORD);
         waitForSeconds(3);
 
-        OTPVerificationPage otpPage = new OTPVerificationPage(driver);
+        OTPVerificationPage otpPage = new OTPVerificationPage(getDriver());
         otpPage.verifyOTP(OTP);
         waitForSeconds(4);
-
         System.out.println("✓ Login completed\n");
     }
 }
@@ -6,6 +6,9 @@ import org.testng.Assert;
 import org.testng.annotations.Test;
 import pages.*;
 import utils.BaseTest;
+import utils.Route;
+
+import java.util.concurrent.CompletableFuture;
 
 public class MyHealthInformationFlowTest extends BaseTest {
 
@@ -24,24 +27,24 @@ public class MyHealthInformationFlowTest extends BaseTest {
             performLogin();
 
             // Navigate to Health Menu
-            WelcomePage welcomePage = new WelcomePage(driver);
+            WelcomePage welcomePage = new WelcomePage(getDriver());
             welcomePage.clickExploringSoloButton();
             waitForSeconds(4);
 
             // Click on My Health Information in circular menu
             System.out.println("\\nSTEP: Click My Health Information in Circular Menu");
-            driver.findElement(By.tagName("body")); // Ensure page is loaded
+            getDriver().findElement(By.tagName("body")); // Ensure page is loaded
             
             // Click using coordinates (right side of circular menu)
-            ((JavascriptExecutor) driver).executeScript("window.scrollTo(0, 400);");
+            ((JavascriptExecutor) getDriver()).executeScript("window.scrollTo(0, 400);");
             waitForSeconds(1);
             
-            driver.findElement(By.tagName("body")).click(); // Click to focus
-            driver.findElement(By.xpath("//body")).sendKeys(""); // Ensure interaction
+            getDriver().findElement(By.tagName("body")).click(); // Click to focus
+            getDriver().findElement(By.xpath("//body")).sendKeys(""); // Ensure interaction
             
             // Click on the My Health Information area (coordinates based on circular menu)
             org.openqa.selenium.interactions.Actions actions = 
-                new org.openqa.selenium.interactions.Actions(driver);
+                new org.openqa.selenium.interactions.Actions(getDriver());
             actions.moveByOffset(450, 540).click().perform();
             actions.moveByOffset(-450, -540).perform(); // Reset position
             
@@ -50,11 +53,11 @@ public class MyHealthInformationFlowTest extends BaseTest {
 
             // Click arrow to navigate to My Health Information page
             System.out.println("\\nSTEP: Navigate to My Health Information Page");
-            driver.findElement(By.xpath("//h2[contains(text(), 'My Health Information')]/following::button[1]")).click();
+            getDriver().findElement(By.xpath("//h2[contains(text(), 'My Health Information')]/following::button[1]")).click();
             waitForSeconds(3);
 
             // Verify My Health Information page
-            MyHealthInformationPage myHealthInfoPage = new MyHealthInformationPage(driver);
+            MyHealthInformationPage myHealthInfoPage = new MyHealthInformationPage(getDriver());
             Assert.assertTrue(myHealthInfoPage.verifyCurrentURL("phi"),
                 "Should be on My Health Information page");
             System.out.println("✓ My Health Information page verified\\n");
@@ -65,7 +68,7 @@ public class MyHealthInformationFlowTest extends BaseTest {
             waitForSeconds(3);
 
             // Verify My Health Bio page
-            MyHealthBioPage healthBioPage = new MyHealthBioPage(driver);
+            MyHealthBioPage healthBioPage = new MyHealthBioPage(getDriver());
             Assert.assertTrue(healthBioPage.verifyCurrentURL("healthBio"),
                 "Should be on My Health Bio page");
 
@@ -109,29 +112,29 @@ public class MyHealthInformationFlowTest extends BaseTest {
             performLogin();
 
             // Navigate to Health Menu
-            WelcomePage welcomePage = new WelcomePage(driver);
+            WelcomePage welcomePage = new WelcomePage(getDriver());
             welcomePage.clickExploringSoloButton();
             waitForSeconds(4);
 
             // Navigate to My Health Information
             System.out.println("\\nSTEP: Navigate to My Health Information");
             org.openqa.selenium.interactions.Actions actions = 
-                new org.openqa.selenium.interactions.Actions(driver);
+                new org.openqa.selenium.interactions.Actions(getDriver());
             actions.moveByOffset(450, 540).click().perform();
             actions.moveByOffset(-450, -540).perform();
             waitForSeconds(3);
 
-            driver.findElement(By.xpath("//h2[contains(text(), 'My Health Information')]/following::button[1]")).click();
+            getDriver().findElement(By.xpath("//h2[contains(text(), 'My Health Information')]/following::button[1]")).click();
             waitForSeconds(3);
 
             // Click on My Health History
             System.out.println("\\nSTEP: Click My Health History");
-            MyHealthInformationPage myHealthInfoPage = new MyHealthInformationPage(driver);
+            MyHealthInformationPage myHealthInfoPage = new MyHealthInformationPage(getDriver());
             myHealthInfoPage.clickMyHealthHistoryCard();
             waitForSeconds(3);
 
             // Verify My Health History page
-            MyHealthHistoryPage healthHistoryPage = new MyHealthHistoryPage(driver);
+            MyHealthHistoryPage healthHistoryPage = new MyHealthHistoryPage(getDriver());
             Assert.assertTrue(healthHistoryPage.verifyCurrentURL("healthHistory"),
                 "Should be on My Health History page");
 
@@ -173,21 +176,9 @@ public class MyHealthInformationFlowTest extends BaseTest {
         try {
             // Login and navigate
             performLogin();
-            WelcomePage welcomePage = new WelcomePage(driver);
-            welcomePage.clickExploringSoloButton();
-            waitForSeconds(4);
-
-            // Navigate to My Health Information
-            org.openqa.selenium.interactions.Actions actions = 
-                new org.openqa.selenium.interactions.Actions(driver);
-            actions.moveByOffset(450, 540).click().perform();
-            actions.moveByOffset(-450, -540).perform();
-            waitForSeconds(3);
-
-            driver.findElement(By.xpath("//button[.//img[@alt='right arrow']]")).click();
-            waitForSeconds(3);
+            navigateTo(Route.HEALTH_INFORMATION);
 
-            MyHealthInformationPage myHealthInfoPage = new MyHealthInformationPage(driver);
+            MyHealthInformationPage myHealthInfoPage = new MyHealthInformationPage(getDriver());
 
             // Test My Health Bio
             System.out.println("\\nVerifying My Health Bio...");
@@ -201,7 +192,7 @@ public class MyHealthInformationFlowTest extends BaseTest {
             myHealthInfoPage.clickMyHealthBioCard();
             waitForSeconds(3);
 
-            MyHealthBioPage healthBioPage = new MyHealthBioPage(driver);
+            MyHealthBioPage healthBioPage = new MyHealthBioPage(getDriver());
             Assert.assertTrue(healthBioPage.isMyHealthBioPageDisplayed(),
                 "My Health Bio page should be displayed");
             Assert.assertTrue(healthBioPage.isEmptyStateDisplayed(),
@@ -223,7 +214,7 @@ public class MyHealthInformationFlowTest extends BaseTest {
             myHealthInfoPage.clickMyHealthHistoryCard();
             waitForSeconds(3);
 
-            MyHealthHistoryPage healthHistoryPage = new MyHealthHistoryPage(driver);
+            MyHealthHistoryPage healthHistoryPage = new MyHealthHistoryPage(getDriver());
             Assert.assertTrue(healthHistoryPage.isMyHealthHistoryPageDisplayed(),
                 "My Health History page should be displayed");
             Assert.assertTrue(healthHistoryPage.isEmptyStateDisplayed(),
@@ -242,20 +233,26 @@ public class MyHealthInformationFlowTest extends BaseTest {
 
     // Helper method for login
     private void performLogin() {
+        if (restoreCachedSession(EMAIL)) {
+            return;
+        }
+
         System.out.println("Performing login...");
-        LoginPage loginPage = new LoginPage(driver);
+        LoginPage loginPage = new LoginPage(getDriver());
         loginPage.navigateToLoginPage(BASE_URL);
+        // The inbox is polled while the OTP page loads
+        CompletableFuture<String> pendingOtp = getOtpProvider().fetchOtpAsync(EMAIL, 3, 5);
         loginPage.login(EMAIL, PASSWORD);
-        waitForSeconds(3);
 
-        String otpCode = yopmailService.getOTPWithRetry(EMAIL, 3, 5);
+        OTPVerificationPage otpPage = new OTPVerificationPage(getDriver());
+        otpPage.isOTPPageDisplayed();
+        String otpCode = pendingOtp.join();
         if (otpCode == null || otpCode.length() != 6) {
             otpCode = FALLBACK_OTP;
         }
-
-        OTPVerificationPage otpPage = new OTPVerificationPage(driver);
         otpPage.verifyOTP(otpCode);
         waitForSeconds(4);
+        cacheSession(EMAIL);
         System.out.println("✓ Login completed\\n");
     }
 }
\ No newline at end of file
@@ -4,6 +4,7 @@ import org.testng.Assert;
 import org.testng.annotations.Test;
 import pages.*;
 import utils.BaseTest;
+import utils.Route;
 
 public class ViewBlogFlowTest extends BaseTest {
 
@@ -24,7 +25,7 @@ public class ViewBlogFlowTest extends BaseTest {
 
             // STEP 2: Click on Exploring Solo option
             System.out.println("\nSTEP 2: Click on Exploring Solo");
-            WelcomePage welcomePage = new WelcomePage(driver);
+            WelcomePage welcomePage = new WelcomePage(getDriver());
             Assert.assertTrue(welcomePage.isWelcomePageDisplayed(),
                     "Welcome page should be displayed");
 
@@ -33,7 +34,7 @@ public class ViewBlogFlowTest extends BaseTest {
 
             // STEP 3: Verify Health Menu Page
             System.out.println("\nSTEP 3: Verify Health Menu Page");
-            HealthMenuPage healthMenuPage = new HealthMenuPage(driver);
+            HealthMenuPage healthMenuPage = new HealthMenuPage(getDriver());
             Assert.assertTrue(healthMenuPage.isHealthMenuPageDisplayed(),
                     "Health Menu page should be displayed");
 
@@ -44,7 +45,7 @@ public class ViewBlogFlowTest extends BaseTest {
 
             // STEP 5: Verify Blogs Page
             System.out.println("\nSTEP 5: Verify Blogs Listing Page");
-            BlogsPage blogsPage = new BlogsPage(driver);
+            BlogsPage blogsPage = new BlogsPage(getDriver());
             Assert.assertTrue(blogsPage.isBlogsPageDisplayed(),
                     "Blogs listing page should be displayed");
 
@@ -63,7 +64,7 @@ public class ViewBlogFlowTest extends BaseTest {
 
                 // STEP 7: Verify Blog Detail Page
                 System.out.println("\nSTEP 7: Verify Blog Detail Page");
-                BlogDetailPage blogDetailPage = new BlogDetailPage(driver);
+                BlogDetailPage blogDetailPage = new BlogDetailPage(getDriver());
                 Assert.assertTrue(blogDetailPage.isBlogDetailPageDisplayed(),
                         "Blog detail page should be displayed");
 
@@ -105,16 +106,10 @@ public class ViewBlogFlowTest extends BaseTest {
             // Login and navigate
             performLogin();
 
-            WelcomePage welcomePage = new WelcomePage(driver);
-            welcomePage.clickExploringSoloButton();
-            waitForSeconds(4);
-
-            HealthMenuPage healthMenuPage = new HealthMenuPage(driver);
-            healthMenuPage.clickBlogsAndArticles();
-            waitForSeconds(3);
+            navigateTo(Route.BLOGS);
 
             // Verify blogs page
-            BlogsPage blogsPage = new BlogsPage(driver);
+            BlogsPage blogsPage = new BlogsPage(getDriver());
             Assert.assertTrue(blogsPage.isBlogsPageDisplayed(),
                     "Blogs page should be displayed");
 
@@ -152,20 +147,14 @@ public class ViewBlogFlowTest extends BaseTest {
             // Login and navigate to blog detail
             performLogin();
 
-            WelcomePage welcomePage = new WelcomePage(driver);
-            welcomePage.clickExploringSoloButton();
-            waitForSeconds(4);
+            navigateTo(Route.BLOGS);
 
-            HealthMenuPage healthMenuPage = new HealthMenuPage(driver);
-            healthMenuPage.clickBlogsAndArticles();
-            waitForSeconds(3);
-
-            BlogsPage blogsPage = new BlogsPage(driver);
+            BlogsPage blogsPage = new BlogsPage(getDriver());
             blogsPage.clickFirstBlog();
             waitForSeconds(3);
 
             // Verify blog detail page elements
-            BlogDetailPage blogDetailPage = new BlogDetailPage(driver);
+            BlogDetailPage blogDetailPage = new BlogDetailPage(getDriver());
             Assert.assertTrue(blogDetailPage.isBlogDetailPageDisplayed(),
                     "Blog detail page should be displayed");
 
@@ -217,20 +206,14 @@ public class ViewBlogFlowTest extends BaseTest {
             // Login and navigate to blog detail
             performLogin();
 
-            WelcomePage welcomePage = new WelcomePage(driver);
-            welcomePage.clickExploringSoloButton();
-            waitForSeconds(4);
-
-            HealthMenuPage healthMenuPage = new HealthMenuPage(driver);
-            healthMenuPage.clickBlogsAndArticles();
-            waitForSeconds(3);
+            navigateTo(Route.BLOGS);
 
-            BlogsPage blogsPage = new BlogsPage(driver);
+            BlogsPage blogsPage = new BlogsPage(getDriver());
             blogsPage.clickFirstBlog();
             waitForSeconds(3);
 
             // Verify we're on blog detail page
-            BlogDetailPage blogDetailPage = new BlogDetailPage(driver);
+            BlogDetailPage blogDetailPage = new BlogDetailPage(getDriver());
             Assert.assertTrue(blogDetailPage.isBlogDetailPageDisplayed(),
                     "Blog detail page should be displayed");
 
@@ -256,20 +239,25 @@ public class ViewBlogFlowTest extends BaseTest {
 
     // Helper method
     private void performLogin() {
+        if (restoreCachedSession(EMAIL)) {
+            return;
+        }
+
         System.out.println("Performing login with credentials:");
         System.out.println("  Email: " + EMAIL);
         System.out.println("  Password: " + PASSWORD);
         System.out.println("  OTP: " + OTP);
 
-        LoginPage loginPage = new LoginPage(driver);
+        LoginPage loginPage = new LoginPage(getDriver());
         loginPage.navigateToLoginPage(BASE_URL);
         loginPage.login(EMAIL, PASSWORD);
         waitForSeconds(3);
 
-        OTPVerificationPage otpPage = new OTPVerificationPage(driver);
+        OTPVerificationPage otpPage = new OTPVerificationPage(getDriver());
         otpPage.verifyOTP(OTP);
         waitForSeconds(4);
 
+        cacheSession(EMAIL);
         System.out.println("✓ Login completed\n");
     }
 }
@@ -0,0 +1,56 @@
+package utils;
+
+import org.openqa.selenium.WebDriver;
+import org.testng.Assert;
+import org.testng.SkipException;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+import pages.StubPage;
+
+import java.lang.reflect.Proxy;
+
+/**
+ * Checks that {@link ActionTimer} samples every page method call, against a
+ * driver that answers without a browser.
+ */
+public class ActionTimerTest {
+    private StubPage page;
+
+    @BeforeClass
+    public void createPage() {
+        WebDriver stubDriver = (WebDriver) Proxy.newProxyInstance(getClass().getClassLoader(),
+                new Class<?>[]{WebDriver.class}, (proxy, method, args) ->
+                        method.getName().equals("getTitle") ? "Stub" : null);
+        WebDriver driver = ActionTimer.track(stubDriver);
+        if (!PageInstrumentation.install()) {
+            throw new SkipException("Page objects could not be instrumented (-Djdk.attach.allowAttachSelf=true)");
+        }
+        page = new StubPage(driver);
+    }
+
+    @Test(description = "A loop of single-command page calls gives one sample per call")
+    public void testLoopOfSingleCommandCallsIsSampledPerCall() {
+        int before = ActionTimer.sampleCount("StubPage.getPageTitle");
+        for (int i = 0; i < 5; i++) {
+            Assert.assertEquals(page.getPageTitle(), "Stub");
+        }
+        Assert.assertEquals(ActionTimer.sampleCount("StubPage.getPageTitle") - before, 5);
+    }
+
+    @Test(description = "A page method called from another is timed on its own and inside its caller")
+    public void testNestedCallsAreSampledSeparately() {
+        int outerBefore = ActionTimer.sampleCount("StubPage.getTitles");
+        int innerBefore = ActionTimer.sampleCount("StubPage.getPageTitle");
+
+        Assert.assertEquals(page.getTitles(), "Stub / Stub");
+
+        Assert.assertEquals(ActionTimer.sampleCount("StubPage.getTitles") - outerBefore, 1);
+        Assert.assertEquals(ActionTimer.sampleCount("StubPage.getPageTitle") - innerBefore, 2);
+    }
+
+    @Test(description = "A page call without any command is not an action")
+    public void testCallWithoutCommandIsNotSampled() {
+        page.describe();
+        Assert.assertEquals(ActionTimer.sampleCount("StubPage.describe"), 0);
+    }
+}
@@ -0,0 +1,105 @@
+package utils;
+
+import org.openqa.selenium.json.Json;
+import org.testng.Assert;
+import org.testng.SkipException;
+import org.testng.annotations.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Runs the in-page lookup script of {@link CompositeLocator} under Node.js
+ * against a minimal fake DOM, without a browser. Skipped when node is not on
+ * the PATH.
+ */
+public class CompositeLocatorTest {
+    private static final long GRACE_MS = 1000;
+    private static final long SLICE_MS = 3000;
+
+    // Fake DOM: every expression in the map matches that many visible elements
+    private static final String HARNESS =
+            "var dom = %s, args = %s, started = Date.now();" +
+            "function nodes(expression) {" +
+            "  var found = [];" +
+            "  for (var i = 0; i < (dom[expression] || 0); i++) {" +
+            "    found.push({nodeType: 1, isConnected: true, disabled: false," +
+            "      getBoundingClientRect: function () { return {width: 10, height: 10}; }});" +
+            "  }" +
+            "  return found;" +
+            "}" +
+            "global.window = {getComputedStyle: function () { return {visibility: 'visible', display: 'block'}; }};" +
+            "global.document = {documentElement: {}, querySelectorAll: nodes, evaluate: function (expression) {" +
+            "  var found = nodes(expression);" +
+            "  return {snapshotLength: found.length, snapshotItem: function (i) { return found[i]; }};" +
+            "}};" +
+            "global.XPathResult = {ORDERED_NODE_SNAPSHOT_TYPE: 7};" +
+            "global.location = {pathname: '/plans'};" +
+            "global.MutationObserver = function () { this.observe = function () {}; this.disconnect = function () {}; };" +
+            "(function () { %s }).apply(null, args.concat([function (match) {" +
+            "  console.log(JSON.stringify({winner: match ? match[0] : -1, ms: Date.now() - started}));" +
+            "}]));";
+
+    private static final List<List<String>> STRATEGIES = Arrays.asList(
+            Arrays.asList("css", "#source-first"),
+            Arrays.asList("css", "#fallback"));
+
+    @Test(description = "A ranked route resolves its top-ranked strategy without waiting out the grace period")
+    public void testRankedRouteSkipsGraceForFailingStrategy() throws Exception {
+        Map<String, Object> outcome = lookup(Map.of("#fallback", 1), Map.of("/plans", Arrays.asList(1, 0)));
+
+        Assert.assertEquals(((Number) outcome.get("winner")).intValue(), 1);
+        Assert.assertTrue(((Number) outcome.get("ms")).longValue() < GRACE_MS / 2,
+                "The top-ranked strategy should win at once, took " + outcome.get("ms") + " ms");
+    }
+
+    @Test(description = "On an unranked route a fallback only wins once the grace period is over")
+    public void testUnrankedRouteWaitsForSourcePreferredStrategy() throws Exception {
+        Map<String, Object> outcome = lookup(Map.of("#fallback", 1), Map.of("/other", Arrays.asList(1, 0)));
+
+        Assert.assertEquals(((Number) outcome.get("winner")).intValue(), 1);
+        Assert.assertTrue(((Number) outcome.get("ms")).longValue() >= GRACE_MS - 50,
+                "The fallback should wait for the grace period, took " + outcome.get("ms") + " ms");
+    }
+
+    @Test(description = "During the grace period a ranked route does not accept the source-order first strategy")
+    public void testRankedRouteGraceAppliesToTopRankedStrategy() throws Exception {
+        Map<String, Object> outcome = lookup(Map.of("#source-first", 1), Map.of("/plans", Arrays.asList(1, 0)));
+
+        Assert.assertEquals(((Number) outcome.get("winner")).intValue(), 0);
+        Assert.assertTrue(((Number) outcome.get("ms")).longValue() >= GRACE_MS - 50,
+                "The lower-ranked strategy should wait for the grace period, took " + outcome.get("ms") + " ms");
+    }
+
+    private static Map<String, Object> lookup(Map<String, Integer> dom, Map<String, List<Integer>> rankings)
+            throws IOException, InterruptedException {
+        Json json = new Json();
+        String args = json.toJson(Arrays.asList(STRATEGIES, "visible", SLICE_MS, rankings, GRACE_MS));
+        String script = String.format(HARNESS, json.toJson(dom), args, CompositeLocator.FIND_FIRST_SCRIPT);
+
+        Process node;
+        try {
+            node = new ProcessBuilder("node").redirectErrorStream(true).start();
+        } catch (IOException e) {
+            throw new SkipException("node is not available: " + e.getMessage());
+        }
+        try (OutputStream in = node.getOutputStream()) {
+            in.write(script.getBytes(StandardCharsets.UTF_8));
+        }
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        try (InputStream out = node.getInputStream()) {
+            out.transferTo(output);
+        }
+        Assert.assertTrue(node.waitFor(10, TimeUnit.SECONDS), "node did not exit");
+        String printed = output.toString(StandardCharsets.UTF_8).trim();
+        Assert.assertEquals(node.exitValue(), 0, printed);
+        return json.toType(printed, Json.MAP_TYPE);
+    }
+}
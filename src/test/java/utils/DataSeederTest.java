@@ -0,0 +1,151 @@
+package utils;
+
+import com.sun.net.httpserver.HttpServer;
+import org.openqa.selenium.json.Json;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Checks the requests {@link DataSeeder} sends and how it reads the new
+ * record's id, against an in-process server that records every call.
+ */
+public class DataSeederTest {
+    private static final String COOKIES = "ha_session=abc; theme=dark";
+    private static final String TOKEN = "token-123";
+
+    private final Json json = new Json();
+    // path -> {status, body} to answer with
+    private final Map<String, Object[]> answers = new ConcurrentHashMap<>();
+    // path -> request headers and body of the last call
+    private final Map<String, Map<String, String>> received = new ConcurrentHashMap<>();
+    private HttpServer server;
+    private DataSeeder seeder;
+
+    @BeforeClass
+    public void startServer() throws IOException {
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        server.createContext("/", exchange -> {
+            String path = exchange.getRequestURI().getPath();
+            received.put(path, Map.of(
+                    "method", exchange.getRequestMethod(),
+                    "cookie", String.valueOf(exchange.getRequestHeaders().getFirst("Cookie")),
+                    "authorization", String.valueOf(exchange.getRequestHeaders().getFirst("Authorization")),
+                    "contentType", String.valueOf(exchange.getRequestHeaders().getFirst("Content-Type")),
+                    "body", new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8)));
+            Object[] answer = answers.getOrDefault(path, new Object[]{200, "{\"id\": 1}"});
+            byte[] body = ((String) answer[1]).getBytes(StandardCharsets.UTF_8);
+            exchange.sendResponseHeaders((Integer) answer[0], body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        });
+        server.start();
+        seeder = new DataSeeder("http://127.0.0.1:" + server.getAddress().getPort() + "/api", COOKIES, TOKEN);
+    }
+
+    @BeforeMethod
+    public void resetAnswers() {
+        answers.clear();
+    }
+
+    @AfterClass(alwaysRun = true)
+    public void stopServer() {
+        if (server != null) {
+            server.stop(0);
+        }
+    }
+
+    @Test(description = "A plan is POSTed as JSON with the session's cookies and bearer token")
+    public void testPlanRequestShape() {
+        answers.put("/api/plans", new Object[]{201, "{\"id\": 42}"});
+
+        Assert.assertEquals(seeder.plan("Morning Walk", "Fitness", "High").join(), "42");
+
+        Map<String, String> request = received.get("/api/plans");
+        Assert.assertEquals(request.get("method"), "POST");
+        Assert.assertEquals(request.get("cookie"), COOKIES);
+        Assert.assertEquals(request.get("authorization"), "Bearer " + TOKEN);
+        Assert.assertEquals(request.get("contentType"), "application/json");
+        Map<String, Object> body = sentBody("/api/plans");
+        Assert.assertEquals(body.get("name"), "Morning Walk");
+        Assert.assertEquals(body.get("category"), "Fitness");
+        Assert.assertEquals(body.get("priority"), "High");
+        Assert.assertEquals(body.get("from"), LocalDate.now().toString());
+        Assert.assertEquals(body.get("to"), LocalDate.now().plusDays(7).toString());
+    }
+
+    @Test(description = "Tasks and articles point at their parent by id")
+    public void testChildRecordsCarryParentId() {
+        seeder.task("7", "Stretch").join();
+        seeder.article("9", "Title", "Text").join();
+
+        Assert.assertEquals(sentBody("/api/plans/tasks").get("planId"), "7");
+        Assert.assertEquals(sentBody("/api/folders/articles").get("folderId"), "9");
+    }
+
+    @Test(description = "The id is read from {id} or from {data: {id}}")
+    public void testIdParsing() {
+        answers.put("/api/conditions", new Object[]{200, "{\"data\": {\"id\": \"cond-5\"}}"});
+        answers.put("/api/folders", new Object[]{200, "{\"id\": \"folder-3\", \"data\": {\"id\": \"ignored\"}}"});
+
+        Assert.assertEquals(seeder.condition("Asthma").join(), "cond-5");
+        Assert.assertEquals(seeder.folder("Reading").join(), "folder-3");
+    }
+
+    @Test(description = "Error statuses and answers without an id fail the seed")
+    public void testFailedSeeds() {
+        answers.put("/api/plans/tasks", new Object[]{500, "boom"});
+        answers.put("/api/folders/articles", new Object[]{200, "[1, 2]"});
+        answers.put("/api/conditions", new Object[]{200, "not json"});
+
+        assertSeedFails(() -> seeder.task("1", "x").join(), "HTTP 500");
+        assertSeedFails(() -> seeder.article("1", "x", "y").join(), "returned no id");
+        assertSeedFails(() -> seeder.condition("x").join(), "returned no id");
+    }
+
+    @Test(description = "joinAll keeps the seeds' order and reports the first failure")
+    public void testJoinAll() {
+        answers.put("/api/plans", new Object[]{200, "{\"id\": 1}"});
+        answers.put("/api/folders", new Object[]{200, "{\"id\": 2}"});
+        Assert.assertEquals(DataSeeder.joinAll(Arrays.asList(seeder.folder("a"), seeder.plan("b", "c", "d"))),
+                List.of("2", "1"));
+
+        answers.put("/api/conditions", new Object[]{404, "missing"});
+        try {
+            DataSeeder.joinAll(Arrays.asList(seeder.folder("a"), seeder.condition("b")));
+            Assert.fail("A failed seed should fail joinAll");
+        } catch (RuntimeException e) {
+            Assert.assertEquals(e.getMessage(), "Failed to seed test data");
+            Assert.assertTrue(e.getCause().getMessage().contains("HTTP 404"), e.getCause().getMessage());
+        }
+    }
+
+    private Map<String, Object> sentBody(String path) {
+        return json.toType(received.get(path).get("body"), Json.MAP_TYPE);
+    }
+
+    private static void assertSeedFails(Runnable seed, String message) {
+        try {
+            seed.run();
+            Assert.fail("Seed should have failed with " + message);
+        } catch (CompletionException e) {
+            Assert.assertTrue(e.getCause() instanceof IllegalStateException, String.valueOf(e.getCause()));
+            Assert.assertTrue(e.getCause().getMessage().contains(message), e.getCause().getMessage());
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package utils;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.testng.Assert;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Checks how {@link DomSnapshot} turns the in-page script's result into
+ * snapshots, against a driver that answers the script with canned data.
+ */
+public class DomSnapshotTest {
+    private static final List<Object> PAGE = Arrays.asList(
+            Map.of("tag", "div", "text", "Morning Walk", "visible", true,
+                    "x", 10L, "y", 20.5, "width", 300L, "height", 40L,
+                    "attributes", Map.of("class", "plan-card", "data-testid", "plan-1")),
+            Map.of("tag", "div", "text", "Collapsed Plan", "visible", false,
+                    "x", 0L, "y", 0L, "width", 0L, "height", 0L, "attributes", Map.of()),
+            Map.of("tag", "div", "text", "Evening Stretch", "visible", true,
+                    "x", 10L, "y", 70L, "width", 300L, "height", 40L, "attributes", Map.of("class", "plan-card")));
+
+    // Arguments of every script call
+    private final List<List<Object>> calls = new ArrayList<>();
+    private WebDriver driver;
+
+    @BeforeMethod
+    public void createDriver() {
+        calls.clear();
+        driver = (WebDriver) Proxy.newProxyInstance(getClass().getClassLoader(),
+                new Class<?>[]{WebDriver.class, JavascriptExecutor.class}, (proxy, method, args) -> {
+                    if (!method.getName().equals("executeScript")) {
+                        throw new UnsupportedOperationException(method.getName());
+                    }
+                    calls.add(Arrays.asList((Object[]) args[1]));
+                    return PAGE;
+                });
+    }
+
+    @Test(description = "All matching elements are read in one script call, hidden ones included")
+    public void testCaptureReadsEveryElementInOneCall() {
+        List<DomSnapshot.ElementSnapshot> cards = DomSnapshot.capture(driver, By.cssSelector(".plan-card"));
+
+        Assert.assertEquals(calls.size(), 1);
+        Assert.assertEquals(calls.get(0).subList(0, 2), List.of("css", ".plan-card"));
+        Assert.assertEquals(cards.size(), 3);
+        Assert.assertFalse(cards.get(1).isVisible());
+
+        DomSnapshot.ElementSnapshot first = cards.get(0);
+        Assert.assertEquals(first.getTagName(), "div");
+        Assert.assertEquals(first.getText(), "Morning Walk");
+        Assert.assertEquals(first.getY(), 20.5);
+        Assert.assertEquals(first.getWidth(), 300.0);
+        Assert.assertEquals(first.getAttribute("data-testid"), "plan-1");
+        Assert.assertNull(first.getAttribute("href"));
+    }
+
+    @Test(description = "Visible captures and texts leave hidden elements out")
+    public void testVisibleTextsSkipHiddenElements() {
+        By titles = By.xpath("//div[contains(@class, 'plan-card')]");
+
+        Assert.assertEquals(DomSnapshot.captureVisible(driver, titles).size(), 2);
+        Assert.assertEquals(DomSnapshot.visibleTexts(driver, titles), List.of("Morning Walk", "Evening Stretch"));
+        Assert.assertEquals(calls.get(0).subList(0, 2), List.of("xpath", "//div[contains(@class, 'plan-card')]"));
+    }
+
+    @Test(description = "Snapshots cannot be changed by the caller")
+    public void testSnapshotsAreImmutable() {
+        List<DomSnapshot.ElementSnapshot> cards = DomSnapshot.capture(driver, By.cssSelector(".plan-card"));
+
+        Assert.assertThrows(UnsupportedOperationException.class, () -> cards.remove(0));
+        Assert.assertThrows(UnsupportedOperationException.class, () -> cards.get(0).getAttributes().put("id", "x"));
+    }
+
+    @Test(description = "Only XPath and CSS locators can be handed to page scripts")
+    public void testScriptLocator() {
+        Assert.assertEquals(DomSnapshot.scriptLocator(By.xpath("//h3")), new String[]{"xpath", "//h3"});
+        Assert.assertEquals(DomSnapshot.scriptLocator(By.cssSelector("div > h3")), new String[]{"css", "div > h3"});
+        Assert.assertThrows(IllegalArgumentException.class, () -> DomSnapshot.scriptLocator(By.id("title")));
+    }
+}
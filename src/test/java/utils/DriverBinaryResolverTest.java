@@ -0,0 +1,68 @@
+package utils;
+
+import org.testng.Assert;
+import org.testng.SkipException;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+/**
+ * Checks which cached chromedriver {@link DriverBinaryResolver} picks, against
+ * a cache laid out like WebDriverManager's, without any download.
+ */
+public class DriverBinaryResolverTest {
+    private Path cacheDir;
+
+    @BeforeClass
+    public void createCache() throws IOException {
+        cacheDir = Files.createTempDirectory("driver-cache");
+        driver("chromedriver/linux64/99.0.4844.51", true);
+        driver("chromedriver/linux64/131.0.6778.85", true);
+        driver("chromedriver/linux64/131.0.6778.204", true);
+        // Newest, but not executable
+        driver("chromedriver/linux64/132.0.6834.83", false);
+    }
+
+    @AfterClass(alwaysRun = true)
+    public void deleteCache() throws IOException {
+        if (cacheDir == null) {
+            return;
+        }
+        try (Stream<Path> files = Files.walk(cacheDir)) {
+            files.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        }
+    }
+
+    @Test(description = "The newest executable driver wins, comparing versions numerically")
+    public void testNewestVersionIsPicked() {
+        Assert.assertEquals(DriverBinaryResolver.findCachedDriver(cacheDir, null),
+                Optional.of(cacheDir.resolve("chromedriver/linux64/131.0.6778.204").resolve(DriverBinaryResolver.DRIVER_NAME)));
+    }
+
+    @Test(description = "A pinned version only matches drivers of that version")
+    public void testPinnedVersionIsHonoured() {
+        Assert.assertEquals(DriverBinaryResolver.findCachedDriver(cacheDir, "99.0.4844.51"),
+                Optional.of(cacheDir.resolve("chromedriver/linux64/99.0.4844.51").resolve(DriverBinaryResolver.DRIVER_NAME)));
+        Assert.assertEquals(DriverBinaryResolver.findCachedDriver(cacheDir, "120.0.6099.109"), Optional.empty());
+    }
+
+    @Test(description = "A missing cache directory has no drivers")
+    public void testMissingCacheIsEmpty() {
+        Assert.assertEquals(DriverBinaryResolver.findCachedDriver(cacheDir.resolve("absent"), null), Optional.empty());
+    }
+
+    private void driver(String dir, boolean executable) throws IOException {
+        Path file = Files.createDirectories(cacheDir.resolve(dir)).resolve(DriverBinaryResolver.DRIVER_NAME);
+        Files.createFile(file);
+        if (!file.toFile().setExecutable(executable) && executable) {
+            throw new SkipException("Cannot mark files executable here");
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package utils;
+
+import org.openqa.selenium.chrome.ChromeOptions;
+import org.testng.Assert;
+import org.testng.SkipException;
+import org.testng.annotations.Test;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Checks how {@link ExecutionProfile} names are read and the Chrome options
+ * {@link DriverFactory} builds for each profile, without starting a browser.
+ */
+public class ExecutionProfileTest {
+
+    @Test(description = "Profile names are read case-insensitively")
+    public void testProfileNames() {
+        Assert.assertEquals(ExecutionProfile.parse("headed"), ExecutionProfile.HEADED);
+        Assert.assertEquals(ExecutionProfile.parse(" Minimal "), ExecutionProfile.MINIMAL);
+        Assert.assertEquals(ExecutionProfile.parse("HEADLESS"), ExecutionProfile.HEADLESS);
+    }
+
+    @Test(description = "An unknown profile name is rejected with the accepted values",
+            expectedExceptions = IllegalArgumentException.class,
+            expectedExceptionsMessageRegExp = ".*'turbo'.*headed, headless or minimal")
+    public void testUnknownProfileIsRejected() {
+        ExecutionProfile.parse("turbo");
+    }
+
+    @Test(description = "Headless profiles run new headless mode with a fixed viewport")
+    public void testHeadlessOptions() {
+        List<String> headed = args(DriverFactory.buildOptions(ExecutionProfile.HEADED));
+        List<String> headless = args(DriverFactory.buildOptions(ExecutionProfile.HEADLESS));
+
+        Assert.assertTrue(headed.contains("--start-maximized"));
+        Assert.assertFalse(headed.contains("--headless=new"));
+        Assert.assertTrue(headless.contains("--headless=new"));
+        Assert.assertTrue(headless.contains("--window-size=1920,1080"));
+        Assert.assertFalse(headless.contains("--start-maximized"));
+    }
+
+    @Test(description = "Only the minimal profile switches images off")
+    public void testOnlyMinimalBlocksImages() {
+        if (System.getProperty("browser.block.resources") != null) {
+            throw new SkipException("browser.block.resources overrides every profile");
+        }
+        Assert.assertNull(chromeOptions(DriverFactory.buildOptions(ExecutionProfile.HEADLESS)).get("prefs"));
+        Assert.assertEquals(imagesSetting(DriverFactory.buildOptions(ExecutionProfile.MINIMAL)), 2);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, Object> chromeOptions(ChromeOptions options) {
+        return (Map<String, Object>) options.asMap().get(ChromeOptions.CAPABILITY);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static List<String> args(ChromeOptions options) {
+        return (List<String>) chromeOptions(options).get("args");
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Object imagesSetting(ChromeOptions options) {
+        Map<String, Object> prefs = (Map<String, Object>) chromeOptions(options).get("prefs");
+        return prefs.get("profile.managed_default_content_settings.images");
+    }
+}
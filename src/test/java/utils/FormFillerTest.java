@@ -0,0 +1,143 @@
+package utils;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.testng.Assert;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Checks the field specs {@link FormFiller} hands to its fill script and the
+ * key-event fallback, against a driver that answers the script with canned
+ * statuses.
+ */
+public class FormFillerTest {
+    private static final By NAME = By.cssSelector("input[name='planName']");
+    private static final By DESCRIPTION = By.xpath("//textarea[@name='description']");
+    private static final By REMINDER = By.cssSelector("input[type='checkbox']");
+
+    // Status the fill script reports for each field, in order
+    private List<String> statuses;
+    private final List<List<?>> scriptCalls = new ArrayList<>();
+    // "clear" and "keys:<text>" for every key-event fill
+    private final List<String> keyEvents = new ArrayList<>();
+    private WebDriver driver;
+
+    @BeforeMethod
+    public void createDriver() {
+        statuses = new ArrayList<>();
+        scriptCalls.clear();
+        keyEvents.clear();
+        WebElement element = stub(WebElement.class, (proxy, method, args) -> {
+            switch (method.getName()) {
+                case "isDisplayed":
+                case "isEnabled":
+                    return true;
+                case "isSelected":
+                    return false;
+                case "clear":
+                    keyEvents.add("clear");
+                    return null;
+                case "sendKeys":
+                    keyEvents.add("keys:" + String.join("", (CharSequence[]) args[0]));
+                    return null;
+                default:
+                    return objectMethod(proxy, method.getName(), args);
+            }
+        });
+        WebDriver.Timeouts timeouts = stub(WebDriver.Timeouts.class, (proxy, method, args) -> proxy);
+        WebDriver.Options options = stub(WebDriver.Options.class, (proxy, method, args) -> timeouts);
+        driver = (WebDriver) Proxy.newProxyInstance(getClass().getClassLoader(),
+                new Class<?>[]{WebDriver.class, JavascriptExecutor.class}, (proxy, method, args) -> {
+                    switch (method.getName()) {
+                        case "manage":
+                            return options;
+                        case "findElement":
+                            return element;
+                        case "findElements":
+                            return List.of(element);
+                        case "executeScript":
+                            scriptCalls.add((List<?>) ((Object[]) args[1])[0]);
+                            List<Object> results = new ArrayList<>();
+                            for (String status : statuses) {
+                                results.add(Arrays.asList(status, 0.5));
+                            }
+                            return results;
+                        default:
+                            return objectMethod(proxy, method.getName(), args);
+                    }
+                });
+    }
+
+    @Test(description = "Every field is set by one script call from its spec")
+    public void testFieldsAreFilledInOneScriptCall() {
+        statuses.addAll(List.of("set", "set", "set"));
+
+        FormFiller.form(driver, "Add Plan")
+                .text("Plan Name", NAME, "Morning Walk")
+                .text("Description", DESCRIPTION, "Daily")
+                .optionalCheckbox("Reminder", REMINDER, true)
+                .fill();
+
+        Assert.assertEquals(scriptCalls.size(), 1);
+        Assert.assertEquals(scriptCalls.get(0), List.of(
+                Map.of("kind", "css", "selector", "input[name='planName']", "type", "text", "value", "Morning Walk"),
+                Map.of("kind", "xpath", "selector", "//textarea[@name='description']", "type", "text", "value", "Daily"),
+                Map.of("kind", "css", "selector", "input[type='checkbox']", "type", "checkbox", "value", "true")));
+        Assert.assertTrue(keyEvents.isEmpty(), "No field should need key events");
+    }
+
+    @Test(description = "Null values and empty optional values are not filled")
+    public void testAbsentValuesAreSkipped() {
+        statuses.add("set");
+
+        FormFiller.form(driver, "Add Plan")
+                .text("Plan Name", NAME, "Morning Walk")
+                .text("Description", DESCRIPTION, null)
+                .optionalText("Notes", DESCRIPTION, "")
+                .fill();
+
+        Assert.assertEquals(scriptCalls.get(0).size(), 1);
+        Assert.assertEquals(FormFiller.form(driver, "Empty").text("Plan Name", NAME, null).fill(), 0);
+        Assert.assertEquals(scriptCalls.size(), 1, "An empty form should not run the script");
+    }
+
+    @Test(description = "A field the script could not set is typed with key events")
+    public void testRejectedFieldFallsBackToKeys() {
+        statuses.addAll(List.of("set", "rejected"));
+
+        FormFiller.form(driver, "Add Plan")
+                .text("Plan Name", NAME, "Morning Walk")
+                .text("Description", DESCRIPTION, "Masked 12/05")
+                .fill();
+
+        Assert.assertEquals(keyEvents, List.of("clear", "keys:Masked 12/05"));
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> T stub(Class<T> type, InvocationHandler handler) {
+        return (T) Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[]{type}, handler);
+    }
+
+    private static Object objectMethod(Object proxy, String name, Object[] args) {
+        switch (name) {
+            case "hashCode":
+                return System.identityHashCode(proxy);
+            case "equals":
+                return proxy == args[0];
+            case "toString":
+                return "stub";
+            default:
+                throw new UnsupportedOperationException(name);
+        }
+    }
+}
@@ -0,0 +1,130 @@
+package utils;
+
+import org.openqa.selenium.json.Json;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.Map;
+
+/**
+ * Checks the responses of the {@link LocalAppServer} stand-in: sign-in and
+ * sessions, and the create calls {@link DataSeeder} relies on.
+ */
+public class LocalAppServerTest {
+    private static final String OTP = System.getProperty("app.stub.otp", "000000");
+
+    private final HttpClient http = HttpClient.newHttpClient();
+    private final Json json = new Json();
+    private LocalAppServer app;
+    private String session;
+
+    @BeforeClass
+    public void startServer() throws Exception {
+        app = LocalAppServer.start(0);
+        session = signIn("unit@test.local");
+    }
+
+    @AfterClass(alwaysRun = true)
+    public void stopServer() {
+        if (app != null) {
+            app.close();
+        }
+    }
+
+    @Test(description = "Pages need a session; the sign-in page does not")
+    public void testPagesRedirectToSignIn() throws Exception {
+        HttpResponse<String> plans = get("/plans", null);
+        Assert.assertEquals(plans.statusCode(), 302);
+        Assert.assertEquals(plans.headers().firstValue("Location").orElse(""), "/onboarding?path=signin");
+
+        Assert.assertEquals(get("/onboarding?path=signin", null).statusCode(), 200);
+        Assert.assertEquals(get("/plans", session).statusCode(), 200);
+    }
+
+    @Test(description = "Only a valid code signs in, and logging out ends the session")
+    public void testVerifyAndLogout() throws Exception {
+        Assert.assertEquals(post("/api/verify", Map.of("email", "unit@test.local", "otp", "not-a-code"), null)
+                .statusCode(), 401);
+        Assert.assertEquals(post("/api/login", Map.of("email", "unit@test.local"), null).statusCode(), 401,
+                "A login without password should be refused before any code is sent");
+
+        String other = signIn("logout@test.local");
+        Assert.assertEquals(post("/api/logout", Map.of(), other).statusCode(), 200);
+        Assert.assertEquals(get("/plans", other).statusCode(), 302);
+    }
+
+    @Test(description = "Create calls need a session and a POST")
+    public void testApiIsGuarded() throws Exception {
+        Assert.assertEquals(post("/api/plans", Map.of("name", "Nope"), null).statusCode(), 401);
+        Assert.assertEquals(get("/api/plans", session).statusCode(), 405);
+        Assert.assertEquals(post("/api/unknown", Map.of(), session).statusCode(), 404);
+    }
+
+    @Test(description = "A created plan answers its id and opens by that id with its tasks")
+    public void testPlanAndTaskAreCreated() throws Exception {
+        String planId = createId("/api/plans", Map.of("name", "Walk <daily>", "category", "Exercise", "priority", "High"));
+        createId("/api/plans/tasks", Map.of("planId", planId, "name", "Morning walk", "description", "30 minutes"));
+
+        String page = get("/plans/" + planId, session).body();
+        Assert.assertTrue(page.contains("Walk &lt;daily&gt;"), "Plan name should be escaped into the page");
+        Assert.assertTrue(page.contains("Morning walk"));
+        Assert.assertTrue(get("/plans", session).body().contains("/plans/" + planId));
+
+        Assert.assertEquals(post("/api/plans/tasks", Map.of("planId", "missing", "name", "Orphan"), session)
+                .statusCode(), 404);
+        Assert.assertEquals(get("/plans/missing", session).statusCode(), 404);
+    }
+
+    @Test(description = "A folder keeps one id per name and opens by id or by name")
+    public void testFolderAndArticleAreCreated() throws Exception {
+        String folderId = createId("/api/folders", Map.of("name", "Unit Folder"));
+        Assert.assertEquals(createId("/api/folders", Map.of("name", "Unit Folder")), folderId,
+                "Creating an existing folder should answer its id");
+        createId("/api/folders/articles", Map.of("folderId", folderId, "title", "Seeded article"));
+
+        Assert.assertTrue(get("/myLibrary/" + folderId, session).body().contains("Seeded article"));
+        Assert.assertTrue(get("/myLibrary/Unit%20Folder", session).body().contains("Seeded article"));
+        Assert.assertEquals(post("/api/folders/articles", Map.of("folder", "No Such Folder", "title", "x"), session)
+                .statusCode(), 404);
+    }
+
+    private String signIn(String email) throws Exception {
+        HttpResponse<String> verified = post("/api/verify", Map.of("email", email, "otp", OTP), null);
+        Assert.assertEquals(verified.statusCode(), 200, verified.body());
+        String cookie = verified.headers().firstValue("Set-Cookie").orElse("");
+        Assert.assertTrue(cookie.startsWith("ha_session=" + verified.body()), cookie);
+        return verified.body();
+    }
+
+    private String createId(String path, Map<String, Object> body) throws Exception {
+        HttpResponse<String> response = post(path, body, session);
+        Assert.assertEquals(response.statusCode(), 200, response.body());
+        Map<String, Object> created = json.toType(response.body(), Json.MAP_TYPE);
+        return String.valueOf(created.get("id"));
+    }
+
+    private HttpResponse<String> get(String path, String token) throws IOException, InterruptedException {
+        return http.send(request(path, token).GET().build(), HttpResponse.BodyHandlers.ofString());
+    }
+
+    private HttpResponse<String> post(String path, Map<String, Object> body, String token)
+            throws IOException, InterruptedException {
+        return http.send(request(path, token).POST(HttpRequest.BodyPublishers.ofString(json.toJson(body))).build(),
+                HttpResponse.BodyHandlers.ofString());
+    }
+
+    private HttpRequest.Builder request(String path, String token) {
+        HttpRequest.Builder request = HttpRequest.newBuilder(URI.create(app.getBaseUrl() + path));
+        if (token != null) {
+            request.header("Cookie", "ha_session=" + token);
+        }
+        return request;
+    }
+}
@@ -0,0 +1,129 @@
+package utils;
+
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.PrintWriter;
+import java.net.HttpURLConnection;
+import java.net.InetAddress;
+import java.net.Socket;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Talks SMTP and HTTP to a {@link LocalMailServer} on free ports and checks
+ * what ends up in its mailboxes.
+ */
+public class LocalMailServerTest {
+    private LocalMailServer server;
+
+    @BeforeClass
+    public void startServer() {
+        server = LocalMailServer.start(0, 0);
+    }
+
+    @AfterClass(alwaysRun = true)
+    public void stopServer() {
+        if (server != null) {
+            server.stop();
+        }
+    }
+
+    @Test(description = "The SMTP dialogue is answered with the expected reply codes")
+    public void testSmtpReplies() throws IOException {
+        List<String> replies = send("HELO test", "DATA", "MAIL FROM:<a@test.local>", "RCPT TO:<Replies@Test.local>",
+                "DATA", "Subject: Hi\r\n\r\nHello\r\n.", "VRFY someone", "QUIT");
+
+        Assert.assertEquals(codes(replies), List.of("220", "250", "503", "250", "250", "354", "250", "502", "221"));
+        Assert.assertEquals(server.latest("replies@test.local").getRecipients(), List.of("replies@test.local"),
+                "Addresses should be lower-cased");
+    }
+
+    @Test(description = "Headers are split from the body, and dot-stuffing and soft line breaks are undone")
+    public void testMessageIsParsed() throws IOException {
+        send("HELO test", "MAIL FROM:<no-reply@test.local>", "RCPT TO:<parse@test.local>", "DATA",
+                "Subject: Your code\r\nX-Other: 1\r\n\r\n..leading dot\r\nCode 12=\r\n3456\r\n.", "QUIT");
+
+        LocalMailServer.MailMessage message = server.latest("parse@test.local");
+        Assert.assertEquals(message.getFrom(), "no-reply@test.local");
+        Assert.assertEquals(message.getSubject(), "Your code");
+        Assert.assertEquals(message.getBody(), ".leading dot\nCode 123456\n");
+    }
+
+    @Test(description = "The newest code is returned and the mailbox is emptied for the next login")
+    public void testOtpIsNewestAndConsumed() throws IOException {
+        mail("otp@test.local", "Your code is 111111");
+        mail("otp@test.local", "Your code is 222222");
+
+        Assert.assertEquals(server.getOTPWithRetry("OTP@test.local", 1, 1), "222222");
+        Assert.assertTrue(server.getMessages("otp@test.local").isEmpty());
+    }
+
+    @Test(description = "A waiting reader gets the code as soon as the mail arrives")
+    public void testOtpWaitsForMail() throws Exception {
+        CompletableFuture<String> otp = CompletableFuture.supplyAsync(
+                () -> server.getOTPWithRetry("late@test.local", 5, 1));
+        Thread.sleep(200);
+        mail("late@test.local", "Your code is 333333");
+
+        Assert.assertEquals(otp.get(2, TimeUnit.SECONDS), "333333");
+    }
+
+    @Test(description = "An empty mailbox gives no code once the wait is over")
+    public void testNoMailGivesNoOtp() {
+        Assert.assertNull(server.getOTPWithRetry("nobody@test.local", 1, 1));
+    }
+
+    @Test(description = "The HTTP API serves the newest message body, and 404 for an empty mailbox")
+    public void testHttpApi() throws IOException {
+        mail("http+api@test.local", "Your code is 444444");
+
+        HttpURLConnection found = get("/api/otp?email=http%2Bapi%40test.local");
+        Assert.assertEquals(found.getResponseCode(), 200);
+        Assert.assertTrue(new String(found.getInputStream().readAllBytes(), StandardCharsets.UTF_8).contains("444444"));
+        Assert.assertEquals(get("/api/otp?email=empty%40test.local").getResponseCode(), 404);
+        Assert.assertEquals(get("/api/otp").getResponseCode(), 404);
+    }
+
+    private void mail(String to, String body) throws IOException {
+        send("HELO test", "MAIL FROM:<no-reply@test.local>", "RCPT TO:<" + to + ">", "DATA",
+                "Subject: Code\r\n\r\n" + body + "\r\n.", "QUIT");
+    }
+
+    // Sends each command and collects every reply line, starting with the greeting
+    private List<String> send(String... commands) throws IOException {
+        List<String> replies = new ArrayList<>();
+        try (Socket socket = new Socket(InetAddress.getLoopbackAddress(), server.getSmtpPort());
+             BufferedReader in = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+             PrintWriter out = new PrintWriter(socket.getOutputStream(), true, StandardCharsets.UTF_8)) {
+            replies.add(in.readLine());
+            for (String command : commands) {
+                out.print(command + "\r\n");
+                out.flush();
+                replies.add(in.readLine());
+            }
+        }
+        return replies;
+    }
+
+    private HttpURLConnection get(String path) throws IOException {
+        return (HttpURLConnection) new URL("http://127.0.0.1:" + server.getHttpPort() + path).openConnection();
+    }
+
+    private static List<String> codes(List<String> replies) {
+        List<String> codes = new ArrayList<>();
+        for (String reply : replies) {
+            codes.add(reply == null ? null : reply.substring(0, 3));
+        }
+        return codes;
+    }
+}
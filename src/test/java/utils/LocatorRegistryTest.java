@@ -0,0 +1,115 @@
+package utils;
+
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+/**
+ * Checks how {@link LocatorRegistry} ranks strategies from their history and
+ * keeps that history between runs, in a throwaway stats directory.
+ */
+public class LocatorRegistryTest {
+    private static final String LOCATOR = "PlansListPage.addPlanButton";
+    private static final List<String> LABELS = List.of("testid", "text", "class");
+    private static final int MIN_SAMPLES = 3;
+
+    private Path statsDir;
+
+    @BeforeMethod
+    public void createStatsDir() throws IOException {
+        statsDir = Files.createTempDirectory("locator-stats");
+    }
+
+    @AfterMethod(alwaysRun = true)
+    public void deleteStatsDir() throws IOException {
+        try (Stream<Path> files = Files.walk(statsDir)) {
+            files.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        }
+    }
+
+    @Test(description = "Strategies are ranked by hit rate, then by cost, once a route has enough lookups")
+    public void testRanking() {
+        LocatorRegistry registry = registry(true);
+        for (int i = 0; i < MIN_SAMPLES; i++) {
+            lookup(registry, "/plans", false, i < 2, true, 5.0, 1.0);
+            lookup(registry, "/planner", false, true, true, 2.0, 1.0);
+        }
+        lookup(registry, "/addAPlan", true, true, true, 1.0, 1.0);
+
+        Map<String, List<Integer>> rankings = registry.rankings(LOCATOR, LABELS);
+        // Never-matching testid goes last; text (2 of 3) trails class (3 of 3)
+        Assert.assertEquals(rankings.get("/plans"), List.of(2, 1, 0));
+        // Equal hit rates: the cheaper class strategy first, testid last
+        Assert.assertEquals(rankings.get("/planner"), List.of(2, 1, 0));
+        Assert.assertFalse(rankings.containsKey("/addAPlan"), "A route with too few lookups keeps source order");
+    }
+
+    @Test(description = "With locator.adaptive=false every route keeps source order")
+    public void testNonAdaptiveKeepsSourceOrder() {
+        LocatorRegistry registry = registry(false);
+        for (int i = 0; i < MIN_SAMPLES; i++) {
+            lookup(registry, "/plans", false, false, true, 1.0, 1.0);
+        }
+        Assert.assertTrue(registry.rankings(LOCATOR, LABELS).isEmpty());
+    }
+
+    @Test(description = "Strategies that never matched on any route are reported dead")
+    public void testDeadStrategies() {
+        LocatorRegistry registry = registry(true);
+        for (int i = 0; i < MIN_SAMPLES; i++) {
+            lookup(registry, i % 2 == 0 ? "/plans" : "/planner", false, i == 0, true, 1.0, 1.0);
+        }
+
+        List<String> dead = registry.deadStrategies();
+        Assert.assertEquals(dead.size(), 1, dead.toString());
+        Assert.assertTrue(dead.get(0).startsWith(LOCATOR + " / testid (#testid) - 0 matches in 3 lookups"), dead.get(0));
+    }
+
+    @Test(description = "Saved history is loaded by the next run and gives the same ranking")
+    public void testHistoryIsPersisted() throws IOException {
+        LocatorRegistry first = registry(true);
+        for (int i = 0; i < MIN_SAMPLES; i++) {
+            lookup(first, "/plans", false, true, true, 3.0, 1.0);
+        }
+        first.save();
+
+        Assert.assertTrue(Files.exists(statsDir.resolve("locator-stats.json")));
+        String report = new String(Files.readAllBytes(statsDir.resolve("dead-strategies.txt")), StandardCharsets.UTF_8);
+        Assert.assertTrue(report.contains(LOCATOR + " / testid"), report);
+
+        LocatorRegistry second = registry(true);
+        Assert.assertEquals(second.rankings(LOCATOR, LABELS), first.rankings(LOCATOR, LABELS));
+        Assert.assertEquals(second.rankings(LOCATOR, LABELS).get("/plans"), List.of(2, 1, 0));
+    }
+
+    @Test(description = "An unreadable stats file is ignored")
+    public void testCorruptHistoryIsIgnored() throws IOException {
+        Files.write(statsDir.resolve("locator-stats.json"), "{not json".getBytes(StandardCharsets.UTF_8));
+
+        LocatorRegistry registry = registry(true);
+        Assert.assertTrue(registry.rankings(LOCATOR, LABELS).isEmpty());
+        Assert.assertTrue(registry.deadStrategies().isEmpty());
+    }
+
+    private LocatorRegistry registry(boolean adaptive) {
+        return new LocatorRegistry(statsDir, adaptive, MIN_SAMPLES);
+    }
+
+    // One resolved lookup: whether each of testid, text and class matched, and what the text and class queries cost
+    private static void lookup(LocatorRegistry registry, String route, boolean testidHit, boolean textHit,
+                               boolean classHit, double textCost, double classCost) {
+        registry.record(LOCATOR, route, "testid", "#testid", testidHit, 1.0, testidHit ? 10 : -1);
+        registry.record(LOCATOR, route, "text", "//button[text()='Add']", textHit, textCost, -1);
+        registry.record(LOCATOR, route, "class", ".add-plan", classHit, classCost, testidHit ? -1 : 10);
+    }
+}
@@ -0,0 +1,95 @@
+package utils;
+
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Checks OTP extraction and the HTTP inbox client against {@link YopmailStubServer},
+ * without a browser or network access.
+ */
+public class YopmailInboxClientTest {
+
+    private static final String EMAIL = "laptop@yopmail.com";
+    private static final String MAILBOX = "laptop";
+
+    private YopmailStubServer stub;
+
+    @BeforeClass
+    public void startStub() {
+        stub = YopmailStubServer.start(0);
+    }
+
+    @AfterClass(alwaysRun = true)
+    public void stopStub() {
+        if (stub != null) {
+            stub.close();
+        }
+    }
+
+    @BeforeMethod
+    public void clearInbox() {
+        stub.clear();
+    }
+
+    @Test(description = "A code introduced by a keyword wins over other 6-digit numbers")
+    public void testExtractOtpPrefersKeyword() {
+        Assert.assertEquals(YopmailInboxClient.extractOtp("Order 123456 shipped. Your verification code: 654321"),
+                "654321");
+        Assert.assertEquals(YopmailInboxClient.extractOtp("OTP 482913"), "482913");
+    }
+
+    @Test(description = "Without a keyword the first standalone 6-digit number is the code")
+    public void testExtractOtpFallsBackToFirstSixDigits() {
+        Assert.assertEquals(YopmailInboxClient.extractOtp("Use 246810 to sign in"), "246810");
+        Assert.assertNull(YopmailInboxClient.extractOtp("Reference 1234567 and 12345"),
+                "Longer or shorter numbers are not codes");
+        Assert.assertNull(YopmailInboxClient.extractOtp("No code here"));
+    }
+
+    @Test(description = "The stub lists messages newest first and serves their bodies")
+    public void testStubServesInboxNewestFirst() throws Exception {
+        stub.deliverOtp(MAILBOX, "111111");
+        stub.deliverOtp(MAILBOX, "222222");
+
+        YopmailInboxClient client = new YopmailInboxClient(stub.getBaseUrl());
+        List<String> ids = client.listMessageIds(MAILBOX);
+        Assert.assertEquals(ids.size(), 2);
+        Assert.assertTrue(client.readMessage(MAILBOX, ids.get(0)).contains("222222"),
+                "Newest message should be listed first");
+        Assert.assertTrue(client.listMessageIds("someone-else").isEmpty(), "Other mailboxes should be empty");
+    }
+
+    @Test(description = "An empty inbox yields no OTP")
+    public void testEmptyInboxHasNoOtp() {
+        Assert.assertNull(new YopmailInboxClient(stub.getBaseUrl()).getOTPFromEmail(EMAIL));
+    }
+
+    @Test(description = "Mail that was in the inbox before login is never read for the OTP")
+    public void testOnlyMailAfterMarkIsAccepted() {
+        stub.deliverOtp(MAILBOX, "111111");
+        YopmailInboxClient client = new YopmailInboxClient(stub.getBaseUrl());
+        client.markInbox(EMAIL);
+
+        Assert.assertNull(client.getOTPFromEmail(EMAIL), "The previous login's code should be skipped");
+        stub.deliverOtp(MAILBOX, "222222");
+        Assert.assertEquals(client.getOTPFromEmail(EMAIL), "222222");
+        Assert.assertNull(client.getOTPFromEmail(EMAIL), "A code should only be returned once");
+    }
+
+    @Test(description = "The background fetch returns the code of mail that arrives after it started")
+    public void testFetchOtpAsyncWaitsForNewMail() throws Exception {
+        stub.deliverOtp(MAILBOX, "111111");
+        YopmailInboxClient client = new YopmailInboxClient(stub.getBaseUrl());
+
+        CompletableFuture<String> pending = client.fetchOtpAsync(EMAIL, 5, 1);
+        stub.deliverOtp(MAILBOX, "333333");
+        Assert.assertEquals(pending.get(10, TimeUnit.SECONDS), "333333");
+    }
+}